@@ -5,6 +5,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.Dimension;
@@ -22,8 +23,12 @@ import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
 import com.automation.ui.common.exceptions.GenericUnexpectedException;
+import com.automation.ui.common.sessions.Level1Commands;
+import com.automation.ui.common.sessions.Level2Commands;
+import com.automation.ui.common.sessions.ServerResponse;
 import com.automation.ui.common.sessions.SessionClient;
 import com.automation.ui.common.sessions.SessionServer;
+import com.automation.ui.common.utilities.BaseSessionPool;
 import com.automation.ui.common.utilities.Cloner;
 import com.automation.ui.common.utilities.Compare;
 import com.automation.ui.common.utilities.Conversion;
@@ -69,6 +74,31 @@ public class BasicTestContext {
 
 	protected WebDriver driver;
 
+	/**
+	 * Pools of browser sessions (keyed by the browser configuration) shared by all test contexts
+	 */
+	private static final Map<String, BaseSessionPool> pools = new ConcurrentHashMap<String, BaseSessionPool>();
+
+	/**
+	 * Number of idle browser sessions to keep in each pool (0 or less to disable the session pool)
+	 */
+	private static volatile int nSessionPoolSize = 0;
+
+	/**
+	 * Max number of times a pooled browser session is used before it is recycled (0 or less for unlimited)
+	 */
+	private static volatile int nSessionPoolMaxReuse = 0;
+
+	/**
+	 * Pooled session that the driver belongs to (null if the driver is not from the session pool)
+	 */
+	private PooledSession pooled;
+
+	/**
+	 * Session pool that the pooled session needs to be returned to
+	 */
+	private BaseSessionPool pooledFrom;
+
 	// Unique ID of test case
 	protected String sUniqueID;
 
@@ -450,7 +480,12 @@ public class BasicTestContext {
 	public WebDriver getDriver()
 	{
 		if (driver == null)
-			launchBrowser();
+		{
+			if (isSessionPool())
+				borrowBrowser();
+			else
+				launchBrowser();
+		}
 
 		// Set the timeouts for WebDriver
 		if (bSetDriverTimeouts)
@@ -600,6 +635,130 @@ public class BasicTestContext {
 		addSessionInfo(sessionInfo);
 	}
 
+	/**
+	 * Enables the session pool such that browsers are reused between tests instead of launching a new browser
+	 * for each test<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) This applies to all test contexts &amp; there is a pool for each browser configuration<BR>
+	 * 2) When the pool is first used, the idle sessions are launched in parallel<BR>
+	 * 3) quitBrowser returns the browser to the pool after resetting the state instead of quitting it<BR>
+	 * 4) The idle sessions are quit when the JVM exits or shutdownSessionPools is called<BR>
+	 * 
+	 * @param nSize - Number of idle browser sessions to keep in each pool (0 or less to disable)
+	 * @param nMaxReuse - Max number of times a browser session is used before it is recycled (0 or less for
+	 *            unlimited)
+	 */
+	public static void setSessionPool(int nSize, int nMaxReuse)
+	{
+		nSessionPoolSize = nSize;
+		nSessionPoolMaxReuse = nMaxReuse;
+	}
+
+	/**
+	 * @return true if the session pool is enabled
+	 */
+	public static boolean isSessionPool()
+	{
+		return nSessionPoolSize > 0;
+	}
+
+	/**
+	 * Quits all the idle browser sessions in all the pools
+	 */
+	public static void shutdownSessionPools()
+	{
+		for (BaseSessionPool pool : pools.values())
+		{
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Gets the key for the session pool that matches the browser configuration
+	 * 
+	 * @return String
+	 */
+	private String getSessionPoolKey()
+	{
+		return Conversion.toString("|", sBrowser, sDriverPath, sBrowserProfile, sHubURL, sPlatform, sVersion,
+				sApplicationName, sSessionServer, String.valueOf(nSessionServerPort));
+	}
+
+	/**
+	 * Gets the session pool for the browser configuration (creating the pool if necessary)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The pool is published before it is warmed such that the lock is not held while the browsers are
+	 * launched. Other browser configurations are not blocked &amp; tests that get the pool while it is being
+	 * warmed launch their own browser (see BaseSessionPool.borrow).<BR>
+	 * 
+	 * @return BaseSessionPool
+	 */
+	private BaseSessionPool getSessionPool()
+	{
+		String key = getSessionPoolKey();
+		BaseSessionPool pool = pools.get(key);
+		if (pool != null)
+			return pool;
+
+		synchronized (pools)
+		{
+			pool = pools.get(key);
+			if (pool != null)
+				return pool;
+
+			// Contexts used to launch & quit the browsers such that this context is not modified
+			final BasicTestContext factory = copy();
+			pool = new BaseSessionPool(nSessionPoolSize, nSessionPoolMaxReuse) {
+				@Override
+				protected PooledSession create()
+				{
+					BasicTestContext launch = factory.copy();
+					launch.launchBrowser();
+					return new PooledSession(launch.driver, launch.sessions);
+				}
+
+				@Override
+				protected void destroy(PooledSession session)
+				{
+					BasicTestContext launch = factory.copy();
+					launch.driver = session.driver;
+					launch.sessions = session.sessions;
+					launch.quitBrowser();
+				}
+			};
+
+			if (pools.isEmpty())
+			{
+				Runtime.getRuntime().addShutdownHook(new Thread() {
+					@Override
+					public void run()
+					{
+						shutdownSessionPools();
+					}
+				});
+			}
+
+			pools.putIfAbsent(key, pool);
+		}
+
+		pool.warm();
+		return pool;
+	}
+
+	/**
+	 * Sets the driver &amp; session information using a browser session from the session pool
+	 */
+	private void borrowBrowser()
+	{
+		pooledFrom = getSessionPool();
+		pooled = pooledFrom.borrow();
+		driver = pooled.driver;
+		sessions.addAll(pooled.sessions);
+		Logs.log.info("Using browser session from the pool (Uses:  " + pooled.uses + ")");
+	}
+
 	/**
 	 * Initializes driver for grid use<BR>
 	 * <BR>
@@ -618,6 +777,9 @@ public class BasicTestContext {
 		// Flag to indicate a pending session was added successfully
 		boolean bPending = false;
 
+		// Flag to indicate the pending session was removed when the session was added
+		boolean bPendingRemoved = false;
+
 		// Only add pending session if valid session server
 		if (!Compare.equals(sSessionServer, "", Comparison.Equal))
 		{
@@ -674,10 +836,26 @@ public class BasicTestContext {
 			{
 				try
 				{
-					// Add session to prevent cleanup task from running on this node
+					// Add session to prevent cleanup task from running on this node & remove the pending
+					// session in a single exchange with the session server
 					URL node = new URL(updateSessionInfo.remoteHost);
-					sc.addSession(SessionServer.formatNode(node));
-					updateSessionInfo.addedToSessionServer = true;
+					List<String[]> commands = new ArrayList<String[]>();
+					commands.add(SessionClient.getCommand(Level1Commands.SESSION, Level2Commands.INCREASE,
+							SessionServer.formatNode(node)));
+					if (bPending)
+					{
+						commands.add(SessionClient.getCommand(Level1Commands.PENDING,
+								Level2Commands.DECREASE));
+					}
+
+					List<ServerResponse> responses = sc.send(commands);
+					updateSessionInfo.addedToSessionServer = responses.get(0).success;
+					if (!updateSessionInfo.addedToSessionServer)
+						Logs.log.warn("Adding Session failed for node:  " + updateSessionInfo.remoteHost
+								+ ".  Server response:  " + responses.get(0).message);
+
+					if (bPending)
+						bPendingRemoved = responses.get(1).success;
 				}
 				catch (Exception ex)
 				{
@@ -708,9 +886,9 @@ public class BasicTestContext {
 				try
 				{
 					// Remove pending session to allow the cleanup task to run
-					if (bPending)
+					if (bPending && !bPendingRemoved)
 						sc.removePendingSession();
-					else
+					else if (!bPending)
 						Logs.log.warn("Pending Flag was not set as such not removing pending session");
 				}
 				catch (Exception ex)
@@ -833,9 +1011,21 @@ public class BasicTestContext {
 	 * <BR>
 	 * <B>Notes:</B><BR>
 	 * 1) Resets the sessions if valid session server & port & it was added to the session server<BR>
+	 * 2) If the browser is from the session pool, then it is returned to the pool instead of being quit (&amp;
+	 * its session information is removed as the pool is responsible for it)<BR>
 	 */
 	public void quitBrowser()
 	{
+		if (pooled != null)
+		{
+			sessions.removeAll(pooled.sessions);
+			pooledFrom.release(pooled);
+			pooled = null;
+			pooledFrom = null;
+			driver = null;
+			return;
+		}
+
 		try
 		{
 			driver.quit();
@@ -17,6 +17,11 @@ public class CommandOptions {
 	public String _TestNG_XML;
 	public List<Parameter> _TestNG_Options;
 
+	/**
+	 * Node (such as browser or grid node) that the test runs against (empty string for no node)
+	 */
+	public String sNode;
+
 	/**
 	 * Constructor - Initialize all variables
 	 * 
@@ -75,5 +80,7 @@ public class CommandOptions {
 				this._TestNG_Options.add(item.copy());
 			}
 		}
+
+		this.sNode = "";
 	}
 }
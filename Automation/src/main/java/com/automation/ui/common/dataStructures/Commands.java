@@ -11,6 +11,12 @@ public class Commands {
 	public String id;
 	public CommandLine cmdLine;
 
+	/**
+	 * The node (such as browser or grid node) that the command runs against which is used to limit the
+	 * number of commands running against the same node at the same time
+	 */
+	public String node;
+
 	/**
 	 * Constructor
 	 * 
@@ -18,8 +24,21 @@ public class Commands {
 	 * @param cmdLine - Command to be executed
 	 */
 	public Commands(String id, CommandLine cmdLine)
+	{
+		this(id, cmdLine, "");
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param id - ID for test
+	 * @param cmdLine - Command to be executed
+	 * @param node - Node that the command runs against (empty string for no node)
+	 */
+	public Commands(String id, CommandLine cmdLine, String node)
 	{
 		this.id = Conversion.nonNull(id);
 		this.cmdLine = cmdLine;
+		this.node = Conversion.nonNull(node);
 	}
 }
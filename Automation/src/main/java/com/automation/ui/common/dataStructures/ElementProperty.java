@@ -0,0 +1,9 @@
+package com.automation.ui.common.dataStructures;
+
+/**
+ * Properties of a WebElement that can be read &amp; cached
+ */
+public enum ElementProperty
+{
+	VisibleText, JavaScriptText, Attribute;
+}
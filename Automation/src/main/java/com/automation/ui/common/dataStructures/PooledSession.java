@@ -0,0 +1,44 @@
+package com.automation.ui.common.dataStructures;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * This class holds a browser session that is managed by a session pool
+ */
+public class PooledSession {
+	/**
+	 * Driver for the browser session
+	 */
+	public WebDriver driver;
+
+	/**
+	 * Session information from launching the browser which is needed to clean up the session
+	 */
+	public List<SessionInfo> sessions;
+
+	/**
+	 * Number of times that the session has been handed out
+	 */
+	public int uses;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param driver - Driver for the browser session
+	 * @param sessions - Session information from launching the browser
+	 */
+	public PooledSession(WebDriver driver, List<SessionInfo> sessions)
+	{
+		this.driver = driver;
+		this.sessions = (sessions == null) ? new ArrayList<SessionInfo>() : sessions;
+		this.uses = 0;
+	}
+
+	public String toString()
+	{
+		return "Uses:  " + uses + ", Sessions:  " + sessions;
+	}
+}
@@ -0,0 +1,55 @@
+package com.automation.ui.common.dataStructures;
+
+import com.automation.ui.common.utilities.Conversion;
+
+/**
+ * This class holds the result &amp; timing of a process that was executed
+ */
+public class ProcessResult {
+	public String id;
+	public String node;
+
+	/**
+	 * Time (milliseconds) from the start of the run until the process was started
+	 */
+	public long start;
+
+	/**
+	 * Time (milliseconds) that the process ran
+	 */
+	public long duration;
+
+	public int exitCode;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param id - ID for test
+	 * @param node - Node that the test ran against
+	 * @param start - Time (milliseconds) from the start of the run until the process was started
+	 * @param duration - Time (milliseconds) that the process ran
+	 * @param exitCode - Exit code of the process
+	 */
+	public ProcessResult(String id, String node, long start, long duration, int exitCode)
+	{
+		this.id = Conversion.nonNull(id);
+		this.node = Conversion.nonNull(node);
+		this.start = start;
+		this.duration = duration;
+		this.exitCode = exitCode;
+	}
+
+	/**
+	 * @return true if the exit code indicates the process was successful (0)
+	 */
+	public boolean isSuccess()
+	{
+		return exitCode == 0;
+	}
+
+	public String toString()
+	{
+		return "ID:  " + id + ", Node:  " + node + ", Start:  " + start + ", Duration:  " + duration
+				+ ", Exit Code:  " + exitCode;
+	}
+}
@@ -40,4 +40,10 @@ public class ConfigJS {
 	public static String _GetDropDownOptions = baseFolder + "GetDropDownOptions.js";
 	public static String _SetDropDownByIndex = baseFolder + "SetDropDownByIndex.js";
 	public static String _ClearValue = baseFolder + "ClearValue.js";
+	public static String _WaitForMutation = baseFolder + "WaitForMutation.js";
+	public static String _ConditionMatch = baseFolder + "ConditionMatch.js";
+	public static String _GetTableRows = baseFolder + "GetTableRows.js";
+	public static String _GetTableWindow = baseFolder + "GetTableWindow.js";
+	public static String _GetAll = baseFolder + "GetAll.js";
+	public static String _GetProperties = baseFolder + "GetProperties.js";
 }
@@ -40,6 +40,8 @@ public class ConfigXML {
 	//
 	public static final String sessionServer = "Sessions/Server";
 	public static final String sessionServerPort = "Sessions/Port";
+	public static final String sessionPoolSize = "Sessions/PoolSize";
+	public static final String sessionPoolMaxReuse = "Sessions/PoolMaxReuse";
 
 	//
 	// Database variables nodes
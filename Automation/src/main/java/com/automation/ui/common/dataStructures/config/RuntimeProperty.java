@@ -49,6 +49,8 @@ public class RuntimeProperty {
 	public static final String browser_name = "browser.name";
 	public static final String browser_profile = "browser.profile";
 	public static final String browser_binary = "browser.binary";
+	public static final String browser_pool_size = "browser.pool.size";
+	public static final String browser_pool_reuse = "browser.pool.reuse";
 
 	public static final String processes_java_command = "processes.java.command";
 	public static final String processes_config = "processes.config";
@@ -60,6 +62,9 @@ public class RuntimeProperty {
 	public static final String processes_testNG_BaseReport = "processes.testng.output";
 	public static final String processes_id_prefix = "processes.id.prefix";
 	public static final String processes_id_suffix = "processes.id.suffix";
+	public static final String processes_per_cpu = "processes.per.cpu";
+	public static final String processes_durations = "processes.durations";
+	public static final String processes_timing_report = "processes.timing.report";
 
 	// The system property to change Allure output folder
 	public static final String processes_allure_output = "allure.results.directory";
@@ -33,6 +33,9 @@ public class PrimeFacesTable extends BaseTable {
 	{
 		super(driver);
 		setLocators_ForTableWithSeparateHeaderFromDataRows(sLoc_Headers, sLoc_Rows);
+
+		// Only the visible text is used as such the entire table can be read using bulk extraction
+		setBulk(true);
 	}
 
 	/**
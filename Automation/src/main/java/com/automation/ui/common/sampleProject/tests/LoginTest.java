@@ -1,6 +1,8 @@
 package com.automation.ui.common.sampleProject.tests;
 
 import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.List;
 
 import org.openqa.selenium.WebDriver;
 import org.testng.annotations.BeforeSuite;
@@ -21,11 +23,13 @@ import com.automation.ui.common.sampleProject.exceptions.LoginCredentialsWrongEx
 import com.automation.ui.common.sampleProject.exceptions.LoginPasswordBlankException;
 import com.automation.ui.common.sampleProject.exceptions.LoginUserNameBlankException;
 import com.automation.ui.common.sampleProject.pages.Login;
+import com.automation.ui.common.utilities.BaseDataProvider;
 import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Conversion;
+import com.automation.ui.common.utilities.DataSnapshots;
 import com.automation.ui.common.utilities.Framework;
 import com.automation.ui.common.utilities.Languages;
 import com.automation.ui.common.utilities.Logs;
-import com.automation.ui.common.utilities.VTD_XML;
 
 /**
  * This class is for all the Login tests
@@ -82,13 +86,17 @@ public class LoginTest extends Controller {
 	}
 
 	/**
-	 * Gets data driven values for the test. (This is used for both positive & negative tests.)
+	 * Gets data driven values for the test. (This is used for both positive & negative tests.)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The data driven file is only parsed once for all the test methods<BR>
+	 * 2) The test contexts are built in parallel &amp; returned lazily<BR>
 	 * 
 	 * @param m
 	 * @return data for testNG
 	 */
 	@DataProvider(name = "Login")
-	public static Object[][] dataForLogin(Method m)
+	public static Iterator<Object[]> dataForLogin(Method m)
 	{
 		// Reset flag for positive test case execution used for logging
 		bExecutingPositiveTests = false;
@@ -126,65 +134,66 @@ public class LoginTest extends Controller {
 		// Reset test case count for method used in logging
 		nTestCase = 0;
 
-		// Object array for testNG
-		Object[][] testngDataObject = null;
+		// Nodes (relative to the test case) that make up the data for each test case
+		String[] sEachNode = new String[] { "UniqueID", "TestOptions/UserName", "TestOptions/Password",
+				"TestOptions/Language", "TestOptions/ChangePassword", "TestOptions/NewPassword",
+				"TestOptions/ConfirmPassword" };
+
+		// Iterator for testNG
+		Iterator<Object[]> testngDataObject = null;
 
-		// Read the XML file
-		String sXML_File = sDataDrivenValues_Login;
-		VTD_XML xml;
 		try
 		{
-			// Parse into usable format
-			xml = new VTD_XML(sXML_File);
-
-			// Get number of test cases
-			int nNodes = xml.getNodesCount(sXpath_Root);
+			List<String[]> records = DataSnapshots.getRecords(sDataDrivenValues_Login, sXpath_Root,
+					sEachNode);
 
-			// Initialize array which will store the test data
-			testngDataObject = new Object[nNodes][2];
-
-			// Loop through all the test cases and load the data into the array
-			for (int i = 0; i < nNodes; i++)
+			// Unique IDs are created in record order before building in parallel
+			final String[] sUniqueIDs = new String[records.size()];
+			for (int i = 0; i < records.size(); i++)
 			{
-				/*
-				 * Construct the xpath to the specific test case
-				 */
-				String sXpath_Start = sXpath_Root + "[" + (i + 1) + "]/";
-
-				/*
-				 * Put data in variables before instantiating the object to hold them
-				 */
-
-				// Get the uniqueID for the test case (or construct)
-				String sUniqueID = xml.getNodeValue(sXpath_Start + "UniqueID", createUniqueID());
-
-				// Login variables
-				String sUserName = xml.getNodeValue(sXpath_Start + "TestOptions/UserName", "");
-				String sPassword = xml.getNodeValue(sXpath_Start + "TestOptions/Password", "");
-				Languages lang = LoginDetails.convert(xml.getNodeValue(sXpath_Start + "TestOptions/Language",
-						null));
-
-				// Required Password Change variables
-				boolean bChangePassword = xml
-						.getNodeValue(sXpath_Start + "TestOptions/ChangePassword", false);
-				String sNewPassword = xml.getNodeValue(sXpath_Start + "TestOptions/NewPassword", "");
-				String sConfirmPassword = xml.getNodeValue(sXpath_Start + "TestOptions/ConfirmPassword", "");
-
-				// Instantiate the objects
-				LoginDetails details = new LoginDetails(sUserName, sPassword, lang, bChangePassword,
-						sNewPassword, sConfirmPassword);
-
-				TestContext tc = new TestContext(details);
-				tc.setBrowser1((BasicTestContext) context.get(ContextKey.primary));
-				tc.browser1.setUniqueID(sUniqueID);
-
-				tc.setBrowser2((BasicTestContext) context.get(ContextKey.primary));
-				tc.browser2.setUniqueID(sUniqueID);
-
-				// Put in the object array for testNG
-				testngDataObject[i][0] = sUniqueID;
-				testngDataObject[i][1] = tc;
+				String sCreated = createUniqueID();
+				sUniqueIDs[i] = (records.get(i)[0] == null) ? sCreated : records.get(i)[0];
 			}
+
+			testngDataObject = new BaseDataProvider<String[]>() {
+				@Override
+				protected Object[] build(String[] record, int nIndex)
+				{
+					// Get the uniqueID for the test case (or constructed)
+					String sUniqueID = sUniqueIDs[nIndex];
+
+					// Login variables
+					String sUserName = Conversion.nonNull(record[1]);
+					String sPassword = Conversion.nonNull(record[2]);
+					Languages lang = LoginDetails.convert(record[3]);
+
+					// Required Password Change variables
+					boolean bChangePassword = Conversion.parseBoolean(record[4]);
+					String sNewPassword = Conversion.nonNull(record[5]);
+					String sConfirmPassword = Conversion.nonNull(record[6]);
+
+					// Instantiate the objects
+					LoginDetails details = new LoginDetails(sUserName, sPassword, lang, bChangePassword,
+							sNewPassword, sConfirmPassword);
+
+					TestContext tc = new TestContext(details);
+					tc.setBrowser1((BasicTestContext) context.get(ContextKey.primary));
+					tc.browser1.setUniqueID(sUniqueID);
+
+					tc.setBrowser2((BasicTestContext) context.get(ContextKey.primary));
+					tc.browser2.setUniqueID(sUniqueID);
+
+					// Put in the object array for testNG
+					return new Object[] { sUniqueID, tc };
+				}
+
+				@Override
+				protected void failed(RuntimeException ex)
+				{
+					Logs.log.error(ex);
+					System.exit(3);
+				}
+			}.iterator(records);
 		}
 		catch (Exception ex)
 		{
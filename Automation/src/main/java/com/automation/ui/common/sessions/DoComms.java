@@ -4,22 +4,65 @@ import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
 import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 /**
- * Class processes the client input
+ * Class processes the client input<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The server lock is only held while the sessions or nodes are being updated (not while reading from the
+ * client)<BR>
+ * 2) If the first line is KEEPALIVE, then commands are processed on the same connection until an empty line
+ * is received. The responses are written in the same order as the commands which allows the client to send
+ * multiple commands before reading the responses.<BR>
+ * 3) Keep alive connections are served by a separate fixed size pool such that idle connections never hold
+ * one of the server's worker threads. If the keep alive pool is saturated, then the worker serves the
+ * commands already sent &amp; closes the connection (the client will open a new connection for the next
+ * commands).<BR>
  */
 public class DoComms implements Runnable {
 	public static final long _MAX_WaitForLock = 5;
 	public static final TimeUnit _Units = TimeUnit.MINUTES;
 	public static final String _ERROR = "ERROR";
 	public static final String _SUCCESS = "SUCCESS";
+
+	/**
+	 * Max time (milliseconds) to wait for the client to send the next line
+	 */
+	public static final int _READ_TIMEOUT = 60 * 1000;
+
+	/**
+	 * Default max time (milliseconds) that a keep alive connection can be idle before the server closes
+	 * it<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Use system property sessions.keepalive.timeout to override (see SessionServer)<BR>
+	 */
+	public static final int _KEEPALIVE_TIMEOUT = 60 * 1000;
+
+	/**
+	 * Max time (milliseconds) that a keep alive connection can be idle when the keep alive pool is saturated
+	 * (which only needs to be long enough to receive the commands already sent by the client)
+	 */
+	public static final int _SATURATED_TIMEOUT = 250;
+
 	private Socket connection;
+	private ExecutorService keepAlive;
 	private String line;
 	private Sessions sessions;
 
+	/**
+	 * The lock that is currently held (null if no lock is held)
+	 */
+	private Lock held;
+
 	/**
 	 * Constructor<BR>
 	 * <BR>
@@ -29,8 +72,24 @@ public class DoComms implements Runnable {
 	 * @param connection - Connection
 	 */
 	public DoComms(Socket connection)
+	{
+		this(connection, null);
+	}
+
+	/**
+	 * Constructor<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If keepAlive is null, then keep alive connections are served by the thread running this object<BR>
+	 * 2) The keepAlive pool needs to reject tasks when saturated (see SessionServer.newKeepAlivePool)<BR>
+	 * 
+	 * @param connection - Connection
+	 * @param keepAlive - Pool that serves the keep alive connections
+	 */
+	public DoComms(Socket connection, ExecutorService keepAlive)
 	{
 		this.connection = connection;
+		this.keepAlive = keepAlive;
 	}
 
 	/**
@@ -59,25 +118,181 @@ public class DoComms implements Runnable {
 		out.println(message);
 	}
 
+	/**
+	 * Acquires the lock (writing an error to the stream if the lock could not be acquired)
+	 * 
+	 * @param out - server output stream
+	 * @param lock - Lock to acquire
+	 * @return true if the lock was acquired else false
+	 * @throws InterruptedException
+	 */
+	private boolean lock(PrintStream out, Lock lock) throws InterruptedException
+	{
+		if (!lock.tryLock(_MAX_WaitForLock, _Units))
+		{
+			writeError(out, "Could not get lock within timeout (DoComms):  " + _MAX_WaitForLock + " "
+					+ _Units);
+			return false;
+		}
+
+		held = lock;
+		return true;
+	}
+
+	/**
+	 * Acquires the shared lock which is used for updating the sessions
+	 * 
+	 * @param out - server output stream
+	 * @return true if the lock was acquired else false
+	 * @throws InterruptedException
+	 */
+	private boolean lockShared(PrintStream out) throws InterruptedException
+	{
+		return lock(out, SessionServer.getServerLock().readLock());
+	}
+
+	/**
+	 * Acquires the exclusive lock which is used for updating the nodes
+	 * 
+	 * @param out - server output stream
+	 * @return true if the lock was acquired else false
+	 * @throws InterruptedException
+	 */
+	private boolean lockExclusive(PrintStream out) throws InterruptedException
+	{
+		return lock(out, SessionServer.getServerLock().writeLock());
+	}
+
 	public void run()
 	{
-		boolean gotLock = false;
+		boolean handedOff = false;
 
 		try
 		{
 			// Get input from the client
-			BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintStream out = new PrintStream(connection.getOutputStream());
+			connection.setSoTimeout(_READ_TIMEOUT);
+			final BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
+			final PrintStream out = new PrintStream(connection.getOutputStream());
 
-			gotLock = SessionServer.getServerLock().tryLock(_MAX_WaitForLock, _Units);
-			if (!gotLock)
+			line = in.readLine();
+			if (Level1Commands.to(line) != Level1Commands.KEEPALIVE)
 			{
-				writeError(out, "Could not get lock within timeout (DoComms):  " + _MAX_WaitForLock + " "
-						+ _Units);
+				process(in, out);
 				return;
 			}
 
+			// The keep alive connection is closed by the method keepAlive
+			handedOff = true;
+			if (keepAlive == null)
+			{
+				keepAlive(in, out, SessionServer.getKeepAliveTimeout());
+				return;
+			}
+
+			// Serve the keep alive connection from the keep alive pool such that idle connections do not hold
+			// a worker
+			try
+			{
+				keepAlive.execute(new Runnable() {
+					public void run()
+					{
+						keepAlive(in, out, SessionServer.getKeepAliveTimeout());
+					}
+				});
+			}
+			catch (RejectedExecutionException ex)
+			{
+				System.out.println(new Date()
+						+ " - Keep alive pool saturated (connection is closed after the commands)");
+				keepAlive(in, out, _SATURATED_TIMEOUT);
+			}
+		}
+		catch (Exception ex)
+		{
+			ex.printStackTrace();
+		}
+		finally
+		{
+			if (!handedOff)
+			{
+				try
+				{
+					// Input is no longer needed
+					connection.shutdownInput();
+				}
+				catch (Exception ex)
+				{
+				}
+
+				SessionServer.decreaseConnectionCount();
+			}
+		}
+	}
+
+	/**
+	 * Processes commands until the client sends an empty line, closes the connection or is idle too long<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Keep alive connections are closed by the server as the client does not know when it is done<BR>
+	 * 
+	 * @param in - server input stream
+	 * @param out - server output stream
+	 * @param timeout - Max time (milliseconds) that the connection can be idle
+	 */
+	private void keepAlive(BufferedReader in, PrintStream out, int timeout)
+	{
+		try
+		{
+			connection.setSoTimeout(timeout);
 			line = in.readLine();
+			while (line != null && !line.equals(""))
+			{
+				process(in, out);
+				out.flush();
+				line = in.readLine();
+			}
+		}
+		catch (SocketTimeoutException ex)
+		{
+			// Connection was idle too long (the client will open a new connection if necessary)
+		}
+		catch (SocketException ex)
+		{
+			// Client closing a keep alive connection is expected
+		}
+		catch (Exception ex)
+		{
+			ex.printStackTrace();
+		}
+		finally
+		{
+			try
+			{
+				connection.close();
+			}
+			catch (Exception ex)
+			{
+			}
+
+			SessionServer.decreaseConnectionCount();
+		}
+	}
+
+	/**
+	 * Processes a single command (the first line of the command has already been read into the variable
+	 * line)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Any lock acquired for the command is released before returning<BR>
+	 * 
+	 * @param in - server input stream
+	 * @param out - server output stream
+	 * @throws Exception if any exception occurs
+	 */
+	private void process(BufferedReader in, PrintStream out) throws Exception
+	{
+		try
+		{
 			Level1Commands command = Level1Commands.to(line);
 			if (command == Level1Commands.UNSUPPORTED)
 			{
@@ -100,6 +315,9 @@ public class DoComms implements Runnable {
 				{
 					// Read node to add
 					line = in.readLine();
+					if (!lockExclusive(out))
+						return;
+
 					int code = SessionServer.addNode(line);
 					if (code == 1)
 					{
@@ -118,6 +336,9 @@ public class DoComms implements Runnable {
 				{
 					// Read node to remove
 					line = in.readLine();
+					if (!lockExclusive(out))
+						return;
+
 					int code = SessionServer.removeNode(line);
 					if (code == 1)
 					{
@@ -167,6 +388,11 @@ public class DoComms implements Runnable {
 				// Read action command
 				line = in.readLine();
 				Level2Commands action = Level2Commands.to(line);
+
+				// Note: Count does not need the lock
+				if (action != Level2Commands.COUNT && !lockShared(out))
+					return;
+
 				if (action == Level2Commands.INCREASE)
 				{
 					System.out.println(new Date() + " - Pending Session Add");
@@ -213,6 +439,9 @@ public class DoComms implements Runnable {
 				{
 					// Read host
 					line = in.readLine();
+					if (!lockShared(out))
+						return;
+
 					System.out.println(new Date() + " - Session Add:  " + line);
 					sessions = Sessions.getInstance();
 					sessionCount = sessions.addSession(line);
@@ -221,6 +450,9 @@ public class DoComms implements Runnable {
 				{
 					// Read host
 					line = in.readLine();
+					if (!lockShared(out))
+						return;
+
 					System.out.println(new Date() + " - Session Remove:  " + line);
 					sessions = Sessions.getInstance();
 					sessionCount = sessions.removeSession(line);
@@ -240,6 +472,9 @@ public class DoComms implements Runnable {
 					Level2Commands action2 = Level2Commands.to(line);
 					if (action2 == Level2Commands.ALL)
 					{
+						if (!lockShared(out))
+							return;
+
 						System.out.println(new Date() + " - Session Reset All");
 						sessions = Sessions.getInstance();
 						sessions.resetSessions();
@@ -248,6 +483,9 @@ public class DoComms implements Runnable {
 					{
 						// Read specific node to reset
 						line = in.readLine();
+						if (!lockShared(out))
+							return;
+
 						System.out.println(new Date() + " - Session Reset:  " + line);
 						sessions = Sessions.getInstance();
 						sessions.resetSessions(line);
@@ -282,31 +520,14 @@ public class DoComms implements Runnable {
 				return;
 			}
 		}
-		catch (Exception ex)
-		{
-			ex.printStackTrace();
-		}
 		finally
 		{
 			try
 			{
-				// Input is no longer needed
-				connection.shutdownInput();
-			}
-			catch (Exception ex)
-			{
-			}
-
-			SessionServer.decreaseConnectionCount();
-
-			try
-			{
-				// System.out.println(new Date() + " - Got Lock Flag:  " + gotLock);
-				if (gotLock)
+				if (held != null)
 				{
-					// System.out.println(new Date() + " - Going to release lock (DoComms)");
-					SessionServer.getServerLock().unlock();
-					// System.out.println(new Date() + " - Released Lock (DoComms)");
+					held.unlock();
+					held = null;
 				}
 			}
 			catch (Exception ex)
@@ -25,6 +25,11 @@ public enum Level1Commands
 	 */
 	NODES,
 
+	/**
+	 * Command to inform server that multiple commands will be sent on the connection (until an empty line)
+	 */
+	KEEPALIVE,
+
 	/**
 	 * Used to indicate an unsupported level 1 command
 	 */
@@ -0,0 +1,33 @@
+package com.automation.ui.common.sessions;
+
+/**
+ * Class to hold the response from the session server for a single command
+ */
+public class ServerResponse {
+	/**
+	 * Flag to indicate if the server processed the command successfully
+	 */
+	public boolean success;
+
+	/**
+	 * Message/Data from the server
+	 */
+	public String message;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param success - true if the server processed the command successfully
+	 * @param message - Message/Data from the server
+	 */
+	public ServerResponse(boolean success, String message)
+	{
+		this.success = success;
+		this.message = message;
+	}
+
+	public String toString()
+	{
+		return ((success) ? DoComms._SUCCESS : DoComms._ERROR) + ":  " + message;
+	}
+}
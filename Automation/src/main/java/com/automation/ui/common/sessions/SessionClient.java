@@ -1,17 +1,50 @@
 package com.automation.ui.common.sessions;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.net.Socket;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
 
 /**
- * Simple client to test the server
+ * Simple client to test the server<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Commands are sent over keep alive connections that are reused (by all instances) until the server
+ * closes them. If the server closed an idle connection, then the commands are sent again on a new
+ * connection.<BR>
+ * 2) Multiple commands can be sent in a single exchange using the method send<BR>
  */
 public class SessionClient {
+	/**
+	 * Max number of idle connections to keep for each server
+	 */
+	public static final int _MAX_IDLE_CONNECTIONS = 2;
+
+	/**
+	 * Idle connections (keyed by server:port) that can be reused
+	 */
+	private static final ConcurrentHashMap<String, LinkedBlockingDeque<Connection>> idle;
+
+	static
+	{
+		idle = new ConcurrentHashMap<String, LinkedBlockingDeque<Connection>>();
+
+		// Inform the server that the idle connections are no longer needed
+		Runtime.getRuntime().addShutdownHook(new Thread() {
+			@Override
+			public void run()
+			{
+				closeIdleConnections();
+			}
+		});
+	}
+
 	private String _Server;
 	private int _ServerPort;
 	private boolean _STANDARD_OUTPUT;
@@ -218,109 +251,166 @@ public class SessionClient {
 	}
 
 	/**
-	 * Add pending session
+	 * Gets the lines to send to the server for a command
 	 * 
-	 * @throws Exception if any exception occurs
+	 * @param level1 - Level 1 command
+	 * @param level2 - Level 2 command
+	 * @param args - Any additional lines required by the command (such as the host)
+	 * @return String[]
 	 */
-	public void addPendingSession() throws Exception
+	public static String[] getCommand(Level1Commands level1, Level2Commands level2, String... args)
 	{
-		Socket connection = null;
-		try
+		String[] command = new String[2 + args.length];
+		command[0] = level1.toString();
+		command[1] = level2.toString();
+		for (int i = 0; i < args.length; i++)
 		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.PENDING.toString());
-			os.println(Level2Commands.INCREASE.toString());
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				if (_STANDARD_OUTPUT)
-					System.out.println("Add Pending Session was successful");
-
-				response = is.readLine();
+			command[2 + i] = args[i];
+		}
 
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + "Pending Sessions:  " + response);
-					System.out.println("");
-				}
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = "Add Pending Session failed.  Server response:  " + response;
+		return command;
+	}
 
-				if (_STANDARD_OUTPUT)
-					System.out.println(new Date() + " - " + sError);
+	/**
+	 * Sends the commands to the server over a single (keep alive) connection &amp; reads the responses<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) All the commands are written before any response is read (pipelined)<BR>
+	 * 2) The responses are in the same order as the commands<BR>
+	 * 3) Connections are reused between calls (&amp; instances) which removes the connection overhead<BR>
+	 * 4) If a reused connection was closed by the server before any command was processed, then the commands
+	 * are sent again on a new connection<BR>
+	 * 
+	 * @param commands - Commands to be sent (see method getCommand)
+	 * @return List&lt;ServerResponse&gt;
+	 * @throws Exception if any exception occurs
+	 */
+	public List<ServerResponse> send(List<String[]> commands) throws Exception
+	{
+		Connection connection = borrow();
+		try
+		{
+			List<ServerResponse> responses = connection.exchange(commands);
+			release(connection);
+			return responses;
+		}
+		catch (IOException ex)
+		{
+			connection.close();
+			if (!connection.isReused() || connection.received > 0)
+				throw ex;
+		}
 
-				throw new Exception(sError);
-			}
+		// Server closed the idle connection, so try again with a new connection
+		connection = new Connection(_Server, _ServerPort);
+		try
+		{
+			List<ServerResponse> responses = connection.exchange(commands);
+			release(connection);
+			return responses;
 		}
-		finally
+		catch (IOException ex)
 		{
-			try
-			{
-				connection.close();
-			}
-			catch (Exception ex)
-			{
-			}
+			connection.close();
+			throw ex;
 		}
 	}
 
 	/**
-	 * Remove pending session
+	 * Sends a single command to the server
 	 * 
+	 * @param command - Command to be sent (see method getCommand)
+	 * @return ServerResponse
 	 * @throws Exception if any exception occurs
 	 */
-	public void removePendingSession() throws Exception
+	public ServerResponse send(String[] command) throws Exception
 	{
-		Socket connection = null;
-		try
+		List<String[]> commands = new ArrayList<String[]>();
+		commands.add(command);
+		return send(commands).get(0);
+	}
+
+	/**
+	 * Sends a single command to the server &amp; writes the result to the standard output (if enabled)
+	 * 
+	 * @param sAction - Action used in the output &amp; error message
+	 * @param sLabel - Label for the response in the output
+	 * @param command - Command to be sent (see method getCommand)
+	 * @return response message from the server
+	 * @throws Exception if the server did not process the command successfully or any other exception
+	 */
+	private String execute(String sAction, String sLabel, String[] command) throws Exception
+	{
+		ServerResponse response = send(command);
+		if (response.success)
 		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.PENDING.toString());
-			os.println(Level2Commands.DECREASE.toString());
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
+			if (_STANDARD_OUTPUT)
 			{
-				if (_STANDARD_OUTPUT)
-					System.out.println("Remove Pending Session was successful");
+				System.out.println(sAction + " was successful");
+				System.out.println(new Date() + " - " + sLabel + ":  " + response.message);
+				System.out.println("");
+			}
 
-				response = is.readLine();
+			return response.message;
+		}
 
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + "Pending Sessions:  " + response);
-					System.out.println("");
-				}
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = "Remove Pending Session failed.  Server response:  " + response;
+		String sError = sAction + " failed.  Server response:  " + response.message;
 
-				if (_STANDARD_OUTPUT)
-					System.out.println(new Date() + " - " + sError);
+		if (_STANDARD_OUTPUT)
+			System.out.println(new Date() + " - " + sError);
 
-				throw new Exception(sError);
-			}
-		}
-		finally
+		throw new Exception(sError);
+	}
+
+	/**
+	 * Sends a single node command to the server &amp; writes the response to the standard output (if enabled)
+	 * 
+	 * @param command - Command to be sent (see method getCommand)
+	 * @return response message from the server
+	 * @throws Exception if the server did not process the command successfully or any other exception
+	 */
+	private String executeNode(String[] command) throws Exception
+	{
+		ServerResponse response = send(command);
+		if (response.success)
 		{
-			try
-			{
-				connection.close();
-			}
-			catch (Exception ex)
+			if (_STANDARD_OUTPUT)
 			{
+				System.out.println(new Date() + " - " + response.message);
+				System.out.println("");
 			}
+
+			return response.message;
 		}
+
+		String sError = new Date() + " - " + response.message;
+
+		if (_STANDARD_OUTPUT)
+			System.out.println(sError);
+
+		throw new Exception(sError);
+	}
+
+	/**
+	 * Add pending session
+	 * 
+	 * @throws Exception if any exception occurs
+	 */
+	public void addPendingSession() throws Exception
+	{
+		execute("Add Pending Session", "Pending Sessions",
+				getCommand(Level1Commands.PENDING, Level2Commands.INCREASE));
+	}
+
+	/**
+	 * Remove pending session
+	 * 
+	 * @throws Exception if any exception occurs
+	 */
+	public void removePendingSession() throws Exception
+	{
+		execute("Remove Pending Session", "Pending Sessions",
+				getCommand(Level1Commands.PENDING, Level2Commands.DECREASE));
 	}
 
 	/**
@@ -330,94 +420,105 @@ public class SessionClient {
 	 */
 	public void resetPendingSessions() throws Exception
 	{
-		Socket connection = null;
-		try
-		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.PENDING.toString());
-			os.println(Level2Commands.RESET.toString());
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				if (_STANDARD_OUTPUT)
-					System.out.println("Reset Pending Sessions was successful");
+		execute("Reset Pending Sessions", "Pending Sessions",
+				getCommand(Level1Commands.PENDING, Level2Commands.RESET));
+	}
 
-				response = is.readLine();
+	/**
+	 * Add Session to host
+	 * 
+	 * @param host - Host to add session to
+	 * @throws Exception if any exception occurs
+	 */
+	public void addSession(String host) throws Exception
+	{
+		execute("Add Session to host", "Sessions",
+				getCommand(Level1Commands.SESSION, Level2Commands.INCREASE, host));
+	}
 
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + "Pending Sessions:  " + response);
-					System.out.println("");
-				}
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = "Reset Pending Sessions failed.  Server response:  " + response;
+	/**
+	 * Remove Session from host
+	 * 
+	 * @param host - Host to remove session from
+	 * @throws Exception if any exception occurs
+	 */
+	public void removeSession(String host) throws Exception
+	{
+		execute("Remove Session from host", "Sessions",
+				getCommand(Level1Commands.SESSION, Level2Commands.DECREASE, host));
+	}
 
-				if (_STANDARD_OUTPUT)
-					System.out.println(new Date() + " - " + sError);
+	/**
+	 * Reset Sessions on host to 0
+	 * 
+	 * @param host - Host to reset sessions
+	 * @throws Exception if any exception occurs
+	 */
+	public void resetSessions(String host) throws Exception
+	{
+		execute("Reset Sessions on host", "Sessions",
+				getCommand(Level1Commands.SESSION, Level2Commands.RESET, Level2Commands.NODE.toString(),
+						host));
+	}
 
-				throw new Exception(sError);
-			}
-		}
-		finally
-		{
-			try
-			{
-				connection.close();
-			}
-			catch (Exception ex)
-			{
-			}
-		}
+	/**
+	 * Reset Sessions to 0 for all available hosts
+	 * 
+	 * @throws Exception if any exception occurs
+	 */
+	public void resetSessions() throws Exception
+	{
+		execute("Reset All Sessions on host", "Sessions",
+				getCommand(Level1Commands.SESSION, Level2Commands.RESET, Level2Commands.ALL.toString()));
 	}
 
 	/**
-	 * Add Session to host
+	 * List all the hosts
 	 * 
-	 * @param host - Host to add session to
 	 * @throws Exception if any exception occurs
 	 */
-	public void addSession(String host) throws Exception
+	public void listHosts() throws Exception
+	{
+		execute("List hosts", "Hosts", getCommand(Level1Commands.SESSION, Level2Commands.LIST));
+	}
+
+	/**
+	 * Display pending sessions count
+	 * 
+	 * @throws Exception if any exception occurs
+	 */
+	public void displayPendingSessions() throws Exception
+	{
+		execute("Get Pending Sessions Count", "Pending Sessions",
+				getCommand(Level1Commands.PENDING, Level2Commands.COUNT));
+	}
+
+	/**
+	 * Displayed Sessions on the host
+	 * 
+	 * @param host - Host to display sessions for
+	 * @throws Exception if any exception occurs
+	 */
+	public void displaySessions(String host) throws Exception
+	{
+		execute("Get Sessions Count from host", "Sessions",
+				getCommand(Level1Commands.SESSION, Level2Commands.COUNT, host));
+	}
+
+	/**
+	 * Test Socket Connection
+	 * 
+	 * @throws Exception if any exception occurs
+	 */
+	public void testConnection() throws Exception
 	{
 		Socket connection = null;
 		try
 		{
 			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
 			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.SESSION.toString());
-			os.println(Level2Commands.INCREASE.toString());
-			os.println(host);
+			os.println(Level1Commands.TEST.toString());
 			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				if (_STANDARD_OUTPUT)
-					System.out.println("Add Session to host was successful");
-
-				response = is.readLine();
-
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + "Sessions:  " + response);
-					System.out.println("");
-				}
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = "Add Session to host failed.  Server response:  " + response;
-
-				if (_STANDARD_OUTPUT)
-					System.out.println(new Date() + " - " + sError);
-
-				throw new Exception(sError);
-			}
 		}
 		finally
 		{
@@ -432,312 +533,151 @@ public class SessionClient {
 	}
 
 	/**
-	 * Remove Session from host
+	 * Method holds server lock (exclusive) for specified number of minutes for testing purposes<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The server lock is in memory, so this only affects a session server running in the same process<BR>
 	 * 
-	 * @param host - Host to remove session from
-	 * @throws Exception if any exception occurs
+	 * @param minutes - Minutes to hold lock
 	 */
-	public void removeSession(String host) throws Exception
+	public void holdLock(int minutes)
 	{
-		Socket connection = null;
 		try
 		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.SESSION.toString());
-			os.println(Level2Commands.DECREASE.toString());
-			os.println(host);
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				if (_STANDARD_OUTPUT)
-					System.out.println("Remove Session from host was successful");
+			SessionServer.getServerLock().writeLock().lock();
 
-				response = is.readLine();
-
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + "Sessions:  " + response);
-					System.out.println("");
-				}
-			}
-			else
+			if (_STANDARD_OUTPUT)
 			{
-				response = is.readLine();
-				String sError = "Remove Session from host failed.  Server response:  " + response;
-
-				if (_STANDARD_OUTPUT)
-					System.out.println(new Date() + " - " + sError);
-
-				throw new Exception(sError);
+				System.out.println("Got Lock:  " + new Date());
+				System.out.println("Holding for " + minutes + " minutes");
 			}
+
+			Thread.sleep(minutes * 60 * 1000);
+		}
+		catch (Exception ex)
+		{
+			if (_STANDARD_OUTPUT)
+				System.out.println("Exception occur during hold lock test:  " + ex);
 		}
 		finally
 		{
 			try
 			{
-				connection.close();
+				SessionServer.getServerLock().writeLock().unlock();
 			}
 			catch (Exception ex)
 			{
 			}
+
+			if (_STANDARD_OUTPUT)
+				System.out.println("Released lock:  " + new Date());
 		}
 	}
 
 	/**
-	 * Reset Sessions on host to 0
+	 * Add Node to be monitor
 	 * 
-	 * @param host - Host to reset sessions
+	 * @param node - Node to be added for monitoring
 	 * @throws Exception if any exception occurs
 	 */
-	public void resetSessions(String host) throws Exception
+	public void addNode(String node) throws Exception
 	{
-		Socket connection = null;
-		try
-		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.SESSION.toString());
-			os.println(Level2Commands.RESET.toString());
-			os.println(Level2Commands.NODE.toString());
-			os.println(host);
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				if (_STANDARD_OUTPUT)
-					System.out.println("Resest Sessions on host was successful");
-
-				response = is.readLine();
-
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + "Sessions:  " + response);
-					System.out.println("");
-				}
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = "Reset Sessions on host failed.  Server response:  " + response;
-
-				if (_STANDARD_OUTPUT)
-					System.out.println(new Date() + " - " + sError);
-
-				throw new Exception(sError);
-			}
-		}
-		finally
-		{
-			try
-			{
-				connection.close();
-			}
-			catch (Exception ex)
-			{
-			}
-		}
+		executeNode(getCommand(Level1Commands.NODES, Level2Commands.INCREASE, node));
 	}
 
 	/**
-	 * Reset Sessions to 0 for all available hosts
+	 * Remove Node from monitoring
 	 * 
+	 * @param node - Node to be removed from monitoring
 	 * @throws Exception if any exception occurs
 	 */
-	public void resetSessions() throws Exception
+	public void removeNode(String node) throws Exception
 	{
-		Socket connection = null;
-		try
-		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.SESSION.toString());
-			os.println(Level2Commands.RESET.toString());
-			os.println(Level2Commands.ALL.toString());
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				if (_STANDARD_OUTPUT)
-					System.out.println("Resest All Sessions on host was successful");
-
-				response = is.readLine();
-
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + "Sessions:  " + response);
-					System.out.println("");
-				}
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = "Reset All Sessions on host failed.  Server response:  " + response;
-
-				if (_STANDARD_OUTPUT)
-					System.out.println(new Date() + " - " + sError);
-
-				throw new Exception(sError);
-			}
-		}
-		finally
-		{
-			try
-			{
-				connection.close();
-			}
-			catch (Exception ex)
-			{
-			}
-		}
+		executeNode(getCommand(Level1Commands.NODES, Level2Commands.DECREASE, node));
 	}
 
 	/**
-	 * List all the hosts
+	 * Displays the Nodes being monitored
 	 * 
 	 * @throws Exception if any exception occurs
 	 */
-	public void listHosts() throws Exception
+	public void displayNodes() throws Exception
 	{
-		Socket connection = null;
-		try
-		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.SESSION.toString());
-			os.println(Level2Commands.LIST.toString());
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				if (_STANDARD_OUTPUT)
-					System.out.println("List hosts was successful");
-
-				response = is.readLine();
-
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + "Hosts:  " + response);
-					System.out.println("");
-				}
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = "List hosts failed.  Server response:  " + response;
-
-				if (_STANDARD_OUTPUT)
-					System.out.println(new Date() + " - " + sError);
-
-				throw new Exception(sError);
-			}
-		}
-		finally
-		{
-			try
-			{
-				connection.close();
-			}
-			catch (Exception ex)
-			{
-			}
-		}
+		executeNode(getCommand(Level1Commands.NODES, Level2Commands.LIST));
 	}
 
 	/**
-	 * Display pending sessions count
+	 * Queries the session server to get all information<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The session counts for all the nodes are sent in a single exchange<BR>
 	 * 
-	 * @throws Exception if any exception occurs
+	 * @throws Exception
 	 */
-	public void displayPendingSessions() throws Exception
+	public void displayAllInfo() throws Exception
 	{
-		Socket connection = null;
-		try
+		//
+		// Get the Pending Sessions Count & all the nodes
+		//
+		List<String[]> commands = new ArrayList<String[]>();
+		commands.add(getCommand(Level1Commands.PENDING, Level2Commands.COUNT));
+		commands.add(getCommand(Level1Commands.NODES, Level2Commands.LIST));
+		List<ServerResponse> responses = send(commands);
+
+		ServerResponse response = responses.get(0);
+		if (!response.success)
 		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.PENDING.toString());
-			os.println(Level2Commands.COUNT.toString());
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				if (_STANDARD_OUTPUT)
-					System.out.println("Get Pending Sessions Count was successful");
+			String sError = "Get Pending Sessions Count failed.  Server response:  " + response.message;
 
-				response = is.readLine();
+			if (_STANDARD_OUTPUT)
+				System.out.println(new Date() + " - " + sError);
 
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + "Pending Sessions:  " + response);
-					System.out.println("");
-				}
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = "Get Pending Sessions Count failed.  Server response:  " + response;
+			throw new Exception(sError);
+		}
 
-				if (_STANDARD_OUTPUT)
-					System.out.println(new Date() + " - " + sError);
+		if (_STANDARD_OUTPUT)
+			System.out.println("Get Pending Sessions Count was successful");
 
-				throw new Exception(sError);
-			}
+		String pendingSession = response.message;
+
+		response = responses.get(1);
+		if (!response.success)
+		{
+			String sError = new Date() + " - " + response.message;
+
+			if (_STANDARD_OUTPUT)
+				System.out.println(sError);
+
+			throw new Exception(sError);
 		}
-		finally
+
+		//
+		// Get all the sessions from all the nodes
+		//
+		String[] nodes = response.message.split(",");
+		commands = new ArrayList<String[]>();
+		for (int i = 0; i < nodes.length; i++)
 		{
-			try
-			{
-				connection.close();
-			}
-			catch (Exception ex)
-			{
-			}
+			nodes[i] = nodes[i].replace("All Nodes:", "").trim();
+			commands.add(getCommand(Level1Commands.SESSION, Level2Commands.COUNT, nodes[i]));
 		}
-	}
 
-	/**
-	 * Displayed Sessions on the host
-	 * 
-	 * @param host - Host to display sessions for
-	 * @throws Exception if any exception occurs
-	 */
-	public void displaySessions(String host) throws Exception
-	{
-		Socket connection = null;
-		try
+		responses = send(commands);
+		List<String> sessions = new ArrayList<String>();
+		for (int i = 0; i < nodes.length; i++)
 		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.SESSION.toString());
-			os.println(Level2Commands.COUNT.toString());
-			os.println(host);
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
+			String host = nodes[i];
+			response = responses.get(i);
+			if (response.success)
 			{
-				if (_STANDARD_OUTPUT)
-					System.out.println("Get Sessions Count from host was successful");
-
-				response = is.readLine();
-
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + "Sessions:  " + response);
-					System.out.println("");
-				}
+				sessions.add(host + " - " + response.message);
+				System.out.println("Get Sessions Count from host (" + host + ") was successful.  Sessions:  "
+						+ response.message);
 			}
 			else
 			{
-				response = is.readLine();
-				String sError = "Get Sessions Count from host failed.  Server response:  " + response;
+				String sError = "Get Sessions Count from host (" + host + ") failed.  Server response:  "
+						+ response.message;
 
 				if (_STANDARD_OUTPUT)
 					System.out.println(new Date() + " - " + sError);
@@ -745,373 +685,184 @@ public class SessionClient {
 				throw new Exception(sError);
 			}
 		}
-		finally
+
+		//
+		// Display all the information
+		//
+		if (_STANDARD_OUTPUT)
 		{
-			try
-			{
-				connection.close();
-			}
-			catch (Exception ex)
+			System.out.println("");
+			System.out.println("*****");
+			System.out.println(new Date() + " - " + "Pending Sessions:  " + pendingSession);
+
+			System.out.println(new Date() + " - " + "Active Sessions from nodes:  ");
+			for (int i = 0; i < sessions.size(); i++)
 			{
+				System.out.println(new Date() + " - " + sessions.get(i));
 			}
+
+			System.out.println("*****");
+			System.out.println("");
 		}
 	}
 
 	/**
-	 * Test Socket Connection
+	 * Gets an idle connection to the server (or opens a new connection if none are available)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The idle connection may have been closed by the server which is handled by the method send<BR>
 	 * 
-	 * @throws Exception if any exception occurs
+	 * @return Connection
+	 * @throws IOException if a new connection could not be opened
 	 */
-	public void testConnection() throws Exception
+	private Connection borrow() throws IOException
 	{
-		Socket connection = null;
-		try
+		LinkedBlockingDeque<Connection> available = idle.get(getKey());
+		if (available != null)
 		{
-			connection = new Socket(_Server, _ServerPort);
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.TEST.toString());
-			os.flush();
-		}
-		finally
-		{
-			try
-			{
-				connection.close();
-			}
-			catch (Exception ex)
-			{
-			}
+			Connection connection = available.pollFirst();
+			if (connection != null)
+				return connection;
 		}
+
+		return new Connection(_Server, _ServerPort);
 	}
 
 	/**
-	 * Method holds server lock for specified number of minutes for testing purposes
+	 * Returns the connection such that it can be reused (or closes it if there are already enough idle
+	 * connections)
 	 * 
-	 * @param minutes - Minutes to hold lock
+	 * @param connection - Connection to be returned
 	 */
-	public void holdLock(int minutes)
+	private void release(Connection connection)
 	{
-		try
-		{
-			SessionServer.getServerLock().lock();
-
-			if (_STANDARD_OUTPUT)
-			{
-				System.out.println("Got Lock:  " + new Date());
-				System.out.println("Holding for " + minutes + " minutes");
-			}
-
-			Thread.sleep(minutes * 60 * 1000);
-		}
-		catch (Exception ex)
+		String key = getKey();
+		LinkedBlockingDeque<Connection> available = idle.get(key);
+		if (available == null)
 		{
-			if (_STANDARD_OUTPUT)
-				System.out.println("Exception occur during hold lock test:  " + ex);
+			idle.putIfAbsent(key, new LinkedBlockingDeque<Connection>());
+			available = idle.get(key);
 		}
-		finally
-		{
-			try
-			{
-				SessionServer.getServerLock().unlock();
-			}
-			catch (Exception ex)
-			{
-			}
 
-			if (_STANDARD_OUTPUT)
-				System.out.println("Released lock:  " + new Date());
-		}
+		connection.lastUsed = System.currentTimeMillis();
+		if (available.size() >= _MAX_IDLE_CONNECTIONS || !available.offerFirst(connection))
+			connection.close();
 	}
 
 	/**
-	 * Add Node to be monitor
+	 * Gets the key for the idle connections to the server
 	 * 
-	 * @param node - Node to be added for monitoring
-	 * @throws Exception if any exception occurs
+	 * @return server:port
 	 */
-	public void addNode(String node) throws Exception
+	private String getKey()
 	{
-		Socket connection = null;
-		try
-		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.NODES.toString());
-			os.println(Level2Commands.INCREASE.toString());
-			os.println(node);
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				response = is.readLine();
-
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + response);
-					System.out.println("");
-				}
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = new Date() + " - " + response;
-
-				if (_STANDARD_OUTPUT)
-					System.out.println(sError);
-
-				throw new Exception(sError);
-			}
-		}
-		finally
-		{
-			try
-			{
-				connection.close();
-			}
-			catch (Exception ex)
-			{
-			}
-		}
+		return _Server + ":" + _ServerPort;
 	}
 
 	/**
-	 * Remove Node from monitoring
-	 * 
-	 * @param node - Node to be removed from monitoring
-	 * @throws Exception if any exception occurs
+	 * Closes all the idle connections
 	 */
-	public void removeNode(String node) throws Exception
+	public static void closeIdleConnections()
 	{
-		Socket connection = null;
-		try
+		for (LinkedBlockingDeque<Connection> available : idle.values())
 		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.NODES.toString());
-			os.println(Level2Commands.DECREASE.toString());
-			os.println(node);
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				response = is.readLine();
-
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + response);
-					System.out.println("");
-				}
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = new Date() + " - " + response;
-
-				if (_STANDARD_OUTPUT)
-					System.out.println(sError);
-
-				throw new Exception(sError);
-			}
-		}
-		finally
-		{
-			try
+			Connection connection = available.pollFirst();
+			while (connection != null)
 			{
 				connection.close();
-			}
-			catch (Exception ex)
-			{
+				connection = available.pollFirst();
 			}
 		}
 	}
 
 	/**
-	 * Displays the Nodes being monitored
-	 * 
-	 * @throws Exception if any exception occurs
+	 * Keep alive connection to the server
 	 */
-	public void displayNodes() throws Exception
-	{
-		Socket connection = null;
-		try
-		{
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.NODES.toString());
-			os.println(Level2Commands.LIST.toString());
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				response = is.readLine();
+	private static class Connection {
+		private Socket socket;
+		private BufferedReader is;
+		private PrintWriter os;
 
-				if (_STANDARD_OUTPUT)
-				{
-					System.out.println(new Date() + " - " + response);
-					System.out.println("");
-				}
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = new Date() + " - " + response;
+		/**
+		 * Time (milliseconds) that the connection was last returned (0 if never used)
+		 */
+		private long lastUsed;
 
-				if (_STANDARD_OUTPUT)
-					System.out.println(sError);
+		/**
+		 * Number of responses received in the last exchange
+		 */
+		private int received;
 
-				throw new Exception(sError);
-			}
-		}
-		finally
+		/**
+		 * Constructor - Opens the connection &amp; informs the server that it is a keep alive connection
+		 * 
+		 * @param server - Server to connect to
+		 * @param port - Port for the server to connect to
+		 * @throws IOException if connection could not be opened
+		 */
+		public Connection(String server, int port) throws IOException
 		{
-			try
-			{
-				connection.close();
-			}
-			catch (Exception ex)
-			{
-			}
+			socket = new Socket(server, port);
+			socket.setTcpNoDelay(true);
+			is = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+			os = new PrintWriter(socket.getOutputStream());
+			os.println(Level1Commands.KEEPALIVE.toString());
+			lastUsed = 0;
 		}
-	}
 
-	/**
-	 * Queries the session server to get all information
-	 * 
-	 * @throws Exception
-	 */
-	public void displayAllInfo() throws Exception
-	{
-		Socket connection = null;
-		try
+		/**
+		 * @return true if the connection was used previously
+		 */
+		public boolean isReused()
 		{
-			//
-			// Open connection to session server
-			//
-			connection = new Socket(_Server, _ServerPort);
-			BufferedReader is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			PrintWriter os = new PrintWriter(connection.getOutputStream());
-
-			//
-			// Get the Pending Sessions Count
-			//
-			String pendingSession = "";
-			os.println(Level1Commands.PENDING.toString());
-			os.println(Level2Commands.COUNT.toString());
-			os.flush();
-			String response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				if (_STANDARD_OUTPUT)
-					System.out.println("Get Pending Sessions Count was successful");
+			return lastUsed > 0;
+		}
 
-				response = is.readLine();
-				pendingSession = response;
-			}
-			else
+		/**
+		 * Writes all the commands &amp; then reads the response for each command
+		 * 
+		 * @param commands - Commands to be sent
+		 * @return List&lt;ServerResponse&gt;
+		 * @throws IOException if the connection was closed or any other I/O exception
+		 */
+		public List<ServerResponse> exchange(List<String[]> commands) throws IOException
+		{
+			received = 0;
+			for (String[] command : commands)
 			{
-				response = is.readLine();
-				String sError = "Get Pending Sessions Count failed.  Server response:  " + response;
-
-				if (_STANDARD_OUTPUT)
-					System.out.println(new Date() + " - " + sError);
-
-				throw new Exception(sError);
+				for (String line : command)
+				{
+					os.println(line);
+				}
 			}
 
-			//
-			// Get all the nodes
-			//
-			String rawNodes = "";
-			connection.close();
-			connection = new Socket(_Server, _ServerPort);
-			is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-			os = new PrintWriter(connection.getOutputStream());
-			os.println(Level1Commands.NODES.toString());
-			os.println(Level2Commands.LIST.toString());
 			os.flush();
-			response = is.readLine();
-			if (response.equalsIgnoreCase(DoComms._SUCCESS))
-			{
-				response = is.readLine();
-				rawNodes = response;
-			}
-			else
-			{
-				response = is.readLine();
-				String sError = new Date() + " - " + response;
-
-				if (_STANDARD_OUTPUT)
-					System.out.println(sError);
 
-				throw new Exception(sError);
-			}
-
-			//
-			// Get all the sessions from all the nodes
-			//
-			connection.close();
-			List<String> sessions = new ArrayList<String>();
-			String[] nodes = rawNodes.split(",");
-			for (int i = 0; i < nodes.length; i++)
+			List<ServerResponse> responses = new ArrayList<ServerResponse>();
+			for (int i = 0; i < commands.size(); i++)
 			{
-				String host = nodes[i].replace("All Nodes:", "").trim();
-				connection = new Socket(_Server, _ServerPort);
-				is = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-				os = new PrintWriter(connection.getOutputStream());
-				os.println(Level1Commands.SESSION.toString());
-				os.println(Level2Commands.COUNT.toString());
-				os.println(host);
-				os.flush();
-				response = is.readLine();
-				if (response.equalsIgnoreCase(DoComms._SUCCESS))
-				{
-					response = is.readLine();
-					sessions.add(host + " - " + response);
-					System.out.println("Get Sessions Count from host (" + host
-							+ ") was successful.  Sessions:  " + response);
-				}
-				else
-				{
-					response = is.readLine();
-					String sError = "Get Sessions Count from host (" + host + ") failed.  Server response:  "
-							+ response;
-
-					if (_STANDARD_OUTPUT)
-						System.out.println(new Date() + " - " + sError);
+				String status = is.readLine();
+				String message = is.readLine();
+				if (status == null || message == null)
+					throw new IOException("Connection closed by server after " + received + " response(s)");
 
-					throw new Exception(sError);
-				}
-
-				connection.close();
+				responses.add(new ServerResponse(status.equalsIgnoreCase(DoComms._SUCCESS), message));
+				received++;
 			}
 
-			//
-			// Display all the information
-			//
-			if (_STANDARD_OUTPUT)
-			{
-				System.out.println("");
-				System.out.println("*****");
-				System.out.println(new Date() + " - " + "Pending Sessions:  " + pendingSession);
-
-				System.out.println(new Date() + " - " + "Active Sessions from nodes:  ");
-				for (int i = 0; i < sessions.size(); i++)
-				{
-					System.out.println(new Date() + " - " + sessions.get(i));
-				}
-
-				System.out.println("*****");
-				System.out.println("");
-			}
+			return responses;
 		}
-		finally
+
+		/**
+		 * Informs the server that no more commands will be sent &amp; closes the connection
+		 */
+		public void close()
 		{
 			try
 			{
-				connection.close();
+				os.println("");
+				os.flush();
+				socket.close();
 			}
 			catch (Exception ex)
 			{
@@ -8,6 +8,14 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.commons.exec.CommandLine;
 import org.apache.commons.exec.DefaultExecuteResultHandler;
@@ -17,7 +25,14 @@ import org.apache.commons.exec.Executor;
 import org.apache.commons.exec.ShutdownHookProcessDestroyer;
 
 /**
- * Simple Server
+ * Simple Server<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Connections are handled by a fixed pool of worker threads (system property sessions.workers) instead of
+ * a new thread for each connection. Keep alive connections are handed off to a separate fixed pool (system
+ * property sessions.keepalive.workers) by the worker (see DoComms)<BR>
+ * 2) Session &amp; pending session updates share the server lock. Only node add/remove &amp; the cleanup
+ * task need exclusive access. Counts &amp; lists do not need the server lock.<BR>
  */
 public class SessionServer {
 	/**
@@ -26,12 +41,42 @@ public class SessionServer {
 	 * <B>Notes:</B><BR>
 	 * Do not manually update this variable.
 	 */
-	private static int _ConnectCount = 0;
+	private static AtomicInteger _ConnectCount = new AtomicInteger();
 
 	/**
-	 * Socket Lock is used for locking between the processes
+	 * Server Lock is used such that the cleanup task does not run while sessions are being added
 	 */
-	private static FileLocking lock = new FileLocking(DoComms._MAX_WaitForLock, DoComms._Units);
+	private static ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * System Property to override the number of worker threads that handle the connections
+	 */
+	public static final String WORKERS_PROPERTY = "sessions.workers";
+
+	/**
+	 * Default number of worker threads that handle the connections
+	 */
+	private static final int DEFAULT_WORKERS = 32;
+
+	/**
+	 * System Property to override the max number of keep alive connections served at the same time
+	 */
+	public static final String KEEPALIVE_WORKERS_PROPERTY = "sessions.keepalive.workers";
+
+	/**
+	 * Default max number of keep alive connections served at the same time
+	 */
+	private static final int DEFAULT_KEEPALIVE_WORKERS = 512;
+
+	/**
+	 * System Property to override the max time (milliseconds) that a keep alive connection can be idle
+	 */
+	public static final String KEEPALIVE_TIMEOUT_PROPERTY = "sessions.keepalive.timeout";
+
+	/**
+	 * Max number of pending connections waiting to be accepted (to handle many clients at startup)
+	 */
+	private static final int BACKLOG = 1024;
 
 	/**
 	 * Nodes that will be cleaned<BR>
@@ -39,7 +84,7 @@ public class SessionServer {
 	 * <B>Notes:</B><BR>
 	 * 1) Client can add sessions to nodes not in this list but they will not be cleaned<BR>
 	 */
-	private static List<URL> nodes = new ArrayList<URL>();
+	private static List<URL> nodes = new CopyOnWriteArrayList<URL>();
 
 	/**
 	 * Max Process time in milliseconds
@@ -70,9 +115,6 @@ public class SessionServer {
 		{
 			System.out.println("Cleanup command is following:  " + CLEANUP_COMMAND);
 
-			if (!lock.isFileCreated())
-				throw new Exception("Lock file was not created");
-
 			// Ensure that at least one node is specified
 			if (args.length <= 3)
 				throw new Exception("Insufficent arguments provided");
@@ -114,7 +156,13 @@ public class SessionServer {
 			System.out.println("Error: Invalid or insufficient arguments specified");
 			System.out.println("");
 			System.out.println("Usage:  SessionServer port maxConnections poll node1 [node2 ... nodeN]");
-			System.out.println("Note:   Must be able to bind to port 6666 for locking purposes");
+			System.out.println("Note:   Use system property " + WORKERS_PROPERTY
+					+ " to set the number of worker threads (default " + DEFAULT_WORKERS + ")");
+			System.out.println("Note:   Use system property " + KEEPALIVE_WORKERS_PROPERTY
+					+ " to set the max keep alive connections (default " + DEFAULT_KEEPALIVE_WORKERS + ")");
+			System.out.println("Note:   Use system property " + KEEPALIVE_TIMEOUT_PROPERTY
+					+ " to set the keep alive idle timeout in ms (default " + DoComms._KEEPALIVE_TIMEOUT
+					+ ")");
 			System.out.println("port - Port to listen on");
 			System.out.println("maxConnections - Max connections to accept, 0 for infinite");
 			System.out.println("poll - The interval at which clean up will occur if safe");
@@ -136,7 +184,18 @@ public class SessionServer {
 		{
 			// Start the session server
 			@SuppressWarnings("resource")
-			ServerSocket listener = new ServerSocket(port);
+			ServerSocket listener = new ServerSocket(port, BACKLOG);
+
+			// Fixed pool of workers to handle the connections
+			int workers = getProperty(WORKERS_PROPERTY, DEFAULT_WORKERS);
+			ExecutorService pool = Executors.newFixedThreadPool(workers);
+			System.out.println("Worker threads:  " + workers);
+
+			// Fixed pool to serve the keep alive connections
+			int keepAliveWorkers = getProperty(KEEPALIVE_WORKERS_PROPERTY, DEFAULT_KEEPALIVE_WORKERS);
+			ExecutorService keepAlive = newKeepAlivePool(keepAliveWorkers);
+			System.out.println("Keep alive threads:  " + keepAliveWorkers);
+			System.out.println("Keep alive timeout:  " + getKeepAliveTimeout() + " ms");
 
 			// Start thread to do clean up
 			cleanup = new CleanUpThread(poll);
@@ -150,13 +209,10 @@ public class SessionServer {
 				int i = getConnectionCount();
 				if ((i < maxConnections) || (maxConnections == 0))
 				{
-					DoComms client = new DoComms(connection);
-					Thread t = new Thread(client);
-					t.start();
-
 					// Increases the connection count
-					// Note: The thread needs to decrease the connection count
+					// Note: The worker needs to decrease the connection count
 					increaseConnectionCount();
+					pool.execute(new DoComms(connection, keepAlive));
 				}
 				else
 				{
@@ -166,7 +222,9 @@ public class SessionServer {
 						PrintStream out = new PrintStream(connection.getOutputStream());
 						out.println(DoComms._ERROR);
 						out.println(error);
+						out.flush();
 						System.out.println(error);
+						connection.close();
 					}
 					catch (Exception ex)
 					{
@@ -182,29 +240,80 @@ public class SessionServer {
 	}
 
 	/**
-	 * Gets the synchronized value of the connection count
+	 * Gets a positive number from the system property (or the default if not set or invalid)
+	 * 
+	 * @param property - System property to get
+	 * @param defaultValue - Default value if not set or invalid
+	 * @return number
+	 */
+	private static int getProperty(String property, int defaultValue)
+	{
+		try
+		{
+			String value = System.getProperty(property, String.valueOf(defaultValue));
+			int number = Integer.valueOf(value);
+			if (number > 0)
+				return number;
+		}
+		catch (Exception ex)
+		{
+		}
+
+		return defaultValue;
+	}
+
+	/**
+	 * Gets the max time (milliseconds) that a keep alive connection can be idle before the server closes it
+	 * 
+	 * @return system property sessions.keepalive.timeout (or DoComms._KEEPALIVE_TIMEOUT if not set or
+	 *         invalid)
+	 */
+	public static int getKeepAliveTimeout()
+	{
+		return getProperty(KEEPALIVE_TIMEOUT_PROPERTY, DoComms._KEEPALIVE_TIMEOUT);
+	}
+
+	/**
+	 * Creates a pool to serve keep alive connections<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The pool never has more than the specified number of threads<BR>
+	 * 2) Tasks are rejected (instead of queued) when all the threads are busy such that the worker can close
+	 * the connection instead of it waiting<BR>
+	 * 
+	 * @param threads - Max number of keep alive connections served at the same time
+	 * @return ThreadPoolExecutor
+	 */
+	public static ThreadPoolExecutor newKeepAlivePool(int threads)
+	{
+		return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new SynchronousQueue<Runnable>());
+	}
+
+	/**
+	 * Gets the value of the connection count
 	 * 
 	 * @return
 	 */
-	public synchronized static int getConnectionCount()
+	public static int getConnectionCount()
 	{
-		return _ConnectCount;
+		return _ConnectCount.get();
 	}
 
 	/**
-	 * Increments the connection count using synchronized value.
+	 * Increments the connection count
 	 */
-	public synchronized static void increaseConnectionCount()
+	public static void increaseConnectionCount()
 	{
-		_ConnectCount++;
+		_ConnectCount.incrementAndGet();
 	}
 
 	/**
-	 * Decreases the connection count using synchronized value.
+	 * Decreases the connection count
 	 */
-	public synchronized static void decreaseConnectionCount()
+	public static void decreaseConnectionCount()
 	{
-		_ConnectCount--;
+		_ConnectCount.decrementAndGet();
 	}
 
 	/**
@@ -269,7 +378,7 @@ public class SessionServer {
 	 * @param node - Node to find
 	 * @return -1 if not found else >=0
 	 */
-	public synchronized static int findNodeIndex(URL nodeURL)
+	public static int findNodeIndex(URL nodeURL)
 	{
 		if (nodeURL == null)
 			return -1;
@@ -305,7 +414,7 @@ public class SessionServer {
 	 * 
 	 * @return List&lt;String&gt;
 	 */
-	public synchronized static List<String> getNodes()
+	public static List<String> getNodes()
 	{
 		List<String> data = new ArrayList<String>();
 
@@ -318,11 +427,15 @@ public class SessionServer {
 	}
 
 	/**
-	 * Get the server lock to work with
+	 * Get the server lock to work with<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Use the read lock for adding/removing sessions (which can be done concurrently)<BR>
+	 * 2) Use the write lock for anything that needs exclusive access (node changes &amp; cleanup)<BR>
 	 * 
-	 * @return Lock
+	 * @return ReentrantReadWriteLock
 	 */
-	public synchronized static FileLocking getServerLock()
+	public static ReentrantReadWriteLock getServerLock()
 	{
 		return lock;
 	}
@@ -394,7 +507,8 @@ public class SessionServer {
 			boolean gotLock = false;
 			try
 			{
-				gotLock = SessionServer.getServerLock().tryLock(DoComms._MAX_WaitForLock, DoComms._Units);
+				gotLock = SessionServer.getServerLock().writeLock()
+						.tryLock(DoComms._MAX_WaitForLock, DoComms._Units);
 				if (!gotLock)
 				{
 					System.out.println("Could not get lock within timeout (CleanUpThread):  "
@@ -467,7 +581,7 @@ public class SessionServer {
 					if (gotLock)
 					{
 						// System.out.println(new Date() + " - Going to release lock (CleanUpThread)");
-						SessionServer.getServerLock().unlock();
+						SessionServer.getServerLock().writeLock().unlock();
 						// System.out.println(new Date() + " - Released Lock (CleanUpThread)");
 					}
 				}
@@ -1,22 +1,30 @@
 package com.automation.ui.common.sessions;
 
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * This class is used to store the number of pending & (active) sessions (using the singleton pattern)
+ * This class is used to store the number of pending & (active) sessions (using the singleton pattern)<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The counters are lock free such that the session server does not need to serialize the updates<BR>
  */
 public class Sessions {
 	private static Sessions instance = new Sessions();
 
 	/**
-	 * Stores the (active) sessions for all nodes
+	 * Stores the (active) sessions for all nodes<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Each host has its own counter such that updating the count of one host does not block the other
+	 * hosts<BR>
 	 */
-	private HashMap<String, Integer> sessions = new HashMap<String, Integer>();
+	private ConcurrentHashMap<String, AtomicInteger> sessions = new ConcurrentHashMap<String, AtomicInteger>();
 
 	/**
 	 * Store the pending sessions to all nodes
 	 */
-	private int pending = 0;
+	private AtomicInteger pending = new AtomicInteger();
 
 	private Sessions()
 	{
@@ -28,48 +36,65 @@ public class Sessions {
 	 * 
 	 * @return Sessions
 	 */
-	public synchronized static Sessions getInstance()
+	public static Sessions getInstance()
 	{
 		return instance;
 	}
 
 	/**
-	 * Adds to the session count of the host. If host is not in the HashMap, then it is added.
+	 * Gets the counter for the host. If host is not in the map, then it is added with a count of 0.
+	 * 
+	 * @param host - Host to get the counter
+	 * @return AtomicInteger
+	 */
+	private AtomicInteger getCounter(String host)
+	{
+		AtomicInteger counter = sessions.get(host);
+		if (counter != null)
+			return counter;
+
+		AtomicInteger existing = sessions.putIfAbsent(host, counter = new AtomicInteger());
+		return (existing == null) ? counter : existing;
+	}
+
+	/**
+	 * Decrements the counter without allowing it to become negative
+	 * 
+	 * @param counter - Counter to decrement
+	 * @return value after decrementing
+	 */
+	private static int decrement(AtomicInteger counter)
+	{
+		while (true)
+		{
+			int current = counter.get();
+			int next = Math.max(0, current - 1);
+			if (counter.compareAndSet(current, next))
+				return next;
+		}
+	}
+
+	/**
+	 * Adds to the session count of the host. If host is not in the map, then it is added.
 	 * 
 	 * @param host - Host to add the session count
 	 * @return current session after adding the session to the host
 	 */
-	public synchronized int addSession(String host)
+	public int addSession(String host)
 	{
-		int sessionCount;
-		if (sessions.containsKey(host))
-			sessionCount = sessions.get(host) + 1; // Update Session Count
-		else
-			sessionCount = 1; // First session
-
-		sessions.put(host, sessionCount);
-		return sessionCount;
+		return getCounter(host).incrementAndGet();
 	}
 
 	/**
-	 * Removes from the session count of the host. If host is not in the HashMap, then it is added and set to
-	 * 0
+	 * Removes from the session count of the host. If host is not in the map, then it is added and set to 0
 	 * 
 	 * @param host - Host to remove the session count
 	 * @return current session after removing the session from the host
 	 */
-	public synchronized int removeSession(String host)
+	public int removeSession(String host)
 	{
-		int sessionCount = 0;
-		if (sessions.containsKey(host))
-			sessionCount = sessions.get(host) - 1; // Update Session Count
-
 		// Always ensure that session count is positive
-		if (sessionCount < 0)
-			sessionCount = 0;
-
-		sessions.put(host, sessionCount);
-		return sessionCount;
+		return decrement(getCounter(host));
 	}
 
 	/**
@@ -78,12 +103,10 @@ public class Sessions {
 	 * @param host - Host to get the session count
 	 * @return current session count of the host
 	 */
-	public synchronized int getSessionCount(String host)
+	public int getSessionCount(String host)
 	{
-		if (sessions.containsKey(host))
-			return sessions.get(host);
-		else
-			return 0;
+		AtomicInteger counter = sessions.get(host);
+		return (counter == null) ? 0 : counter.get();
 	}
 
 	/**
@@ -91,10 +114,9 @@ public class Sessions {
 	 * 
 	 * @return Pending Session Count
 	 */
-	public synchronized int addPendingSession()
+	public int addPendingSession()
 	{
-		pending++;
-		return pending;
+		return pending.incrementAndGet();
 	}
 
 	/**
@@ -102,15 +124,10 @@ public class Sessions {
 	 * 
 	 * @return Pending Session Count
 	 */
-	public synchronized int removePendingSession()
+	public int removePendingSession()
 	{
-		pending--;
-
 		// Prevent pending session count to be less than 0
-		if (pending < 0)
-			pending = 0;
-
-		return pending;
+		return decrement(pending);
 	}
 
 	/**
@@ -118,17 +135,17 @@ public class Sessions {
 	 * 
 	 * @return Pending Session Count
 	 */
-	public synchronized int getPendingSessionCount()
+	public int getPendingSessionCount()
 	{
-		return pending;
+		return pending.get();
 	}
 
 	/**
 	 * Reset the pending session count to 0
 	 */
-	public synchronized void resetPending()
+	public void resetPending()
 	{
-		pending = 0;
+		pending.set(0);
 	}
 
 	/**
@@ -136,19 +153,19 @@ public class Sessions {
 	 * 
 	 * @param host - Host to reset the session count
 	 */
-	public synchronized void resetSessions(String host)
+	public void resetSessions(String host)
 	{
-		sessions.put(host, 0);
+		getCounter(host).set(0);
 	}
 
 	/**
 	 * Reset all the sessions to be 0
 	 */
-	public synchronized void resetSessions()
+	public void resetSessions()
 	{
-		for (String host : sessions.keySet())
+		for (AtomicInteger counter : sessions.values())
 		{
-			sessions.put(host, 0);
+			counter.set(0);
 		}
 	}
 
@@ -157,19 +174,19 @@ public class Sessions {
 	 * 
 	 * @return String
 	 */
-	public synchronized String getHosts()
+	public String getHosts()
 	{
-		String all = "";
+		StringBuilder all = new StringBuilder();
 		String delimiter = ", ";
 
 		for (String host : sessions.keySet())
 		{
-			all += host + delimiter;
+			if (all.length() > 0)
+				all.append(delimiter);
+
+			all.append(host);
 		}
 
-		if (all.endsWith(delimiter))
-			return all.substring(0, all.length() - delimiter.length());
-		else
-			return all;
+		return all.toString();
 	}
-}
+}
\ No newline at end of file
@@ -2737,6 +2737,74 @@ public class AJAX {
 		return data;
 	}
 
+	/**
+	 * Collects the desired information from a list in a single JavaScript call that finds the elements &amp;
+	 * reads the information at the same time<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) As the elements are found &amp; read in the same call, a stale element cannot occur. As such, the
+	 * number of calls does not depend on the size of the list.<BR>
+	 * 2) Waits until at least 1 element is found (or timeout occurs)<BR>
+	 * 3) An element that does not have the attribute is returned as an empty string<BR>
+	 * 4) Visible text &amp; attribute are determined using JavaScript which may not match WebDriver in all
+	 * cases<BR>
+	 * 
+	 * @param driver
+	 * @param sLocator - Locator to find elements
+	 * @param sAttribute - Attribute to get value (based on nMethod may not be used)
+	 * @param nMaxCalls - Max calls to allow if the JavaScript could not be executed
+	 * @param nMethod - How the data will be gathered<BR>
+	 *            1 - _VisibleAttribute - Attribute value (visible)<BR>
+	 *            2 - _JavaScriptText - Text using JavaScript<BR>
+	 *            3 - _JavaScriptAttribute - Attribute value using JavaScript<BR>
+	 *            else - Text (visible)<BR>
+	 * @return List&lt;String&gt;
+	 */
+	private static List<String> getInfoBulk(WebDriver driver, String sLocator, String sAttribute,
+			int nMaxCalls, int nMethod)
+	{
+		int nCalls = 0;
+		ElapsedTime e = new ElapsedTime();
+		while (true)
+		{
+			List<String> collected;
+			if (nMethod == _VisibleAttribute)
+				collected = JS_Util.getAllAttributes(driver, sLocator, sAttribute, true);
+			else if (nMethod == _JavaScriptText)
+				collected = JS_Util.getAllText(driver, sLocator, false);
+			else if (nMethod == _JavaScriptAttribute)
+				collected = JS_Util.getAllAttributes(driver, sLocator, sAttribute, false);
+			else
+				collected = JS_Util.getAllText(driver, sLocator, true);
+
+			if (collected == null)
+			{
+				// Prevent infinite loop as it is possible that the JavaScript can never be executed
+				nCalls++;
+				if (nCalls > nMaxCalls)
+					break;
+			}
+			else if (!collected.isEmpty() || e.isTimeout())
+			{
+				List<String> data = new ArrayList<String>();
+				for (String sValue : collected)
+				{
+					data.add(Conversion.nonNull(sValue));
+				}
+
+				return data;
+			}
+
+			if (e.isTimeout())
+				break;
+
+			Framework.sleep(Framework.getPollInterval());
+		}
+
+		Logs.logError("The bulk collection of data was not successful using locator:  " + sLocator);
+		return new ArrayList<String>();
+	}
+
 	/**
 	 * Collects the Visible Text from a list that is constantly refreshed but the data is not changing<BR>
 	 * <BR>
@@ -2754,6 +2822,29 @@ public class AJAX {
 		return getInfo(driver, sLocator, "", nMaxCalls, _VisibleText);
 	}
 
+	/**
+	 * Collects the Visible Text from a list that is constantly refreshed but the data is not changing<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If the data changes, then the information returned will not be valid.<BR>
+	 * 2) Only use method if you know the data is not changing but the page is constantly being refreshed.<BR>
+	 * 3) Bulk collection finds the elements &amp; reads the data in a single JavaScript call which is much
+	 * faster for large lists (especially over Grid) &amp; cannot encounter a stale element<BR>
+	 * 
+	 * @param driver
+	 * @param sLocator - Locator to find elements
+	 * @param nMaxCalls - Max Recursive calls to allow (or max calls if the JavaScript fails for bulk)
+	 * @param bBulk - true to collect all the data in a single JavaScript call
+	 * @return List&lt;String&gt;
+	 */
+	public static List<String> getText(WebDriver driver, String sLocator, int nMaxCalls, boolean bBulk)
+	{
+		if (bBulk)
+			return getInfoBulk(driver, sLocator, "", nMaxCalls, _VisibleText);
+
+		return getInfo(driver, sLocator, "", nMaxCalls, _VisibleText);
+	}
+
 	/**
 	 * Collects the Visible Attribute Value from a list that is constantly refreshed but the data is not
 	 * changing<BR>
@@ -2774,6 +2865,32 @@ public class AJAX {
 		return getInfo(driver, sLocator, sAttribute, nMaxCalls, _VisibleAttribute);
 	}
 
+	/**
+	 * Collects the Visible Attribute Value from a list that is constantly refreshed but the data is not
+	 * changing<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If the data changes, then the information returned will not be valid.<BR>
+	 * 2) Only use method if you know the data is not changing but the page is constantly being refreshed.<BR>
+	 * 3) Bulk collection finds the elements &amp; reads the data in a single JavaScript call which is much
+	 * faster for large lists (especially over Grid) &amp; cannot encounter a stale element<BR>
+	 * 
+	 * @param driver
+	 * @param sLocator - Locator to find elements
+	 * @param sAttribute - Attribute to get value
+	 * @param nMaxCalls - Max Recursive calls to allow (or max calls if the JavaScript fails for bulk)
+	 * @param bBulk - true to collect all the data in a single JavaScript call
+	 * @return List&lt;String&gt;
+	 */
+	public static List<String> getAttribute(WebDriver driver, String sLocator, String sAttribute,
+			int nMaxCalls, boolean bBulk)
+	{
+		if (bBulk)
+			return getInfoBulk(driver, sLocator, sAttribute, nMaxCalls, _VisibleAttribute);
+
+		return getInfo(driver, sLocator, sAttribute, nMaxCalls, _VisibleAttribute);
+	}
+
 	/**
 	 * Collects the Text using JavaScript from a list that is constantly refreshed but the data is not
 	 * changing<BR>
@@ -2792,6 +2909,30 @@ public class AJAX {
 		return getInfo(driver, sLocator, "", nMaxCalls, _JavaScriptText);
 	}
 
+	/**
+	 * Collects the Text using JavaScript from a list that is constantly refreshed but the data is not
+	 * changing<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If the data changes, then the information returned will not be valid.<BR>
+	 * 2) Only use method if you know the data is not changing but the page is constantly being refreshed.<BR>
+	 * 3) Bulk collection finds the elements &amp; reads the data in a single JavaScript call which is much
+	 * faster for large lists (especially over Grid) &amp; cannot encounter a stale element<BR>
+	 * 
+	 * @param driver
+	 * @param sLocator - Locator to find elements
+	 * @param nMaxCalls - Max Recursive calls to allow (or max calls if the JavaScript fails for bulk)
+	 * @param bBulk - true to collect all the data in a single JavaScript call
+	 * @return List&lt;String&gt;
+	 */
+	public static List<String> getTextJS(WebDriver driver, String sLocator, int nMaxCalls, boolean bBulk)
+	{
+		if (bBulk)
+			return getInfoBulk(driver, sLocator, "", nMaxCalls, _JavaScriptText);
+
+		return getInfo(driver, sLocator, "", nMaxCalls, _JavaScriptText);
+	}
+
 	/**
 	 * Collects the Attribute Value using JavaScript from a list that is constantly refreshed but the data is
 	 * not changing<BR>
@@ -2812,6 +2953,32 @@ public class AJAX {
 		return getInfo(driver, sLocator, sAttribute, nMaxCalls, _JavaScriptAttribute);
 	}
 
+	/**
+	 * Collects the Attribute Value using JavaScript from a list that is constantly refreshed but the data is
+	 * not changing<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If the data changes, then the information returned will not be valid.<BR>
+	 * 2) Only use method if you know the data is not changing but the page is constantly being refreshed.<BR>
+	 * 3) Bulk collection finds the elements &amp; reads the data in a single JavaScript call which is much
+	 * faster for large lists (especially over Grid) &amp; cannot encounter a stale element<BR>
+	 * 
+	 * @param driver
+	 * @param sLocator - Locator to find elements
+	 * @param sAttribute - Attribute to get value
+	 * @param nMaxCalls - Max Recursive calls to allow (or max calls if the JavaScript fails for bulk)
+	 * @param bBulk - true to collect all the data in a single JavaScript call
+	 * @return List&lt;String&gt;
+	 */
+	public static List<String> getAttributeJS(WebDriver driver, String sLocator, String sAttribute,
+			int nMaxCalls, boolean bBulk)
+	{
+		if (bBulk)
+			return getInfoBulk(driver, sLocator, sAttribute, nMaxCalls, _JavaScriptAttribute);
+
+		return getInfo(driver, sLocator, sAttribute, nMaxCalls, _JavaScriptAttribute);
+	}
+
 	/**
 	 * Wait for the temporary node removal from the DOM<BR>
 	 * <BR>
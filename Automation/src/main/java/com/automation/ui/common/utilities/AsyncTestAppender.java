@@ -0,0 +1,877 @@
+package com.automation.ui.common.utilities;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Layout;
+import org.apache.log4j.MDC;
+import org.apache.log4j.spi.ErrorCode;
+import org.apache.log4j.spi.Filter;
+import org.apache.log4j.spi.LocationInfo;
+import org.apache.log4j.spi.LoggingEvent;
+import org.apache.log4j.spi.ThrowableInformation;
+
+/**
+ * This is a log4j appender that writes the log messages on a background thread to a separate file for each
+ * test such that logging does not slow down the tests &amp; the log of each test can be read even when the
+ * tests are run in parallel<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The messages are routed using the test ID of the thread that logged the message (see Logs.setTestID
+ * which is set by Controller.writeTestIDtoLog). The messages of each test are written to the file Folder +
+ * test ID + ".log". Messages without a test ID are written to the file Folder + DefaultFile.<BR>
+ * 1a) If CombinedFile is set, then all the messages are also written to the file Folder + CombinedFile (in
+ * the order they were logged). Messages without a test ID are only written once if CombinedFile is the same
+ * as DefaultFile.<BR>
+ * 2) The messages are put on a lock-free ring buffer that is drained by a single background thread. If the
+ * ring buffer is full, then the logging thread waits for space (no messages are lost).<BR>
+ * 3) The calling class (%C) is resolved when the message is logged using the class context which is much
+ * cheaper than the stack trace that log4j uses. The method, file &amp; line number (%M, %F, %L) are not
+ * available as they require the stack trace.<BR>
+ * 4) The files are flushed when the ring buffer is empty. The ring buffer is drained &amp; the files are
+ * closed when the appender is closed (or the JVM is shutdown). Use the method flush (or Logs.flush) to wait
+ * for the messages to be written before reading the files.<BR>
+ * 5) Only a limited number of test files are kept open at the same time (least recently used is closed &amp;
+ * opened again in append mode if necessary)<BR>
+ * 6) log4j still synchronizes on the logger while calling the appenders but only the ring buffer is
+ * updated during that time (no formatting or file I/O)<BR>
+ * <BR>
+ * <B>Example (logger.properties):</B><BR>
+ * log4j.rootLogger=INFO, T<BR>
+ * log4j.appender.T=com.automation.ui.common.utilities.AsyncTestAppender<BR>
+ * log4j.appender.T.Folder=${Logs.FILE}<BR>
+ * log4j.appender.T.CombinedFile=results.log<BR>
+ * log4j.appender.T.Console=true<BR>
+ * log4j.appender.T.layout=org.apache.log4j.PatternLayout<BR>
+ * log4j.appender.T.layout.ConversionPattern=[%d{MM-dd-yyyy HH:mm:ss}][%-5p][%-15C{1}] - %m%n<BR>
+ */
+public class AsyncTestAppender extends AppenderSkeleton {
+	/**
+	 * Extension of the file for each test
+	 */
+	private static final String _Extension = ".log";
+
+	/**
+	 * Max time (milliseconds) to wait for the background thread to write the remaining messages on close
+	 */
+	private static final long _CloseTimeout = 10000;
+
+	/**
+	 * Max time (nanoseconds) the background thread waits before checking for messages again
+	 */
+	private static final long _MaxIdleWait = TimeUnit.MILLISECONDS.toNanos(100);
+
+	/**
+	 * Folder that contains the files
+	 */
+	private String folder = "";
+
+	/**
+	 * File for messages without a test ID
+	 */
+	private String defaultFile = "results.log";
+
+	/**
+	 * File for all the messages (empty string for no combined file)
+	 */
+	private String combinedFile = "";
+
+	/**
+	 * Number of messages that the ring buffer can hold (rounded up to a power of 2)
+	 */
+	private int bufferSize = 8192;
+
+	/**
+	 * Max number of files that are open at the same time
+	 */
+	private int maxOpenFiles = 64;
+
+	/**
+	 * Flag to indicate if the messages are also written to System.out (by the background thread)
+	 */
+	private boolean console = false;
+
+	/**
+	 * Flag to indicate if the files are appended to (instead of overwritten when first opened)
+	 */
+	private boolean append = true;
+
+	/**
+	 * Messages waiting to be written
+	 */
+	private RingBuffer buffer;
+
+	/**
+	 * Background thread that writes the messages
+	 */
+	private Thread writer;
+
+	/**
+	 * Writes the remaining messages on JVM shutdown
+	 */
+	private Thread shutdownHook;
+
+	/**
+	 * Flag to indicate if the background thread is waiting for messages
+	 */
+	private volatile boolean bWaiting;
+
+	/**
+	 * Flag to indicate if the background thread should stop once all the messages are written
+	 */
+	private volatile boolean bStopping;
+
+	/**
+	 * Number of messages that have been written &amp; flushed to the files
+	 */
+	private volatile long nFlushed;
+
+	/**
+	 * Message waiting to be written
+	 */
+	private static class Entry {
+		private String sTestID;
+		private LoggingEvent event;
+	}
+
+	/**
+	 * Bounded lock-free ring buffer for multiple producers &amp; a single consumer<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Each slot has a sequence number. A producer claims a slot by moving the tail using compare and set
+	 * &amp; publishes it by setting the sequence. The consumer only reads slots that have been published.<BR>
+	 */
+	private static class RingBuffer {
+		private final int nMask;
+		private final AtomicReferenceArray<Entry> slots;
+		private final AtomicLongArray sequences;
+		private final AtomicLong tail;
+		private long head;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param nCapacity - Capacity (must be a power of 2)
+		 */
+		public RingBuffer(int nCapacity)
+		{
+			nMask = nCapacity - 1;
+			slots = new AtomicReferenceArray<Entry>(nCapacity);
+			sequences = new AtomicLongArray(nCapacity);
+			for (int i = 0; i < nCapacity; i++)
+			{
+				sequences.set(i, i);
+			}
+
+			tail = new AtomicLong(0);
+			head = 0;
+		}
+
+		/**
+		 * Adds the entry if there is space (can be called by any thread)
+		 * 
+		 * @param entry - Entry to add
+		 * @return true if the entry was added, false if the ring buffer is full
+		 */
+		public boolean offer(Entry entry)
+		{
+			while (true)
+			{
+				long nPosition = tail.get();
+				int nIndex = (int) nPosition & nMask;
+				long nDiff = sequences.get(nIndex) - nPosition;
+				if (nDiff == 0)
+				{
+					if (tail.compareAndSet(nPosition, nPosition + 1))
+					{
+						slots.lazySet(nIndex, entry);
+						sequences.set(nIndex, nPosition + 1);
+						return true;
+					}
+				}
+				else if (nDiff < 0)
+				{
+					return false;
+				}
+			}
+		}
+
+		/**
+		 * Removes the next entry (must only be called by the consumer thread)
+		 * 
+		 * @return null if there are no published entries
+		 */
+		public Entry poll()
+		{
+			int nIndex = (int) head & nMask;
+			if (sequences.get(nIndex) != head + 1)
+				return null;
+
+			Entry entry = slots.get(nIndex);
+			slots.lazySet(nIndex, null);
+			sequences.set(nIndex, head + nMask + 1);
+			head++;
+			return entry;
+		}
+
+		/**
+		 * Gets the number of entries that have been claimed (can be called by any thread)
+		 * 
+		 * @return number of entries added or being added
+		 */
+		public long claimed()
+		{
+			return tail.get();
+		}
+
+		/**
+		 * Gets the number of entries that have been removed (must only be called by the consumer thread)
+		 * 
+		 * @return number of entries removed
+		 */
+		public long removed()
+		{
+			return head;
+		}
+
+		/**
+		 * Checks if there are any entries that have been claimed but not removed
+		 * 
+		 * @return true if empty
+		 */
+		public boolean isEmpty()
+		{
+			return tail.get() == head;
+		}
+	}
+
+	/**
+	 * Resolves the calling class using the class context (which does not create a stack trace)
+	 */
+	private static class CallerResolver extends SecurityManager {
+		/**
+		 * Gets the class that called the logger
+		 * 
+		 * @param sLoggerClass - Fully qualified name of the logger class
+		 * @return null if the class cannot be found
+		 */
+		public String getCaller(String sLoggerClass)
+		{
+			Class<?>[] context = getClassContext();
+			String sCaller = null;
+			for (int i = context.length - 1; i > 0; i--)
+			{
+				if (context[i].getName().equals(sLoggerClass))
+					return sCaller;
+
+				sCaller = context[i].getName();
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * Used to resolve the calling class (null if it cannot be created)
+	 */
+	private static final CallerResolver resolver = createResolver();
+
+	/**
+	 * Creates the caller resolver
+	 * 
+	 * @return null if the caller resolver cannot be created
+	 */
+	private static CallerResolver createResolver()
+	{
+		try
+		{
+			return new CallerResolver();
+		}
+		catch (Throwable th)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Sets the folder that contains the files
+	 * 
+	 * @param folder - Folder (null is converted to the empty string which is the working directory)
+	 */
+	public void setFolder(String folder)
+	{
+		this.folder = Conversion.nonNull(folder);
+	}
+
+	/**
+	 * Gets the folder that contains the files
+	 * 
+	 * @return folder
+	 */
+	public String getFolder()
+	{
+		return folder;
+	}
+
+	/**
+	 * Sets the file for messages without a test ID
+	 * 
+	 * @param defaultFile - Filename (in the folder)
+	 */
+	public void setDefaultFile(String defaultFile)
+	{
+		this.defaultFile = Conversion.nonNull(defaultFile);
+	}
+
+	/**
+	 * Gets the file for messages without a test ID
+	 * 
+	 * @return defaultFile
+	 */
+	public String getDefaultFile()
+	{
+		return defaultFile;
+	}
+
+	/**
+	 * Sets the file for all the messages
+	 * 
+	 * @param combinedFile - Filename (in the folder) or the empty string for no combined file
+	 */
+	public void setCombinedFile(String combinedFile)
+	{
+		this.combinedFile = Conversion.nonNull(combinedFile);
+	}
+
+	/**
+	 * Gets the file for all the messages
+	 * 
+	 * @return combinedFile
+	 */
+	public String getCombinedFile()
+	{
+		return combinedFile;
+	}
+
+	/**
+	 * Sets the number of messages that the ring buffer can hold (if greater than 0)
+	 * 
+	 * @param bufferSize - Number of messages (rounded up to a power of 2)
+	 */
+	public void setBufferSize(int bufferSize)
+	{
+		if (bufferSize > 0)
+			this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Gets the number of messages that the ring buffer can hold
+	 * 
+	 * @return bufferSize
+	 */
+	public int getBufferSize()
+	{
+		return bufferSize;
+	}
+
+	/**
+	 * Sets the max number of files that are open at the same time (if greater than 0)
+	 * 
+	 * @param maxOpenFiles - Max number of open files
+	 */
+	public void setMaxOpenFiles(int maxOpenFiles)
+	{
+		if (maxOpenFiles > 0)
+			this.maxOpenFiles = maxOpenFiles;
+	}
+
+	/**
+	 * Gets the max number of files that are open at the same time
+	 * 
+	 * @return maxOpenFiles
+	 */
+	public int getMaxOpenFiles()
+	{
+		return maxOpenFiles;
+	}
+
+	/**
+	 * Sets whether the messages are also written to System.out
+	 * 
+	 * @param console - true to also write the messages to System.out
+	 */
+	public void setConsole(boolean console)
+	{
+		this.console = console;
+	}
+
+	/**
+	 * Gets whether the messages are also written to System.out
+	 * 
+	 * @return console
+	 */
+	public boolean getConsole()
+	{
+		return console;
+	}
+
+	/**
+	 * Sets whether the files are appended to (instead of overwritten when first opened)
+	 * 
+	 * @param append - true to append to the files
+	 */
+	public void setAppend(boolean append)
+	{
+		this.append = append;
+	}
+
+	/**
+	 * Gets whether the files are appended to
+	 * 
+	 * @return append
+	 */
+	public boolean getAppend()
+	{
+		return append;
+	}
+
+	/**
+	 * Starts the background thread (called by log4j after the options are set)
+	 */
+	@Override
+	public synchronized void activateOptions()
+	{
+		if (writer != null)
+			return;
+
+		int nCapacity = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+		buffer = new RingBuffer(nCapacity);
+		bStopping = false;
+
+		writer = new Thread(new Drain(), "AsyncTestAppender-" + getName());
+		writer.setDaemon(true);
+		writer.start();
+
+		shutdownHook = new Thread() {
+			@Override
+			public void run()
+			{
+				stop();
+			}
+		};
+		Runtime.getRuntime().addShutdownHook(shutdownHook);
+	}
+
+	/**
+	 * Same as AppenderSkeleton.doAppend except it is not synchronized as the ring buffer is thread safe
+	 */
+	@Override
+	public void doAppend(LoggingEvent event)
+	{
+		if (closed || !isAsSevereAsThreshold(event.getLevel()))
+			return;
+
+		Filter filter = getFirstFilter();
+		while (filter != null)
+		{
+			int nDecision = filter.decide(event);
+			if (nDecision == Filter.DENY)
+				return;
+
+			if (nDecision == Filter.ACCEPT)
+				break;
+
+			filter = filter.getNext();
+		}
+
+		append(event);
+	}
+
+	@Override
+	protected void append(LoggingEvent event)
+	{
+		if (writer == null)
+			activateOptions();
+
+		Entry entry = new Entry();
+		entry.sTestID = Logs.getTestID();
+		entry.event = snapshot(event);
+
+		// Wait for space instead of losing messages
+		while (!buffer.offer(entry))
+		{
+			if (bStopping)
+				return;
+
+			LockSupport.unpark(writer);
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+		}
+
+		if (bWaiting)
+			LockSupport.unpark(writer);
+	}
+
+	/**
+	 * Creates a copy of the event with all the information that depends on the logging thread resolved
+	 * 
+	 * @param event - Event to copy
+	 * @return LoggingEvent
+	 */
+	@SuppressWarnings("unchecked")
+	private LoggingEvent snapshot(LoggingEvent event)
+	{
+		String sCaller = null;
+		if (resolver != null)
+			sCaller = resolver.getCaller(event.getFQNOfLoggerClass());
+
+		LocationInfo location;
+		if (sCaller == null)
+			location = LocationInfo.NA_LOCATION_INFO;
+		else
+			location = new LocationInfo(LocationInfo.NA, sCaller, LocationInfo.NA, LocationInfo.NA);
+
+		ThrowableInformation throwable = event.getThrowableInformation();
+		if (throwable != null)
+			throwable = new ThrowableInformation(event.getThrowableStrRep());
+
+		// A copy of the context prevents the layout from using the MDC of the background thread
+		Hashtable<String, Object> mdc = new Hashtable<String, Object>();
+		Hashtable<String, Object> context = MDC.getContext();
+		if (context != null)
+			mdc.putAll(context);
+
+		// log4j inherits the MDC in new threads as such the test ID is always taken from Logs
+		String sTestID = Logs.getTestID();
+		if (sTestID == null)
+			mdc.remove(Logs.TEST_ID);
+		else
+			mdc.put(Logs.TEST_ID, sTestID);
+
+		return new LoggingEvent(event.getFQNOfLoggerClass(), event.getLogger(), event.getTimeStamp(),
+				event.getLevel(), event.getRenderedMessage(), event.getThreadName(), throwable,
+				event.getNDC(), location, mdc);
+	}
+
+	/**
+	 * Waits for the messages logged before this call to be written &amp; flushed to the files
+	 * 
+	 * @param nTimeout - Max time (milliseconds) to wait
+	 * @return true if all the messages were written before the timeout else false
+	 */
+	public boolean flush(long nTimeout)
+	{
+		Thread thread = writer;
+		if (thread == null)
+			return true;
+
+		long nTarget = buffer.claimed();
+		long nEnd = System.currentTimeMillis() + nTimeout;
+		while (nFlushed < nTarget)
+		{
+			if (!thread.isAlive() || System.currentTimeMillis() > nEnd)
+				return false;
+
+			LockSupport.unpark(thread);
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+		}
+
+		return true;
+	}
+
+	/**
+	 * Stops the background thread after all the messages are written
+	 */
+	private void stop()
+	{
+		Thread thread;
+		synchronized (this)
+		{
+			thread = writer;
+			bStopping = true;
+		}
+
+		if (thread == null)
+			return;
+
+		LockSupport.unpark(thread);
+		try
+		{
+			thread.join(_CloseTimeout);
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close()
+	{
+		if (closed)
+			return;
+
+		closed = true;
+		stop();
+
+		try
+		{
+			if (shutdownHook != null)
+				Runtime.getRuntime().removeShutdownHook(shutdownHook);
+		}
+		catch (IllegalStateException ex)
+		{
+			// The JVM is already shutting down
+		}
+	}
+
+	@Override
+	public boolean requiresLayout()
+	{
+		return true;
+	}
+
+	/**
+	 * Writes the messages from the ring buffer to the files (runs on the background thread)
+	 */
+	private class Drain implements Runnable {
+		/**
+		 * The open files (least recently used first) by test ID ("" for messages without a test ID)
+		 */
+		private Map<String, Writer> files;
+
+		/**
+		 * Files that have been written to since the last flush
+		 */
+		private Map<Writer, Boolean> dirty;
+
+		/**
+		 * Test IDs that have had their file opened (files are only overwritten when first opened)
+		 */
+		private Map<String, Boolean> opened;
+
+		/**
+		 * File for all the messages (null if not open)
+		 */
+		private Writer combined;
+
+		/**
+		 * Constructor
+		 */
+		public Drain()
+		{
+			files = new LinkedHashMap<String, Writer>(16, 0.75f, true);
+			dirty = new LinkedHashMap<Writer, Boolean>();
+			opened = new LinkedHashMap<String, Boolean>();
+		}
+
+		@Override
+		public void run()
+		{
+			while (true)
+			{
+				Entry entry = buffer.poll();
+				if (entry != null)
+				{
+					write(entry);
+					continue;
+				}
+
+				flush();
+				nFlushed = buffer.removed();
+				if (bStopping && buffer.isEmpty())
+					break;
+
+				// Re-check after setting the flag such that a message added at the same time is not missed
+				bWaiting = true;
+				if (buffer.isEmpty() && !bStopping)
+					LockSupport.parkNanos(this, _MaxIdleWait);
+
+				bWaiting = false;
+			}
+
+			for (Writer file : files.values())
+			{
+				closeQuietly(file);
+			}
+
+			files.clear();
+			if (combined != null)
+				closeQuietly(combined);
+
+			combined = null;
+		}
+
+		/**
+		 * Writes the message to the file for the test
+		 * 
+		 * @param entry - Message to be written
+		 */
+		private void write(Entry entry)
+		{
+			Layout format = layout;
+			if (format == null)
+				return;
+
+			String sTestID = Conversion.nonNull(entry.sTestID);
+			StringBuilder sb = new StringBuilder(format.format(entry.event));
+			if (format.ignoresThrowable())
+			{
+				String[] lines = entry.event.getThrowableStrRep();
+				if (lines != null)
+				{
+					for (String line : lines)
+					{
+						sb.append(line);
+						sb.append(Layout.LINE_SEP);
+					}
+				}
+			}
+
+			String sMessage = sb.toString();
+			if (console)
+				System.out.print(sMessage);
+
+			try
+			{
+				Writer file = getFile(sTestID);
+				file.write(sMessage);
+				dirty.put(file, true);
+			}
+			catch (IOException ex)
+			{
+				errorHandler.error("Could not write the log for test (" + sTestID + ")", ex,
+						ErrorCode.WRITE_FAILURE);
+			}
+
+			// Messages without a test ID are already in the combined file if it is the default file
+			if (combinedFile.equals("") || (sTestID.equals("") && combinedFile.equals(defaultFile)))
+				return;
+
+			try
+			{
+				Writer file = getCombinedFile();
+				file.write(sMessage);
+				dirty.put(file, true);
+			}
+			catch (IOException ex)
+			{
+				errorHandler.error("Could not write the combined log", ex, ErrorCode.WRITE_FAILURE);
+			}
+		}
+
+		/**
+		 * Gets the file for all the messages (opening it if necessary)<BR>
+		 * <BR>
+		 * <B>Notes:</B><BR>
+		 * 1) If the combined file is the default file, then the same writer is used for both such that the
+		 * file is only opened once<BR>
+		 * 
+		 * @return Writer
+		 * @throws IOException if the file cannot be opened
+		 */
+		private Writer getCombinedFile() throws IOException
+		{
+			if (combinedFile.equals(defaultFile))
+				return getFile("");
+
+			if (combined != null)
+				return combined;
+
+			File f = new File(folder + combinedFile);
+			if (f.getParentFile() != null)
+				f.getParentFile().mkdirs();
+
+			combined = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(f, append)));
+			return combined;
+		}
+
+		/**
+		 * Gets the file for the test (opening it if necessary)
+		 * 
+		 * @param sTestID - Test ID ("" for messages without a test ID)
+		 * @return Writer
+		 * @throws IOException if the file cannot be opened
+		 */
+		private Writer getFile(String sTestID) throws IOException
+		{
+			Writer file = files.get(sTestID);
+			if (file != null)
+				return file;
+
+			if (files.size() >= maxOpenFiles)
+			{
+				Iterator<Writer> eldest = files.values().iterator();
+				Writer close = eldest.next();
+				eldest.remove();
+				dirty.remove(close);
+				closeQuietly(close);
+			}
+
+			String sFilename;
+			if (sTestID.equals(""))
+				sFilename = defaultFile;
+			else
+				sFilename = Conversion.encodeFilename(sTestID) + _Extension;
+
+			File f = new File(folder + sFilename);
+			if (f.getParentFile() != null)
+				f.getParentFile().mkdirs();
+
+			boolean bAppend = append || opened.containsKey(sTestID);
+			file = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(f, bAppend)));
+			files.put(sTestID, file);
+			opened.put(sTestID, true);
+			return file;
+		}
+
+		/**
+		 * Flushes the files that have been written to since the last flush
+		 */
+		private void flush()
+		{
+			for (Writer file : dirty.keySet())
+			{
+				try
+				{
+					file.flush();
+				}
+				catch (IOException ex)
+				{
+					errorHandler.error("Could not flush the log", ex, ErrorCode.FLUSH_FAILURE);
+				}
+			}
+
+			dirty.clear();
+		}
+
+		/**
+		 * Closes the file ignoring any exceptions
+		 * 
+		 * @param file - File to close
+		 */
+		private void closeQuietly(Writer file)
+		{
+			try
+			{
+				file.close();
+			}
+			catch (IOException ex)
+			{
+			}
+		}
+	}
+}
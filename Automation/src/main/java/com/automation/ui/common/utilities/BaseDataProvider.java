@@ -0,0 +1,200 @@
+package com.automation.ui.common.utilities;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This abstract class is for a TestNG data provider that builds the test parameters for each record in
+ * parallel &amp; returns them lazily<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The parameters for all the records are built in parallel using a fork/join pool<BR>
+ * 2) The iterator returns the parameters in the same order as the records as soon as each is built such
+ * that the 1st test can start before all the parameters have been built<BR>
+ * 3) The build method is called by multiple threads at the same time as such it must not modify any shared
+ * state (such as static counters). Anything that must be assigned in record order (such as unique IDs) needs
+ * to be computed before calling iterator &amp; looked up using the index.<BR>
+ * 4) If building the parameters for a record throws an exception, then the method failed is called (on the
+ * thread using the iterator) when the iterator reaches that record<BR>
+ * <BR>
+ * <B>Example:</B><BR>
+ * &#064;DataProvider(name = "Login", parallel = true)<BR>
+ * public static Iterator&lt;Object[]&gt; dataForLogin()<BR>
+ * {<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;List&lt;String[]&gt; records = DataSnapshots.getRecords(sFile, "/data/Login",
+ * "UniqueID", "UserName");<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;return new BaseDataProvider&lt;String[]&gt;() {<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;protected Object[] build(String[] record, int nIndex) { ...
+ * }<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;}.iterator(records);<BR>
+ * }<BR>
+ * 
+ * @param <T> - Type of each record
+ */
+public abstract class BaseDataProvider<T> {
+	/**
+	 * Pool used to build the parameters (shared by all data providers)
+	 */
+	private static final ForkJoinPool _Pool = ForkJoinPool.commonPool();
+
+	/**
+	 * Number of records in each chunk submitted to the pool (the iterator waits for all the records of the
+	 * chunk to be built)
+	 */
+	private static final int _ChunkSize = 8;
+
+	/**
+	 * Builds the test parameters for a record
+	 * 
+	 * @param record - Record to build the test parameters from
+	 * @param nIndex - Index of the record
+	 * @return Object[] which are the parameters for the test method
+	 */
+	protected abstract Object[] build(T record, int nIndex);
+
+	/**
+	 * Handles an exception from building the parameters for a record<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Default implementation throws the exception to the caller of the iterator<BR>
+	 * 2) If this method returns normally, then the iterator has no more elements<BR>
+	 * 
+	 * @param ex - Exception from building the parameters
+	 */
+	protected void failed(RuntimeException ex)
+	{
+		throw ex;
+	}
+
+	/**
+	 * Starts building the parameters for all the records in parallel &amp; returns an iterator that can be
+	 * returned by a TestNG data provider
+	 * 
+	 * @param records - Records to build the test parameters from
+	 * @return Iterator&lt;Object[]&gt;
+	 */
+	public Iterator<Object[]> iterator(List<T> records)
+	{
+		// The 1st records are submitted first such that they are built first
+		// The pool threads are not running the test, so the test ID is passed to the tasks
+		final String sTestID = Logs.getTestID();
+		final List<ForkJoinTask<List<Object[]>>> tasks = new ArrayList<ForkJoinTask<List<Object[]>>>();
+		for (int i = 0; i < records.size(); i += _ChunkSize)
+		{
+			int nEnd = Math.min(records.size(), i + _ChunkSize);
+			tasks.add(_Pool.submit(new BuildTask(records, i, nEnd, sTestID)));
+		}
+
+		return new Iterator<Object[]>() {
+			private int nTask = 0;
+			private Iterator<Object[]> current = null;
+
+			@Override
+			public boolean hasNext()
+			{
+				while (current == null || !current.hasNext())
+				{
+					if (nTask >= tasks.size())
+						return false;
+
+					// Waits for the task to complete
+					try
+					{
+						current = tasks.get(nTask).join().iterator();
+					}
+					catch (RuntimeException ex)
+					{
+						nTask = tasks.size();
+						failed(ex);
+						return false;
+					}
+
+					tasks.set(nTask, null);
+					nTask++;
+				}
+
+				return true;
+			}
+
+			@Override
+			public Object[] next()
+			{
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				return current.next();
+			}
+
+			@Override
+			public void remove()
+			{
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	/**
+	 * Task that builds the parameters for a range of records (splitting the range in half until each task
+	 * has a single record)
+	 */
+	private class BuildTask extends RecursiveTask<List<Object[]>> {
+		private static final long serialVersionUID = 1L;
+		private List<T> records;
+		private int nStart;
+		private int nEnd;
+		private String sTestID;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param records - All the records
+		 * @param nStart - Index of the 1st record to build (inclusive)
+		 * @param nEnd - Index of the last record to build (exclusive)
+		 * @param sTestID - Test ID used while building the records (null if none)
+		 */
+		public BuildTask(List<T> records, int nStart, int nEnd, String sTestID)
+		{
+			this.records = records;
+			this.nStart = nStart;
+			this.nEnd = nEnd;
+			this.sTestID = sTestID;
+		}
+
+		@Override
+		protected List<Object[]> compute()
+		{
+			if (nEnd - nStart <= 1)
+			{
+				List<Object[]> built = new ArrayList<Object[]>();
+				String sPrevious = Logs.getTestID();
+				Logs.setTestID(sTestID);
+				try
+				{
+					for (int i = nStart; i < nEnd; i++)
+					{
+						built.add(build(records.get(i), i));
+					}
+				}
+				finally
+				{
+					Logs.setTestID(sPrevious);
+				}
+
+				return built;
+			}
+
+			int nMiddle = (nStart + nEnd) >>> 1;
+			BuildTask first = new BuildTask(records, nStart, nMiddle, sTestID);
+			BuildTask second = new BuildTask(records, nMiddle, nEnd, sTestID);
+			second.fork();
+			List<Object[]> built = first.compute();
+			built.addAll(second.join());
+			return built;
+		}
+	}
+}
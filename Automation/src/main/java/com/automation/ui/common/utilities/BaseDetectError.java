@@ -46,6 +46,22 @@ public abstract class BaseDetectError {
 	 */
 	private HashMap<String, RuntimeException> cache;
 
+	/**
+	 * All the expected errors combined for the regular expression match option. This variable should only be
+	 * accessed using the method getMatcher as it needs to be rebuilt when the cache changes.
+	 */
+	private MultiPatternMatcher matcher;
+
+	/**
+	 * The number of expected errors that were used to build the matcher
+	 */
+	private int matcherSize;
+
+	/**
+	 * The cache that was used to build the matcher
+	 */
+	private HashMap<String, RuntimeException> matcherSource;
+
 	/**
 	 * All the error locators<BR>
 	 * <BR>
@@ -185,6 +201,7 @@ public abstract class BaseDetectError {
 	public void refreshCache()
 	{
 		cache = getAvailableErrors(getLanguage());
+		matcher = null;
 	}
 
 	/**
@@ -300,6 +317,16 @@ public abstract class BaseDetectError {
 		if (lookup.containsKey(actualError))
 			throwRuntimeException(lookup.get(actualError), actualError);
 
+		// All the expected errors are checked in a single pass when using regular expressions
+		if (Comparison.RegEx == option)
+		{
+			String key = getMatcher(lookup).match(actualError);
+			if (key != null)
+				throwRuntimeException(lookup.get(key), actualError);
+
+			return;
+		}
+
 		String key = "";
 		boolean found = false;
 		for (Entry<String, RuntimeException> item : lookup.entrySet())
@@ -311,8 +338,6 @@ public abstract class BaseDetectError {
 				found = !Compare.contains(actualError, expectedError, option);
 			else if (Comparison.NotEqual == option)
 				found = !Compare.equals(actualError, expectedError, option);
-			else if (Comparison.RegEx == option)
-				found = Compare.matches(actualError, expectedError);
 			else
 				found = Compare.equals(actualError, expectedError, option);
 
@@ -327,6 +352,27 @@ public abstract class BaseDetectError {
 			throwRuntimeException(lookup.get(key), actualError);
 	}
 
+	/**
+	 * Get the matcher that has all the expected errors combined (building it if necessary)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The matcher is rebuilt if the cache is refreshed or the number of expected errors changes<BR>
+	 * 
+	 * @param lookup - Map of Expected Errors and corresponding Runtime exceptions to be thrown
+	 * @return MultiPatternMatcher
+	 */
+	private MultiPatternMatcher getMatcher(HashMap<String, RuntimeException> lookup)
+	{
+		if (matcher == null || matcherSource != lookup || matcherSize != lookup.size())
+		{
+			matcherSize = lookup.size();
+			matcherSource = lookup;
+			matcher = new MultiPatternMatcher(lookup.keySet());
+		}
+
+		return matcher;
+	}
+
 	/**
 	 * Throw runtime exception with specified error
 	 * 
@@ -1,6 +1,7 @@
 package com.automation.ui.common.utilities;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 
 import org.apache.commons.io.FileUtils;
@@ -80,6 +81,38 @@ public abstract class BaseDownloadRequest extends BaseRequest {
 		return file;
 	}
 
+	/**
+	 * Extracts the text of each page in the range from the downloaded PDF &amp; processes it (such as
+	 * verifying it)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The text is extracted 1 page at a time such that the text of the whole document is not stored<BR>
+	 * 2) The request must have been executed before calling this method<BR>
+	 * 
+	 * @param nStartPage - 1st page (inclusive, starting from 1)
+	 * @param nEndPage - Last page (inclusive, Integer.MAX_VALUE for all remaining pages)
+	 * @param reader - Processes the text of each page
+	 * @return number of pages processed
+	 * @throws GenericUnexpectedException if there is no downloaded file or it cannot be read as a PDF
+	 */
+	public int readPDF(int nStartPage, int nEndPage, BasePDFPageReader reader)
+	{
+		if (file == null || !file.isFile())
+			Logs.logError(getRequestName() + " has no downloaded file to read as a PDF");
+
+		try
+		{
+			return reader.read(file, nStartPage, nEndPage);
+		}
+		catch (IOException ex)
+		{
+			Logs.logError("Reading the downloaded PDF (" + file + ") caused the following exception ["
+					+ ex.getClass().getName() + "]:  " + ex.getMessage());
+		}
+
+		return 0;
+	}
+
 	/**
 	 * Parse Response which save the file
 	 * 
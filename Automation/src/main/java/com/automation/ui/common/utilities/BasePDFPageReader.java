@@ -0,0 +1,143 @@
+package com.automation.ui.common.utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.pdfbox.io.RandomAccessFile;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.util.PDFTextStripper;
+
+/**
+ * This abstract class extracts the text of a PDF one page at a time such that each page can be verified
+ * without holding the text of the whole document<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The stream data of the PDF is kept in a temporary scratch file instead of memory while the document is
+ * open<BR>
+ * 2) Only the pages in the range are extracted. Page numbers start from 1.<BR>
+ * 3) The text of each page is the same as PDFTextStripper would return for that page<BR>
+ * 4) If an input stream is read, then it is copied to a temporary file first (as the PDF format requires
+ * random access) &amp; the stream is closed<BR>
+ * <BR>
+ * <B>Example:</B><BR>
+ * new BasePDFPageReader() {<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;protected boolean process(String sText, int nPage) { ...; return true; }<BR>
+ * }.read(file, 2, 5);<BR>
+ */
+public abstract class BasePDFPageReader {
+	/**
+	 * Processes the text of a page (such as verifying it)
+	 * 
+	 * @param sText - Text of the page
+	 * @param nPage - Page number (starting from 1)
+	 * @return true to continue with the next page, false to stop reading the pages
+	 */
+	protected abstract boolean process(String sText, int nPage);
+
+	/**
+	 * Extracts the text of each page in the range &amp; processes it
+	 * 
+	 * @param pdf - PDF file to read
+	 * @param nStartPage - 1st page to read (inclusive)
+	 * @param nEndPage - Last page to read (inclusive, Integer.MAX_VALUE for all remaining pages)
+	 * @return number of pages processed
+	 * @throws IOException if the PDF cannot be read
+	 */
+	public int read(File pdf, int nStartPage, int nEndPage) throws IOException
+	{
+		File scratchFile = File.createTempFile("pdf", ".scratch");
+		RandomAccessFile scratch = new RandomAccessFile(scratchFile, "rw");
+		PDDocument doc = null;
+		try
+		{
+			doc = PDDocument.load(pdf, scratch);
+			PageStripper stripper = new PageStripper();
+			stripper.setStartPage(nStartPage);
+			stripper.setEndPage(nEndPage);
+
+			try
+			{
+				stripper.writeText(doc, stripper.page);
+			}
+			catch (StopReading ex)
+			{
+			}
+
+			return stripper.nProcessed;
+		}
+		finally
+		{
+			if (doc != null)
+				doc.close();
+
+			scratch.close();
+			FileUtils.deleteQuietly(scratchFile);
+		}
+	}
+
+	/**
+	 * Extracts the text of each page in the range &amp; processes it
+	 * 
+	 * @param inputStream - Input stream that contains the PDF (closed when complete)
+	 * @param nStartPage - 1st page to read (inclusive)
+	 * @param nEndPage - Last page to read (inclusive, Integer.MAX_VALUE for all remaining pages)
+	 * @return number of pages processed
+	 * @throws IOException if the PDF cannot be read
+	 */
+	public int read(InputStream inputStream, int nStartPage, int nEndPage) throws IOException
+	{
+		File pdf = File.createTempFile("download", ".pdf");
+		try
+		{
+			FileUtils.copyInputStreamToFile(inputStream, pdf);
+			return read(pdf, nStartPage, nEndPage);
+		}
+		finally
+		{
+			FileUtils.deleteQuietly(pdf);
+		}
+	}
+
+	/**
+	 * Used to stop writing the text when the processing of a page returns false
+	 */
+	private static class StopReading extends IOException {
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * Text stripper that gives the text to the process method at the end of each page
+	 */
+	private class PageStripper extends PDFTextStripper {
+		private StringWriter page;
+		private int nProcessed;
+
+		/**
+		 * Constructor
+		 * 
+		 * @throws IOException
+		 */
+		public PageStripper() throws IOException
+		{
+			super();
+			page = new StringWriter();
+			nProcessed = 0;
+		}
+
+		@Override
+		protected void endPage(PDPage pdPage) throws IOException
+		{
+			super.endPage(pdPage);
+
+			String sText = page.toString();
+			page.getBuffer().setLength(0);
+			nProcessed++;
+			if (!process(sText, getCurrentPageNo()))
+				throw new StopReading();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.automation.ui.common.utilities;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This abstract class is for an iterator that lazily reads one record at a time from a data source that uses
+ * null to indicate there are no more records (such as VTD_XML.getNextNode)<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Only the current record is held in memory<BR>
+ * 2) Remove is not supported<BR>
+ */
+public abstract class BaseRecordIterator implements Iterator<String[]> {
+	/**
+	 * Record that was read ahead by hasNext
+	 */
+	private String[] next;
+
+	/**
+	 * Flag to indicate that there are no more records
+	 */
+	private boolean bDone;
+
+	/**
+	 * Constructor
+	 */
+	public BaseRecordIterator()
+	{
+		next = null;
+		bDone = false;
+	}
+
+	/**
+	 * Reads the next record from the data source
+	 * 
+	 * @return null if no more records else the next record
+	 */
+	protected abstract String[] getNext();
+
+	@Override
+	public boolean hasNext()
+	{
+		if (next != null)
+			return true;
+
+		if (bDone)
+			return false;
+
+		next = getNext();
+		if (next == null)
+			bDone = true;
+
+		return next != null;
+	}
+
+	@Override
+	public String[] next()
+	{
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		String[] record = next;
+		next = null;
+		return record;
+	}
+
+	@Override
+	public void remove()
+	{
+		throw new UnsupportedOperationException();
+	}
+}
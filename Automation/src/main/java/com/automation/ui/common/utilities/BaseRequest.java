@@ -1,6 +1,7 @@
 package com.automation.ui.common.utilities;
 
 import java.io.InputStream;
+import java.io.Reader;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
@@ -578,6 +579,22 @@ public abstract class BaseRequest {
 		return WS_Util.toString(input, charset);
 	}
 
+	/**
+	 * Gets a reader for the input stream such that a large response does not need to be stored as a string<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The caller is responsible for closing the reader<BR>
+	 * 2) Use Charset.availableCharsets() to get the available charsets that can be used<BR>
+	 * 
+	 * @param input - input stream
+	 * @param charset - The name of a supported charset to use
+	 * @return null if an error occurs else Reader
+	 */
+	public Reader getResponseReader(InputStream input, String charset)
+	{
+		return WS_Util.toReader(input, charset);
+	}
+
 	/**
 	 * Set the character set that may be used to parse the response<BR>
 	 * <BR>
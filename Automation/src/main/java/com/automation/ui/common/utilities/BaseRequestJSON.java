@@ -1,6 +1,7 @@
 package com.automation.ui.common.utilities;
 
 import java.io.InputStream;
+import java.io.Reader;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
@@ -9,7 +10,6 @@ import java.util.Map;
 import org.openqa.selenium.WebDriver;
 
 import com.automation.ui.common.dataStructures.Parameter;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * This is an abstract class for a request that uses JSON
@@ -390,6 +390,22 @@ public abstract class BaseRequestJSON {
 		return WS_Util.toString(input, charset);
 	}
 
+	/**
+	 * Gets a reader for the input stream such that a large response does not need to be stored as a string<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The caller is responsible for closing the reader<BR>
+	 * 2) Use Charset.availableCharsets() to get the available charsets that can be used<BR>
+	 * 
+	 * @param input - input stream
+	 * @param charset - The name of a supported charset to use
+	 * @return null if an error occurs else Reader
+	 */
+	public Reader getResponseReader(InputStream input, String charset)
+	{
+		return WS_Util.toReader(input, charset);
+	}
+
 	/**
 	 * Reads the input stream, returns a string that is initially parsed to a map. This map is passed to the
 	 * abstract method parseResponseJSON to complete parsing and returning an Object
@@ -426,8 +442,7 @@ public abstract class BaseRequestJSON {
 		// Unmarshal the JSON response
 		try
 		{
-			ObjectMapper mapper = new ObjectMapper();
-			Map<String, Object> process = mapper.readValue(response, Map.class);
+			Map<String, Object> process = JSON_Util.read(response, Map.class);
 			return parseResponseJSON(process);
 		}
 		catch (Exception ex)
@@ -464,9 +479,8 @@ public abstract class BaseRequestJSON {
 	 */
 	protected Map<String, Object> convertToMap(String response) throws Exception
 	{
-		ObjectMapper mapper = new ObjectMapper();
 		@SuppressWarnings("unchecked")
-		Map<String, Object> process = mapper.readValue(response, Map.class);
+		Map<String, Object> process = JSON_Util.read(response, Map.class);
 		return process;
 	}
 
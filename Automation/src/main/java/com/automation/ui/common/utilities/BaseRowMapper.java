@@ -0,0 +1,63 @@
+package com.automation.ui.common.utilities;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * This abstract class is for processing the rows of a query one at a time as they are read from the DB
+ * such that a query that returns a large number of rows can be processed using constant memory<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) See Database.executeQuery for executing the query with a row mapper<BR>
+ * 2) The map method must only read the current row. It must not move the cursor or store the ResultSet.<BR>
+ * 3) The process method should not store the mapped rows unless necessary else memory is not constant<BR>
+ * <BR>
+ * <B>Example:</B><BR>
+ * db.executeQuery(con, "select * from temp", parameters, 500, new BaseRowMapper&lt;String&gt;() {<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;protected String map(ResultSet rs, int nRow) throws SQLException { return
+ * rs.getString("first"); }<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;protected boolean process(String row, int nRow) { ...; return true; }<BR>
+ * });<BR>
+ * 
+ * @param <T> - Type each row is mapped to
+ */
+public abstract class BaseRowMapper<T> {
+	/**
+	 * Maps the current row of the result set to an object
+	 * 
+	 * @param rs - Result set positioned on the row to be mapped
+	 * @param nRow - Row number (starting from 1)
+	 * @return T
+	 * @throws SQLException if reading the row fails
+	 */
+	protected abstract T map(ResultSet rs, int nRow) throws SQLException;
+
+	/**
+	 * Processes a mapped row (such as verifying it)
+	 * 
+	 * @param row - The mapped row
+	 * @param nRow - Row number (starting from 1)
+	 * @return true to continue with the next row, false to stop processing the rows
+	 */
+	protected abstract boolean process(T row, int nRow);
+
+	/**
+	 * Maps &amp; processes the remaining rows of the result set
+	 * 
+	 * @param rs - Result set to read the rows from
+	 * @return number of rows processed
+	 * @throws SQLException if reading a row fails
+	 */
+	public int run(ResultSet rs) throws SQLException
+	{
+		int nRow = 0;
+		while (rs.next())
+		{
+			nRow++;
+			if (!process(map(rs, nRow), nRow))
+				break;
+		}
+
+		return nRow;
+	}
+}
@@ -0,0 +1,340 @@
+package com.automation.ui.common.utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.WebDriver;
+
+import com.automation.ui.common.dataStructures.PooledSession;
+
+/**
+ * This abstract class is for a thread safe pool of browser sessions that are reused between tests instead of
+ * launching a new browser for each test<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The pool should only contain sessions for the same browser configuration<BR>
+ * 2) Sessions returned to the pool are reset (extra windows closed, storage &amp; cookies cleared, navigated
+ * to a blank page) before they can be handed out again<BR>
+ * 3) Sessions are quit when they reach the max reuse count, fail the health check or fail to be reset<BR>
+ * 4) When the pool is empty a new session is created which means the pool never blocks the caller<BR>
+ * 5) Only cookies for the current domain can be deleted due to WebDriver restrictions<BR>
+ */
+public abstract class BaseSessionPool {
+	/**
+	 * Page used to clear the state of the session
+	 */
+	private static final String BLANK_PAGE = "about:blank";
+
+	/**
+	 * JavaScript to clear the local &amp; session storage for the current domain
+	 */
+	private static final String CLEAR_STORAGE = "try { window.localStorage.clear(); } catch (e) {} "
+			+ "try { window.sessionStorage.clear(); } catch (e) {}";
+
+	/**
+	 * Idle sessions that are ready to be handed out
+	 */
+	private final LinkedBlockingDeque<PooledSession> idle;
+
+	/**
+	 * Max number of idle sessions to keep in the pool
+	 */
+	private final int nSize;
+
+	/**
+	 * Max number of times a session is handed out before it is quit (0 or less for unlimited)
+	 */
+	private final int nMaxReuse;
+
+	private final AtomicInteger created;
+	private final AtomicInteger reused;
+	private final AtomicInteger destroyed;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param nSize - Max number of idle sessions to keep in the pool
+	 * @param nMaxReuse - Max number of times a session is handed out before it is quit (0 or less for
+	 *            unlimited)
+	 */
+	public BaseSessionPool(int nSize, int nMaxReuse)
+	{
+		this.nSize = Math.max(1, nSize);
+		this.nMaxReuse = nMaxReuse;
+		idle = new LinkedBlockingDeque<PooledSession>();
+		created = new AtomicInteger();
+		reused = new AtomicInteger();
+		destroyed = new AtomicInteger();
+	}
+
+	/**
+	 * Launches a new browser session
+	 * 
+	 * @return PooledSession
+	 */
+	protected abstract PooledSession create();
+
+	/**
+	 * Quits the browser session &amp; cleans up any session information
+	 * 
+	 * @param session - Session to be quit
+	 */
+	protected abstract void destroy(PooledSession session);
+
+	/**
+	 * Checks that the browser session is still usable
+	 * 
+	 * @param session - Session to check
+	 * @return true if the session is usable else false
+	 */
+	protected boolean isHealthy(PooledSession session)
+	{
+		try
+		{
+			session.driver.getCurrentUrl();
+			return session.driver.getWindowHandles().size() > 0;
+		}
+		catch (Exception ex)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Resets the state of the browser session such that the next test is not affected by the previous test
+	 * 
+	 * @param session - Session to reset
+	 * @return true if the session was reset successfully else false
+	 */
+	protected boolean reset(PooledSession session)
+	{
+		try
+		{
+			WebDriver driver = session.driver;
+
+			// Close any windows that the test opened keeping only the 1st window
+			List<String> handles = new ArrayList<String>(driver.getWindowHandles());
+			for (int i = 1; i < handles.size(); i++)
+			{
+				driver.switchTo().window(handles.get(i));
+				driver.close();
+			}
+
+			driver.switchTo().window(handles.get(0));
+
+			// Storage & cookies can only be cleared for the current domain
+			JS_Util.execute(CLEAR_STORAGE, driver);
+			Framework.deleteAllCookies(driver);
+			driver.get(BLANK_PAGE);
+			return true;
+		}
+		catch (Exception ex)
+		{
+			Logs.log.warn("Resetting session failed due to exception [" + ex.getClass().getName() + "]:  "
+					+ ex.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Launches sessions (in parallel) until the pool contains the max number of idle sessions
+	 */
+	public void warm()
+	{
+		int nMissing = nSize - idle.size();
+		if (nMissing <= 0)
+			return;
+
+		Logs.log.info("Pre-warming " + nMissing + " browser session(s) ...");
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < nMissing; i++)
+		{
+			Thread thread = new Thread() {
+				@Override
+				public void run()
+				{
+					try
+					{
+						idle.offer(newSession());
+					}
+					catch (Exception ex)
+					{
+						Logs.log.warn("Pre-warming session failed due to exception ["
+								+ ex.getClass().getName() + "]:  " + ex.getMessage());
+					}
+				}
+			};
+
+			thread.start();
+			threads.add(thread);
+		}
+
+		for (Thread thread : threads)
+		{
+			try
+			{
+				thread.join();
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Gets a session from the pool (or launches a new session if none are available)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Idle sessions that fail the health check are quit &amp; the next idle session is tried<BR>
+	 * 
+	 * @return PooledSession
+	 */
+	public PooledSession borrow()
+	{
+		PooledSession session = idle.pollFirst();
+		while (session != null)
+		{
+			if (isHealthy(session))
+			{
+				session.uses++;
+				reused.incrementAndGet();
+				return session;
+			}
+
+			Logs.log.warn("Idle session failed the health check and will be replaced");
+			quit(session);
+			session = idle.pollFirst();
+		}
+
+		session = newSession();
+		session.uses++;
+		return session;
+	}
+
+	/**
+	 * Returns a session to the pool<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The session is quit if it reached the max reuse count, cannot be reset or the pool is full<BR>
+	 * 
+	 * @param session - Session to return to the pool
+	 */
+	public void release(PooledSession session)
+	{
+		if (session == null)
+			return;
+
+		if (nMaxReuse > 0 && session.uses >= nMaxReuse)
+		{
+			Logs.log.info("Session reached the max reuse count (" + nMaxReuse + ") and will be recycled");
+			quit(session);
+			return;
+		}
+
+		if (idle.size() >= nSize || !reset(session) || !isHealthy(session))
+		{
+			quit(session);
+			return;
+		}
+
+		// Most recently used session is handed out next as it is the most likely to be healthy
+		idle.offerFirst(session);
+	}
+
+	/**
+	 * Quits all the idle sessions in the pool
+	 */
+	public void shutdown()
+	{
+		PooledSession session = idle.pollFirst();
+		while (session != null)
+		{
+			quit(session);
+			session = idle.pollFirst();
+		}
+	}
+
+	/**
+	 * Launches a new session &amp; updates the count
+	 * 
+	 * @return PooledSession
+	 */
+	private PooledSession newSession()
+	{
+		PooledSession session = create();
+		created.incrementAndGet();
+		return session;
+	}
+
+	/**
+	 * Quits the session ignoring any exceptions &amp; updates the count
+	 * 
+	 * @param session - Session to quit
+	 */
+	private void quit(PooledSession session)
+	{
+		try
+		{
+			destroy(session);
+		}
+		catch (Exception ex)
+		{
+			Logs.log.warn("Quitting session failed due to exception [" + ex.getClass().getName() + "]:  "
+					+ ex.getMessage());
+		}
+
+		destroyed.incrementAndGet();
+	}
+
+	/**
+	 * @return Number of idle sessions in the pool
+	 */
+	public int getIdleCount()
+	{
+		return idle.size();
+	}
+
+	/**
+	 * @return Number of sessions that have been launched by the pool
+	 */
+	public int getCreatedCount()
+	{
+		return created.get();
+	}
+
+	/**
+	 * @return Number of times an idle session was handed out instead of launching a new session
+	 */
+	public int getReusedCount()
+	{
+		return reused.get();
+	}
+
+	/**
+	 * @return Number of sessions that have been quit by the pool
+	 */
+	public int getDestroyedCount()
+	{
+		return destroyed.get();
+	}
+
+	/**
+	 * @return Max number of idle sessions to keep in the pool
+	 */
+	public int getSize()
+	{
+		return nSize;
+	}
+
+	/**
+	 * @return Max number of times a session is handed out before it is quit
+	 */
+	public int getMaxReuse()
+	{
+		return nMaxReuse;
+	}
+}
@@ -37,6 +37,12 @@ public abstract class BaseTableJS {
 	 */
 	private Languages lang;
 
+	/**
+	 * Streaming view of the table rows which only transfers the rows that changed since the last update
+	 * (created on first use as the table locator can be overridden)
+	 */
+	private TableRows rows;
+
 	/**
 	 * Constructor<BR>
 	 * <BR>
@@ -162,12 +168,33 @@ public abstract class BaseTableJS {
 		}
 	}
 
+	/**
+	 * Gets the streaming view of the table rows<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Use this to iterate over (or search) large tables without storing the entire table<BR>
+	 * 2) Any changes to the settings (such as virtual scrolling) are also used by the method
+	 * <B>updateTable</B><BR>
+	 * 3) The rows are read from the table found using the method <B>getTableLocator</B> (the same table
+	 * that is verified by the method <B>isConsistent</B>)<BR>
+	 * 
+	 * @return TableRows
+	 */
+	public TableRows getRows()
+	{
+		if (rows == null)
+			rows = new TableRows(driver, getTableLocator());
+
+		return rows;
+	}
+
 	/**
 	 * Update the table data<BR>
 	 * <BR>
 	 * <B>Notes:</B><BR>
 	 * 1) If there is just a header row, then update should be successful<BR>
 	 * 2) If there is no header row and no data rows, then an exception will occur<BR>
+	 * 3) Only the rows that changed (based on the row fingerprints) since the last update are transferred<BR>
 	 * 
 	 * @throws GenericUnexpectedException if invalid max column length or there are no rows or table is not
 	 *             consistent
@@ -178,8 +205,12 @@ public abstract class BaseTableJS {
 		{
 			// Update the table
 			setDirtyFlag(false);
-			WebElement table = Framework.findElement(driver, getTableLocator());
-			data = JS_Util.getTable(table);
+			data = getRows().toArray();
+			if (data.length < 1)
+				Logs.logError("There must be at least 1 row");
+
+			if (data[0].length < 1)
+				Logs.logError("Invalid max column length:  " + data[0].length);
 
 			// Verify that data is consistent
 			if (!isConsistent())
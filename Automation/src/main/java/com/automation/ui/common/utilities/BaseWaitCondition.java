@@ -0,0 +1,139 @@
+package com.automation.ui.common.utilities;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * This is an abstract class for waiting until a condition is satisfied. Instead of sleeping for the full poll
+ * interval between each check, the wait blocks in the browser until the DOM changes and then checks the
+ * condition again. If the driver cannot do this, then adaptive polling (short at first then backing off to
+ * the poll interval) is used.<BR>
+ * <BR>
+ * <B>Code Example:</B><BR>
+ * BaseWaitCondition condition = new BaseWaitCondition(driver) {<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;protected boolean isSatisfied()<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;{<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;return Framework.isElementDisplayed(driver, sLocator);<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;}<BR>
+ * };<BR>
+ * boolean result = condition.waitUntil(Framework.getTimeoutInMilliseconds());<BR>
+ */
+public abstract class BaseWaitCondition {
+	/**
+	 * The minimum time (milliseconds) between checks of the condition. This prevents a page that is
+	 * constantly changing (such as a clock or spinner) from causing the condition to be checked
+	 * continuously.
+	 */
+	private static final int MIN_POLL_INTERVAL = 50;
+
+	/**
+	 * Driver used to detect DOM changes (null to only use adaptive polling)
+	 */
+	private WebDriver driver;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param driver - Driver used to detect DOM changes (null to only use adaptive polling)
+	 */
+	public BaseWaitCondition(WebDriver driver)
+	{
+		this.driver = driver;
+	}
+
+	/**
+	 * @return the driver
+	 */
+	public WebDriver getDriver()
+	{
+		return driver;
+	}
+
+	/**
+	 * Waits until the condition is satisfied using the Framework poll interval as the max time between
+	 * checks
+	 * 
+	 * @param nMaxWaitTime - Max Time (milliseconds) to wait for the condition to be satisfied
+	 * @return true if the condition was satisfied before timeout else false
+	 */
+	public boolean waitUntil(int nMaxWaitTime)
+	{
+		return waitUntil(nMaxWaitTime, Framework.getPollInterval());
+	}
+
+	/**
+	 * Waits until the condition is satisfied<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The condition is always checked at least once and once more after the timeout<BR>
+	 * 2) The poll interval is only the max time between checks. As soon as the DOM changes the condition is
+	 * checked again.<BR>
+	 * 
+	 * @param nMaxWaitTime - Max Time (milliseconds) to wait for the condition to be satisfied
+	 * @param nPollInterval - Max Time (milliseconds) between checks of the condition
+	 * @return true if the condition was satisfied before timeout else false
+	 */
+	public boolean waitUntil(int nMaxWaitTime, int nPollInterval)
+	{
+		int attempt = 0;
+		ElapsedTime e = new ElapsedTime();
+		while (true)
+		{
+			if (isSatisfied())
+				return true;
+
+			long remaining = nMaxWaitTime - e.getElapsedTime();
+			if (remaining <= 0)
+				return false;
+
+			waitForChange(driver, (int) Math.min(remaining, nPollInterval), attempt);
+			attempt++;
+		}
+	}
+
+	/**
+	 * Waits until the DOM changes or the max wait time expires. If the driver does not support detecting DOM
+	 * changes, then sleeps using an adaptive interval based on the attempt.
+	 * 
+	 * @param driver - Driver used to detect DOM changes (null to only use adaptive polling)
+	 * @param nMaxWaitTime - Max Time (milliseconds) to wait
+	 * @param attempt - Number of previous waits (used to back off the adaptive interval)
+	 */
+	public static void waitForChange(WebDriver driver, int nMaxWaitTime, int attempt)
+	{
+		if (nMaxWaitTime <= 0)
+			return;
+
+		ElapsedTime e = new ElapsedTime();
+		if (JS_Util.waitForMutation(driver, nMaxWaitTime))
+		{
+			// Prevent checking continuously if the DOM is changing constantly
+			long elapsed = e.getElapsedTime();
+			if (elapsed < MIN_POLL_INTERVAL)
+				Framework.sleep((int) Math.min(nMaxWaitTime - elapsed, MIN_POLL_INTERVAL - elapsed));
+		}
+		else
+		{
+			Framework.sleep(Math.min(nMaxWaitTime, getAdaptiveInterval(attempt)));
+		}
+	}
+
+	/**
+	 * Gets the adaptive poll interval which doubles (starting from the minimum poll interval) on each attempt
+	 * until it reaches the Framework poll interval
+	 * 
+	 * @param attempt - Number of previous waits
+	 * @return adaptive poll interval (milliseconds)
+	 */
+	public static int getAdaptiveInterval(int attempt)
+	{
+		long interval = (long) MIN_POLL_INTERVAL << Math.min(Math.max(attempt, 0), 16);
+		return (int) Math.min(interval, Math.max(Framework.getPollInterval(), MIN_POLL_INTERVAL));
+	}
+
+	/**
+	 * Method to determine if the condition is satisfied
+	 * 
+	 * @return true if the condition is satisfied else false
+	 */
+	protected abstract boolean isSatisfied();
+}
@@ -0,0 +1,200 @@
+package com.automation.ui.common.utilities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import com.automation.ui.common.dataStructures.Parameter;
+
+/**
+ * This class executes the same update query for many sets of parameters in batches such that there is 1
+ * round trip to the DB per batch instead of per set of parameters<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Each set of parameters is added using addBatch &amp; when the batch size is reached the batch is
+ * executed. Use executeBatch to execute any remaining sets of parameters. (close does not execute the
+ * remaining sets of parameters.)<BR>
+ * 2) If transaction grouping is enabled, then each batch is committed as a single transaction &amp; a batch
+ * that fails is rolled back. (Batches that were already executed remain committed.) The auto-commit mode
+ * of the connection is restored by close.<BR>
+ * 3) Transaction grouping is only used if auto-commit is enabled on the connection. If auto-commit is
+ * already disabled, then the caller manages the transaction &amp; the batches are never committed or rolled
+ * back (which would also commit or roll back any earlier uncommitted work of the caller).<BR>
+ * 4) Parameter.param = SQL Type (Database.INTEGER, Database.BOOLEAN or Database.STRING (default if no
+ * match)<BR>
+ * 5) Parameter.value = Value to be parameterized<BR>
+ * 6) The connection is not closed by this class<BR>
+ */
+public class BatchUpdate {
+	/**
+	 * Default number of sets of parameters per batch
+	 */
+	public static final int _DefaultBatchSize = 100;
+
+	private Connection con;
+	private PreparedStatement pstmt;
+	private int nBatchSize;
+	private boolean bTransaction;
+	private boolean bAutoCommit;
+	private int nPending;
+	private int[] updateCounts;
+	private int nUpdateCounts;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param con - Connection to DB
+	 * @param sQuery - SQL query with ? for the parameters to replace
+	 * @param nBatchSize - Number of sets of parameters per batch (less than 1 uses the default)
+	 * @param bTransaction - true to commit each batch as a single transaction (ignored if auto-commit is
+	 *            disabled on the connection)
+	 * @throws SQLException if the query cannot be prepared
+	 */
+	public BatchUpdate(Connection con, String sQuery, int nBatchSize, boolean bTransaction)
+			throws SQLException
+	{
+		this.con = con;
+		this.nBatchSize = (nBatchSize < 1) ? _DefaultBatchSize : nBatchSize;
+		this.bTransaction = bTransaction;
+		updateCounts = new int[0];
+		nUpdateCounts = 0;
+		nPending = 0;
+
+		if (bTransaction)
+		{
+			// Caller manages the transaction if auto-commit is already disabled
+			bAutoCommit = con.getAutoCommit();
+			if (bAutoCommit)
+				con.setAutoCommit(false);
+			else
+				this.bTransaction = false;
+		}
+
+		try
+		{
+			pstmt = con.prepareStatement(sQuery);
+		}
+		catch (SQLException ex)
+		{
+			restoreAutoCommit();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Adds a set of parameters to the batch (executing the batch if the batch size is reached)
+	 * 
+	 * @param parameters - List of SQL Types and values for parameterization
+	 * @throws SQLException if setting the parameters or executing the batch fails
+	 */
+	public void addBatch(List<Parameter> parameters) throws SQLException
+	{
+		Database.setParameters(pstmt, parameters);
+		pstmt.addBatch();
+		nPending++;
+
+		if (nPending >= nBatchSize)
+			executeBatch();
+	}
+
+	/**
+	 * Executes the sets of parameters that have been added but not executed yet
+	 * 
+	 * @return update counts for the sets of parameters that were executed (empty if there were none)
+	 * @throws SQLException if executing the batch fails
+	 */
+	public int[] executeBatch() throws SQLException
+	{
+		if (nPending == 0)
+			return new int[0];
+
+		int[] counts;
+		try
+		{
+			nPending = 0;
+			counts = pstmt.executeBatch();
+			if (bTransaction)
+				con.commit();
+		}
+		catch (SQLException ex)
+		{
+			pstmt.clearBatch();
+			if (bTransaction)
+				con.rollback();
+
+			throw ex;
+		}
+
+		// Keep all the update counts such that they can be returned when all the batches are executed
+		if (nUpdateCounts + counts.length > updateCounts.length)
+			updateCounts = Arrays.copyOf(updateCounts, Math.max(updateCounts.length * 2, nUpdateCounts
+					+ counts.length));
+
+		System.arraycopy(counts, 0, updateCounts, nUpdateCounts, counts.length);
+		nUpdateCounts += counts.length;
+		return counts;
+	}
+
+	/**
+	 * Gets the update counts for all the batches that have been executed
+	 * 
+	 * @return int[]
+	 */
+	public int[] getUpdateCounts()
+	{
+		return Arrays.copyOf(updateCounts, nUpdateCounts);
+	}
+
+	/**
+	 * Gets the number of sets of parameters that have been added but not executed yet
+	 * 
+	 * @return int
+	 */
+	public int getPendingCount()
+	{
+		return nPending;
+	}
+
+	/**
+	 * Closes the statement &amp; restores the auto-commit mode of the connection<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Any sets of parameters that have not been executed are discarded<BR>
+	 */
+	public void close()
+	{
+		if (pstmt == null)
+			return;
+
+		try
+		{
+			pstmt.clearBatch();
+		}
+		catch (Exception ex)
+		{
+		}
+
+		Database.closeStatement(pstmt);
+		pstmt = null;
+		nPending = 0;
+		restoreAutoCommit();
+	}
+
+	/**
+	 * Restores the auto-commit mode of the connection if it was changed
+	 */
+	private void restoreAutoCommit()
+	{
+		try
+		{
+			if (bTransaction && bAutoCommit)
+				con.setAutoCommit(true);
+		}
+		catch (Exception ex)
+		{
+			Logs.log.warn("Could not restore auto-commit:  " + ex);
+		}
+	}
+}
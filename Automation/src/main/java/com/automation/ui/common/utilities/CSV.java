@@ -7,6 +7,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.io.IOUtils;
@@ -15,13 +17,28 @@ import au.com.bytecode.opencsv.CSVReader;
 import au.com.bytecode.opencsv.CSVWriter;
 
 /**
- * This class is for reading from a CSV file.
+ * This class is for reading from a CSV file.<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The rows can be read lazily one row at a time using iterator or getDataProvider such that only the
+ * current row is held in memory<BR>
+ * 2) The file can only be read once after the reader is initialized<BR>
  */
-public class CSV {
+public class CSV implements Iterable<String[]> {
 	private CSVReader reader;
 	private boolean bHeader;
 	private char delimiter;
 
+	/**
+	 * Header row (null if no header row or the header row has not been read yet)
+	 */
+	private String[] headerRow;
+
+	/**
+	 * Flag to indicate that the header row has been read
+	 */
+	private boolean bHeaderRead;
+
 	/**
 	 * Constructor - No variables initialized
 	 */
@@ -81,34 +98,118 @@ public class CSV {
 	public List<String[]> getAllData()
 	{
 		List<String[]> allData = new ArrayList<String[]>();
-		try
+		Iterator<String[]> rows = iterator();
+		while (rows.hasNext())
 		{
-			String[] nextLine;
+			allData.add(rows.next());
+		}
 
-			// throw out the header
-			if (bHeader)
-				nextLine = reader.readNext();
+		return allData;
+	}
 
-			while ((nextLine = reader.readNext()) != null)
-			{
-				allData.add(nextLine);
-			}
-		}
-		catch (Exception ex)
-		{
-		}
-		finally
+	/**
+	 * Reads the header row (if applicable &amp; not already read)
+	 * 
+	 * @return null if no header row else the header row
+	 */
+	public String[] getHeaderRow()
+	{
+		if (bHeader && !bHeaderRead)
 		{
+			bHeaderRead = true;
 			try
 			{
-				reader.close();
+				headerRow = reader.readNext();
 			}
-			catch (IOException e)
+			catch (Exception ex)
 			{
+				close();
 			}
 		}
 
-		return allData;
+		return headerRow;
+	}
+
+	/**
+	 * Lazily reads the rows excluding the header row if applicable<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The reader is closed once all the rows have been read or an exception occurs<BR>
+	 * 
+	 * @return Iterator&lt;String[]&gt;
+	 */
+	@Override
+	public Iterator<String[]> iterator()
+	{
+		// throw out the header
+		getHeaderRow();
+
+		return new BaseRecordIterator() {
+			@Override
+			protected String[] getNext()
+			{
+				try
+				{
+					String[] nextLine = reader.readNext();
+					if (nextLine != null)
+						return nextLine;
+				}
+				catch (Exception ex)
+				{
+				}
+
+				close();
+				return null;
+			}
+		};
+	}
+
+	/**
+	 * Lazily reads the rows keeping only the specified columns<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The file must have a header row to find the columns<BR>
+	 * 2) The reader is closed once all the rows have been read or an exception occurs<BR>
+	 * 
+	 * @param columns - Names of the columns (from the header row) to keep in the order to be returned (none
+	 *            to keep all columns)
+	 * @return Iterator&lt;String[]&gt;
+	 * @throws GenericUnexpectedException if a column cannot be found in the header row
+	 */
+	public Iterator<String[]> iterator(String... columns)
+	{
+		return new ProjectedRowIterator(iterator(), getHeaderRow(), columns);
+	}
+
+	/**
+	 * Lazily reads the rows keeping only the specified columns for use as a TestNG data provider<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The file must have a header row to find the columns<BR>
+	 * 2) Each value is a parameter of the test method<BR>
+	 * 
+	 * @param columns - Names of the columns (from the header row) to keep in the order to be returned (none
+	 *            to keep all columns)
+	 * @return Iterator&lt;Object[]&gt;
+	 * @throws GenericUnexpectedException if a column cannot be found in the header row
+	 */
+	public Iterator<Object[]> getDataProvider(String... columns)
+	{
+		return new DataProviderIterator(iterator(columns));
+	}
+
+	/**
+	 * Closes the reader ignoring any exceptions
+	 */
+	private void close()
+	{
+		try
+		{
+			reader.close();
+		}
+		catch (IOException e)
+		{
+		}
 	}
 
 	/**
@@ -130,21 +231,13 @@ public class CSV {
 
 		// Assumes that all rows have the same number of columns
 		int nExpectedColumns = allData.get(0).length;
-		String[][] data = new String[allData.size()][nExpectedColumns];
+		String[][] data = new String[allData.size()][];
 
-		// Convert to String[][]
+		// Convert to String[][] (only copying the rows that do not have the expected number of columns)
 		int i = 0;
 		for (String[] row : allData)
 		{
-			// Prevent exception should some rows have a greater number of
-			// columns than expected
-			int nActualColumns = row.length;
-			int nColumns = Math.min(nExpectedColumns, nActualColumns);
-			for (int j = 0; j < nColumns; j++)
-			{
-				data[i][j] = row[j];
-			}
-
+			data[i] = (row.length == nExpectedColumns) ? row : Arrays.copyOf(row, nExpectedColumns);
 			i++;
 		}
 
@@ -175,21 +268,13 @@ public class CSV {
 			nExpectedColumns = desiredColumns;
 
 		// Initialize the variable to store the data
-		String[][] data = new String[allData.size()][nExpectedColumns];
+		String[][] data = new String[allData.size()][];
 
-		// Convert to String[][]
+		// Convert to String[][] (only copying the rows that do not have the expected number of columns)
 		int i = 0;
 		for (String[] row : allData)
 		{
-			// Prevent exception should some rows have a greater number of
-			// columns than expected
-			int nActualColumns = row.length;
-			int nColumns = Math.min(nExpectedColumns, nActualColumns);
-			for (int j = 0; j < nColumns; j++)
-			{
-				data[i][j] = row[j];
-			}
-
+			data[i] = (row.length == nExpectedColumns) ? row : Arrays.copyOf(row, nExpectedColumns);
 			i++;
 		}
 
@@ -278,6 +363,8 @@ public class CSV {
 	public void setReader(String sFile) throws FileNotFoundException
 	{
 		reader = new CSVReader(new FileReader(sFile), delimiter);
+		headerRow = null;
+		bHeaderRead = false;
 	}
 
 	/**
@@ -292,6 +379,8 @@ public class CSV {
 	public void setReader(File file) throws FileNotFoundException
 	{
 		reader = new CSVReader(new FileReader(file), delimiter);
+		headerRow = null;
+		bHeaderRead = false;
 	}
 
 	/**
@@ -306,5 +395,7 @@ public class CSV {
 	{
 		InputStreamReader isr = new InputStreamReader(IOUtils.toInputStream(builder.toString()));
 		reader = new CSVReader(isr, delimiter);
+		headerRow = null;
+		bHeaderRead = false;
 	}
 }
@@ -0,0 +1,355 @@
+package com.automation.ui.common.utilities;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.codec.binary.Base64;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * This class writes screenshots &amp; page sources to files on a background thread such that the test thread
+ * is not waiting on disk I/O<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The screenshot is captured on the calling thread (as it needs the driver) but the decoding &amp;
+ * writing of the file is done on the background thread<BR>
+ * 2) A screenshot identical to the previous screenshot saved by the same thread is not written again.
+ * Instead the file is linked to (or copied from) the previous screenshot such that the file always
+ * exists.<BR>
+ * 3) Page sources are compressed (GZIP) &amp; the extension ".gz" is added to the file name<BR>
+ * 4) The queue is bounded. If the queue is full, then the calling thread writes the file.<BR>
+ * 5) Queued files are written before the JVM exits or when flush is called<BR>
+ */
+public class CaptureWriter {
+	/**
+	 * Max number of captures waiting to be written
+	 */
+	private static final int _QueueSize = 32;
+
+	/**
+	 * Default max time in milliseconds to wait for the queued files to be written
+	 */
+	public static final int _FlushTimeout = 30000;
+
+	/**
+	 * Extension added to compressed files
+	 */
+	public static final String _CompressedExtension = ".gz";
+
+	/**
+	 * Background thread to write the files
+	 */
+	private static ThreadPoolExecutor writer;
+
+	/**
+	 * The previous screenshot written for each thread that saved a screenshot
+	 */
+	private static final Map<Thread, Previous> previous = new WeakHashMap<Thread, Previous>();
+
+	/**
+	 * Hash &amp; file name of a screenshot that was written
+	 */
+	private static class Previous {
+		private final byte[] hash;
+		private final String sFilename;
+
+		public Previous(byte[] hash, String sFilename)
+		{
+			this.hash = hash;
+			this.sFilename = sFilename;
+		}
+	}
+
+	/**
+	 * Gets the background thread to write the files (creating it if necessary)
+	 * 
+	 * @return ThreadPoolExecutor
+	 */
+	private static synchronized ThreadPoolExecutor getWriter()
+	{
+		if (writer != null)
+			return writer;
+
+		ThreadFactory factory = new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r)
+			{
+				Thread thread = new Thread(r, "CaptureWriter");
+				thread.setDaemon(true);
+				return thread;
+			}
+		};
+
+		writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(
+				_QueueSize), factory, new ThreadPoolExecutor.CallerRunsPolicy());
+
+		Runtime.getRuntime().addShutdownHook(new Thread() {
+			@Override
+			public void run()
+			{
+				flush();
+			}
+		});
+
+		return writer;
+	}
+
+	/**
+	 * Captures a screenshot &amp; queues it to be written to the file<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If driver cannot be cast to TakesScreenshot, no screenshot will be taken<BR>
+	 * 2) Exceptions from capturing the screenshot are thrown to the caller<BR>
+	 * 
+	 * @param driver - WebDriver that has the capability of TAKES_SCREENSHOT
+	 * @param sFilename - File name needs to be unique and have PNG extension
+	 */
+	public static void saveScreenshot(WebDriver driver, String sFilename)
+	{
+		saveScreenshot(capture(driver), sFilename);
+	}
+
+	/**
+	 * Captures a screenshot (Base64 encoded PNG) without writing it to a file
+	 * 
+	 * @param driver - WebDriver that has the capability of TAKES_SCREENSHOT
+	 * @return Base64 encoded PNG
+	 */
+	public static String capture(WebDriver driver)
+	{
+		return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+	}
+
+	/**
+	 * Queues a captured screenshot to be written to the file
+	 * 
+	 * @param sEncoded - Base64 encoded PNG
+	 * @param sFilename - File name needs to be unique and have PNG extension
+	 */
+	public static void saveScreenshot(final String sEncoded, final String sFilename)
+	{
+		final Thread owner = Thread.currentThread();
+		getWriter().execute(Logs.withTestID(new Runnable() {
+			@Override
+			public void run()
+			{
+				writeScreenshot(owner, sEncoded, sFilename);
+			}
+		}));
+	}
+
+	/**
+	 * Queues the page source to be written to the file (compressed)
+	 * 
+	 * @param sPageSource - Page source to be written
+	 * @param sFilename - File name needs to be unique (".gz" is added to the file name)
+	 */
+	public static void savePageSource(final String sPageSource, final String sFilename)
+	{
+		getWriter().execute(Logs.withTestID(new Runnable() {
+			@Override
+			public void run()
+			{
+				writePageSource(sPageSource, sFilename + _CompressedExtension);
+			}
+		}));
+	}
+
+	/**
+	 * Waits (up to the default max time) for all the queued files to be written
+	 * 
+	 * @return true if all queued files were written before the timeout else false
+	 */
+	public static boolean flush()
+	{
+		return flush(_FlushTimeout);
+	}
+
+	/**
+	 * Waits for all the queued files to be written
+	 * 
+	 * @param nTimeout - Max time in milliseconds to wait
+	 * @return true if all queued files were written before the timeout else false
+	 */
+	public static boolean flush(int nTimeout)
+	{
+		ThreadPoolExecutor current;
+		synchronized (CaptureWriter.class)
+		{
+			current = writer;
+		}
+
+		if (current == null)
+			return true;
+
+		try
+		{
+			Future<?> marker = current.submit(new Runnable() {
+				@Override
+				public void run()
+				{
+				}
+			});
+
+			marker.get(nTimeout, TimeUnit.MILLISECONDS);
+			return true;
+		}
+		catch (Exception ex)
+		{
+			Logs.log.warn("Waiting for the queued debug files to be written failed due to exception ["
+					+ ex.getClass().getName() + "]:  " + ex.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Decodes &amp; writes the screenshot to the file<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If the screenshot is identical to the previous screenshot saved by the same thread, then the file is
+	 * linked to the previous file (or copied if links are not supported)<BR>
+	 * 
+	 * @param owner - Thread that saved the screenshot
+	 * @param sEncoded - Base64 encoded PNG
+	 * @param sFilename - File name needs to be unique and have PNG extension
+	 */
+	private static void writeScreenshot(Thread owner, String sEncoded, String sFilename)
+	{
+		try
+		{
+			byte[] png = Base64.decodeBase64(sEncoded);
+			byte[] hash = MessageDigest.getInstance("SHA-1").digest(png);
+
+			Previous last;
+			synchronized (previous)
+			{
+				last = previous.get(owner);
+			}
+
+			if (last != null && MessageDigest.isEqual(hash, last.hash) && reuse(last.sFilename, sFilename))
+			{
+				Logs.log.info("Screenshot (" + sFilename + ") was identical to previous screenshot ("
+						+ last.sFilename + ") as such the previous screenshot was linked or copied");
+				return;
+			}
+
+			OutputStream out = new BufferedOutputStream(new FileOutputStream(replace(sFilename)));
+			try
+			{
+				out.write(png);
+			}
+			finally
+			{
+				out.close();
+			}
+
+			synchronized (previous)
+			{
+				previous.put(owner, new Previous(hash, sFilename));
+			}
+
+			Logs.log.info("Saved screenshot to file:  " + sFilename);
+		}
+		catch (Exception ex)
+		{
+			Logs.log.warn("Failed to save screenshot (" + sFilename + ") due to exception ["
+					+ ex.getClass().getName() + "]:  " + ex.getMessage());
+		}
+	}
+
+	/**
+	 * Links the file to the existing file (or copies the existing file if links are not supported)
+	 * 
+	 * @param sExisting - Existing file
+	 * @param sFilename - File to be created
+	 * @return true if the file was created else false
+	 */
+	private static boolean reuse(String sExisting, String sFilename)
+	{
+		File existing = new File(sExisting);
+		if (!existing.exists())
+			return false;
+
+		File file = replace(sFilename);
+		try
+		{
+			Files.createLink(file.toPath(), existing.toPath());
+			return true;
+		}
+		catch (Exception ex)
+		{
+		}
+
+		try
+		{
+			Files.copy(existing.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			return true;
+		}
+		catch (Exception ex)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Writes the page source to the file compressed
+	 * 
+	 * @param sPageSource - Page source to be written
+	 * @param sFilename - File name needs to be unique
+	 */
+	private static void writePageSource(String sPageSource, String sFilename)
+	{
+		try
+		{
+			OutputStream file = new GZIPOutputStream(new FileOutputStream(replace(sFilename)));
+			Writer out = new OutputStreamWriter(file, "UTF-8");
+			try
+			{
+				out.write(Conversion.nonNull(sPageSource));
+			}
+			finally
+			{
+				out.close();
+			}
+
+			Logs.log.info("Saved HTML page to file:  " + sFilename);
+		}
+		catch (Exception ex)
+		{
+			Logs.log.warn("Saving page source (" + sFilename + ") failed with exception ["
+					+ ex.getClass().getName() + "]:  " + ex.getMessage());
+		}
+	}
+
+	/**
+	 * Deletes the file if it exists
+	 * 
+	 * @param sFilename - File name
+	 * @return File
+	 */
+	private static File replace(String sFilename)
+	{
+		File file = new File(sFilename);
+		if (file.exists())
+			file.delete();
+
+		return file;
+	}
+}
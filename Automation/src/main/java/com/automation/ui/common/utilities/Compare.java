@@ -21,6 +21,7 @@ import com.automation.ui.common.dataStructures.Comparison;
 import com.automation.ui.common.dataStructures.FindTextCriteria;
 import com.automation.ui.common.dataStructures.SelectionCriteria;
 import com.automation.ui.common.dataStructures.WebElementIndexOfMethod;
+import com.automation.ui.common.utilities.caches.PatternCache;
 
 /**
  * This class holds various methods for comparison
@@ -697,6 +698,7 @@ public class Compare {
 	 * <B>Notes:</B><BR>
 	 * 1) Null values converted to empty strings before comparison<BR>
 	 * 2) No exception will ever be thrown. In any case that an exception is caught, then false is returned<BR>
+	 * 3) The compiled regular expression is cached (see PatternCache)<BR>
 	 * 
 	 * @param str - String to match against
 	 * @param regex - Regular expression to be used
@@ -707,7 +709,7 @@ public class Compare {
 	{
 		try
 		{
-			return Conversion.nonNull(str).matches(Conversion.nonNull(regex));
+			return PatternCache.matches(str, regex);
 		}
 		catch (Exception ex)
 		{
@@ -1032,7 +1034,7 @@ public class Compare {
 			else if (criteria == Comparison.RegEx)
 			{
 				// Regular Expression option
-				if (str1.matches(str2))
+				if (PatternCache.get(str2).matcher(str1).matches())
 					return true;
 			}
 			else if (criteria == Comparison.DoesNotContain)
@@ -1,7 +1,10 @@
 package com.automation.ui.common.utilities;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang.reflect.MethodUtils;
 import org.openqa.selenium.WebDriver;
@@ -15,7 +18,13 @@ import com.automation.ui.common.dataStructures.Selection;
  * This class is used to find the first condition that matches a list of possible conditions. An example of
  * this would be if 2 possible outcomes of an action are a button becomes ready or a button is removed. You
  * want to handle each condition differently as such you need to detect which condition occurred. This class
- * will allow you to do determine this.
+ * will allow you to do determine this.<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) By default, the DOM only criteria (Displayed, Removed, Enabled, Disabled, Exists, Text, TextJS,
+ * Attribute, Selected, InputValue & DropDown) are evaluated together using a single JavaScript call per
+ * poll. The other criteria (such as Alert, Popup & Reflection) are still evaluated individually.<BR>
+ * 2) Use setBatch(false) if the JavaScript results differ from WebDriver for your application<BR>
  */
 public class Condition {
 	private WebDriver driver;
@@ -50,6 +59,11 @@ public class Condition {
 	 */
 	private String locator;
 
+	/**
+	 * Flag to indicate if DOM only criteria are evaluated together using a single JavaScript call
+	 */
+	private boolean batch = true;
+
 	/**
 	 * Enumeration to support all condition types
 	 */
@@ -226,6 +240,14 @@ public class Condition {
 		Reflection_Arguments
 	}
 
+	/**
+	 * Condition types in the same order as the isMatch method checks them
+	 */
+	private static final Type[] _MatchOrder = new Type[] { Type.Alert, Type.Ready, Type.Displayed,
+			Type.Removed, Type.Enabled, Type.Disabled, Type.Exists, Type.Text, Type.Popup, Type.URL,
+			Type.Attribute, Type.Fresh, Type.Stale, Type.Selected, Type.UnSelected, Type.TextJS,
+			Type.SelectedJS, Type.UnSelectedJS, Type.InputValue, Type.DropDown, Type.Reflection };
+
 	/**
 	 * Each time a match occurs this variable is updated such that the correct stored value can be returned
 	 */
@@ -321,6 +343,14 @@ public class Condition {
 		return Conversion.nonNull(locator);
 	}
 
+	/**
+	 * @return true if DOM only criteria are evaluated together using a single JavaScript call
+	 */
+	public boolean isBatch()
+	{
+		return batch;
+	}
+
 	/**
 	 * @param driver the driver to set
 	 */
@@ -345,6 +375,15 @@ public class Condition {
 		this.poll = poll;
 	}
 
+	/**
+	 * @param batch - true to evaluate DOM only criteria together using a single JavaScript call, false to
+	 *            evaluate each criteria using WebDriver
+	 */
+	public void setBatch(boolean batch)
+	{
+		this.batch = batch;
+	}
+
 	/**
 	 * @param message the message to set
 	 */
@@ -407,6 +446,7 @@ public class Condition {
 	 */
 	public int waitForMatch(List<GenericData> criteria, boolean throwError)
 	{
+		int attempt = 0;
 		ElapsedTime e = new ElapsedTime();
 		while (!e.isTimeout(getTimeout()))
 		{
@@ -419,7 +459,7 @@ public class Condition {
 			if (index >= 0)
 				return index;
 			else
-				Framework.sleep(getPoll());
+				waitForChange(e, attempt++);
 		}
 
 		if (throwError)
@@ -453,13 +493,14 @@ public class Condition {
 	 */
 	public boolean waitForAllMatches(List<GenericData> criteria, boolean throwError)
 	{
+		int attempt = 0;
 		ElapsedTime e = new ElapsedTime();
 		while (!e.isTimeout(getTimeout()))
 		{
 			if (isAllMatched(criteria))
 				return true;
 			else
-				Framework.sleep(getPoll());
+				waitForChange(e, attempt++);
 		}
 
 		if (throwError)
@@ -471,6 +512,22 @@ public class Condition {
 		return false;
 	}
 
+	/**
+	 * Waits until the DOM changes or the poll interval (limited to the time remaining before timeout)
+	 * expires.<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If the driver cannot detect DOM changes, then adaptive polling is used<BR>
+	 * 
+	 * @param e - Elapsed Time since the wait started
+	 * @param attempt - Number of previous waits
+	 */
+	private void waitForChange(ElapsedTime e, int attempt)
+	{
+		long remaining = getTimeout() - e.getElapsedTime();
+		BaseWaitCondition.waitForChange(getDriver(), (int) Math.min(remaining, getPoll()), attempt);
+	}
+
 	/**
 	 * Checks if any of the criteria match the current condition
 	 * 
@@ -484,6 +541,13 @@ public class Condition {
 		if (criteria == null)
 			return -2;
 
+		if (isBatch() && driver != null)
+		{
+			int index = matchBatch(criteria);
+			if (index != -2)
+				return index;
+		}
+
 		for (int i = 0; i < criteria.size(); i++)
 		{
 			boolean result = isMatch(criteria.get(i));
@@ -505,6 +569,29 @@ public class Condition {
 		if (criteria == null)
 			return false;
 
+		if (isBatch() && driver != null)
+		{
+			List<Map<String, Object>> compiled = compile(criteria);
+			if (!compiled.isEmpty())
+			{
+				int index = JS_Util.matchCriteria(driver, WS_Util.toJSON(compiled), true);
+				if (index >= 0)
+					return false;
+
+				if (index == -1)
+				{
+					// All compiled criteria matched, only need to check the remaining criteria
+					for (int i = 0; i < criteria.size(); i++)
+					{
+						if (getCompilableType(criteria.get(i)) == null && !isMatch(criteria.get(i)))
+							return false;
+					}
+
+					return true;
+				}
+			}
+		}
+
 		for (int i = 0; i < criteria.size(); i++)
 		{
 			boolean result = isMatch(criteria.get(i));
@@ -515,6 +602,189 @@ public class Condition {
 		return true;
 	}
 
+	/**
+	 * Checks if any of the criteria match the current condition by evaluating all DOM only criteria together
+	 * using a single JavaScript call. Criteria that cannot be evaluated using JavaScript are checked
+	 * individually (in order) but only if they come before the 1st DOM only criteria that matched.
+	 * 
+	 * @param criteria - List of criteria to check against (non-null)
+	 * @return <li>-2 if the JavaScript could not be executed or there are no DOM only criteria</li><BR>
+	 *         <li>-1 if none of the criteria match the current condition</li><BR>
+	 *         <li>Index of the 1st criteria that matches the current condition (>=0)</li><BR>
+	 */
+	private int matchBatch(List<GenericData> criteria)
+	{
+		List<Map<String, Object>> compiled = compile(criteria);
+		if (compiled.isEmpty())
+			return -2;
+
+		int jsIndex = JS_Util.matchCriteria(driver, WS_Util.toJSON(compiled), false);
+		if (jsIndex == -2)
+			return -2;
+
+		// Only the criteria before the matching DOM only criteria need to be checked to preserve order
+		int limit = (jsIndex >= 0) ? jsIndex : criteria.size();
+		for (int i = 0; i < limit; i++)
+		{
+			if (getCompilableType(criteria.get(i)) == null && isMatch(criteria.get(i)))
+				return i;
+		}
+
+		if (jsIndex >= 0)
+			setMatched(criteria.get(jsIndex));
+
+		return jsIndex;
+	}
+
+	/**
+	 * Compiles all the DOM only criteria into the objects used by the JavaScript to evaluate the criteria
+	 * 
+	 * @param criteria - List of criteria to compile (non-null)
+	 * @return List of compiled criteria which is empty if there are no DOM only criteria
+	 */
+	private List<Map<String, Object>> compile(List<GenericData> criteria)
+	{
+		List<Map<String, Object>> compiled = new ArrayList<Map<String, Object>>();
+		for (int i = 0; i < criteria.size(); i++)
+		{
+			GenericData item = criteria.get(i);
+			Type type = getCompilableType(item);
+			if (type == null)
+				continue;
+
+			Map<String, Object> js = new HashMap<String, Object>();
+			js.put("index", i);
+			js.put("type", type.toString());
+			js.put("locator", getLocatorKey(item, type));
+
+			if (type == Type.Text || type == Type.TextJS)
+			{
+				js.put("compare", String.valueOf(item.get(Type.Text_Criteria)));
+				js.put("expected", Conversion.nonNull((String) item.get(type)));
+			}
+			else if (type == Type.Attribute)
+			{
+				js.put("attribute", item.get(Type.Attribute));
+				js.put("compare", String.valueOf(item.get(Type.Attribute_Criteria)));
+				js.put("expected", Conversion.nonNull((String) item.get(Type.Attribute_Text)));
+			}
+			else if (type == Type.InputValue)
+			{
+				js.put("inputAttr", Framework.getInputAttr());
+				js.put("compare", String.valueOf(item.get(Type.InputValue_Criteria)));
+				js.put("expected", Conversion.nonNull((String) item.get(Type.InputValue)));
+			}
+			else if (type == Type.DropDown)
+			{
+				js.put("selection", String.valueOf(item.get(Type.DropDown_Criteria)));
+				js.put("compare", String.valueOf(item.get(Type.DropDown_Compare)));
+				js.put("expected", Conversion.nonNull((String) item.get(Type.DropDown)));
+			}
+
+			compiled.add(js);
+		}
+
+		return compiled;
+	}
+
+	/**
+	 * Gets the condition type if the criteria can be evaluated using JavaScript<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The condition type is determined in the same order as the isMatch method<BR>
+	 * 2) Regular Expression comparisons are not compiled because the JavaScript syntax is different<BR>
+	 * 3) Attribute criteria without an expected value are not compiled to keep the same results<BR>
+	 * 
+	 * @param criteria - Criteria to get the type for
+	 * @return null if the criteria cannot be evaluated using JavaScript else condition type
+	 */
+	private Type getCompilableType(GenericData criteria)
+	{
+		if (criteria == null || criteria.isEmpty())
+			return null;
+
+		Type type = null;
+		for (Type item : _MatchOrder)
+		{
+			if (criteria.containsKey(item))
+			{
+				type = item;
+				break;
+			}
+		}
+
+		if (type == null)
+			return null;
+
+		switch (type)
+		{
+			case Displayed:
+			case Removed:
+			case Enabled:
+			case Disabled:
+			case Exists:
+			case Selected:
+				return type;
+			case Text:
+			case TextJS:
+				return (criteria.get(Type.Text_Criteria) == Comparison.RegEx) ? null : type;
+			case Attribute:
+				if (criteria.get(Type.Attribute_Criteria) == Comparison.RegEx)
+					return null;
+
+				if (criteria.get(Type.Attribute_Text) == null
+						&& criteria.get(Type.Attribute_Criteria) != Comparison.Standard)
+					return null;
+
+				return type;
+			case InputValue:
+				return (criteria.get(Type.InputValue_Criteria) == Comparison.RegEx) ? null : type;
+			case DropDown:
+				if (criteria.get(Type.DropDown_Compare) == Comparison.RegEx)
+					return null;
+
+				return type;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Gets the locator stored in the criteria for the specified condition type
+	 * 
+	 * @param criteria - Criteria to get the locator from
+	 * @param type - Condition type of the criteria
+	 * @return locator
+	 */
+	private String getLocatorKey(GenericData criteria, Type type)
+	{
+		if (type == Type.Text || type == Type.TextJS)
+			return (String) criteria.get(Type.Text_Locator);
+
+		if (type == Type.Attribute)
+			return (String) criteria.get(Type.Attribute_Locator);
+
+		if (type == Type.InputValue)
+			return (String) criteria.get(Type.InputValue_Locator);
+
+		if (type == Type.DropDown)
+			return (String) criteria.get(Type.DropDown_Locator);
+
+		return (String) criteria.get(type);
+	}
+
+	/**
+	 * Stores the locator & matching type for criteria that was matched using JavaScript
+	 * 
+	 * @param criteria - Criteria that was matched
+	 */
+	private void setMatched(GenericData criteria)
+	{
+		Type type = getCompilableType(criteria);
+		setLocator(getLocatorKey(criteria, type));
+		setMatchingType(type);
+	}
+
 	/**
 	 * Wait for each of the criteria to be matched.<BR>
 	 * <BR>
@@ -555,6 +825,7 @@ public class Condition {
 	public final boolean waitForAnyMatchOnAllCriteria(boolean throwError, List<GenericData>... criteria)
 	{
 		boolean anyCriteriaNull = false;
+		int attempt = 0;
 		ElapsedTime e = new ElapsedTime();
 		while (!e.isTimeout(getTimeout()))
 		{
@@ -590,7 +861,7 @@ public class Condition {
 			if (allMatch)
 				return true;
 			else
-				Framework.sleep(getPoll());
+				waitForChange(e, attempt++);
 		}
 
 		if (throwError)
@@ -0,0 +1,827 @@
+package com.automation.ui.common.utilities;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a bounded pool of DB connections for a database with a prepared statement cache for each
+ * connection<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Database.openConnection gets the connection from the pool for the database (see get) as such existing
+ * code gets pooled connections without any changes<BR>
+ * 2) Closing a pooled connection returns it to the pool. Any statements &amp; result sets that are still
+ * open are closed, uncommitted changes are rolled back &amp; auto-commit is enabled.<BR>
+ * 3) An idle connection is validated before it is re-used (if it has been idle for more than the
+ * validation interval) &amp; it is closed once it has been idle for more than the max idle time<BR>
+ * 4) If all the connections are in use, then the caller waits for a connection to be returned<BR>
+ * 5) The prepared statements (prepareStatement(sql) &amp; prepareStatement(sql, type, concurrency)) are
+ * cached by the connection. A cached statement is re-used once it is closed (or once its result set is
+ * closed if closeOnCompletion was called.)<BR>
+ */
+public class ConnectionPool {
+	/**
+	 * Default max number of connections (in use &amp; idle) for each database
+	 */
+	public static final int _MaxSize = 10;
+
+	/**
+	 * Default max number of prepared statements cached for each connection
+	 */
+	public static final int _MaxStatements = 32;
+
+	/**
+	 * Default max time (milliseconds) a connection can be idle before it is closed
+	 */
+	public static final long _MaxIdleTime = 300000;
+
+	/**
+	 * Time (milliseconds) a connection can be idle before it needs to be validated when re-used
+	 */
+	public static final long _ValidationInterval = 5000;
+
+	/**
+	 * Time (seconds) to wait for a connection to be validated
+	 */
+	private static final int _ValidationTimeout = 5;
+
+	/**
+	 * Max time (milliseconds) to wait for a connection when all the connections are in use
+	 */
+	public static final long _WaitTimeout = 30000;
+
+	/**
+	 * Separator used to create the keys for the pools
+	 */
+	private static final String _Separator = "|";
+
+	/**
+	 * The pools for each database
+	 */
+	private static final ConcurrentHashMap<String, ConnectionPool> pools =
+			new ConcurrentHashMap<String, ConnectionPool>();
+
+	static
+	{
+		Runtime.getRuntime().addShutdownHook(new Thread() {
+			@Override
+			public void run()
+			{
+				closeAll();
+			}
+		});
+	}
+
+	/**
+	 * Opens the physical connections
+	 */
+	private ConnectionFactory factory;
+
+	/**
+	 * Max number of connections (in use &amp; idle)
+	 */
+	private int nMaxSize;
+
+	/**
+	 * Max time (milliseconds) a connection can be idle before it is closed
+	 */
+	private long nMaxIdleTime;
+
+	/**
+	 * Max number of prepared statements cached for each connection
+	 */
+	private int nMaxStatements;
+
+	/**
+	 * Limits the number of connections (in use &amp; idle)
+	 */
+	private Semaphore permits;
+
+	/**
+	 * The idle connections (most recently used first)
+	 */
+	private LinkedBlockingDeque<PooledConnection> idle;
+
+	/**
+	 * Flag to indicate that the pool is closed
+	 */
+	private volatile boolean bClosed;
+
+	/**
+	 * Constructor that uses the default settings
+	 * 
+	 * @param factory - Opens the physical connections
+	 */
+	public ConnectionPool(ConnectionFactory factory)
+	{
+		this(factory, _MaxSize, _MaxIdleTime, _MaxStatements);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param factory - Opens the physical connections
+	 * @param nMaxSize - Max number of connections (in use &amp; idle)
+	 * @param nMaxIdleTime - Max time (milliseconds) a connection can be idle before it is closed
+	 * @param nMaxStatements - Max number of prepared statements cached for each connection
+	 */
+	public ConnectionPool(ConnectionFactory factory, int nMaxSize, long nMaxIdleTime, int nMaxStatements)
+	{
+		this.factory = factory;
+		this.nMaxSize = Math.max(1, nMaxSize);
+		this.nMaxIdleTime = nMaxIdleTime;
+		this.nMaxStatements = Math.max(0, nMaxStatements);
+		this.permits = new Semaphore(this.nMaxSize, true);
+		this.idle = new LinkedBlockingDeque<PooledConnection>();
+		this.bClosed = false;
+	}
+
+	/**
+	 * Gets the pool for the database (creating it if necessary)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Database objects with the same connection information share the same pool<BR>
+	 * 2) The pool uses a copy of the database object such that changing the database object afterwards
+	 * does not affect the pool<BR>
+	 * 
+	 * @param db - Database to get the pool for
+	 * @return ConnectionPool
+	 */
+	public static ConnectionPool get(Database db)
+	{
+		String key = getKey(db);
+		ConnectionPool pool = pools.get(key);
+		if (pool == null)
+		{
+			Database copy = new Database(db);
+			if (db.getIntegratedSecurity())
+				copy.enableIntegratedSecurity();
+			else
+				copy.disableIntegratedSecurity();
+
+			pool = new ConnectionPool(new ConnectionFactory(copy));
+			ConnectionPool existing = pools.putIfAbsent(key, pool);
+			if (existing != null)
+				pool = existing;
+		}
+
+		return pool;
+	}
+
+	/**
+	 * Closes all the pools (the connections in use are closed when they are returned)
+	 */
+	public static void closeAll()
+	{
+		Iterator<ConnectionPool> it = pools.values().iterator();
+		while (it.hasNext())
+		{
+			ConnectionPool pool = it.next();
+			it.remove();
+			pool.close();
+		}
+	}
+
+	/**
+	 * Gets the key for the pool of the database
+	 * 
+	 * @param db - Database
+	 * @return String
+	 */
+	private static String getKey(Database db)
+	{
+		return Conversion.toString(_Separator, String.valueOf(db.getType()), db.getServer(),
+				String.valueOf(db.getPort()), db.getDatabaseName(), db.getUser(), db.getPassword(),
+				String.valueOf(db.getIntegratedSecurity()));
+	}
+
+	/**
+	 * Sets the statement such that it is returned to the cache when its result set is closed (if the
+	 * statement is from a pooled connection)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) This is the same as Statement.closeOnCompletion but it does nothing for other statements as older
+	 * drivers do not support it<BR>
+	 * 
+	 * @param stmt - Statement
+	 */
+	public static void closeOnCompletion(Statement stmt)
+	{
+		if (stmt == null || !Proxy.isProxyClass(stmt.getClass()))
+			return;
+
+		InvocationHandler handler = Proxy.getInvocationHandler(stmt);
+		if (handler instanceof StatementHandler && ((StatementHandler) handler).proxy == stmt)
+			((StatementHandler) handler).bCloseOnCompletion = true;
+	}
+
+	/**
+	 * Gets a connection from the pool (opening a new connection if necessary)
+	 * 
+	 * @return Connection that is returned to the pool when closed
+	 * @throws SQLException if the pool is closed, no connection became available before the timeout or
+	 *             opening a connection fails
+	 */
+	public Connection getConnection() throws SQLException
+	{
+		if (bClosed)
+			throw new SQLException("Connection pool is closed");
+
+		try
+		{
+			if (!permits.tryAcquire(_WaitTimeout, TimeUnit.MILLISECONDS))
+				throw new SQLException("Timed out waiting for a connection as all " + nMaxSize
+						+ " connections are in use");
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for a connection");
+		}
+
+		try
+		{
+			PooledConnection pooled;
+			while ((pooled = idle.pollFirst()) != null)
+			{
+				if (isUsable(pooled))
+					return pooled.borrow();
+
+				pooled.destroy();
+			}
+
+			Connection physical = factory.openConnection();
+			if (physical == null)
+				throw new SQLException("Unsupported database type");
+
+			return new PooledConnection(physical).borrow();
+		}
+		catch (SQLException ex)
+		{
+			permits.release();
+			throw ex;
+		}
+		catch (Exception ex)
+		{
+			permits.release();
+			throw new SQLException("Opening connection caused the following exception ["
+					+ ex.getClass().getName() + "]:  " + ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * Closes the pool &amp; all the idle connections (the connections in use are closed when they are
+	 * returned)
+	 */
+	public void close()
+	{
+		bClosed = true;
+		PooledConnection pooled;
+		while ((pooled = idle.pollFirst()) != null)
+		{
+			pooled.destroy();
+		}
+	}
+
+	/**
+	 * @return Number of connections in use
+	 */
+	public int getActiveCount()
+	{
+		return nMaxSize - permits.availablePermits();
+	}
+
+	/**
+	 * @return Number of idle connections
+	 */
+	public int getIdleCount()
+	{
+		return idle.size();
+	}
+
+	/**
+	 * Checks if the idle connection can be re-used
+	 * 
+	 * @param pooled - Idle connection
+	 * @return true if the connection can be re-used else false
+	 */
+	private boolean isUsable(PooledConnection pooled)
+	{
+		long nIdleTime = System.currentTimeMillis() - pooled.nLastUsed;
+		if (nIdleTime > nMaxIdleTime)
+			return false;
+
+		try
+		{
+			if (pooled.physical.isClosed())
+				return false;
+
+			if (nIdleTime > _ValidationInterval)
+				return pooled.physical.isValid(_ValidationTimeout);
+
+			return true;
+		}
+		catch (Throwable ex)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Closes the idle connections that have been idle for more than the max idle time
+	 */
+	private void evictIdle()
+	{
+		long nNow = System.currentTimeMillis();
+		Iterator<PooledConnection> it = idle.iterator();
+		while (it.hasNext())
+		{
+			PooledConnection pooled = it.next();
+			if (nNow - pooled.nLastUsed > nMaxIdleTime && idle.remove(pooled))
+				pooled.destroy();
+		}
+	}
+
+	/**
+	 * Returns the connection to the pool
+	 * 
+	 * @param pooled - Connection that was closed by the user
+	 */
+	private void release(PooledConnection pooled)
+	{
+		try
+		{
+			if (!bClosed && pooled.reset())
+			{
+				pooled.nLastUsed = System.currentTimeMillis();
+				idle.offerFirst(pooled);
+			}
+			else
+			{
+				pooled.destroy();
+			}
+		}
+		finally
+		{
+			permits.release();
+		}
+
+		evictIdle();
+	}
+
+	/**
+	 * Calls the method on the target re-throwing the actual exception
+	 * 
+	 * @param target - Object to call the method on
+	 * @param method - Method to call
+	 * @param args - Arguments for the method
+	 * @return Object
+	 * @throws Throwable
+	 */
+	private static Object delegate(Object target, Method method, Object[] args) throws Throwable
+	{
+		try
+		{
+			return method.invoke(target, args);
+		}
+		catch (InvocationTargetException ex)
+		{
+			throw ex.getCause();
+		}
+	}
+
+	/**
+	 * Closes the statement ignoring any exceptions
+	 * 
+	 * @param stmt - Statement to close (can be null)
+	 */
+	private static void close(Statement stmt)
+	{
+		try
+		{
+			if (stmt != null)
+				stmt.close();
+		}
+		catch (Exception ex)
+		{
+		}
+	}
+
+	/**
+	 * A physical connection with its prepared statement cache
+	 */
+	private class PooledConnection {
+		private Connection physical;
+		private long nLastUsed;
+
+		/**
+		 * The cached prepared statements by (SQL, type, concurrency) in least recently used order
+		 */
+		private Map<String, StatementHandler> statements;
+
+		/**
+		 * The statements in use by the current user
+		 */
+		private List<StatementHandler> open;
+
+		/**
+		 * The statements that are not cached which are closed when the connection is returned
+		 */
+		private List<Statement> unmanaged;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param physical - Physical connection
+		 */
+		public PooledConnection(Connection physical)
+		{
+			this.physical = physical;
+			this.nLastUsed = System.currentTimeMillis();
+			this.open = new ArrayList<StatementHandler>();
+			this.unmanaged = new ArrayList<Statement>();
+			this.statements = new LinkedHashMap<String, StatementHandler>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, StatementHandler> eldest)
+				{
+					if (size() <= nMaxStatements)
+						return false;
+
+					// A statement in use is closed when it is returned
+					eldest.getValue().bEvicted = true;
+					if (!eldest.getValue().bInUse)
+						close(eldest.getValue().physical);
+
+					return true;
+				}
+			};
+		}
+
+		/**
+		 * Creates a connection for the user that returns this connection to the pool when closed
+		 * 
+		 * @return Connection
+		 */
+		public Connection borrow()
+		{
+			ConnectionHandler handler = new ConnectionHandler(this);
+			handler.proxy = (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+					new Class<?>[] { Connection.class }, handler);
+			return handler.proxy;
+		}
+
+		/**
+		 * Gets a prepared statement from the cache (preparing it if necessary)
+		 * 
+		 * @param owner - Connection of the user
+		 * @param sql - SQL statement
+		 * @param type - Result set type
+		 * @param concurrency - Result set concurrency
+		 * @return PreparedStatement
+		 * @throws SQLException
+		 */
+		public synchronized PreparedStatement prepare(Connection owner, String sql, int type, int concurrency)
+				throws SQLException
+		{
+			String key = sql + _Separator + type + _Separator + concurrency;
+			StatementHandler handler = statements.get(key);
+			if (handler != null && !handler.bInUse)
+			{
+				handler.physical.clearParameters();
+			}
+			else
+			{
+				PreparedStatement stmt = physical.prepareStatement(sql, type, concurrency);
+				if (handler != null || nMaxStatements == 0)
+				{
+					// The cached statement is in use as such this statement is not cached
+					unmanaged.add(stmt);
+					return stmt;
+				}
+
+				handler = new StatementHandler(this, stmt);
+				statements.put(key, handler);
+			}
+
+			handler.bInUse = true;
+			handler.bClosed = false;
+			handler.bCloseOnCompletion = false;
+			handler.owner = owner;
+			handler.proxy = (PreparedStatement) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+					new Class<?>[] { PreparedStatement.class }, handler);
+			open.add(handler);
+			return handler.proxy;
+		}
+
+		/**
+		 * Tracks a statement that is not cached such that it is closed when the connection is returned
+		 * 
+		 * @param stmt - Statement
+		 * @return Statement
+		 */
+		public synchronized Object track(Object stmt)
+		{
+			if (stmt instanceof Statement)
+				unmanaged.add((Statement) stmt);
+
+			return stmt;
+		}
+
+		/**
+		 * Returns the cached statement such that it can be re-used
+		 * 
+		 * @param handler - Cached statement
+		 */
+		public synchronized void release(StatementHandler handler)
+		{
+			handler.closeResultSet();
+			handler.bInUse = false;
+			open.remove(handler);
+			if (handler.bEvicted)
+				close(handler.physical);
+		}
+
+		/**
+		 * Resets the connection such that it can be re-used
+		 * 
+		 * @return true if the connection can be re-used else false
+		 */
+		public synchronized boolean reset()
+		{
+			for (StatementHandler handler : new ArrayList<StatementHandler>(open))
+			{
+				handler.bClosed = true;
+				release(handler);
+			}
+
+			for (Statement stmt : unmanaged)
+			{
+				close(stmt);
+			}
+
+			unmanaged.clear();
+
+			try
+			{
+				if (!physical.getAutoCommit())
+				{
+					physical.rollback();
+					physical.setAutoCommit(true);
+				}
+
+				physical.clearWarnings();
+				return true;
+			}
+			catch (Throwable ex)
+			{
+				return false;
+			}
+		}
+
+		/**
+		 * Closes the physical connection
+		 */
+		public synchronized void destroy()
+		{
+			Database.closeConnection(physical);
+		}
+	}
+
+	/**
+	 * The connection used by a user which returns the physical connection to the pool when closed
+	 */
+	private class ConnectionHandler implements InvocationHandler {
+		private PooledConnection pooled;
+		private Connection proxy;
+		private boolean bClosed;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param pooled - Physical connection
+		 */
+		public ConnectionHandler(PooledConnection pooled)
+		{
+			this.pooled = pooled;
+			this.bClosed = false;
+		}
+
+		@Override
+		public Object invoke(Object obj, Method method, Object[] args) throws Throwable
+		{
+			String name = method.getName();
+			if (name.equals("equals"))
+				return obj == args[0];
+
+			if (name.equals("hashCode"))
+				return System.identityHashCode(obj);
+
+			if (name.equals("toString"))
+				return "Pooled " + pooled.physical;
+
+			if (name.equals("isClosed"))
+				return bClosed;
+
+			if (name.equals("close"))
+			{
+				synchronized (this)
+				{
+					if (bClosed)
+						return null;
+
+					bClosed = true;
+				}
+
+				release(pooled);
+				return null;
+			}
+
+			if (bClosed)
+				throw new SQLException("Connection is closed");
+
+			if (name.equals("prepareStatement") && args.length == 1)
+				return pooled.prepare(proxy, (String) args[0], ResultSet.TYPE_FORWARD_ONLY,
+						ResultSet.CONCUR_READ_ONLY);
+
+			if (name.equals("prepareStatement") && args.length == 3 && args[1] instanceof Integer
+					&& args[2] instanceof Integer && method.getParameterTypes()[1] == int.class)
+				return pooled.prepare(proxy, (String) args[0], (Integer) args[1], (Integer) args[2]);
+
+			Object result = delegate(pooled.physical, method, args);
+			if (name.equals("prepareStatement") || name.equals("prepareCall")
+					|| name.equals("createStatement"))
+				return pooled.track(result);
+
+			return result;
+		}
+	}
+
+	/**
+	 * A cached prepared statement which is returned to the cache when closed
+	 */
+	private class StatementHandler implements InvocationHandler {
+		private PooledConnection pooled;
+		private PreparedStatement physical;
+		private PreparedStatement proxy;
+		private Connection owner;
+		private ResultSet current;
+		private boolean bInUse;
+		private boolean bClosed;
+		private boolean bEvicted;
+		private boolean bCloseOnCompletion;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param pooled - Connection that the statement was prepared on
+		 * @param physical - Physical statement
+		 */
+		public StatementHandler(PooledConnection pooled, PreparedStatement physical)
+		{
+			this.pooled = pooled;
+			this.physical = physical;
+			this.bEvicted = false;
+		}
+
+		/**
+		 * Closes the result set ignoring any exceptions
+		 */
+		public void closeResultSet()
+		{
+			try
+			{
+				if (current != null)
+					current.close();
+			}
+			catch (Exception ex)
+			{
+			}
+
+			current = null;
+		}
+
+		@Override
+		public Object invoke(Object obj, Method method, Object[] args) throws Throwable
+		{
+			String name = method.getName();
+			if (name.equals("equals"))
+				return obj == args[0];
+
+			if (name.equals("hashCode"))
+				return System.identityHashCode(obj);
+
+			if (name.equals("toString"))
+				return "Cached " + physical;
+
+			// Note: A closed proxy cannot be used even if the cached statement was given to another user
+			if (name.equals("isClosed"))
+				return bClosed || obj != proxy;
+
+			if (name.equals("close"))
+			{
+				if (!bClosed && obj == proxy)
+				{
+					bClosed = true;
+					pooled.release(this);
+				}
+
+				return null;
+			}
+
+			if (bClosed || obj != proxy)
+				throw new SQLException("Statement is closed");
+
+			if (name.equals("getConnection"))
+				return owner;
+
+			if (name.equals("closeOnCompletion"))
+			{
+				bCloseOnCompletion = true;
+				return null;
+			}
+
+			if (name.equals("isCloseOnCompletion"))
+				return bCloseOnCompletion;
+
+			Object result = delegate(physical, method, args);
+			if (result instanceof ResultSet)
+			{
+				current = (ResultSet) result;
+				return Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+						new Class<?>[] { ResultSet.class }, new ResultSetHandler(this, proxy, current));
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * A result set of a cached statement which returns the statement to the cache when closed (if
+	 * closeOnCompletion was called)
+	 */
+	private class ResultSetHandler implements InvocationHandler {
+		private StatementHandler statement;
+		private Statement owner;
+		private ResultSet physical;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param statement - Cached statement
+		 * @param owner - Statement of the user
+		 * @param physical - Physical result set
+		 */
+		public ResultSetHandler(StatementHandler statement, Statement owner, ResultSet physical)
+		{
+			this.statement = statement;
+			this.owner = owner;
+			this.physical = physical;
+		}
+
+		@Override
+		public Object invoke(Object obj, Method method, Object[] args) throws Throwable
+		{
+			String name = method.getName();
+			if (name.equals("equals"))
+				return obj == args[0];
+
+			if (name.equals("hashCode"))
+				return System.identityHashCode(obj);
+
+			if (name.equals("toString"))
+				return physical.toString();
+
+			if (name.equals("getStatement"))
+				return owner;
+
+			if (name.equals("close"))
+			{
+				physical.close();
+				if (statement.bCloseOnCompletion && statement.proxy == owner)
+					owner.close();
+
+				return null;
+			}
+
+			return delegate(physical, method, args);
+		}
+	}
+}
@@ -6,6 +6,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -140,7 +141,7 @@ public class Controller {
 		{
 			String sTempConfig = Misc.getProperty(RuntimeProperty.env_config, sUseConfigFile);
 			ConfigRun.sUseConfigFile = sTempConfig;
-			xml = new VTD_XML(sTempConfig);
+			xml = DataSnapshots.getXML(sTempConfig);
 
 			// Test Execution Control variables
 			execution_start = Conversion.parseInt(
@@ -206,6 +207,13 @@ public class Controller {
 			int nSessionServerPort = Conversion.parseInt(Misc.getProperty(RuntimeProperty.sessions_port,
 					xml.getNodeValue(ConfigRun.CONFIG_ROOT_XPATH + ConfigXML.sessionServerPort, "-1")), -1);
 
+			// Session Pool variables (Note:  Applies to all contexts)
+			int nSessionPoolSize = Conversion.parseInt(Misc.getProperty(RuntimeProperty.browser_pool_size,
+					xml.getNodeValue(ConfigRun.CONFIG_ROOT_XPATH + ConfigXML.sessionPoolSize, "0")), 0);
+			int nSessionPoolMaxReuse = Conversion.parseInt(Misc.getProperty(RuntimeProperty.browser_pool_reuse,
+					xml.getNodeValue(ConfigRun.CONFIG_ROOT_XPATH + ConfigXML.sessionPoolMaxReuse, "0")), 0);
+			BasicTestContext.setSessionPool(nSessionPoolSize, nSessionPoolMaxReuse);
+
 			// Database variables
 			String sDB_Server = Misc.getProperty(RuntimeProperty.database_server,
 					xml.getNodeValue(ConfigRun.CONFIG_ROOT_XPATH + ConfigXML._DB_Server, ""));
@@ -508,6 +516,10 @@ public class Controller {
 					ConfigEmail.Replacements);
 		}
 
+		// Ensure the queued debug files are written (and logged) before the log file is sent
+		CaptureWriter.flush();
+		Logs.flush(10000);
+
 		// Does user want attachments?
 		String[] attachmentsList;
 		if (ConfigEmail.bAttachments)
@@ -535,7 +547,7 @@ public class Controller {
 		VTD_XML xml;
 		try
 		{
-			xml = new VTD_XML(ConfigRun.sUseConfigFile);
+			xml = DataSnapshots.getXML(ConfigRun.sUseConfigFile);
 			String[] DDV_NODE = { sNode };
 			String[][] data = xml.getAllData(sXpath, DDV_NODE);
 			return data[0][0];
@@ -592,7 +604,7 @@ public class Controller {
 		VTD_XML xml;
 		try
 		{
-			xml = new VTD_XML(ConfigRun.sUseConfigFile);
+			xml = DataSnapshots.getXML(ConfigRun.sUseConfigFile);
 
 			// Get the Relative Path location
 			String sRelativePathLocation = Misc.getProperty(RuntimeProperty.data_prefix + sNode,
@@ -609,21 +621,14 @@ public class Controller {
 	}
 
 	/**
-	 * Gets the synchronized value of nUniqueIDNum.
+	 * Gets the synchronized value of nUniqueIDNum &amp; increments it such that data providers building
+	 * contexts in parallel never get the same value
 	 * 
 	 * @return
 	 */
-	private synchronized static int getUniqueIDNum()
-	{
-		return nUniqueIDNum;
-	}
-
-	/**
-	 * Increments nUniqueIDNum using synchronized value.
-	 */
-	private synchronized static void incrementUniqueIDNum()
+	private synchronized static int nextUniqueIDNum()
 	{
-		nUniqueIDNum++;
+		return nUniqueIDNum++;
 	}
 
 	/**
@@ -649,12 +654,8 @@ public class Controller {
 		if (sPrefix == null)
 			sValue = "";
 
-		// Add the unique ID number to the string
-		sValue += String.valueOf(getUniqueIDNum());
-
-		// Increment the unique ID number
-		incrementUniqueIDNum();
-
+		// Add the unique ID number to the string (which increments the unique ID number)
+		sValue += String.valueOf(nextUniqueIDNum());
 		return sValue;
 	}
 
@@ -665,6 +666,7 @@ public class Controller {
 	 */
 	public static void writeTestIDtoLog(String sValue)
 	{
+		Logs.setTestID(sValue);
 		Logs.log.info(new Date() + " & Executing Test:  " + sValue);
 	}
 
@@ -757,12 +759,34 @@ public class Controller {
 	 * <B>Notes:</B><BR>
 	 * 1) It may be necessary to override this method to suite your needs as this method only processes
 	 * instances of BasicTestContext or 1st level variable that has BasicTestContext variable(s)<BR>
+	 * 2) The debug information is written to files on a background thread such that the next test is not
+	 * waiting on disk I/O<BR>
+	 * 3) The test ID of the thread is cleared after the browsers are closed such that the messages of the
+	 * next test (including its setup) are not written to the log of this test (see Logs.setTestID)<BR>
 	 * 
 	 * @param result - The results of the test (injected by TestNG)
 	 * @param obj - Array of parameters for the test (injected by TestNG)
 	 */
 	@AfterMethod(alwaysRun = true)
 	public void quitBrowser(ITestResult result, Object[] obj)
+	{
+		try
+		{
+			closeBrowsers(result, obj);
+		}
+		finally
+		{
+			Logs.setTestID(null);
+		}
+	}
+
+	/**
+	 * Closes the browsers of the test (and generates debug information if necessary)
+	 * 
+	 * @param result - The results of the test
+	 * @param obj - Array of parameters for the test
+	 */
+	private void closeBrowsers(ITestResult result, Object[] obj)
 	{
 		// Get the test case result
 		int nResult = result.getStatus();
@@ -1076,6 +1100,29 @@ public class Controller {
 		return allContexts;
 	}
 
+	/**
+	 * Gets a TestNG data provider that builds the test parameters from the records of the data driven file
+	 * in parallel<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The data driven file is parsed once per JVM &amp; shared by all the test classes (see
+	 * DataSnapshots)<BR>
+	 * 2) The test parameters are built in parallel &amp; returned lazily (see BaseDataProvider)<BR>
+	 * 3) Nodes that are not found have null values<BR>
+	 * 
+	 * @param sFile - Data driven file
+	 * @param sRootXpath - The root node that contains multiple sets of data
+	 * @param sEachNode - All nodes that make up a specific set of data
+	 * @param builder - Builds the test parameters for each record
+	 * @return Iterator&lt;Object[]&gt;
+	 * @throws GenericUnexpectedException if the data driven file could not be parsed
+	 */
+	public static Iterator<Object[]> getDataProvider(String sFile, String sRootXpath, String[] sEachNode,
+			BaseDataProvider<String[]> builder)
+	{
+		return builder.iterator(DataSnapshots.getRecords(sFile, sRootXpath, sEachNode));
+	}
+
 	/**
 	 * Ensures that the position returned is a valid start position<BR>
 	 * <BR>
@@ -12,9 +12,15 @@ import javax.crypto.spec.SecretKeySpec;
 
 import org.apache.xerces.impl.dv.util.Base64;
 
+import com.automation.ui.common.utilities.caches.CipherCache;
+
 /**
  * Class to provide very basic encryption & decryption. This should only be used for encrypting passwords to
- * be stored in configuration files that are only available on the internal network.
+ * be stored in configuration files that are only available on the internal network.<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The ciphers used to encrypt &amp; decrypt are cached per thread (see CipherCache) as such constructing
+ * an object is cheap<BR>
  */
 public class Crypto {
 	// key used to generate secret key
@@ -32,7 +38,7 @@ public class Crypto {
 	// Transformation can be different than the algorithm string
 	private String transformation;
 
-	// encryption cipher
+	// encryption cipher (only used for troubleshooting as encryption/decryption use the cached ciphers)
 	Cipher cipher;
 
 	// Character Set to convert the encrypted/decrypted strings to
@@ -116,9 +122,8 @@ public class Crypto {
 	{
 		try
 		{
-			keyBytes = Base64.decode(sKey);
-			key = new SecretKeySpec(keyBytes, algorithm);
-			cipher = Cipher.getInstance(transformation);
+			key = CipherCache.getKey(algorithm, sKey);
+			keyBytes = key.getEncoded();
 		}
 		catch (Exception ex)
 		{
@@ -174,12 +179,13 @@ public class Crypto {
 	{
 		try
 		{
-			cipher.init(Cipher.ENCRYPT_MODE, key);
-			byte[] simpleEncrypt = cipher.doFinal(sValue.getBytes(characterSet));
+			Cipher cached = CipherCache.get(algorithm, transformation, sKey, Cipher.ENCRYPT_MODE);
+			byte[] simpleEncrypt = cached.doFinal(sValue.getBytes(characterSet));
 			return Base64.encode(simpleEncrypt);
 		}
 		catch (Exception ex)
 		{
+			CipherCache.invalidate(algorithm, transformation);
 			return null;
 		}
 	}
@@ -194,12 +200,13 @@ public class Crypto {
 	{
 		try
 		{
-			cipher.init(Cipher.DECRYPT_MODE, key);
-			byte[] simpleDecrypt = cipher.doFinal(Base64.decode(sEncryptedValue));
+			Cipher cached = CipherCache.get(algorithm, transformation, sKey, Cipher.DECRYPT_MODE);
+			byte[] simpleDecrypt = cached.doFinal(Base64.decode(sEncryptedValue));
 			return new String(simpleDecrypt, characterSet);
 		}
 		catch (Exception ex)
 		{
+			CipherCache.invalidate(algorithm, transformation);
 			return "";
 		}
 	}
@@ -249,6 +256,16 @@ public class Crypto {
 		if (key == null)
 			return nErrorCode_Encrypt_KeyNull;
 
+		// A new cipher is used such that the cached cipher is not affected
+		try
+		{
+			cipher = Cipher.getInstance(transformation);
+		}
+		catch (Exception ex)
+		{
+			return nErrorCode_Encrypt_InvalidKey;
+		}
+
 		// Initialize Encrypt mode
 		try
 		{
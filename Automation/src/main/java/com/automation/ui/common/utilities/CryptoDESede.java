@@ -1,9 +1,25 @@
 package com.automation.ui.common.utilities;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.automation.ui.common.dataStructures.Parameter;
+
 /**
- * Class to encode the key and value together using Triple DES which can be later decoded.
+ * Class to encode the key and value together using Triple DES which can be later decoded.<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Use the bulk decode methods to decode many values (such as a file of encoded credentials) as the
+ * values are decoded in parallel<BR>
  */
 public class CryptoDESede {
+	/**
+	 * Number of values below which the values are decoded by the calling thread (as splitting the work costs
+	 * more than decoding)
+	 */
+	private static final int _ParallelThreshold = 64;
 
 	/**
 	 * Encodes the Value to a string that contains the Key + the Encrypted Value
@@ -53,4 +69,100 @@ public class CryptoDESede {
 			return "";
 		}
 	}
+
+	/**
+	 * Decodes all the encrypted values in parallel<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Each value is decoded the same as the decode method (i.e. empty string if the value could not be
+	 * decoded)<BR>
+	 * 
+	 * @param sEncryptedValues - The encrypted values (Random Key + Encrypted Value)
+	 * @return Decoded values in the same order
+	 */
+	public static String[] decode(String[] sEncryptedValues)
+	{
+		String[] decoded = new String[sEncryptedValues.length];
+		DecodeTask task = new DecodeTask(sEncryptedValues, decoded, 0, sEncryptedValues.length);
+		if (sEncryptedValues.length <= _ParallelThreshold)
+			task.compute();
+		else
+			ForkJoinPool.commonPool().invoke(task);
+
+		return decoded;
+	}
+
+	/**
+	 * Decodes the values of all the parameters in parallel<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Each value is decoded the same as the decode method (i.e. empty string if the value could not be
+	 * decoded)<BR>
+	 * 2) The parameters are not modified<BR>
+	 * 
+	 * @param encoded - Parameters with encrypted values
+	 * @return List&lt;Parameter&gt; with the decoded values in the same order
+	 */
+	public static List<Parameter> decode(List<Parameter> encoded)
+	{
+		String[] values = new String[encoded.size()];
+		for (int i = 0; i < values.length; i++)
+		{
+			values[i] = encoded.get(i).value;
+		}
+
+		String[] decoded = decode(values);
+		List<Parameter> pairs = new ArrayList<Parameter>();
+		for (int i = 0; i < decoded.length; i++)
+		{
+			pairs.add(new Parameter(encoded.get(i).param, decoded[i]));
+		}
+
+		return pairs;
+	}
+
+	/**
+	 * Task that decodes a range of values (splitting the range in half until it is below the threshold)
+	 */
+	private static class DecodeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private String[] encoded;
+		private String[] decoded;
+		private int nStart;
+		private int nEnd;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param encoded - All the encrypted values
+		 * @param decoded - Array to store the decoded values
+		 * @param nStart - Index of the 1st value to decode (inclusive)
+		 * @param nEnd - Index of the last value to decode (exclusive)
+		 */
+		public DecodeTask(String[] encoded, String[] decoded, int nStart, int nEnd)
+		{
+			this.encoded = encoded;
+			this.decoded = decoded;
+			this.nStart = nStart;
+			this.nEnd = nEnd;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (nEnd - nStart <= _ParallelThreshold)
+			{
+				for (int i = nStart; i < nEnd; i++)
+				{
+					decoded[i] = decode(encoded[i]);
+				}
+
+				return;
+			}
+
+			int nMiddle = (nStart + nEnd) >>> 1;
+			invokeAll(new DecodeTask(encoded, decoded, nStart, nMiddle), new DecodeTask(encoded, decoded,
+					nMiddle, nEnd));
+		}
+	}
 }
@@ -0,0 +1,55 @@
+package com.automation.ui.common.utilities;
+
+import java.util.Iterator;
+
+/**
+ * This class converts an iterator of rows into an iterator that can be returned by a TestNG data provider<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Each value of the row is a parameter of the test method<BR>
+ * 2) The rows are read lazily such that tests start executing before all the rows have been read<BR>
+ * <BR>
+ * <B>Example:</B><BR>
+ * &#064;DataProvider(name = "Login")<BR>
+ * public static Iterator&lt;Object[]&gt; dataForLogin()<BR>
+ * {<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;return new CSV("login.csv", true, ',').getDataProvider("User", "Password");<BR>
+ * }<BR>
+ */
+public class DataProviderIterator implements Iterator<Object[]> {
+	/**
+	 * Iterator to read the rows from
+	 */
+	private Iterator<String[]> rows;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param rows - Iterator to read the rows from
+	 */
+	public DataProviderIterator(Iterator<String[]> rows)
+	{
+		this.rows = rows;
+	}
+
+	@Override
+	public boolean hasNext()
+	{
+		return rows.hasNext();
+	}
+
+	@Override
+	public Object[] next()
+	{
+		String[] row = rows.next();
+		Object[] parameters = new Object[row.length];
+		System.arraycopy(row, 0, parameters, 0, row.length);
+		return parameters;
+	}
+
+	@Override
+	public void remove()
+	{
+		throw new UnsupportedOperationException();
+	}
+}
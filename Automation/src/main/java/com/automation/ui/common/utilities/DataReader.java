@@ -31,22 +31,38 @@ public class DataReader {
 	 */
 	public static DropDown getDropDown(VTD_XML xml, String sXpath_Base, DropDown defaults)
 	{
-		Parameter p1 = new Parameter("Using", "");
-		Parameter p2 = new Parameter("Option", defaults.option);
-		Parameter p3 = new Parameter("MinIndex", "");
-		Parameter p4 = new Parameter("LogAll", String.valueOf(defaults.logAll));
+		return toDropDown(xml.getAttribute(sXpath_Base, getDropDownAttributes(defaults)), defaults);
+	}
 
+	/**
+	 * Gets the attributes (with default values) that make up a DropDown object
+	 * 
+	 * @param defaults - Default values
+	 * @return List&lt;Parameter&gt;
+	 */
+	private static List<Parameter> getDropDownAttributes(DropDown defaults)
+	{
 		List<Parameter> attributes = new ArrayList<Parameter>();
-		attributes.add(p1);
-		attributes.add(p2);
-		attributes.add(p3);
-		attributes.add(p4);
+		attributes.add(new Parameter("Using", ""));
+		attributes.add(new Parameter("Option", defaults.option));
+		attributes.add(new Parameter("MinIndex", ""));
+		attributes.add(new Parameter("LogAll", String.valueOf(defaults.logAll)));
+		return attributes;
+	}
 
-		List<Parameter> rv = xml.getAttribute(sXpath_Base, attributes);
-		Selection using = Selection.to(rv.get(rv.indexOf(p1)).value, defaults.using);
-		String option = rv.get(rv.indexOf(p2)).value;
-		int minIndex = Conversion.parseInt(rv.get(rv.indexOf(p3)).value, defaults.minIndex);
-		boolean logAll = Conversion.parseBoolean(rv.get(rv.indexOf(p4)).value);
+	/**
+	 * Binds the attributes read from the XML file to a DropDown object
+	 * 
+	 * @param rv - Attributes in the same order as getDropDownAttributes
+	 * @param defaults - Default values
+	 * @return DropDown
+	 */
+	private static DropDown toDropDown(List<Parameter> rv, DropDown defaults)
+	{
+		Selection using = Selection.to(rv.get(0).value, defaults.using);
+		String option = rv.get(1).value;
+		int minIndex = Conversion.parseInt(rv.get(2).value, defaults.minIndex);
+		boolean logAll = Conversion.parseBoolean(rv.get(3).value);
 
 		return new DropDown(using, option, minIndex, logAll);
 	}
@@ -60,36 +76,48 @@ public class DataReader {
 	 * @return InputField
 	 */
 	public static InputField getInputField(VTD_XML xml, String sXpath_Base, InputField defaults)
+	{
+		return toInputField(xml.getAttribute(sXpath_Base, getInputFieldAttributes(defaults)));
+	}
+
+	/**
+	 * Gets the attributes (with default values) that make up an InputField object
+	 * 
+	 * @param defaults - Default values
+	 * @return List&lt;Parameter&gt;
+	 */
+	private static List<Parameter> getInputFieldAttributes(InputField defaults)
+	{
+		List<Parameter> attributes = new ArrayList<Parameter>();
+		attributes.add(new Parameter("Skip", String.valueOf(defaults.skip)));
+		attributes.add(new Parameter("Value", defaults.value));
+		attributes.add(new Parameter("RandomValue", defaults.randomValue));
+		attributes.add(new Parameter("CaseSensitive", String.valueOf(defaults.caseSensitive)));
+		attributes.add(new Parameter("LogAll", String.valueOf(defaults.logAll)));
+		attributes.add(new Parameter("VerifyMask", String.valueOf(defaults.mask)));
+		attributes.add(new Parameter("MaxLength", String.valueOf(defaults.maxLength)));
+		return attributes;
+	}
+
+	/**
+	 * Binds the attributes read from the XML file to an InputField object
+	 * 
+	 * @param rv - Attributes in the same order as getInputFieldAttributes
+	 * @return InputField
+	 */
+	private static InputField toInputField(List<Parameter> rv)
 	{
 		boolean bSkip, caseSensitive, logAll;
 		String sValue, sRandomValue, mask;
 		int nMaxLength;
 
-		Parameter p1 = new Parameter("Skip", String.valueOf(defaults.skip));
-		Parameter p2 = new Parameter("Value", defaults.value);
-		Parameter p3 = new Parameter("RandomValue", defaults.randomValue);
-		Parameter p4 = new Parameter("CaseSensitive", String.valueOf(defaults.caseSensitive));
-		Parameter p5 = new Parameter("LogAll", String.valueOf(defaults.logAll));
-		Parameter p6 = new Parameter("VerifyMask", String.valueOf(defaults.mask));
-		Parameter p7 = new Parameter("MaxLength", String.valueOf(defaults.maxLength));
-
-		List<Parameter> attributes = new ArrayList<Parameter>();
-		attributes.add(p1);
-		attributes.add(p2);
-		attributes.add(p3);
-		attributes.add(p4);
-		attributes.add(p5);
-		attributes.add(p6);
-		attributes.add(p7);
-
-		List<Parameter> rv = xml.getAttribute(sXpath_Base, attributes);
-		bSkip = Conversion.parseBoolean(rv.get(rv.indexOf(p1)).value);
-		sValue = rv.get(rv.indexOf(p2)).value;
-		sRandomValue = rv.get(rv.indexOf(p3)).value;
-		caseSensitive = Conversion.parseBoolean(rv.get(rv.indexOf(p4)).value);
-		logAll = Conversion.parseBoolean(rv.get(rv.indexOf(p5)).value);
-		mask = rv.get(rv.indexOf(p6)).value;
-		nMaxLength = Conversion.parseInt(rv.get(rv.indexOf(p7)).value);
+		bSkip = Conversion.parseBoolean(rv.get(0).value);
+		sValue = rv.get(1).value;
+		sRandomValue = rv.get(2).value;
+		caseSensitive = Conversion.parseBoolean(rv.get(3).value);
+		logAll = Conversion.parseBoolean(rv.get(4).value);
+		mask = rv.get(5).value;
+		nMaxLength = Conversion.parseInt(rv.get(6).value);
 
 		return new InputField(bSkip, sValue, sRandomValue, caseSensitive, logAll, mask, nMaxLength);
 	}
@@ -104,35 +132,41 @@ public class DataReader {
 	 */
 	public static CheckBox getCheckBox(VTD_XML xml, String sXpath_Base, CheckBox defaults)
 	{
-		boolean bSkip;
-		boolean bVerifyInitialState;
-		boolean bVerifyEnabled;
-		boolean bLogError;
-		boolean bCheck;
-		boolean bLogAll;
-
-		Parameter p1 = new Parameter("Skip", String.valueOf(defaults.skip));
-		Parameter p2 = new Parameter("VerifyInitialState", String.valueOf(defaults.verifyInitialState));
-		Parameter p3 = new Parameter("VerifyEnabled", String.valueOf(defaults.verifyEnabled));
-		Parameter p4 = new Parameter("LogError", String.valueOf(defaults.logError));
-		Parameter p5 = new Parameter("Check", String.valueOf(defaults.check));
-		Parameter p6 = new Parameter("LogAll", String.valueOf(defaults.logAll));
+		return toCheckBox(xml.getAttribute(sXpath_Base, getCheckBoxAttributes(defaults)));
+	}
 
+	/**
+	 * Gets the attributes (with default values) that make up a CheckBox object
+	 * 
+	 * @param defaults - Default values
+	 * @return List&lt;Parameter&gt;
+	 */
+	private static List<Parameter> getCheckBoxAttributes(CheckBox defaults)
+	{
 		List<Parameter> attributes = new ArrayList<Parameter>();
-		attributes.add(p1);
-		attributes.add(p2);
-		attributes.add(p3);
-		attributes.add(p4);
-		attributes.add(p5);
-		attributes.add(p6);
+		attributes.add(new Parameter("Skip", String.valueOf(defaults.skip)));
+		attributes.add(new Parameter("VerifyInitialState", String.valueOf(defaults.verifyInitialState)));
+		attributes.add(new Parameter("VerifyEnabled", String.valueOf(defaults.verifyEnabled)));
+		attributes.add(new Parameter("LogError", String.valueOf(defaults.logError)));
+		attributes.add(new Parameter("Check", String.valueOf(defaults.check)));
+		attributes.add(new Parameter("LogAll", String.valueOf(defaults.logAll)));
+		return attributes;
+	}
 
-		List<Parameter> rv = xml.getAttribute(sXpath_Base, attributes);
-		bSkip = Conversion.parseBoolean(rv.get(rv.indexOf(p1)).value);
-		bVerifyInitialState = Conversion.parseBoolean(rv.get(rv.indexOf(p2)).value);
-		bVerifyEnabled = Conversion.parseBoolean(rv.get(rv.indexOf(p3)).value);
-		bLogError = Conversion.parseBoolean(rv.get(rv.indexOf(p4)).value);
-		bCheck = Conversion.parseBoolean(rv.get(rv.indexOf(p5)).value);
-		bLogAll = Conversion.parseBoolean(rv.get(rv.indexOf(p6)).value);
+	/**
+	 * Binds the attributes read from the XML file to a CheckBox object
+	 * 
+	 * @param rv - Attributes in the same order as getCheckBoxAttributes
+	 * @return CheckBox
+	 */
+	private static CheckBox toCheckBox(List<Parameter> rv)
+	{
+		boolean bSkip = Conversion.parseBoolean(rv.get(0).value);
+		boolean bVerifyInitialState = Conversion.parseBoolean(rv.get(1).value);
+		boolean bVerifyEnabled = Conversion.parseBoolean(rv.get(2).value);
+		boolean bLogError = Conversion.parseBoolean(rv.get(3).value);
+		boolean bCheck = Conversion.parseBoolean(rv.get(4).value);
+		boolean bLogAll = Conversion.parseBoolean(rv.get(5).value);
 
 		return new CheckBox(bSkip, bVerifyInitialState, bVerifyEnabled, bLogError, bCheck, bLogAll);
 	}
@@ -212,9 +246,17 @@ public class DataReader {
 	 */
 	public static InputField getEncodedInputField(VTD_XML xml, String sXpath_Base, InputField defaults)
 	{
-		// Get the encoded data
-		InputField data = getInputField(xml, sXpath_Base, defaults);
+		return decode(getInputField(xml, sXpath_Base, defaults));
+	}
 
+	/**
+	 * Decodes the value of the InputField (read from the XML file) if not using a random value
+	 * 
+	 * @param data - Encoded data
+	 * @return InputField
+	 */
+	private static InputField decode(InputField data)
+	{
 		// Since null is used to indicate if random we do not want to update in this case
 		// Note: No point to decode the random value as it will pretty much always be empty after decoding
 		if (!data.useRandomValue())
@@ -349,12 +391,15 @@ public class DataReader {
 	{
 		List<Parameter> pairs = new ArrayList<Parameter>();
 
+		List<Parameter> attributes = new ArrayList<Parameter>();
+		attributes.add(new Parameter("Key", ""));
+		attributes.add(new Parameter("Value", ""));
+
+		// All the nodes are read in a single pass instead of evaluating an indexed xpath for each node
 		String sXpath = Misc.removeEndsWith(sXpath_Base, "/");
-		int nNodes = xml.getNodesCount(sXpath);
-		for (int i = 0; i < nNodes; i++)
+		for (List<Parameter> rv : xml.getAllAttributes(sXpath, attributes))
 		{
-			Parameter keyValuePair = getKeyValuePair(xml, sXpath + "[" + (i + 1) + "]");
-			pairs.add(keyValuePair);
+			pairs.add(new Parameter(rv.get(0).value, rv.get(1).value));
 		}
 
 		return pairs;
@@ -369,39 +414,50 @@ public class DataReader {
 	 * @return GenericDate
 	 */
 	public static GenericDate getGenericDate(VTD_XML xml, String sXpath_Base, GenericDate defaults)
+	{
+		return toGenericDate(xml.getAttribute(sXpath_Base, getGenericDateAttributes(defaults)));
+	}
+
+	/**
+	 * Gets the attributes (with default values) that make up a GenericDate object
+	 * 
+	 * @param defaults - Default values
+	 * @return List&lt;Parameter&gt;
+	 */
+	private static List<Parameter> getGenericDateAttributes(GenericDate defaults)
+	{
+		List<Parameter> attributes = new ArrayList<Parameter>();
+		attributes.add(new Parameter("Skip", String.valueOf(defaults.skip)));
+		attributes.add(new Parameter("UseCurrentDate", String.valueOf(defaults.useCurrentDate)));
+		attributes.add(new Parameter("UseRandomDate", String.valueOf(defaults.useRandomDate)));
+		attributes.add(new Parameter("Min", String.valueOf(defaults.minAddDays)));
+		attributes.add(new Parameter("Max", String.valueOf(defaults.maxAddDays)));
+		attributes.add(new Parameter("Month", defaults.month));
+		attributes.add(new Parameter("Day", defaults.day));
+		attributes.add(new Parameter("Year", defaults.year));
+		return attributes;
+	}
+
+	/**
+	 * Binds the attributes read from the XML file to a GenericDate object
+	 * 
+	 * @param rv - Attributes in the same order as getGenericDateAttributes
+	 * @return GenericDate
+	 */
+	private static GenericDate toGenericDate(List<Parameter> rv)
 	{
 		boolean skip, useCurrentDate, useRandomDate;
 		int minAddDays, maxAddDays;
 		String month, day, year;
 
-		Parameter p1 = new Parameter("Skip", String.valueOf(defaults.skip));
-		Parameter p2 = new Parameter("UseCurrentDate", String.valueOf(defaults.useCurrentDate));
-		Parameter p3 = new Parameter("UseRandomDate", String.valueOf(defaults.useRandomDate));
-		Parameter p4 = new Parameter("Min", String.valueOf(defaults.minAddDays));
-		Parameter p5 = new Parameter("Max", String.valueOf(defaults.maxAddDays));
-		Parameter p6 = new Parameter("Month", defaults.month);
-		Parameter p7 = new Parameter("Day", defaults.day);
-		Parameter p8 = new Parameter("Year", defaults.year);
-
-		List<Parameter> attributes = new ArrayList<Parameter>();
-		attributes.add(p1);
-		attributes.add(p2);
-		attributes.add(p3);
-		attributes.add(p4);
-		attributes.add(p5);
-		attributes.add(p6);
-		attributes.add(p7);
-		attributes.add(p8);
-
-		List<Parameter> rv = xml.getAttribute(sXpath_Base, attributes);
-		skip = Conversion.parseBoolean(rv.get(rv.indexOf(p1)).value);
-		useCurrentDate = Conversion.parseBoolean(rv.get(rv.indexOf(p2)).value);
-		useRandomDate = Conversion.parseBoolean(rv.get(rv.indexOf(p3)).value);
-		minAddDays = Conversion.parseInt(rv.get(rv.indexOf(p4)).value);
-		maxAddDays = Conversion.parseInt(rv.get(rv.indexOf(p5)).value);
-		month = rv.get(rv.indexOf(p6)).value;
-		day = rv.get(rv.indexOf(p7)).value;
-		year = rv.get(rv.indexOf(p8)).value;
+		skip = Conversion.parseBoolean(rv.get(0).value);
+		useCurrentDate = Conversion.parseBoolean(rv.get(1).value);
+		useRandomDate = Conversion.parseBoolean(rv.get(2).value);
+		minAddDays = Conversion.parseInt(rv.get(3).value);
+		maxAddDays = Conversion.parseInt(rv.get(4).value);
+		month = rv.get(5).value;
+		day = rv.get(6).value;
+		year = rv.get(7).value;
 
 		return new GenericDate(skip, useCurrentDate, useRandomDate, minAddDays, maxAddDays, month, day, year);
 	}
@@ -491,12 +547,11 @@ public class DataReader {
 	{
 		List<CheckBox> genericList = new ArrayList<CheckBox>();
 
+		// All the nodes are read in a single pass instead of evaluating an indexed xpath for each node
 		String sXpath = Misc.removeEndsWith(sXpath_Base, "/");
-		int nNodes = xml.getNodesCount(sXpath);
-		for (int i = 0; i < nNodes; i++)
+		for (List<Parameter> rv : xml.getAllAttributes(sXpath, getCheckBoxAttributes(defaults)))
 		{
-			CheckBox item = getCheckBox(xml, sXpath + "[" + (i + 1) + "]", defaults);
-			genericList.add(item);
+			genericList.add(toCheckBox(rv));
 		}
 
 		return genericList;
@@ -514,12 +569,11 @@ public class DataReader {
 	{
 		List<DropDown> genericList = new ArrayList<DropDown>();
 
+		// All the nodes are read in a single pass instead of evaluating an indexed xpath for each node
 		String sXpath = Misc.removeEndsWith(sXpath_Base, "/");
-		int nNodes = xml.getNodesCount(sXpath);
-		for (int i = 0; i < nNodes; i++)
+		for (List<Parameter> rv : xml.getAllAttributes(sXpath, getDropDownAttributes(defaults)))
 		{
-			DropDown item = getDropDown(xml, sXpath + "[" + (i + 1) + "]", defaults);
-			genericList.add(item);
+			genericList.add(toDropDown(rv, defaults));
 		}
 
 		return genericList;
@@ -537,12 +591,11 @@ public class DataReader {
 	{
 		List<InputField> genericList = new ArrayList<InputField>();
 
+		// All the nodes are read in a single pass instead of evaluating an indexed xpath for each node
 		String sXpath = Misc.removeEndsWith(sXpath_Base, "/");
-		int nNodes = xml.getNodesCount(sXpath);
-		for (int i = 0; i < nNodes; i++)
+		for (List<Parameter> rv : xml.getAllAttributes(sXpath, getInputFieldAttributes(defaults)))
 		{
-			InputField item = getInputField(xml, sXpath + "[" + (i + 1) + "]", defaults);
-			genericList.add(item);
+			genericList.add(toInputField(rv));
 		}
 
 		return genericList;
@@ -560,12 +613,11 @@ public class DataReader {
 	{
 		List<GenericDate> genericList = new ArrayList<GenericDate>();
 
+		// All the nodes are read in a single pass instead of evaluating an indexed xpath for each node
 		String sXpath = Misc.removeEndsWith(sXpath_Base, "/");
-		int nNodes = xml.getNodesCount(sXpath);
-		for (int i = 0; i < nNodes; i++)
+		for (List<Parameter> rv : xml.getAllAttributes(sXpath, getGenericDateAttributes(defaults)))
 		{
-			GenericDate item = getGenericDate(xml, sXpath + "[" + (i + 1) + "]", defaults);
-			genericList.add(item);
+			genericList.add(toGenericDate(rv));
 		}
 
 		return genericList;
@@ -583,12 +635,30 @@ public class DataReader {
 	{
 		List<InputField> genericList = new ArrayList<InputField>();
 
+		// All the nodes are read in a single pass instead of evaluating an indexed xpath for each node
 		String sXpath = Misc.removeEndsWith(sXpath_Base, "/");
-		int nNodes = xml.getNodesCount(sXpath);
-		for (int i = 0; i < nNodes; i++)
+		List<InputField> encoded = new ArrayList<InputField>();
+		for (List<Parameter> rv : xml.getAllAttributes(sXpath, getInputFieldAttributes(defaults)))
 		{
-			InputField item = getEncodedInputField(xml, sXpath + "[" + (i + 1) + "]", defaults);
+			InputField item = toInputField(rv);
 			genericList.add(item);
+
+			// Since null is used to indicate if random we do not want to decode in this case
+			if (!item.useRandomValue())
+				encoded.add(item);
+		}
+
+		// Decode all the values (in parallel)
+		String[] values = new String[encoded.size()];
+		for (int i = 0; i < values.length; i++)
+		{
+			values[i] = encoded.get(i).value;
+		}
+
+		String[] decoded = CryptoDESede.decode(values);
+		for (int i = 0; i < decoded.length; i++)
+		{
+			encoded.get(i).value = decoded[i];
 		}
 
 		return genericList;
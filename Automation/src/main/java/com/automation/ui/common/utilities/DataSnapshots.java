@@ -0,0 +1,144 @@
+package com.automation.ui.common.utilities;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * This class parses data sources (XML files) once per JVM &amp; shares the parsed data between all the test
+ * classes &amp; threads<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) If multiple threads request the same data source at the same time, then only 1 thread parses it &amp;
+ * the other threads wait for the result<BR>
+ * 2) The records are shared as such the list is read only &amp; the records must not be modified<BR>
+ * 3) Each call to getXML returns a copy with its own navigator that shares the parsed XML<BR>
+ * 4) The data sources are not re-read if they are changed. Use clear to force the data sources to be
+ * re-read.<BR>
+ */
+public class DataSnapshots {
+	/**
+	 * Separator used to create the keys for the records
+	 */
+	private static final String _Separator = "|";
+
+	/**
+	 * The parsed XML files
+	 */
+	private static final ConcurrentHashMap<String, Future<VTD_XML>> xmlFiles =
+			new ConcurrentHashMap<String, Future<VTD_XML>>();
+
+	/**
+	 * The records read from the XML files
+	 */
+	private static final ConcurrentHashMap<String, Future<List<String[]>>> records =
+			new ConcurrentHashMap<String, Future<List<String[]>>>();
+
+	/**
+	 * Gets the parsed XML file (parsing it if necessary)
+	 * 
+	 * @param sFile - XML file
+	 * @return VTD_XML that can only be used by the calling thread
+	 * @throws GenericUnexpectedException if the XML file could not be parsed
+	 */
+	public static VTD_XML getXML(final String sFile)
+	{
+		String key = new File(sFile).getAbsolutePath();
+		VTD_XML xml = get(xmlFiles, key, new Callable<VTD_XML>() {
+			@Override
+			public VTD_XML call() throws Exception
+			{
+				return new VTD_XML(sFile);
+			}
+		});
+
+		return xml.copy();
+	}
+
+	/**
+	 * Gets the records from the XML file (reading them if necessary)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) See VTD_XML.getAllData for details on how the records are read<BR>
+	 * 2) Nodes that are not found have null values<BR>
+	 * 
+	 * @param sFile - XML file
+	 * @param sRootXpath - The root node that contains multiple sets of data
+	 * @param sEachNode - All nodes that make up a specific set of data
+	 * @return Read only list of the records
+	 * @throws GenericUnexpectedException if the XML file could not be parsed
+	 */
+	public static List<String[]> getRecords(final String sFile, final String sRootXpath,
+			final String... sEachNode)
+	{
+		String key = new File(sFile).getAbsolutePath() + _Separator + sRootXpath + _Separator
+				+ Conversion.toString(_Separator, sEachNode);
+		return get(records, key, new Callable<List<String[]>>() {
+			@Override
+			public List<String[]> call() throws Exception
+			{
+				String[][] data = getXML(sFile).getAllData(sRootXpath, sEachNode);
+				return Collections.unmodifiableList(Arrays.asList(data));
+			}
+		});
+	}
+
+	/**
+	 * Removes all the parsed data sources such that they are re-read the next time they are used
+	 */
+	public static void clear()
+	{
+		records.clear();
+		xmlFiles.clear();
+	}
+
+	/**
+	 * Gets the value for the key (creating it if necessary such that it is only created once)
+	 * 
+	 * @param cache - Cache to get the value from
+	 * @param key - Key
+	 * @param create - Creates the value if it is not in the cache
+	 * @return T
+	 * @throws GenericUnexpectedException if the value could not be created
+	 */
+	private static <T> T get(ConcurrentHashMap<String, Future<T>> cache, String key, Callable<T> create)
+	{
+		Future<T> future = cache.get(key);
+		if (future == null)
+		{
+			FutureTask<T> task = new FutureTask<T>(create);
+			future = cache.putIfAbsent(key, task);
+			if (future == null)
+			{
+				future = task;
+				task.run();
+			}
+		}
+
+		try
+		{
+			return future.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			cache.remove(key, future);
+			Logs.logError("Interrupted while reading data source (" + key + ")");
+		}
+		catch (ExecutionException ex)
+		{
+			// Do not keep the failure such that the next attempt tries again
+			cache.remove(key, future);
+			Logs.logError("Reading data source (" + key + ") caused the following exception ["
+					+ ex.getCause().getClass().getName() + "]:  " + ex.getCause().getMessage());
+		}
+
+		return null;
+	}
+}
@@ -5,6 +5,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,7 +22,14 @@ import com.automation.ui.common.dataStructures.Parameter;
  * integrated security, the DLL sqljdbc_auth.dll is required & it only works on windows OS. From Eclipse there
  * should be no issues once the library is added because the required DLL for integrated security is in a
  * sub-folder. However, if there is an issue using integrated security, then copy the sqljdbc_auth.dll to the
- * project folder and this should resolve the issue.
+ * project folder and this should resolve the issue.<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) By default, the connections are from a pool that is shared by all Database objects with the same
+ * connection information (see ConnectionPool). Use disablePooling if a new physical connection is needed
+ * each time.<BR>
+ * 2) For a large number of rows, use executeQuery with a BaseRowMapper (forward only streaming) to read the
+ * rows &amp; updateBatch (or BatchUpdate) to update the rows<BR>
  */
 public class Database {
 	public static final String INTEGER = "int";
@@ -35,6 +44,7 @@ public class Database {
 	private int nPort;
 	private String sDatabaseName;
 	private DB_Type type;
+	private boolean bPooled = true;
 
 	/**
 	 * Initializes class with default port, Integrated Security Enabled, username/password are set to null<BR>
@@ -104,6 +114,7 @@ public class Database {
 			set(copy.getUser(), copy.getPassword(), copy.getServer(), copy.getPort(), copy.getDatabaseName(),
 					copy.getType());
 			setIntegratedSecurityBasedOnUserValue();
+			bPooled = copy.isPooled();
 		}
 	}
 
@@ -231,6 +242,27 @@ public class Database {
 		bIntegratedSecurity = false;
 	}
 
+	/**
+	 * Enable getting the connections from the pool (default)
+	 */
+	public void enablePooling()
+	{
+		bPooled = true;
+	}
+
+	/**
+	 * Disable getting the connections from the pool such that a new physical connection is opened each time
+	 */
+	public void disablePooling()
+	{
+		bPooled = false;
+	}
+
+	public boolean isPooled()
+	{
+		return bPooled;
+	}
+
 	/**
 	 * Sets bIntegratedSecurity to true if sUser is null or empty string else set to false.
 	 */
@@ -243,19 +275,26 @@ public class Database {
 	}
 
 	/**
-	 * Opens a DB connection
+	 * Opens a DB connection<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If pooling is enabled, then the connection is from the pool &amp; closing it returns it to the
+	 * pool<BR>
 	 * 
 	 * @return DB Connection to work with
 	 * @throws Exception if fails to open connection
 	 */
 	public Connection openConnection() throws Exception
 	{
+		if (bPooled)
+			return ConnectionPool.get(this).getConnection();
+
 		ConnectionFactory con = new ConnectionFactory(this);
 		return con.openConnection();
 	}
 
 	/**
-	 * Closes a DB connection
+	 * Closes a DB connection (which returns a pooled connection to the pool)
 	 * 
 	 * @param con - DB connection to close
 	 */
@@ -270,6 +309,23 @@ public class Database {
 		}
 	}
 
+	/**
+	 * Closes a statement ignoring any exceptions (which returns a cached statement to the cache)
+	 * 
+	 * @param stmt - Statement to close (can be null)
+	 */
+	public static void closeStatement(Statement stmt)
+	{
+		try
+		{
+			if (stmt != null)
+				stmt.close();
+		}
+		catch (Exception ex)
+		{
+		}
+	}
+
 	/**
 	 * Executes the given query. (There is no parameterization with this method. So, query cannot have any
 	 * parameters.)
@@ -283,6 +339,7 @@ public class Database {
 		try
 		{
 			PreparedStatement pstmt = con.prepareStatement(sQuery);
+			ConnectionPool.closeOnCompletion(pstmt);
 			ResultSet rs = pstmt.executeQuery();
 			return rs;
 		}
@@ -316,6 +373,7 @@ public class Database {
 				pstmt.setString(i + 1, sParameterValue[i]);
 			}
 
+			ConnectionPool.closeOnCompletion(pstmt);
 			ResultSet rs = pstmt.executeQuery();
 			return rs;
 		}
@@ -367,6 +425,7 @@ public class Database {
 					pstmt.setString(i + 1, sParameterDetails[i][0]);
 			}
 
+			ConnectionPool.closeOnCompletion(pstmt);
 			ResultSet rs = pstmt.executeQuery();
 			return rs;
 		}
@@ -398,9 +457,10 @@ public class Database {
 	 */
 	public boolean updateQuery(Connection con, String sQuery)
 	{
+		PreparedStatement pstmt = null;
 		try
 		{
-			PreparedStatement pstmt = con.prepareStatement(sQuery);
+			pstmt = con.prepareStatement(sQuery);
 			pstmt.executeUpdate();
 			return true;
 		}
@@ -409,6 +469,10 @@ public class Database {
 			Logs.log.warn(ex);
 			return false;
 		}
+		finally
+		{
+			closeStatement(pstmt);
+		}
 	}
 
 	/**
@@ -421,9 +485,10 @@ public class Database {
 	 */
 	public boolean updateQuery(Connection con, String sQuery, String[] sParameterValue)
 	{
+		PreparedStatement pstmt = null;
 		try
 		{
-			PreparedStatement pstmt = con.prepareStatement(sQuery);
+			pstmt = con.prepareStatement(sQuery);
 
 			// Add the parameter values to the query
 			for (int i = 0; i < sParameterValue.length; i++)
@@ -439,6 +504,10 @@ public class Database {
 			Logs.log.warn(ex);
 			return false;
 		}
+		finally
+		{
+			closeStatement(pstmt);
+		}
 	}
 
 	/**
@@ -452,9 +521,10 @@ public class Database {
 	 */
 	public boolean updateQuery(Connection con, String sQuery, String[][] sParameterDetails)
 	{
+		PreparedStatement pstmt = null;
 		try
 		{
-			PreparedStatement pstmt = con.prepareStatement(sQuery);
+			pstmt = con.prepareStatement(sQuery);
 
 			// Add the parameter values to the query
 			for (int i = 0; i < sParameterDetails.length; i++)
@@ -476,6 +546,10 @@ public class Database {
 			Logs.log.warn(ex);
 			return false;
 		}
+		finally
+		{
+			closeStatement(pstmt);
+		}
 	}
 
 	/**
@@ -556,20 +630,9 @@ public class Database {
 			PreparedStatement pstmt = con.prepareStatement(sQuery, ResultSet.TYPE_SCROLL_INSENSITIVE,
 					ResultSet.CONCUR_READ_ONLY);
 
-			int paramIndex = 1;
-			for (Parameter p : parameters)
-			{
-				// Is the parameter type int, boolean or string (default if no match)?
-				if (p.param.equalsIgnoreCase(Database.INTEGER))
-					pstmt.setInt(paramIndex, Integer.parseInt(p.value));
-				else if (p.param.equalsIgnoreCase(Database.BOOLEAN))
-					pstmt.setBoolean(paramIndex, Boolean.parseBoolean(p.value));
-				else
-					pstmt.setString(paramIndex, p.value);
-
-				paramIndex++;
-			}
+			setParameters(pstmt, parameters);
 
+			ConnectionPool.closeOnCompletion(pstmt);
 			ResultSet rs = pstmt.executeQuery();
 			return rs;
 		}
@@ -610,23 +673,12 @@ public class Database {
 	 */
 	public boolean updateQuery(Connection con, String sQuery, List<Parameter> parameters)
 	{
+		PreparedStatement pstmt = null;
 		try
 		{
-			PreparedStatement pstmt = con.prepareStatement(sQuery);
-
-			int paramIndex = 1;
-			for (Parameter p : parameters)
-			{
-				// Is the parameter type int, boolean or string (default if no match)?
-				if (p.param.equalsIgnoreCase(Database.INTEGER))
-					pstmt.setInt(paramIndex, Integer.parseInt(p.value));
-				else if (p.param.equalsIgnoreCase(Database.BOOLEAN))
-					pstmt.setBoolean(paramIndex, Boolean.parseBoolean(p.value));
-				else
-					pstmt.setString(paramIndex, p.value);
+			pstmt = con.prepareStatement(sQuery);
 
-				paramIndex++;
-			}
+			setParameters(pstmt, parameters);
 
 			pstmt.executeUpdate();
 			return true;
@@ -636,6 +688,10 @@ public class Database {
 			Logs.log.warn(ex);
 			return false;
 		}
+		finally
+		{
+			closeStatement(pstmt);
+		}
 	}
 
 	/**
@@ -672,19 +728,7 @@ public class Database {
 			CallableStatement stmt = con.prepareCall(sQuery, ResultSet.TYPE_SCROLL_INSENSITIVE,
 					ResultSet.CONCUR_READ_ONLY);
 
-			int paramIndex = 1;
-			for (Parameter p : parameters)
-			{
-				// Is the parameter type int, boolean or string (default if no match)?
-				if (p.param.equalsIgnoreCase(Database.INTEGER))
-					stmt.setInt(paramIndex, Integer.parseInt(p.value));
-				else if (p.param.equalsIgnoreCase(Database.BOOLEAN))
-					stmt.setBoolean(paramIndex, Boolean.parseBoolean(p.value));
-				else
-					stmt.setString(paramIndex, p.value);
-
-				paramIndex++;
-			}
+			setParameters(stmt, parameters);
 
 			stmt.execute();
 			while (true)
@@ -718,6 +762,146 @@ public class Database {
 		return results;
 	}
 
+	/**
+	 * Sets the parameters of a prepared statement<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Parameter.param = SQL Type (Database.INTEGER, Database.BOOLEAN or Database.STRING (default if no
+	 * match)<BR>
+	 * 2) Parameter.value = Value to be parameterized<BR>
+	 * 
+	 * @param pstmt - Prepared statement to set the parameters of
+	 * @param parameters - List of SQL Types and values for parameterization
+	 * @throws SQLException if setting a parameter fails
+	 */
+	protected static void setParameters(PreparedStatement pstmt, List<Parameter> parameters)
+			throws SQLException
+	{
+		int paramIndex = 1;
+		for (Parameter p : parameters)
+		{
+			// Is the parameter type int, boolean or string (default if no match)?
+			if (p.param.equalsIgnoreCase(Database.INTEGER))
+				pstmt.setInt(paramIndex, Integer.parseInt(p.value));
+			else if (p.param.equalsIgnoreCase(Database.BOOLEAN))
+				pstmt.setBoolean(paramIndex, Boolean.parseBoolean(p.value));
+			else
+				pstmt.setString(paramIndex, p.value);
+
+			paramIndex++;
+		}
+	}
+
+	/**
+	 * Executes the given query that contains parameters (any type) &amp; streams the rows to the row mapper
+	 * one at a time such that any number of rows can be processed using constant memory<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The result set is forward only &amp; read only. The statement &amp; result set are closed before
+	 * returning.<BR>
+	 * 2) The fetch size is the number of rows the driver is requested to read from the DB at a time. It is
+	 * only a hint &amp; some drivers need additional settings to stream the rows (PostgreSQL requires
+	 * auto-commit to be disabled &amp; MySQL requires the fetch size to be Integer.MIN_VALUE). The fetch size
+	 * is only set on the statement as the result set uses the fetch size of the statement.<BR>
+	 * 3) Exceptions thrown by the row mapper are not caught (other than SQLException)<BR>
+	 * 4) See executeQuery(Connection, String, List) for the parameters<BR>
+	 * 
+	 * @param con - Connection to DB
+	 * @param sQuery - Query to execute
+	 * @param parameters - List of SQL Types and values for parameterization
+	 * @param nFetchSize - Number of rows to fetch at a time (0 to use the driver default)
+	 * @param mapper - Maps &amp; processes each row
+	 * @return number of rows processed or -1 if an exception occurred
+	 */
+	public <T> int executeQuery(Connection con, String sQuery, List<Parameter> parameters, int nFetchSize,
+			BaseRowMapper<T> mapper)
+	{
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		try
+		{
+			pstmt = con.prepareStatement(sQuery, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			pstmt.setFetchSize(nFetchSize);
+			setParameters(pstmt, parameters);
+
+			rs = pstmt.executeQuery();
+			return mapper.run(rs);
+		}
+		catch (SQLException ex)
+		{
+			Logs.log.warn("Exception occurred executing ");
+			Logs.log.warn("Query:\t" + sQuery);
+			Logs.log.warn("Parameters (in order):\t" + Conversion.toString(parameters, ", "));
+			Logs.log.warn("Exception Details:\t" + ex);
+			return -1;
+		}
+		finally
+		{
+			try
+			{
+				if (rs != null)
+					rs.close();
+
+				// Statements can be re-used by the pool as such the default fetch size is restored
+				if (pstmt != null)
+					pstmt.setFetchSize(0);
+			}
+			catch (Exception ex)
+			{
+			}
+
+			closeStatement(pstmt);
+		}
+	}
+
+	/**
+	 * Executes query that updates the DB for each set of parameters in batches<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) See BatchUpdate for details on the batches &amp; transaction grouping<BR>
+	 * 2) If a batch fails, then the remaining sets of parameters are not executed<BR>
+	 * 3) See updateQuery(Connection, String, List) for the parameters<BR>
+	 * 
+	 * @param con - Connection to DB
+	 * @param sQuery - SQL query with ? for the parameters to replace
+	 * @param rows - Sets of parameters (1 per update)
+	 * @param nBatchSize - Number of sets of parameters per batch (less than 1 uses the default)
+	 * @param bTransaction - true to commit each batch as a single transaction (ignored if auto-commit is
+	 *            disabled on the connection)
+	 * @return update counts (1 per set of parameters) or null if an exception occurred
+	 */
+	public int[] updateBatch(Connection con, String sQuery, List<List<Parameter>> rows, int nBatchSize,
+			boolean bTransaction)
+	{
+		BatchUpdate batch = null;
+		try
+		{
+			batch = new BatchUpdate(con, sQuery, nBatchSize, bTransaction);
+			for (List<Parameter> row : rows)
+			{
+				batch.addBatch(row);
+			}
+
+			batch.executeBatch();
+			return batch.getUpdateCounts();
+		}
+		catch (SQLException ex)
+		{
+			Logs.log.warn("Exception occurred executing batch");
+			Logs.log.warn("Query:\t" + sQuery);
+			if (batch != null)
+				Logs.log.warn("Completed Updates:\t" + batch.getUpdateCounts().length);
+
+			Logs.log.warn("Exception Details:\t" + ex);
+			return null;
+		}
+		finally
+		{
+			if (batch != null)
+				batch.close();
+		}
+	}
+
 	/**
 	 * Returns type, sServer, sDatabaseName, nPort, sUser, sPassword & bIntegratedSecurity
 	 */
@@ -1,12 +1,5 @@
 package com.automation.ui.common.utilities;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
-
-import org.apache.commons.io.FileUtils;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
 import com.automation.ui.common.dataStructures.Browser;
@@ -14,12 +7,17 @@ import com.automation.ui.common.dataStructures.Parameter;
 import com.automation.ui.common.dataStructures.config.RuntimeProperty;
 
 /**
- * This class is used to generate debug information
+ * This class is used to generate debug information<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The files are written on a background thread (see CaptureWriter) such that the test thread is not
+ * waiting on disk I/O<BR>
+ * 2) The HTML files are compressed &amp; have the extension ".html.gz"<BR>
  */
 public class DebugInfo {
 	private WebDriver driver;
 	private String storedPageSource;
-	private File storedScreenshotFile;
+	private String storedScreenshot;
 
 	/**
 	 * Constructor
@@ -143,30 +141,16 @@ public class DebugInfo {
 	 */
 	private static void saveScreenshot(WebDriver driver, String sFilename)
 	{
-		int nDebugCode = 0;
-
 		String sAlert = Framework.acceptAlertTry(driver);
 		if (sAlert != null)
 			Logs.log.info("Cleared alert via 'Accept' that had message:  " + sAlert);
 
 		try
 		{
-			File file = new File(sFilename);
-			if (file.exists())
-				file.delete();
-
-			nDebugCode = 1;
-
-			File scrFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-
-			nDebugCode = 2;
-
-			FileUtils.copyFile(scrFile, file);
-			Logs.log.info("Saved screenshot to file:  " + sFilename);
+			CaptureWriter.saveScreenshot(driver, sFilename);
 		}
 		catch (Exception ex)
 		{
-			Logs.log.warn("Debug Code:  " + nDebugCode);
 			Logs.log.warn("Failed to save screenshot (" + sFilename + ") due to exception ["
 					+ ex.getClass().getName() + "]:  " + ex.getMessage());
 		}
@@ -180,35 +164,16 @@ public class DebugInfo {
 	 */
 	private static void saveCurrentPage(WebDriver driver, String sFilename)
 	{
-		int nDebugCode = 0;
-
 		String sAlert = Framework.acceptAlertTry(driver);
 		if (sAlert != null)
 			Logs.log.info("Cleared alert via 'Accept' that had message:  " + sAlert);
 
 		try
 		{
-			File file = new File(sFilename);
-			if (file.exists())
-				file.delete();
-
-			nDebugCode = 1;
-
-			file.createNewFile();
-
-			nDebugCode = 2;
-
-			BufferedWriter out = new BufferedWriter(new FileWriter(file));
-
-			nDebugCode = 3;
-
-			out.write(driver.getPageSource());
-			out.close();
-			Logs.log.info("Saved HTML page to file:  " + sFilename);
+			CaptureWriter.savePageSource(driver.getPageSource(), sFilename);
 		}
 		catch (Exception ex)
 		{
-			Logs.log.warn("Debug Code:  " + nDebugCode);
 			Logs.log.warn("Saving current page source (" + sFilename + ") failed with exception ["
 					+ ex.getClass().getName() + "]:  " + ex.getMessage());
 		}
@@ -220,7 +185,7 @@ public class DebugInfo {
 	 * <BR>
 	 * <B>Notes:</B><BR>
 	 * 1) Screenshot is saved as sFolder + sUnique + "_onlyActive.png"<BR>
-	 * 2) HTML page is saved as sFolder + sUnique + "_onlyActive.html"<BR>
+	 * 2) HTML page is saved (compressed) as sFolder + sUnique + "_onlyActive.html.gz"<BR>
 	 * 
 	 * @param driver
 	 * @param sHandle - Handle of window to take screenshot
@@ -354,7 +319,7 @@ public class DebugInfo {
 				Logs.log.info("Cleared alert via 'Accept' that had message:  " + sAlert);
 
 			if (screenshot)
-				storedScreenshotFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+				storedScreenshot = CaptureWriter.capture(driver);
 
 			if (html)
 				storedPageSource = driver.getPageSource();
@@ -397,24 +362,13 @@ public class DebugInfo {
 	 */
 	private void saveStoredScreenshot(String sFilename)
 	{
-		int nDebugCode = 0;
-
-		try
-		{
-			File file = new File(sFilename);
-			if (file.exists())
-				file.delete();
-
-			nDebugCode = 1;
-			FileUtils.copyFile(storedScreenshotFile, file);
-			Logs.log.info("Saved screenshot to file:  " + sFilename);
-		}
-		catch (Exception ex)
+		if (storedScreenshot == null)
 		{
-			Logs.log.warn("Debug Code:  " + nDebugCode);
-			Logs.log.warn("Failed to save stored screenshot (" + sFilename + ") due to exception ["
-					+ ex.getClass().getName() + "]:  " + ex.getMessage());
+			Logs.log.warn("No stored screenshot as such stored screenshot (" + sFilename + ") not saved");
+			return;
 		}
+
+		CaptureWriter.saveScreenshot(storedScreenshot, sFilename);
 	}
 
 	/**
@@ -424,34 +378,13 @@ public class DebugInfo {
 	 */
 	private void saveStoredPage(String sFilename)
 	{
-		int nDebugCode = 0;
-
-		try
+		if (storedPageSource == null)
 		{
-			File file = new File(sFilename);
-			if (file.exists())
-				file.delete();
-
-			nDebugCode = 1;
-
-			file.createNewFile();
-
-			nDebugCode = 2;
-
-			BufferedWriter out = new BufferedWriter(new FileWriter(file));
-
-			nDebugCode = 3;
-
-			out.write(storedPageSource);
-			out.close();
-			Logs.log.info("Saved HTML page to file:  " + sFilename);
-		}
-		catch (Exception ex)
-		{
-			Logs.log.warn("Debug Code:  " + nDebugCode);
-			Logs.log.warn("Saving stored page source (" + sFilename + ") failed with exception ["
-					+ ex.getClass().getName() + "]:  " + ex.getMessage());
+			Logs.log.warn("No stored page source as such stored page source (" + sFilename + ") not saved");
+			return;
 		}
+
+		CaptureWriter.savePageSource(storedPageSource, sFilename);
 	}
 
 	/**
@@ -1,13 +1,20 @@
 package com.automation.ui.common.utilities;
 
 import java.io.File;
+import java.util.Iterator;
 
 import jxl.Cell;
 import jxl.Sheet;
 import jxl.Workbook;
 
 /**
- * This class is for reading from an Excel file.
+ * This class is for reading from an Excel file.<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The rows can be read lazily one row at a time using iterator or getDataProvider such that only the
+ * current row is converted<BR>
+ * 2) The Excel library loads the entire workbook when it is opened as such the workbook is closed as soon
+ * as all the rows have been read<BR>
  */
 public class Excel {
 	/**
@@ -19,23 +26,21 @@ public class Excel {
 	 */
 	public static String[][] getAllData(String sExcelFile, String sWorkSheet)
 	{
+		Workbook w = null;
 		try
 		{
 			File inputWorkbook = new File(sExcelFile);
-			Workbook w = Workbook.getWorkbook(inputWorkbook);
+			w = Workbook.getWorkbook(inputWorkbook);
 			Sheet sheet = w.getSheet(sWorkSheet);
 
 			int rows = sheet.getRows();
 			int cols = sheet.getColumns();
-			String[][] data = new String[rows][cols];
+			String[][] data = new String[rows][];
 
-			for (int i = 0; i < cols; i++)
+			// Read row by row as the cells of a row are stored together
+			for (int j = 0; j < rows; j++)
 			{
-				for (int j = 0; j < rows; j++)
-				{
-					Cell cell = sheet.getCell(i, j);
-					data[j][i] = cell.getContents().toString();
-				}
+				data[j] = toRow(sheet.getRow(j), cols);
 			}
 
 			return data;
@@ -44,5 +49,167 @@ public class Excel {
 		{
 			return null;
 		}
+		finally
+		{
+			close(w);
+		}
+	}
+
+	/**
+	 * Lazily reads the rows from a specific Excel Worksheet<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The workbook is closed once all the rows have been read<BR>
+	 * 2) Each row has the same number of columns as the worksheet (missing cells are empty strings)<BR>
+	 * 
+	 * @param sExcelFile - Excel file to read from
+	 * @param sWorkSheet - Excel Worksheet to read from
+	 * @param bHeader - true if the 1st row is a header row that is not to be returned
+	 * @param columns - Names of the columns (from the header row) to keep in the order to be returned (none
+	 *            to keep all columns)
+	 * @return Iterator&lt;String[]&gt;
+	 * @throws GenericUnexpectedException if the worksheet cannot be read or a column cannot be found in the
+	 *             header row
+	 */
+	public static Iterator<String[]> iterator(String sExcelFile, String sWorkSheet, boolean bHeader,
+			String... columns)
+	{
+		Workbook w = null;
+		try
+		{
+			w = Workbook.getWorkbook(new File(sExcelFile));
+			Sheet sheet = w.getSheet(sWorkSheet);
+			if (sheet == null)
+				Logs.logError("Worksheet (" + sWorkSheet + ") could not be found in file:  " + sExcelFile);
+
+			SheetIterator rows = new SheetIterator(w, sheet, bHeader);
+			return new ProjectedRowIterator(rows, rows.getHeaderRow(), columns);
+		}
+		catch (RuntimeException ex)
+		{
+			close(w);
+			throw ex;
+		}
+		catch (Exception ex)
+		{
+			close(w);
+			Logs.logError("Reading Excel file (" + sExcelFile + ") caused the following exception ["
+					+ ex.getClass().getName() + "]:  " + ex.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Lazily reads the rows from a specific Excel Worksheet for use as a TestNG data provider<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Each value is a parameter of the test method<BR>
+	 * 
+	 * @param sExcelFile - Excel file to read from
+	 * @param sWorkSheet - Excel Worksheet to read from
+	 * @param bHeader - true if the 1st row is a header row that is not to be returned
+	 * @param columns - Names of the columns (from the header row) to keep in the order to be returned (none
+	 *            to keep all columns)
+	 * @return Iterator&lt;Object[]&gt;
+	 * @throws GenericUnexpectedException if the worksheet cannot be read or a column cannot be found in the
+	 *             header row
+	 */
+	public static Iterator<Object[]> getDataProvider(String sExcelFile, String sWorkSheet, boolean bHeader,
+			String... columns)
+	{
+		return new DataProviderIterator(iterator(sExcelFile, sWorkSheet, bHeader, columns));
+	}
+
+	/**
+	 * Converts the cells of a row to strings
+	 * 
+	 * @param cells - Cells of the row
+	 * @param cols - Number of columns in the worksheet
+	 * @return String[]
+	 */
+	private static String[] toRow(Cell[] cells, int cols)
+	{
+		String[] row = new String[cols];
+		for (int i = 0; i < cols; i++)
+		{
+			row[i] = (i < cells.length) ? cells[i].getContents().toString() : "";
+		}
+
+		return row;
+	}
+
+	/**
+	 * Closes the workbook ignoring any exceptions
+	 * 
+	 * @param w - Workbook to close (can be null)
+	 */
+	private static void close(Workbook w)
+	{
+		try
+		{
+			if (w != null)
+				w.close();
+		}
+		catch (Exception ex)
+		{
+		}
+	}
+
+	/**
+	 * Iterator that converts one row of the worksheet at a time
+	 */
+	private static class SheetIterator extends BaseRecordIterator {
+		private Workbook w;
+		private Sheet sheet;
+		private int rows;
+		private int cols;
+		private int next;
+		private String[] headerRow;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param w - Workbook that is closed once all the rows have been read
+		 * @param sheet - Worksheet to read the rows from
+		 * @param bHeader - true if the 1st row is a header row that is not to be returned
+		 */
+		public SheetIterator(Workbook w, Sheet sheet, boolean bHeader)
+		{
+			super();
+			this.w = w;
+			this.sheet = sheet;
+			this.rows = sheet.getRows();
+			this.cols = sheet.getColumns();
+			this.next = 0;
+			this.headerRow = null;
+
+			if (bHeader && rows > 0)
+			{
+				headerRow = toRow(sheet.getRow(0), cols);
+				next = 1;
+			}
+		}
+
+		/**
+		 * @return null if no header row else the header row
+		 */
+		public String[] getHeaderRow()
+		{
+			return headerRow;
+		}
+
+		@Override
+		protected String[] getNext()
+		{
+			if (next >= rows)
+			{
+				close(w);
+				return null;
+			}
+
+			String[] row = toRow(sheet.getRow(next), cols);
+			next++;
+			return row;
+		}
 	}
-}
\ No newline at end of file
+}
@@ -5,12 +5,12 @@ import java.util.List;
 import org.openqa.selenium.WebElement;
 
 import com.automation.ui.common.dataStructures.Comparison;
+import com.automation.ui.common.dataStructures.ElementProperty;
 import com.automation.ui.common.dataStructures.FindTextCriteria;
 import com.automation.ui.common.dataStructures.FindWebElementData;
 import com.automation.ui.common.dataStructures.SelectionCriteria;
 import com.automation.ui.common.dataStructures.WebElementIndexOfMethod;
-import com.automation.ui.common.utilities.caches.AttributeCache;
-import com.automation.ui.common.utilities.caches.TextCache;
+import com.automation.ui.common.utilities.caches.ElementPropertyCache;
 
 /**
  * This class holds various methods to find the index of a matching WebElement<BR>
@@ -51,14 +51,9 @@ public class FindWebElement {
 	private Comparison option;
 
 	/**
-	 * The cache for WebElement Text values
+	 * The cache for WebElement Text &amp; Attribute values
 	 */
-	private TextCache textCache;
-
-	/**
-	 * The cache for WebElement Attribute values
-	 */
-	private AttributeCache attributeCache;
+	private ElementPropertyCache cache;
 
 	/**
 	 * Constructor that sets the find method to be the default of visible text contains and the comparison
@@ -68,10 +63,7 @@ public class FindWebElement {
 	{
 		setFindMethod(WebElementIndexOfMethod.VisibleText_Contains);
 		setComparisonOption(Comparison.Standard);
-
-		// Initialize caches to match settings
-		textCache = new TextCache(false);
-		attributeCache = new AttributeCache("");
+		cache = new ElementPropertyCache();
 	}
 
 	/**
@@ -95,18 +87,8 @@ public class FindWebElement {
 	{
 		setFindMethod(config.findMethod);
 		setComparisonOption(config.textCriteria.compare);
-
-		// Initialize text cache
-		if (config.findMethod == WebElementIndexOfMethod.JavaScript)
-			textCache = new TextCache(true);
-		else
-			textCache = new TextCache(false);
-
-		// Initialize attribute cache
-		if (config.findMethod == WebElementIndexOfMethod.Attribute)
-			attributeCache = new AttributeCache(config.findAttribute);
-		else
-			attributeCache = new AttributeCache("");
+		setCompare_Attribute(config.findAttribute);
+		cache = new ElementPropertyCache();
 	}
 
 	/**
@@ -164,6 +146,9 @@ public class FindWebElement {
 		}
 		else
 		{
+			// Read the values for all the elements in a single call instead of a call for each element
+			prefetch(elements);
+
 			nIndex = -1;
 			for (int i = 0; i < nListCount; i++)
 			{
@@ -194,52 +179,16 @@ public class FindWebElement {
 	 */
 	private boolean compareWebElement(WebElement element, String compare)
 	{
-		String value;
+		String value = getValue(element);
 		if (findMethod == WebElementIndexOfMethod.VisibleText)
-		{
-			textCache.setFlag(false);
-			value = textCache.getText(element);
 			return Compare.equals(value, compare, option);
-		}
-
-		if (findMethod == WebElementIndexOfMethod.VisibleText_RegEx)
-		{
-			textCache.setFlag(false);
-			value = textCache.getText(element);
-			return Compare.matches(value, compare);
-		}
 
-		if (findMethod == WebElementIndexOfMethod.Attribute_RegEx)
-		{
-			attributeCache.setReadAttribute(sAttribute);
-			value = attributeCache.getAttribute(element);
+		if (findMethod == WebElementIndexOfMethod.VisibleText_RegEx
+				|| findMethod == WebElementIndexOfMethod.Attribute_RegEx
+				|| findMethod == WebElementIndexOfMethod.JS_RegEx)
 			return Compare.matches(value, compare);
-		}
-
-		if (findMethod == WebElementIndexOfMethod.Attribute_Contains)
-		{
-			attributeCache.setReadAttribute(sAttribute);
-			value = attributeCache.getAttribute(element);
-			return Compare.contains(value, compare, option);
-		}
 
-		if (findMethod == WebElementIndexOfMethod.JS_RegEx)
-		{
-			textCache.setFlag(true);
-			value = textCache.getText(element);
-			return Compare.matches(value, compare);
-		}
-
-		if (findMethod == WebElementIndexOfMethod.JS_Contains)
-		{
-			textCache.setFlag(true);
-			value = textCache.getText(element);
-			return Compare.contains(value, compare, option);
-		}
-
-		// No matching find method, then just use default of contains visible text
-		textCache.setFlag(false);
-		value = textCache.getText(element);
+		// Attribute & JavaScript contains and no matching find method (default of contains visible text)
 		return Compare.contains(value, compare, option);
 	}
 
@@ -288,6 +237,9 @@ public class FindWebElement {
 				|| criteria.compare == Comparison.Equal || criteria.compare == Comparison.EqualsIgnoreCase
 				|| criteria.compare == Comparison.RegEx || criteria.compare == Comparison.DoesNotContain)
 		{
+			// Read the values for all the elements in a single call instead of a call for each element
+			prefetch(elements);
+
 			nIndex = -1;
 			for (int i = 0; i < nListCount; i++)
 			{
@@ -336,21 +288,7 @@ public class FindWebElement {
 	 */
 	private boolean compareWebElement(WebElement element, FindTextCriteria criteria)
 	{
-		if (findMethod == WebElementIndexOfMethod.Attribute)
-		{
-			attributeCache.setReadAttribute(sAttribute);
-			return Compare.text(attributeCache.getAttribute(element), criteria);
-		}
-		else if (findMethod == WebElementIndexOfMethod.JavaScript)
-		{
-			textCache.setFlag(true);
-			return Compare.text(textCache.getText(element), criteria);
-		}
-		else
-		{
-			textCache.setFlag(false);
-			return Compare.text(textCache.getText(element), criteria);
-		}
+		return Compare.text(getValue(element), criteria);
 	}
 
 	/**
@@ -394,43 +332,53 @@ public class FindWebElement {
 	 * @return String
 	 */
 	public String getValue(WebElement element)
+	{
+		return cache.get(element, getProperty(), sAttribute);
+	}
+
+	/**
+	 * Reads the values (based on currently set findMethod value) for all the elements in a single call &amp;
+	 * stores them in the cache<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If the values cannot be read in a single call, then the values are read from each element as
+	 * needed<BR>
+	 * 
+	 * @param elements - Elements to get (text or attribute) values
+	 */
+	private void prefetch(List<WebElement> elements)
+	{
+		if (elements.size() > 1)
+			cache.prefetch(elements, getProperty(), sAttribute);
+	}
+
+	/**
+	 * Get the property of the element that is used (based on currently set findMethod value)
+	 * 
+	 * @return ElementProperty
+	 */
+	private ElementProperty getProperty()
 	{
 		if (usedSelectionCriteria)
 		{
 			if (findMethod == WebElementIndexOfMethod.Attribute_RegEx
 					|| findMethod == WebElementIndexOfMethod.Attribute_Contains)
-			{
-				attributeCache.setReadAttribute(sAttribute);
-				return attributeCache.getAttribute(element);
-			}
+				return ElementProperty.Attribute;
 
 			if (findMethod == WebElementIndexOfMethod.JS_RegEx
 					|| findMethod == WebElementIndexOfMethod.JS_Contains)
-			{
-				textCache.setFlag(true);
-				return textCache.getText(element);
-			}
+				return ElementProperty.JavaScriptText;
 
-			textCache.setFlag(false);
-			return textCache.getText(element);
+			return ElementProperty.VisibleText;
 		}
 		else
 		{
 			if (findMethod == WebElementIndexOfMethod.Attribute)
-			{
-				attributeCache.setReadAttribute(sAttribute);
-				return attributeCache.getAttribute(element);
-			}
+				return ElementProperty.Attribute;
 			else if (findMethod == WebElementIndexOfMethod.JavaScript)
-			{
-				textCache.setFlag(true);
-				return textCache.getText(element);
-			}
+				return ElementProperty.JavaScriptText;
 			else
-			{
-				textCache.setFlag(false);
-				return textCache.getText(element);
-			}
+				return ElementProperty.VisibleText;
 		}
 	}
 }
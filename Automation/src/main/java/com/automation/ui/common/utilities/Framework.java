@@ -988,27 +988,26 @@ public class Framework {
 	 * @param bEnabled - Wait until element is enabled
 	 * @return - true if element appears before timeout else false
 	 */
-	public static boolean isWaitForElement(WebDriver driver, String sLocator, boolean bEnabled)
+	public static boolean isWaitForElement(final WebDriver driver, final String sLocator,
+			final boolean bEnabled)
 	{
-		ElapsedTime e = new ElapsedTime();
-		while (!e.isTimeout())
-		{
-			// Try to find the element
-			WebElement element = findElement(driver, sLocator, false);
-
-			// Wait until element is enabled?
-			if (bEnabled)
+		BaseWaitCondition condition = new BaseWaitCondition(driver) {
+			@Override
+			protected boolean isSatisfied()
 			{
-				if (isElementEnabled(element))
+				// Try to find the element
+				WebElement element = findElement(driver, sLocator, false);
+
+				// Wait until element is enabled?
+				if (bEnabled)
+					return isElementEnabled(element);
+				else
 					return true;
 			}
-			else
-			{
-				return true;
-			}
+		};
 
-			sleep(getPollInterval());
-		}
+		if (condition.waitUntil(getTimeoutInMilliseconds()))
+			return true;
 
 		Logs.log.warn("The locator ('" + sLocator + "') did not appear before Timeout occurred");
 		return false;
@@ -3187,24 +3186,23 @@ public class Framework {
 	 * @param nMaxWaitTime - Max Time (milliseconds) to wait until element is displayed
 	 * @return true if element is displayed before timeout else false
 	 */
-	public static boolean isWaitForDisplayedElement(WebElement element, String sElementName, boolean bLog,
-			int nMaxWaitTime)
+	public static boolean isWaitForDisplayedElement(final WebElement element, String sElementName,
+			boolean bLog, int nMaxWaitTime)
 	{
-		ElapsedTime e = new ElapsedTime();
-		while (!e.isTimeout(nMaxWaitTime))
-		{
-			try
-			{
-				// Check if displayed
-				if (element.isDisplayed())
-					return true;
-			}
-			catch (Exception ex)
+		// Check immediately to prevent getting the driver (a remote call) when already displayed
+		if (isElementDisplayed(element))
+			return true;
+
+		BaseWaitCondition condition = new BaseWaitCondition(getWebDriver(element)) {
+			@Override
+			protected boolean isSatisfied()
 			{
+				return isElementDisplayed(element);
 			}
+		};
 
-			sleep(getPollInterval());
-		}
+		if (condition.waitUntil(nMaxWaitTime))
+			return true;
 
 		if (bLog)
 			Logs.log.warn("The element ('" + sElementName + "') was not displayed before Timeout occurred");
@@ -3233,21 +3231,23 @@ public class Framework {
 	 * @param nMaxWaitTime - Max Time (milliseconds) to wait until element is displayed
 	 * @return true if element is displayed before timeout else false
 	 */
-	public static boolean isWaitForDisplayedElement(WebDriver driver, String sLocator, boolean bLog,
-			int nMaxWaitTime)
+	public static boolean isWaitForDisplayedElement(final WebDriver driver, final String sLocator,
+			boolean bLog, int nMaxWaitTime)
 	{
-		ElapsedTime e = new ElapsedTime();
-		while (!e.isTimeout(nMaxWaitTime))
-		{
-			// Try to find the element
-			WebElement element = findElement(driver, sLocator, false);
+		BaseWaitCondition condition = new BaseWaitCondition(driver) {
+			@Override
+			protected boolean isSatisfied()
+			{
+				// Try to find the element
+				WebElement element = findElement(driver, sLocator, false);
 
-			// Check if displayed
-			if (isElementDisplayed(element))
-				return true;
+				// Check if displayed
+				return isElementDisplayed(element);
+			}
+		};
 
-			sleep(getPollInterval());
-		}
+		if (condition.waitUntil(nMaxWaitTime))
+			return true;
 
 		if (bLog)
 			Logs.log.warn("The locator ('" + sLocator + "') was not displayed before Timeout occurred");
@@ -4467,28 +4467,28 @@ public class Framework {
 	 * @param nMaxWaitTime - Max Time (milliseconds) to wait until element is removed
 	 * @return true if element is removed before timeout else false
 	 */
-	public static boolean isElementRemoved(WebDriver driver, String sLocator, int nMaxWaitTime)
+	public static boolean isElementRemoved(final WebDriver driver, final String sLocator, int nMaxWaitTime)
 	{
-		ElapsedTime e = new ElapsedTime();
-		while (!e.isTimeout(nMaxWaitTime))
-		{
-			try
+		BaseWaitCondition condition = new BaseWaitCondition(driver) {
+			@Override
+			protected boolean isSatisfied()
 			{
-				// Try to find the element
-				WebElement element = findElement(driver, sLocator, false);
+				try
+				{
+					// Try to find the element
+					WebElement element = findElement(driver, sLocator, false);
 
-				// Check if the element does not exist or not displayed
-				if (!isElementDisplayed(element))
-					return true;
-			}
-			catch (Exception ex)
-			{
+					// Check if the element does not exist or not displayed
+					return !isElementDisplayed(element);
+				}
+				catch (Exception ex)
+				{
+					return false;
+				}
 			}
+		};
 
-			sleep(getPollInterval());
-		}
-
-		return false;
+		return condition.waitUntil(nMaxWaitTime);
 	}
 
 	/**
@@ -5281,6 +5281,7 @@ public class Framework {
 	public static void waitUntilStable(WebDriver driver, String sLocator, int maxDuration, int continuous)
 	{
 		// Max Timeout for the element to be stable as specified by user
+		int attempt = 0;
 		ElapsedTime e = new ElapsedTime();
 		while (!e.isTimeout(maxDuration))
 		{
@@ -5303,12 +5304,20 @@ public class Framework {
 				{
 					bSuccess = false;
 				}
+
+				// The state can only change if the DOM changes as such block until this occurs instead of
+				// continuously checking
+				if (bSuccess)
+					BaseWaitCondition.waitForChange(driver, (int) (continuous - e2.getElapsedTime()), 0);
 			}
 
 			// If the flag is true after the loop, then this indicates that the element was displayed and
 			// enabled for the specified time continuously
 			if (bSuccess)
 				return;
+
+			BaseWaitCondition.waitForChange(driver,
+					(int) Math.min(maxDuration - e.getElapsedTime(), getPollInterval()), attempt++);
 		}
 
 		Logs.logError("Element ('" + sLocator + "') never became stable (displayed and enabled) for "
@@ -5341,6 +5350,11 @@ public class Framework {
 			while (!e2.isTimeout(continuous) && bSuccess)
 			{
 				bSuccess = wasElementRemoved(driver, sLocator);
+
+				// The element can only be added back if the DOM changes as such block until this occurs
+				// instead of continuously checking
+				if (bSuccess)
+					BaseWaitCondition.waitForChange(driver, (int) (continuous - e2.getElapsedTime()), 0);
 			}
 
 			// If the flag is true after the loop, then this indicates that the element was removed for the
@@ -7270,17 +7284,22 @@ public class Framework {
 	 * @param sExpectedAttrValue - Expected attribute value
 	 * @throws GenericUnexpectedException if element does not have the attribute with the matching criteria
 	 */
-	public static void waitForAttribute(WebElement element, String sAttribute, Comparison criteria,
-			String sExpectedAttrValue)
+	public static void waitForAttribute(final WebElement element, final String sAttribute,
+			final Comparison criteria, final String sExpectedAttrValue)
 	{
-		ElapsedTime e = new ElapsedTime();
-		while (!e.isTimeout())
-		{
-			if (isAttribute(element, sAttribute, criteria, sExpectedAttrValue))
-				return;
+		if (isAttribute(element, sAttribute, criteria, sExpectedAttrValue))
+			return;
 
-			sleep(getPollInterval());
-		}
+		BaseWaitCondition condition = new BaseWaitCondition(getWebDriver(element)) {
+			@Override
+			protected boolean isSatisfied()
+			{
+				return isAttribute(element, sAttribute, criteria, sExpectedAttrValue);
+			}
+		};
+
+		if (condition.waitUntil(getTimeoutInMilliseconds()))
+			return;
 
 		Logs.logError("Attribute (" + sAttribute + ") never appeared or satisfied criteria (" + criteria
 				+ ") on the element before timeout occurred");
@@ -7305,27 +7324,26 @@ public class Framework {
 	 * @param sExpectedAttrValue - Expected attribute value
 	 * @throws GenericUnexpectedException if element does not have the attribute with the matching criteria
 	 */
-	public static void waitForAttribute(WebDriver driver, String sLocator, String sAttribute,
-			Comparison criteria, String sExpectedAttrValue)
+	public static void waitForAttribute(final WebDriver driver, final String sLocator, final String sAttribute,
+			final Comparison criteria, final String sExpectedAttrValue)
 	{
-		boolean bNotFound = false;
-		ElapsedTime e = new ElapsedTime();
-		while (!e.isTimeout())
-		{
-			WebElement element = findElement(driver, sLocator, false);
-			if (element == null)
-				bNotFound = true;
-			else
-				bNotFound = false;
-
-			if (isAttribute(element, sAttribute, criteria, sExpectedAttrValue))
-				return;
+		// Flag to indicate if the element was not found on the last iteration
+		final boolean[] bNotFound = new boolean[] { false };
+		BaseWaitCondition condition = new BaseWaitCondition(driver) {
+			@Override
+			protected boolean isSatisfied()
+			{
+				WebElement element = findElement(driver, sLocator, false);
+				bNotFound[0] = element == null;
+				return isAttribute(element, sAttribute, criteria, sExpectedAttrValue);
+			}
+		};
 
-			sleep(getPollInterval());
-		}
+		if (condition.waitUntil(getTimeoutInMilliseconds()))
+			return;
 
 		// Element may have never been located or on the last iteration it could have been removed
-		if (bNotFound)
+		if (bNotFound[0])
 			Logs.log.warn("On the last iteration, the element was not found using locator:  " + sLocator);
 
 		Logs.logError("Attribute ('" + sAttribute + "') never appeared or satisfied criteria (" + criteria
@@ -0,0 +1,59 @@
+package com.automation.ui.common.utilities;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.automation.ui.common.dataStructures.GenericData;
+
+/**
+ * This abstract class maps each row to a GenericData object using the enumeration values as the keys<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Each key is mapped to the column with the label that is equal to key.toString()<BR>
+ * 2) The column index for each key is only looked up for the 1st row<BR>
+ * 3) The values are stored using ResultSet.getObject as such the type depends on the column type<BR>
+ */
+public abstract class GenericDataRowMapper extends BaseRowMapper<GenericData> {
+	/**
+	 * The keys to map each row to
+	 */
+	private Enum<?>[] keys;
+
+	/**
+	 * The column index for each key
+	 */
+	private int[] columns;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param keys - The keys to map each row to (the column label for each key is key.toString())
+	 */
+	public GenericDataRowMapper(Enum<?>... keys)
+	{
+		this.keys = keys;
+	}
+
+	@Override
+	protected GenericData map(ResultSet rs, int nRow) throws SQLException
+	{
+		if (columns == null)
+		{
+			int[] found = new int[keys.length];
+			for (int i = 0; i < keys.length; i++)
+			{
+				found[i] = rs.findColumn(keys[i].toString());
+			}
+
+			columns = found;
+		}
+
+		GenericData data = new GenericData();
+		for (int i = 0; i < keys.length; i++)
+		{
+			data.add(keys[i], rs.getObject(columns[i]));
+		}
+
+		return data;
+	}
+}
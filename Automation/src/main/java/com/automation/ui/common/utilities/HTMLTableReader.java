@@ -2,6 +2,7 @@ package com.automation.ui.common.utilities;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -23,6 +24,15 @@ import com.automation.ui.common.exceptions.HTMLTableReaderRowCountException;
  * 3) <B>getCellData</B> - Override this method to change how the cell data is gathered. It is possible to
  * have the data gathered based on column<BR>
  * 4) <B>getHeaderCellData</B> - Override this method to change <BR>
+ * 5) <B>getBulkCellExtractor</B> - Override this method to change how the cell data is gathered when bulk
+ * extraction is enabled<BR>
+ * 6) <B>getBulkHeaderExtractor</B> - Override this method to change how the header cell data is gathered
+ * when bulk extraction is enabled<BR>
+ * <BR>
+ * <B>Bulk Extraction:</B><BR>
+ * Normally, each row &amp; cell requires a call to the driver. When bulk extraction is enabled (setBulk),
+ * the rows are read in chunks using a single JavaScript call per chunk. If the bulk extraction fails for any
+ * reason (such as a non-xpath locator), then the table is populated normally.<BR>
  */
 public class HTMLTableReader {
 	protected WebDriver driver;
@@ -64,6 +74,21 @@ public class HTMLTableReader {
 	 */
 	protected String sXpath_Column = "/td";
 
+	/**
+	 * The default number of rows to read per JavaScript call when bulk extraction is enabled
+	 */
+	public static final int DEFAULT_BULK_CHUNK_SIZE = 250;
+
+	/**
+	 * Flag to indicate whether the table is populated using bulk extraction
+	 */
+	private boolean bulk = false;
+
+	/**
+	 * Number of rows to read per JavaScript call when bulk extraction is enabled
+	 */
+	private int bulkChunkSize = DEFAULT_BULK_CHUNK_SIZE;
+
 	/**
 	 * Default Constructor for inherited classes. Sets all variables to default values.
 	 */
@@ -308,6 +333,9 @@ public class HTMLTableReader {
 	 */
 	public void populateTable()
 	{
+		if (isBulk() && populateTableBulk())
+			return;
+
 		int nStartAt = 0;
 		if (bHasHeaderRow() && !bHeaderAmongRows)
 			nStartAt = 1;
@@ -378,6 +406,114 @@ public class HTMLTableReader {
 		}
 	}
 
+	/**
+	 * Method for populating table including header row using bulk extraction.<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The rows are read in chunks (of size bulkChunkSize) using a single JavaScript call per chunk<BR>
+	 * 2) The header row is read with the 1st chunk<BR>
+	 * 3) The table data has the same layout as the method <B>populateTable</B><BR>
+	 * 4) If false is returned, then the table data may be partially populated<BR>
+	 * 
+	 * @return true if the table was populated else false (locators not xpath or JavaScript failed)
+	 */
+	@SuppressWarnings("unchecked")
+	protected boolean populateTableBulk()
+	{
+		String sXpath_Rows = getBulkXpath(sLocatorRows);
+		if (sXpath_Rows == null)
+			return false;
+
+		String sXpath_Headers = null;
+		if (bHasHeaderRow())
+		{
+			sXpath_Headers = getBulkXpath(sLocatorHeaders);
+			if (sXpath_Headers == null)
+				return false;
+		}
+
+		int nStartAt = 0;
+		if (bHasHeaderRow() && !bHeaderAmongRows)
+			nStartAt = 1;
+
+		// The header row is always read with the 1st chunk even if there are no other rows
+		boolean bHeaderPending = bHasHeaderRow();
+		for (int i = nStartAt; i < iRowCount || bHeaderPending; i += bulkChunkSize)
+		{
+			int nRow;
+			if (bHasHeaderRow() && !bHeaderAmongRows)
+				nRow = i;
+			else
+				nRow = i + 1;
+
+			int nCount = Math.max(0, Math.min(bulkChunkSize, iRowCount - i));
+			Map<String, Object> chunk = JS_Util.getTableRows(driver, sXpath_Rows, sXpath_Column, nRow, nCount,
+					i, getBulkCellExtractor(), (bHeaderPending) ? sXpath_Headers : null,
+					getBulkHeaderExtractor());
+			if (chunk == null)
+				return false;
+
+			List<List<Object>> rows = (List<List<Object>>) chunk.get("rows");
+			if (rows == null || rows.size() != nCount)
+				return false;
+
+			for (int r = 0; r < nCount; r++)
+			{
+				fillRow(sTableData[i + r], rows.get(r));
+			}
+
+			if (bHeaderPending)
+			{
+				List<Object> header = (List<Object>) chunk.get("headers");
+				if (header == null)
+					return false;
+
+				fillRow(sTableData[0], header);
+				bHeaderPending = false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Fills a row of the table data with the values from bulk extraction. Any missing value is set to the
+	 * empty string.
+	 * 
+	 * @param row - Row of sTableData to be filled
+	 * @param values - Values from bulk extraction
+	 */
+	private void fillRow(String[] row, List<Object> values)
+	{
+		for (int j = 0; j < iColumnCount; j++)
+		{
+			if (values != null && j < values.size() && values.get(j) != null)
+				row[j] = String.valueOf(values.get(j));
+			else
+				row[j] = "";
+		}
+	}
+
+	/**
+	 * Gets the xpath (for bulk extraction) from the locator
+	 * 
+	 * @param sLocator - Locator to get xpath from
+	 * @return null if locator is not an xpath else the xpath
+	 */
+	private static String getBulkXpath(String sLocator)
+	{
+		if (sLocator == null)
+			return null;
+
+		if (sLocator.startsWith("/") || sLocator.startsWith("./"))
+			return sLocator;
+
+		if (sLocator.toLowerCase().startsWith("xpath="))
+			return sLocator.substring(6);
+
+		return null;
+	}
+
 	/**
 	 * Gets the corresponding cell of the table.<BR>
 	 * 
@@ -817,6 +953,85 @@ public class HTMLTableReader {
 		return Framework.getText(cell);
 	}
 
+	/**
+	 * Gets the cell extractor used when bulk extraction is enabled<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The extractor is the body of a JavaScript function with the parameters (cell, row, col) that returns
+	 * the cell data. This is the bulk equivalent of the method <B>getCellData</B><BR>
+	 * 2) row is the index of sTableData and col is zero based<BR>
+	 * 3) null (default) to use the visible text (trimmed)<BR>
+	 * 4) This method should be overridden in an inherited class that overrides the method <B>getCellData</B>
+	 * and enables bulk extraction<BR>
+	 * <BR>
+	 * <B>Example:</B><BR>
+	 * return "return cell.getAttribute('title');";<BR>
+	 * 
+	 * @return null or body of the JavaScript function
+	 */
+	protected String getBulkCellExtractor()
+	{
+		return null;
+	}
+
+	/**
+	 * Gets the header cell extractor used when bulk extraction is enabled<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The extractor is the body of a JavaScript function with the parameters (cell, col) that returns the
+	 * header cell data. This is the bulk equivalent of the method <B>getHeaderCellData</B><BR>
+	 * 2) null (default) to use the visible text (trimmed)<BR>
+	 * 
+	 * @return null or body of the JavaScript function
+	 */
+	protected String getBulkHeaderExtractor()
+	{
+		return null;
+	}
+
+	/**
+	 * @return true if the table is populated using bulk extraction
+	 */
+	public boolean isBulk()
+	{
+		return bulk;
+	}
+
+	/**
+	 * Set flag to populate the table using bulk extraction<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Only xpath locators are supported. If the locators are not xpath, then the table is populated
+	 * normally.<BR>
+	 * 
+	 * @param bulk - true to populate the table using bulk extraction
+	 */
+	public void setBulk(boolean bulk)
+	{
+		this.bulk = bulk;
+	}
+
+	/**
+	 * @return the number of rows read per JavaScript call when bulk extraction is enabled
+	 */
+	public int getBulkChunkSize()
+	{
+		return bulkChunkSize;
+	}
+
+	/**
+	 * Set the number of rows read per JavaScript call when bulk extraction is enabled
+	 * 
+	 * @param bulkChunkSize - Number of rows (less than 1 to use the default)
+	 */
+	public void setBulkChunkSize(int bulkChunkSize)
+	{
+		if (bulkChunkSize < 1)
+			this.bulkChunkSize = DEFAULT_BULK_CHUNK_SIZE;
+		else
+			this.bulkChunkSize = bulkChunkSize;
+	}
+
 	/**
 	 * Determines if initialization will be allowed and not cause an exception<BR>
 	 * <BR>
@@ -0,0 +1,402 @@
+package com.automation.ui.common.utilities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * This class provides a shared JSON mapper &amp; streaming JSON parsing<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Constructing an ObjectMapper is expensive. The shared mapper, readers &amp; writer are thread safe as
+ * long as the configuration of the shared mapper is not changed.<BR>
+ * 2) The streaming methods read only what is necessary without building the entire tree which should be used
+ * for large responses<BR>
+ */
+public class JSON_Util {
+	/**
+	 * Shared mapper (do not change the configuration)
+	 */
+	private static final ObjectMapper _Mapper = new ObjectMapper();
+
+	/**
+	 * Shared writer
+	 */
+	private static final ObjectWriter _Writer = _Mapper.writer();
+
+	/**
+	 * Readers for each target type
+	 */
+	private static final ConcurrentHashMap<Class<?>, ObjectReader> _Readers =
+			new ConcurrentHashMap<Class<?>, ObjectReader>();
+
+	/**
+	 * Gets the shared mapper<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Do not change the configuration of the mapper as it is shared by all threads<BR>
+	 * 
+	 * @return ObjectMapper
+	 */
+	public static ObjectMapper getMapper()
+	{
+		return _Mapper;
+	}
+
+	/**
+	 * Gets the shared writer
+	 * 
+	 * @return ObjectWriter
+	 */
+	public static ObjectWriter getWriter()
+	{
+		return _Writer;
+	}
+
+	/**
+	 * Gets the (cached) reader for the target type
+	 * 
+	 * @param type - Target type
+	 * @return ObjectReader
+	 */
+	public static ObjectReader getReader(Class<?> type)
+	{
+		ObjectReader reader = _Readers.get(type);
+		if (reader != null)
+			return reader;
+
+		reader = _Mapper.reader(type);
+		ObjectReader existing = _Readers.putIfAbsent(type, reader);
+		return (existing == null) ? reader : existing;
+	}
+
+	/**
+	 * Parses the JSON into the target type
+	 * 
+	 * @param sJSON - JSON to be parsed
+	 * @param type - Target type
+	 * @return T
+	 * @throws IOException if parsing causes an exception
+	 */
+	public static <T> T read(String sJSON, Class<T> type) throws IOException
+	{
+		return getReader(type).readValue(sJSON);
+	}
+
+	/**
+	 * Parses the JSON into the target type (without storing the JSON as a string)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The reader is closed<BR>
+	 * 
+	 * @param reader - Reader with the JSON to be parsed
+	 * @param type - Target type
+	 * @return T
+	 * @throws IOException if parsing causes an exception
+	 */
+	public static <T> T read(Reader reader, Class<T> type) throws IOException
+	{
+		try
+		{
+			return getReader(type).readValue(reader);
+		}
+		finally
+		{
+			reader.close();
+		}
+	}
+
+	/**
+	 * Parses the JSON into the target type (without storing the JSON as a string)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The input stream is closed<BR>
+	 * 2) The encoding is detected (UTF-8, UTF-16 or UTF-32)<BR>
+	 * 
+	 * @param inputStream - Input Stream with the JSON to be parsed
+	 * @param type - Target type
+	 * @return T
+	 * @throws IOException if parsing causes an exception
+	 */
+	public static <T> T read(InputStream inputStream, Class<T> type) throws IOException
+	{
+		try
+		{
+			return getReader(type).readValue(inputStream);
+		}
+		finally
+		{
+			inputStream.close();
+		}
+	}
+
+	/**
+	 * Converts an object to a JSON String
+	 * 
+	 * @param data - Data object to be converted to a JSON String
+	 * @return JSON String
+	 * @throws IOException if converting causes an exception
+	 */
+	public static String write(Object data) throws IOException
+	{
+		return _Writer.writeValueAsString(data);
+	}
+
+	/**
+	 * Creates a streaming parser for the reader<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The caller is responsible for closing the parser (which closes the reader)<BR>
+	 * 2) The parser can read values (readValueAs) as it uses the shared mapper<BR>
+	 * 
+	 * @param reader - Reader with the JSON to be parsed
+	 * @return JsonParser
+	 * @throws IOException if the parser could not be created
+	 */
+	public static JsonParser createParser(Reader reader) throws IOException
+	{
+		return _Mapper.getFactory().createParser(reader);
+	}
+
+	/**
+	 * Gets the specified fields from the root object without building the entire tree<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Only the values of the specified fields are built. All other values are skipped.<BR>
+	 * 2) Parsing stops as soon as all the specified fields have been found<BR>
+	 * 3) Fields that are not found are not in the returned map<BR>
+	 * 4) The reader is closed<BR>
+	 * 
+	 * @param reader - Reader with the JSON to be parsed
+	 * @param fields - Fields of the root object to get
+	 * @return Map&lt;String, Object&gt;
+	 * @throws GenericUnexpectedException if parsing causes an exception or the root is not an object
+	 */
+	public static Map<String, Object> getFields(Reader reader, String... fields)
+	{
+		Map<String, Object> found = new HashMap<String, Object>();
+		JsonParser parser = null;
+		try
+		{
+			parser = createParser(reader);
+			if (parser.nextToken() != JsonToken.START_OBJECT)
+				Logs.logError("Root of the JSON was not an object");
+
+			Map<String, Boolean> wanted = new HashMap<String, Boolean>();
+			for (String field : fields)
+			{
+				wanted.put(field, true);
+			}
+
+			while (found.size() < wanted.size() && parser.nextToken() == JsonToken.FIELD_NAME)
+			{
+				String name = parser.getCurrentName();
+				parser.nextToken();
+				if (wanted.containsKey(name))
+					found.put(name, parser.readValueAs(Object.class));
+				else
+					parser.skipChildren();
+			}
+		}
+		catch (IOException ex)
+		{
+			Logs.logError("Parsing JSON caused the following exception [" + ex.getClass().getName() + "]:  "
+					+ ex.getMessage());
+		}
+		finally
+		{
+			close(parser, reader);
+		}
+
+		return found;
+	}
+
+	/**
+	 * Gets the specified fields from the root object without building the entire tree
+	 * 
+	 * @param sJSON - JSON to be parsed
+	 * @param fields - Fields of the root object to get
+	 * @return Map&lt;String, Object&gt;
+	 * @throws GenericUnexpectedException if parsing causes an exception or the root is not an object
+	 */
+	public static Map<String, Object> getFields(String sJSON, String... fields)
+	{
+		return getFields(new StringReader(Conversion.nonNull(sJSON)), fields);
+	}
+
+	/**
+	 * Iterates over the elements of an array reading one element at a time<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If the array field is null or empty, then the root must be the array else the array must be a field
+	 * of the root object<BR>
+	 * 2) The reader is closed when the iteration is complete. If the iteration is not completed, then the
+	 * caller is responsible for closing the reader.<BR>
+	 * 3) If the array is not found, then there are no elements<BR>
+	 * 
+	 * @param reader - Reader with the JSON to be parsed
+	 * @param sArrayField - Field of the root object that contains the array (null or empty if root is the
+	 *            array)
+	 * @param type - Type of each element
+	 * @return Iterator&lt;T&gt;
+	 * @throws GenericUnexpectedException if parsing causes an exception
+	 */
+	public static <T> Iterator<T> iterateArray(Reader reader, String sArrayField, Class<T> type)
+	{
+		JsonParser parser = null;
+		try
+		{
+			parser = createParser(reader);
+			JsonToken token = parser.nextToken();
+			if (sArrayField != null && !sArrayField.equals("") && token == JsonToken.START_OBJECT)
+			{
+				token = null;
+				while (parser.nextToken() == JsonToken.FIELD_NAME)
+				{
+					String name = parser.getCurrentName();
+					token = parser.nextToken();
+					if (name.equals(sArrayField))
+						break;
+
+					parser.skipChildren();
+					token = null;
+				}
+			}
+
+			if (token != JsonToken.START_ARRAY)
+			{
+				close(parser, reader);
+				parser = null;
+			}
+
+			return new ArrayIterator<T>(parser, reader, type);
+		}
+		catch (IOException ex)
+		{
+			close(parser, reader);
+			Logs.logError("Parsing JSON caused the following exception [" + ex.getClass().getName() + "]:  "
+					+ ex.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Closes the parser &amp; reader ignoring any exceptions
+	 * 
+	 * @param parser - Parser to close (can be null)
+	 * @param reader - Reader to close (can be null)
+	 */
+	private static void close(JsonParser parser, Reader reader)
+	{
+		try
+		{
+			if (parser != null)
+				parser.close();
+		}
+		catch (Exception ex)
+		{
+		}
+
+		try
+		{
+			if (reader != null)
+				reader.close();
+		}
+		catch (Exception ex)
+		{
+		}
+	}
+
+	/**
+	 * Iterator that reads one element of an array at a time
+	 */
+	private static class ArrayIterator<T> implements Iterator<T> {
+		private JsonParser parser;
+		private Reader reader;
+		private Class<T> type;
+		private JsonToken next;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param parser - Parser positioned at the start of the array (null if no array)
+		 * @param reader - Reader used by the parser
+		 * @param type - Type of each element
+		 */
+		public ArrayIterator(JsonParser parser, Reader reader, Class<T> type)
+		{
+			this.parser = parser;
+			this.reader = reader;
+			this.type = type;
+			this.next = null;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			if (parser == null)
+				return false;
+
+			if (next != null)
+				return true;
+
+			try
+			{
+				next = parser.nextToken();
+			}
+			catch (IOException ex)
+			{
+				next = null;
+			}
+
+			if (next == null || next == JsonToken.END_ARRAY)
+			{
+				close(parser, reader);
+				parser = null;
+				next = null;
+				return false;
+			}
+
+			return true;
+		}
+
+		@Override
+		public T next()
+		{
+			if (!hasNext())
+				throw new NoSuchElementException();
+
+			try
+			{
+				next = null;
+				return parser.readValueAs(type);
+			}
+			catch (IOException ex)
+			{
+				close(parser, reader);
+				parser = null;
+				Logs.logError("Parsing JSON array element caused the following exception ["
+						+ ex.getClass().getName() + "]:  " + ex.getMessage());
+				return null;
+			}
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException();
+		}
+	}
+}
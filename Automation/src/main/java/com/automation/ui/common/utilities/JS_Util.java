@@ -1,13 +1,17 @@
 package com.automation.ui.common.utilities;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebElement;
@@ -16,6 +20,7 @@ import com.automation.ui.common.dataStructures.CheckBox;
 import com.automation.ui.common.dataStructures.Comparison;
 import com.automation.ui.common.dataStructures.DropDown;
 import com.automation.ui.common.dataStructures.DropDownDefaults;
+import com.automation.ui.common.dataStructures.ElementProperty;
 import com.automation.ui.common.dataStructures.HTML_Event;
 import com.automation.ui.common.dataStructures.LogErrorLevel;
 import com.automation.ui.common.dataStructures.MouseEvent;
@@ -62,6 +67,32 @@ public class JS_Util {
 	private static final String _JS_GetDropDownOptions = Misc.readFile(ConfigJS._GetDropDownOptions);
 	private static final String _JS_SetDropDown = Misc.readFile(ConfigJS._SetDropDownByIndex);
 	private static final String _JS_ClearValue = Misc.readFile(ConfigJS._ClearValue);
+	private static final String _JS_WaitForMutation = Misc.readFile(ConfigJS._WaitForMutation);
+	private static final String _JS_ConditionMatch = Misc.readFile(ConfigJS._ConditionMatch);
+	private static final String _JS_GetTableRows = Misc.readFile(ConfigJS._GetTableRows);
+	private static final String _JS_GetTableWindow = Misc.readFile(ConfigJS._GetTableWindow);
+	private static final String _JS_GetAll = Misc.readFile(ConfigJS._GetAll);
+	private static final String _JS_GetProperties = Misc.readFile(ConfigJS._GetProperties);
+
+	/**
+	 * Methods supported by the JavaScript to get information from all elements that match a locator
+	 */
+	private static final int _AllVisibleText = 0;
+	private static final int _AllVisibleAttribute = 1;
+	private static final int _AllText = 2;
+	private static final int _AllAttribute = 3;
+
+	/**
+	 * Value stored for a driver that does not support asynchronous scripts or MutationObserver
+	 */
+	private static final int ASYNC_UNSUPPORTED = -1;
+
+	/**
+	 * The script timeout (milliseconds) that has been configured for each driver. This prevents setting the
+	 * script timeout (which is a remote call) each time an asynchronous script is executed.
+	 */
+	private static final Map<WebDriver, Integer> asyncScriptTimeouts = Collections
+			.synchronizedMap(new WeakHashMap<WebDriver, Integer>());
 
 	/**
 	 * Selects check box if unselected using JavaScript
@@ -362,6 +393,112 @@ public class JS_Util {
 		return Conversion.nonNull(sResult);
 	}
 
+	/**
+	 * Finds all the elements that match the locator &amp; gets the text of each element in a single
+	 * JavaScript call<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Supports the same locators as Framework.locatedBy<BR>
+	 * 2) As the elements are found &amp; read in the same call, a stale element cannot occur<BR>
+	 * 3) Visible text is the trimmed rendered text (innerText) which is similar to WebElement.getText<BR>
+	 * 
+	 * @param driver
+	 * @param sLocator - Locator to find the elements
+	 * @param bVisible - true to get the visible text, false to get the text content (same as getText)
+	 * @return null if the JavaScript could not be executed else the text of each element (empty list if no
+	 *         elements)
+	 */
+	public static List<String> getAllText(WebDriver driver, String sLocator, boolean bVisible)
+	{
+		return getAll(driver, sLocator, (bVisible) ? _AllVisibleText : _AllText, "");
+	}
+
+	/**
+	 * Finds all the elements that match the locator &amp; gets the attribute of each element in a single
+	 * JavaScript call<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Supports the same locators as Framework.locatedBy<BR>
+	 * 2) As the elements are found &amp; read in the same call, a stale element cannot occur<BR>
+	 * 3) The visible attribute uses the property if it exists else the attribute which is similar to
+	 * WebElement.getAttribute<BR>
+	 * 4) The value is null for an element that does not have the attribute<BR>
+	 * 
+	 * @param driver
+	 * @param sLocator - Locator to find the elements
+	 * @param sAttribute - Attribute for which to get value
+	 * @param bVisible - true to get the visible attribute, false to get the attribute (same as getAttribute)
+	 * @return null if the JavaScript could not be executed else the attribute of each element (empty list if
+	 *         no elements)
+	 */
+	public static List<String> getAllAttributes(WebDriver driver, String sLocator, String sAttribute,
+			boolean bVisible)
+	{
+		return getAll(driver, sLocator, (bVisible) ? _AllVisibleAttribute : _AllAttribute, sAttribute);
+	}
+
+	/**
+	 * Gets a property of each element &amp; the current DOM version in a single JavaScript call<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The map contains the key "version" which is the DOM version (String) and the key "values" which is
+	 * the trimmed value (String) for each element<BR>
+	 * 2) The DOM version changes when any DOM mutation occurs or the page changes. It is empty if it cannot be
+	 * determined (no MutationObserver.)<BR>
+	 * 3) The elements list can be empty to only get the DOM version<BR>
+	 * 4) A missing attribute is returned as an empty string<BR>
+	 * 
+	 * @param driver
+	 * @param elements - Elements to get the property from
+	 * @param property - Property to get
+	 * @param sAttribute - Attribute for which to get value (only used for ElementProperty.Attribute)
+	 * @return null if the JavaScript could not be executed else Map&lt;String, Object&gt;
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<String, Object> getProperties(WebDriver driver, List<WebElement> elements,
+			ElementProperty property, String sAttribute)
+	{
+		int nProperty;
+		if (property == ElementProperty.JavaScriptText)
+			nProperty = 1;
+		else if (property == ElementProperty.Attribute)
+			nProperty = 2;
+		else
+			nProperty = 0;
+
+		String sName = Conversion.nonNull(sAttribute);
+		Object result = execute(_JS_GetProperties, driver, elements, nProperty, sName);
+		if (!(result instanceof Map))
+			return null;
+
+		return (Map<String, Object>) result;
+	}
+
+	/**
+	 * Finds all the elements that match the locator &amp; gets the information of each element in a single
+	 * JavaScript call
+	 * 
+	 * @param driver
+	 * @param sLocator - Locator to find the elements
+	 * @param nMethod - Method supported by the JavaScript to get the information
+	 * @param sAttribute - Attribute for which to get value (only used for the attribute methods)
+	 * @return null if the JavaScript could not be executed else List&lt;String&gt;
+	 */
+	private static List<String> getAll(WebDriver driver, String sLocator, int nMethod, String sAttribute)
+	{
+		Object result = execute(_JS_GetAll, driver, sLocator, nMethod, Conversion.nonNull(sAttribute));
+		if (!(result instanceof List))
+			return null;
+
+		List<String> values = new ArrayList<String>();
+		for (Object value : (List<?>) result)
+		{
+			values.add((value == null) ? null : String.valueOf(value));
+		}
+
+		return values;
+	}
+
 	/**
 	 * Gets the input value on the WebElement (field)<BR>
 	 * <BR>
@@ -1151,4 +1288,206 @@ public class JS_Util {
 		WebDriver driver = Framework.getWebDriver(element);
 		return Conversion.parseBoolean(JS_Util.execute(_JS_ClearValue, driver, element));
 	}
-}
+
+	/**
+	 * Evaluates a bundle of DOM only criteria (compiled by the Condition class) in a single call<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) In all mode, the index of the 1st criteria that does <B>not</B> match is returned<BR>
+	 * 2) The index returned is the index stored in the compiled criteria<BR>
+	 * 
+	 * @param driver
+	 * @param sCompiledJSON - JSON array of the compiled criteria
+	 * @param bAll - true to find the 1st criteria that does not match, false to find the 1st criteria that
+	 *            matches
+	 * @return <li>-2 if the JavaScript could not be executed</li><BR>
+	 *         <li>-1 if no criteria was found</li><BR>
+	 *         <li>Index of the 1st criteria found (>=0)</li><BR>
+	 */
+	public static int matchCriteria(WebDriver driver, String sCompiledJSON, boolean bAll)
+	{
+		Object result = execute(_JS_ConditionMatch, driver, sCompiledJSON, bAll);
+		if (result == null)
+			return -2;
+
+		return Conversion.parseInt(String.valueOf(result), -2);
+	}
+
+	/**
+	 * Gets a chunk of rows (and optionally the header) of a table in a single call<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Only xpath locators are supported<BR>
+	 * 2) Each row is located using the xpath: sXpath_Rows + "[" + nRow + "]" + sXpath_Column<BR>
+	 * 3) The extractors are the body of a JavaScript function that returns the cell value. The cell extractor
+	 * has the parameters (cell, row, col) and the header extractor has the parameters (cell, col). Use null
+	 * or the empty string to get the visible text (trimmed.)<BR>
+	 * 4) The map contains the key "rows" which is a list (for each row) of lists of cell values and the key
+	 * "headers" which is a list of header values (only if header xpath was specified)<BR>
+	 * 5) A cell value is null if the extractor failed or returned nothing<BR>
+	 * 
+	 * @param driver
+	 * @param sXpath_Rows - Xpath to the rows in the table
+	 * @param sXpath_Column - Xpath to the columns relative to sXpath_Rows
+	 * @param nStartRow - Xpath index (1 based) of the 1st row to get
+	 * @param nCount - Max number of rows to get
+	 * @param nStartIndex - Array index of the 1st row which is passed to the cell extractor as the row
+	 * @param sCellExtractor - Body of the JavaScript function to extract the cell value
+	 * @param sXpath_Headers - Xpath to the header cells (null or empty string to not get the header)
+	 * @param sHeaderExtractor - Body of the JavaScript function to extract the header cell value
+	 * @return null if the JavaScript could not be executed else Map with the rows (and headers)
+	 */
+	public static Map<String, Object> getTableRows(WebDriver driver, String sXpath_Rows, String sXpath_Column,
+			int nStartRow, int nCount, int nStartIndex, String sCellExtractor, String sXpath_Headers,
+			String sHeaderExtractor)
+	{
+		Object result = execute(_JS_GetTableRows, driver, sXpath_Rows, Conversion.nonNull(sXpath_Column),
+				nStartRow, nCount, nStartIndex, Conversion.nonNull(sCellExtractor),
+				Conversion.nonNull(sXpath_Headers), Conversion.nonNull(sHeaderExtractor));
+		if (result == null)
+			return null;
+
+		try
+		{
+			return WS_Util.toMap(String.valueOf(result));
+		}
+		catch (Exception ex)
+		{
+			Logs.log.warn("Could not parse the table rows due to exception:  " + ex.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Gets a window of rows of a table (or virtual scrolling grid) with a fingerprint for each row<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Only the first 2 xpaths are relative (to the table and to each row respectively)<BR>
+	 * 2) The map contains the key "rows" which is a list of maps (key, fp, cells), the key "total" which is
+	 * the number of rendered rows and the key "scrolled" which indicates if the scroll element was
+	 * scrolled<BR>
+	 * 3) The cells are null for a row that has the same fingerprint as the known fingerprint<BR>
+	 * 4) For virtual scrolling, all rendered rows are returned and then the scroll element is scrolled by its
+	 * visible height<BR>
+	 * 5) Cell values are trimmed text content (same as method <B>getTable</B>)<BR>
+	 * 
+	 * @param driver
+	 * @param table - Table (or grid container) element
+	 * @param sXpath_Rows - Xpath to the rows relative to the table (empty string to use the table rows)
+	 * @param sXpath_Cells - Xpath to the cells relative to each row (empty string to use the row cells)
+	 * @param nStart - Index of the 1st row of the window (ignored for virtual scrolling)
+	 * @param nCount - Max number of rows in the window (less than 1 for all rendered rows)
+	 * @param scroller - Element to scroll after getting the rows (null if not virtual scrolling)
+	 * @param sKeyAttribute - Attribute that uniquely identifies a row (empty string to use the row index)
+	 * @param sKnownJSON - JSON object of the known fingerprints (key to fingerprint)
+	 * @return null if the JavaScript could not be executed else Map with the rows
+	 */
+	public static Map<String, Object> getTableWindow(WebDriver driver, WebElement table, String sXpath_Rows,
+			String sXpath_Cells, int nStart, int nCount, WebElement scroller, String sKeyAttribute,
+			String sKnownJSON)
+	{
+		Object result = execute(_JS_GetTableWindow, driver, table,
+				Conversion.nonNull(sXpath_Rows), Conversion.nonNull(sXpath_Cells), nStart, nCount, scroller,
+				Conversion.nonNull(sKeyAttribute), Conversion.nonNull(sKnownJSON, "{}"));
+		if (result == null)
+			return null;
+
+		try
+		{
+			return WS_Util.toMap(String.valueOf(result));
+		}
+		catch (Exception ex)
+		{
+			Logs.log.warn("Could not parse the table window due to exception:  " + ex.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Executes an asynchronous piece of JavaScript in the context of the currently selected frame or window.
+	 * Unlike executing synchronous JavaScript, scripts executed with this method must explicitly signal they
+	 * are finished by invoking the provided callback. This callback is always injected into the executed
+	 * function as the last argument.<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The script timeout of the driver is increased (if necessary) to the max wait time plus the poll
+	 * interval such that the script has time to invoke the callback<BR>
+	 * 2) The return value follows the same rules as the execute method<BR>
+	 * 
+	 * @param sJS - JavaScript to execute
+	 * @param driver
+	 * @param nMaxWaitTime - Max Time (milliseconds) that the script is expected to take
+	 * @param args - Arguments that will be made available to the JavaScript
+	 * @return null or One of Boolean, Long, String, List or WebElement
+	 * @throws JavaScriptException if driver is null or does not support asynchronous JavaScript
+	 */
+	public static Object executeAsync(String sJS, WebDriver driver, int nMaxWaitTime, Object... args)
+	{
+		if (driver == null || !(driver instanceof JavascriptExecutor))
+			throw new JavaScriptException("The WebDriver does not support asynchronous JavaScript");
+
+		int nScriptTimeout = nMaxWaitTime + Framework.getPollInterval();
+		Integer configured = asyncScriptTimeouts.get(driver);
+		if (configured == null || configured.intValue() < nScriptTimeout)
+		{
+			driver.manage().timeouts().setScriptTimeout(nScriptTimeout, TimeUnit.MILLISECONDS);
+			asyncScriptTimeouts.put(driver, nScriptTimeout);
+		}
+
+		if (args == null)
+			return ((JavascriptExecutor) driver).executeAsyncScript(sJS);
+		else
+			return ((JavascriptExecutor) driver).executeAsyncScript(sJS, args);
+	}
+
+	/**
+	 * Blocks until any change occurs to the DOM of the current page or the max wait time expires. This uses
+	 * a MutationObserver injected using an asynchronous script such that the wait returns as soon as the DOM
+	 * changes instead of after a fixed poll interval.<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If the driver does not support asynchronous scripts or the browser does not support
+	 * MutationObserver, then false is returned immediately (and for all future calls with the same driver)
+	 * such that the caller can fall back to polling<BR>
+	 * 2) Changes that are not DOM mutations (such as CSS animations) are not detected as such the max wait
+	 * time should be kept to the poll interval<BR>
+	 * 
+	 * @param driver
+	 * @param nMaxWaitTime - Max Time (milliseconds) to wait for a DOM change
+	 * @return true if the wait was performed (regardless of whether a change occurred) else false
+	 */
+	public static boolean waitForMutation(WebDriver driver, int nMaxWaitTime)
+	{
+		if (driver == null || nMaxWaitTime <= 0)
+			return false;
+
+		Integer configured = asyncScriptTimeouts.get(driver);
+		if (configured != null && configured.intValue() == ASYNC_UNSUPPORTED)
+			return false;
+
+		try
+		{
+			Object result = executeAsync(_JS_WaitForMutation, driver, nMaxWaitTime, nMaxWaitTime);
+			if (!Compare.equals(String.valueOf(result), "unsupported", Comparison.Equal))
+				return true;
+
+			Logs.log.warn("MutationObserver is not supported by the browser as such falling back to polling");
+		}
+		catch (JavaScriptException jse)
+		{
+			Logs.log.warn(jse.getMessage() + " as such falling back to polling");
+		}
+		catch (UnsupportedCommandException uce)
+		{
+			Logs.log.warn("Asynchronous JavaScript is not supported as such falling back to polling");
+		}
+		catch (Exception ex)
+		{
+			// Page navigation or script timeout, the caller should fall back to polling for this iteration
+			return false;
+		}
+
+		asyncScriptTimeouts.put(driver, ASYNC_UNSUPPORTED);
+		return false;
+	}
+}
\ No newline at end of file
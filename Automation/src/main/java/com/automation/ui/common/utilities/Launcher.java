@@ -9,16 +9,12 @@ import java.util.Properties;
 import java.util.Set;
 
 import org.apache.commons.exec.CommandLine;
-import org.apache.commons.exec.DefaultExecuteResultHandler;
-import org.apache.commons.exec.DefaultExecutor;
 import org.apache.commons.exec.ExecuteException;
-import org.apache.commons.exec.ExecuteWatchdog;
-import org.apache.commons.exec.Executor;
-import org.apache.commons.exec.ShutdownHookProcessDestroyer;
 
 import com.automation.ui.common.dataStructures.CommandOptions;
 import com.automation.ui.common.dataStructures.Commands;
 import com.automation.ui.common.dataStructures.Parameter;
+import com.automation.ui.common.dataStructures.ProcessResult;
 import com.automation.ui.common.dataStructures.config.ConfigRun;
 import com.automation.ui.common.dataStructures.config.RuntimeProperty;
 
@@ -28,9 +24,16 @@ import com.automation.ui.common.dataStructures.config.RuntimeProperty;
 public class Launcher {
 	private static String sConfig, sTestNG_BaseReportFolder, sID_Prefix, sID_Suffix;
 	private static int nMaxProcesses, nMaxProcessTimeout, nProcessCompletePollInterval, nProcessStartDelay;
+	private static float fProcessesPerCPU;
+	private static String sDurationsFile, sTimingReport;
+	private static List<Parameter> nodeCapacities = new ArrayList<Parameter>();
 
 	/**
-	 * Main program to launch the test cases
+	 * Main program to launch the test cases<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The tests are started longest first (using the durations recorded from previous runs) and a new
+	 * test is started as soon as any test completes. See ProcessScheduler for details.<BR>
 	 * 
 	 * @param args
 	 * @throws IOException
@@ -44,96 +47,33 @@ public class Launcher {
 		// commands = getNotepadCommands();
 		commands = getCommands();
 
-		boolean bSleep = true;
-		int nTotalProcessCount, nRunningProcesses, nCompletedProcesses;
-		List<Executor> executors = new ArrayList<Executor>();
-		List<DefaultExecuteResultHandler> results = new ArrayList<DefaultExecuteResultHandler>();
-		List<String> ids = new ArrayList<String>();
+		int nCapacity = ProcessScheduler.getCapacity(nMaxProcesses, fProcessesPerCPU);
+		ProcessScheduler scheduler = new ProcessScheduler(nCapacity, nMaxProcessTimeout,
+				nProcessCompletePollInterval, nProcessStartDelay);
+		for (Parameter node : nodeCapacities)
+		{
+			scheduler.setNodeCapacity(node.param, Conversion.parseInt(node.value, 1));
+		}
+
+		scheduler.setDurationsFile(sDurationsFile);
+		scheduler.setReportFile(sTimingReport);
+		List<ProcessResult> results = scheduler.run(commands);
+
 		List<String> testsPassed = new ArrayList<String>();
 		List<String> testsFailed = new ArrayList<String>();
 		int nExitCode = 0;
-
-		nTotalProcessCount = 0;
-		nRunningProcesses = 0;
-		nCompletedProcesses = 0;
-
-		// Loop until all commands have been executed
-		while (nCompletedProcesses < commands.size())
+		for (ProcessResult result : results)
 		{
-			// Start the processes until max processes reached or the total number process count greater than
-			// or equal to the commands to be executed
-			while (nRunningProcesses < nMaxProcesses && nTotalProcessCount < commands.size())
+			// Store the exit code if not equal to 0 (indicates error)
+			if (result.isSuccess())
 			{
-				// We will be adding a new item to the list as such it's index will be the current size of
-				// the list.
-				int nIndex = executors.size();
-				executors.add(new DefaultExecutor());
-				results.add(new DefaultExecuteResultHandler());
-				ids.add(commands.get(nTotalProcessCount).id);
-
-				// Launch process
-				executors.get(nIndex).setExitValue(0);
-				executors.get(nIndex).setWatchdog(new ExecuteWatchdog(nMaxProcessTimeout));
-				executors.get(nIndex).setProcessDestroyer(new ShutdownHookProcessDestroyer());
-				executors.get(nIndex).execute(commands.get(nTotalProcessCount).cmdLine, results.get(nIndex));
-
-				System.out.println();
-				System.out.println("ID:  " + commands.get(nTotalProcessCount).id);
-				System.out.println("Executing Command:  "
-						+ commands.get(nTotalProcessCount).cmdLine.toString());
-				System.out.println();
-
-				// This pause seems to be necessary for the watch dog to start or process to start. Without
-				// this delay the check if the "process is running" will fail, even though this is not the
-				// case.
-				//
-				// Note: This was the case when testing with notepad
-				Framework.sleep(nProcessStartDelay);
-
-				// Update running process count and total launched process count
-				nRunningProcesses++;
-				nTotalProcessCount++;
+				testsPassed.add(result.id);
 			}
-
-			// Reset the sleep flag to true
-			bSleep = true;
-
-			// Check if any of the processes has completed. If any processes are complete, then do not sleep
-			// but start another process else sleep to allow time for process to complete
-			//
-			// Note: As the list size may change, we will check the highest index first and make are way to
-			// the lowest index
-			for (int i = nRunningProcesses - 1; i >= 0; i--)
+			else
 			{
-				// If process is completed, then decrease number of processes running, increase processes
-				// completed, set sleep flag to false and remove process from list
-				if (i < executors.size() && !executors.get(i).getWatchdog().isWatching())
-				{
-					nRunningProcesses--;
-					nCompletedProcesses++;
-					bSleep = false;
-
-					// Collect the exit code and store if not equal to 0 (indicates error)
-					int nProcessExitCode = results.get(i).getExitValue();
-					if (nProcessExitCode != 0)
-					{
-						nExitCode = nProcessExitCode;
-						testsFailed.add(ids.get(i));
-					}
-					else
-					{
-						testsPassed.add(ids.get(i));
-					}
-
-					ids.remove(i);
-					results.remove(i);
-					executors.remove(i);
-				}
+				nExitCode = result.exitCode;
+				testsFailed.add(result.id);
 			}
-
-			// Should we sleep or can more processes be started
-			if (bSleep)
-				Framework.sleep(nProcessCompletePollInterval);
 		}
 
 		// Output the results
@@ -195,6 +135,16 @@ public class Launcher {
 					xml.getNodeValue("/ExecuteTests/Processes/ID_Prefix", ""));
 			sID_Suffix = Misc.getProperty(RuntimeProperty.processes_id_suffix,
 					xml.getNodeValue("/ExecuteTests/Processes/ID_Suffix", ""));
+			fProcessesPerCPU = Conversion.parseFloat(
+					Misc.getProperty(RuntimeProperty.processes_per_cpu,
+							xml.getNodeValue("/ExecuteTests/Processes/ProcessesPerCPU", "0")), 0);
+			sDurationsFile = Misc.getProperty(RuntimeProperty.processes_durations,
+					xml.getNodeValue("/ExecuteTests/Processes/DurationsFile", sTestNG_BaseReportFolder
+							+ "durations.properties"));
+			sTimingReport = Misc.getProperty(RuntimeProperty.processes_timing_report,
+					xml.getNodeValue("/ExecuteTests/Processes/TimingReport", sTestNG_BaseReportFolder
+							+ "timing.csv"));
+			nodeCapacities = getNodeCapacities(xml, "/ExecuteTests/Processes/Nodes/");
 		}
 		catch (Exception ex)
 		{
@@ -249,6 +199,35 @@ public class Launcher {
 		return new Parameter(sName, sValue);
 	}
 
+	/**
+	 * Gets the capacity (max number of tests that can run at the same time) for each node from XML file
+	 * 
+	 * @param xml - XML file to work with
+	 * @param sXpath_Base - Node for which to get the information from the attributes
+	 * @return List&lt;Parameter&gt; where param is the node name and value is the capacity
+	 */
+	private static List<Parameter> getNodeCapacities(VTD_XML xml, String sXpath_Base)
+	{
+		List<Parameter> capacities = new ArrayList<Parameter>();
+
+		String sXpath = sXpath_Base + "Node";
+		int nNodes = xml.getNodesCount(sXpath);
+		for (int i = 0; i < nNodes; i++)
+		{
+			Parameter p1 = new Parameter("Name", "");
+			Parameter p2 = new Parameter("Capacity", "");
+
+			List<Parameter> attributes = new ArrayList<Parameter>();
+			attributes.add(p1);
+			attributes.add(p2);
+
+			List<Parameter> rv = xml.getAttribute(sXpath + "[" + (i + 1) + "]", attributes);
+			capacities.add(new Parameter(rv.get(rv.indexOf(p1)).value, rv.get(rv.indexOf(p2)).value));
+		}
+
+		return capacities;
+	}
+
 	/**
 	 * Gets the system properties from XML file
 	 * 
@@ -310,8 +289,10 @@ public class Launcher {
 		String _TestNG_XML = xml.getNodeValue(sXpath_Base + "TestNG_XML", "");
 		List<Parameter> _TestNG_Options = getTestNG_Options(xml, sXpath_Base + "TestNG_Options/");
 
-		return new CommandOptions(sID, cmdSystemProperties, commonSystemProperties, uniqueSystemProperties,
-				_TestNG_ReportFolder, _TestNG_XML, _TestNG_Options);
+		CommandOptions options = new CommandOptions(sID, cmdSystemProperties, commonSystemProperties,
+				uniqueSystemProperties, _TestNG_ReportFolder, _TestNG_XML, _TestNG_Options);
+		options.sNode = xml.getNodeValue(sXpath_Base + "Node", "");
+		return options;
 	}
 
 	/**
@@ -459,7 +440,7 @@ public class Launcher {
 
 			// Needs to be done last
 			cmdLine.setSubstitutionMap(map);
-			commands.add(new Commands(sID_Prefix + test.sID + sID_Suffix, cmdLine));
+			commands.add(new Commands(sID_Prefix + test.sID + sID_Suffix, cmdLine, test.sNode));
 		}
 
 		return commands;
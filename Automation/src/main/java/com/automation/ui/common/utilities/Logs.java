@@ -4,10 +4,13 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Properties;
 
+import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
+import org.apache.log4j.MDC;
 import org.apache.log4j.PropertyConfigurator;
 import org.openqa.selenium.WebElement;
 
@@ -15,6 +18,7 @@ import com.automation.ui.common.dataStructures.FindTextCriteria;
 import com.automation.ui.common.dataStructures.LogErrorLevel;
 import com.automation.ui.common.dataStructures.Parameter;
 import com.automation.ui.common.dataStructures.SelectionCriteria;
+import com.automation.ui.common.dataStructures.config.ConfigRun;
 import com.automation.ui.common.dataStructures.config.RuntimeProperty;
 import com.automation.ui.common.exceptions.GenericUnexpectedException;
 
@@ -70,6 +74,23 @@ public class Logs {
 	 */
 	public static String HTML = "HTML";
 
+	/**
+	 * Key of the test ID in the log4j MDC. Use this in the pattern of a layout to output the test ID.<BR>
+	 * <BR>
+	 * ie: log4j.appender.R.layout.ConversionPattern=[%X{TestID}] - %m%n
+	 */
+	public static final String TEST_ID = "TestID";
+
+	/**
+	 * The test ID of each thread that is used to route the log messages (see AsyncTestAppender)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The test ID is not inherited as long-lived pool threads would keep the test ID of the thread that
+	 * created them. Work handed to another thread needs to pass the test ID explicitly (see
+	 * Logs.withTestID).<BR>
+	 */
+	private static final ThreadLocal<String> testID = new ThreadLocal<String>();
+
 	/**
 	 * The folder that contains the FILE log. (By default if no path is specified, it will be put in the
 	 * user's working directory.) Use this variable if you are placing additional files with the FILE log.<BR>
@@ -196,6 +217,126 @@ public class Logs {
 		PropertyConfigurator.configure(getPropertiesForConsoleLogger());
 	}
 
+	/**
+	 * Initializes the loggers for use such that the messages are written by a background thread to a
+	 * separate file for each test (in the FILE log folder) &amp; to the console<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) See AsyncTestAppender for details<BR>
+	 * 2) Use setTestID (or Controller.writeTestIDtoLog) at the start of each test to route the messages of
+	 * the thread to the file for the test<BR>
+	 */
+	public static void initializeAsyncLoggers()
+	{
+		log = Logger.getLogger(Logs.FILE);
+		logHTML = Logger.getLogger(Logs.HTML);
+
+		// Makes the logger ready for use. (If logger used before this, then an error occurs.)
+		PropertyConfigurator.configure(getPropertiesForAsyncLogger());
+	}
+
+	/**
+	 * Sets the test ID for the current thread which is used to route the log messages to a file for the
+	 * test<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The test ID is also put in the log4j MDC using the key Logs.TEST_ID<BR>
+	 * 2) null or the empty string clears the test ID (Controller.quitBrowser clears it at the end of each
+	 * test)<BR>
+	 * 3) The test ID is not inherited by threads created by the test<BR>
+	 * 
+	 * @param sUniqueID - Unique ID of the test (normally BasicTestContext.getUniqueID())
+	 */
+	public static void setTestID(String sUniqueID)
+	{
+		if (sUniqueID == null || sUniqueID.equals(""))
+		{
+			testID.remove();
+			MDC.remove(TEST_ID);
+		}
+		else
+		{
+			testID.set(sUniqueID);
+			MDC.put(TEST_ID, sUniqueID);
+		}
+	}
+
+	/**
+	 * Gets the test ID for the current thread
+	 * 
+	 * @return null if no test ID is set
+	 */
+	public static String getTestID()
+	{
+		return testID.get();
+	}
+
+	/**
+	 * Wraps a task such that it runs with the test ID of the current thread (on the thread that runs it)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Use this to hand work from a test to another thread such that its messages go to the file for
+	 * the test<BR>
+	 * 2) The test ID of the thread that runs the task is restored after the task<BR>
+	 * 
+	 * @param task - Task to be run on another thread
+	 * @return Runnable
+	 */
+	public static Runnable withTestID(final Runnable task)
+	{
+		final String sTestID = getTestID();
+		return new Runnable() {
+			@Override
+			public void run()
+			{
+				String sPrevious = getTestID();
+				setTestID(sTestID);
+				try
+				{
+					task.run();
+				}
+				finally
+				{
+					setTestID(sPrevious);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Waits for the messages logged so far to be written by any AsyncTestAppender<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Use this before reading or sending the log files (see Controller.sendEmail)<BR>
+	 * 
+	 * @param nTimeout - Max time (milliseconds) to wait for each appender
+	 * @return true if all the messages were written before the timeout else false
+	 */
+	public static boolean flush(long nTimeout)
+	{
+		List<Logger> loggers = new ArrayList<Logger>();
+		loggers.add(Logger.getRootLogger());
+		Enumeration<?> current = LogManager.getCurrentLoggers();
+		while (current.hasMoreElements())
+		{
+			loggers.add((Logger) current.nextElement());
+		}
+
+		boolean bFlushed = true;
+		for (Logger logger : loggers)
+		{
+			Enumeration<?> appenders = logger.getAllAppenders();
+			while (appenders.hasMoreElements())
+			{
+				Object appender = appenders.nextElement();
+				if (appender instanceof AsyncTestAppender)
+					bFlushed = ((AsyncTestAppender) appender).flush(nTimeout) && bFlushed;
+			}
+		}
+
+		return bFlushed;
+	}
+
 	/**
 	 * Initializes the loggers for use<BR>
 	 * <BR>
@@ -473,7 +614,34 @@ public class Logs {
 		// Configure root logger
 		prop.setProperty("log4j.appender.stdout", "org.apache.log4j.ConsoleAppender");
 		prop.setProperty("log4j.appender.stdout.layout", "org.apache.log4j.PatternLayout");
+		// Note: The calling class (%C) is not used as log4j creates a stack trace to get it
 		prop.setProperty("log4j.appender.stdout.layout.ConversionPattern",
+				"[%t][%d{MM-dd-yyyy HH:mm:ss}][%-5p] - %m%n");
+
+		return prop;
+	}
+
+	/**
+	 * Get Properties object configured for the asynchronous logger that writes a file for each test
+	 * 
+	 * @return Properties
+	 */
+	private static Properties getPropertiesForAsyncLogger()
+	{
+		Properties prop = new Properties();
+
+		// Define the different loggers
+		prop.setProperty("log4j.rootLogger", "INFO, T");
+		prop.setProperty("log4j.category.FILE", "INFO");
+		prop.setProperty("log4j.category.HTML", "INFO");
+
+		// Configure root logger
+		prop.setProperty("log4j.appender.T", AsyncTestAppender.class.getName());
+		prop.setProperty("log4j.appender.T.Folder", Conversion.nonNull(getFolderFile()));
+		prop.setProperty("log4j.appender.T.CombinedFile", ConfigRun.LOG_FILE);
+		prop.setProperty("log4j.appender.T.Console", "true");
+		prop.setProperty("log4j.appender.T.layout", "org.apache.log4j.PatternLayout");
+		prop.setProperty("log4j.appender.T.layout.ConversionPattern",
 				"[%t][%d{MM-dd-yyyy HH:mm:ss}][%-5p][%-15C{1}] - %m%n");
 
 		return prop;
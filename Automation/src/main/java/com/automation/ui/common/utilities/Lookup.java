@@ -66,17 +66,17 @@ public class Lookup {
 		// Initialize variable
 		decoded = new ArrayList<Parameter>();
 
-		// Decode each key value pair
-		for (Parameter pair : encoded)
+		// Decode all the key value pairs (in parallel)
+		List<Parameter> attempt = CryptoDESede.decode(encoded);
+		for (int i = 0; i < attempt.size(); i++)
 		{
-			// Attempt to decode value
-			String sDecode = CryptoDESede.decode(pair.value);
+			Parameter pair = attempt.get(i);
 
 			// If decoded value is invalid, then use non-decoded value
-			if (sDecode.equals(""))
-				sDecode = pair.value;
+			if (pair.value.equals(""))
+				pair.value = encoded.get(i).value;
 
-			decoded.add(new Parameter(pair.param, sDecode));
+			decoded.add(pair);
 		}
 
 		// Set flag to indicate decoded variable is set
@@ -0,0 +1,143 @@
+package com.automation.ui.common.utilities;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class finds which of many regular expressions matches a string in a single pass<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) All the regular expressions are combined into a single alternation with a named group for each
+ * regular expression such that the matching regular expression can be determined<BR>
+ * 2) The 1st regular expression (in the order given) that matches the entire string is returned<BR>
+ * 3) If the regular expressions cannot be combined (back references or invalid regular expression), then
+ * each regular expression is tried in turn (using the cached patterns)<BR>
+ * 4) Invalid regular expressions never match<BR>
+ */
+public class MultiPatternMatcher {
+	/**
+	 * Prefix of the named group for each regular expression
+	 */
+	private static final String _GroupPrefix = "mpm";
+
+	/**
+	 * Back references are numbered which would be wrong once combined
+	 */
+	private static final Pattern _BackReference = Pattern.compile("\\\\([1-9]|k<)");
+
+	/**
+	 * The regular expressions in the order to be matched
+	 */
+	private List<String> regexes;
+
+	/**
+	 * The combined regular expression (null if the regular expressions could not be combined)
+	 */
+	private Pattern combined;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param regexes - Regular expressions in the order to be matched
+	 */
+	public MultiPatternMatcher(Collection<String> regexes)
+	{
+		this.regexes = new ArrayList<String>();
+		for (String regex : regexes)
+		{
+			this.regexes.add(Conversion.nonNull(regex));
+		}
+
+		this.combined = combine(this.regexes);
+	}
+
+	/**
+	 * Combines the regular expressions into a single alternation
+	 * 
+	 * @param regexes - Regular expressions to be combined
+	 * @return null if the regular expressions cannot be combined
+	 */
+	private static Pattern combine(List<String> regexes)
+	{
+		if (regexes.isEmpty())
+			return null;
+
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < regexes.size(); i++)
+		{
+			String regex = regexes.get(i);
+			if (_BackReference.matcher(regex).find())
+				return null;
+
+			if (i > 0)
+				sb.append("|");
+
+			sb.append("(?<").append(_GroupPrefix).append(i).append(">").append(regex).append(")");
+		}
+
+		try
+		{
+			return Pattern.compile(sb.toString());
+		}
+		catch (Exception ex)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * @return true if the regular expressions were combined into a single alternation
+	 */
+	public boolean isCombined()
+	{
+		return combined != null;
+	}
+
+	/**
+	 * Gets the index of the 1st regular expression that matches the entire string
+	 * 
+	 * @param str - String to match against (null is converted to empty string)
+	 * @return -1 if no match else index of the matching regular expression
+	 */
+	public int indexOf(String str)
+	{
+		String value = Conversion.nonNull(str);
+		if (combined != null)
+		{
+			Matcher matcher = combined.matcher(value);
+			if (!matcher.matches())
+				return -1;
+
+			for (int i = 0; i < regexes.size(); i++)
+			{
+				if (matcher.group(_GroupPrefix + i) != null)
+					return i;
+			}
+
+			return -1;
+		}
+
+		for (int i = 0; i < regexes.size(); i++)
+		{
+			if (Compare.matches(value, regexes.get(i)))
+				return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Gets the 1st regular expression that matches the entire string
+	 * 
+	 * @param str - String to match against (null is converted to empty string)
+	 * @return null if no match else the matching regular expression
+	 */
+	public String match(String str)
+	{
+		int nIndex = indexOf(str);
+		return (nIndex < 0) ? null : regexes.get(nIndex);
+	}
+}
@@ -1,12 +1,8 @@
 package com.automation.ui.common.utilities;
 
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.PrintWriter;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
@@ -107,6 +103,11 @@ public class MultiUpload {
 	 */
 	private List<Parameter> _CustomHeaders;
 
+	/**
+	 * Flag to indicate if chunked streaming mode is used instead of fixed length streaming mode
+	 */
+	private boolean _ChunkedStreaming;
+
 	/**
 	 * Constructor - Initializes all variables to default values
 	 */
@@ -229,6 +230,30 @@ public class MultiUpload {
 		return _ReadTimeout;
 	}
 
+	/**
+	 * Sets whether to use chunked streaming mode instead of fixed length streaming mode<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) By default, fixed length streaming mode is used (Content-Length is sent) as some servers do not
+	 * support chunked requests<BR>
+	 * 
+	 * @param _ChunkedStreaming - true to use chunked streaming mode
+	 */
+	public void setChunkedStreaming(boolean _ChunkedStreaming)
+	{
+		this._ChunkedStreaming = _ChunkedStreaming;
+	}
+
+	/**
+	 * Gets the flag that indicates if chunked streaming mode is used
+	 * 
+	 * @return _ChunkedStreaming
+	 */
+	public boolean getChunkedStreaming()
+	{
+		return _ChunkedStreaming;
+	}
+
 	/**
 	 * Set the Web Service URL to be used<BR>
 	 * <BR>
@@ -559,84 +584,27 @@ public class MultiUpload {
 				httpConn.setRequestProperty("Cookie", _Cookies);
 			}
 
-			//
-			// Add the body content
-			//
-			int nContentLength = 0;
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-			// Attach each file
-			for (MultipartData data : _Attachments)
-			{
-				//
-				// Construct the data before the attachment is written
-				//
-				StringBuffer sb = new StringBuffer();
-
-				if (_Attachments.size() > 1)
-					sb.append(_NewLine);
-
-				sb.append(_2Dashes + _Boundary + _NewLine);
-
-				for (String before : data.beforeAttachment)
-				{
-					sb.append(before + _NewLine);
-				}
-
-				if (_Attachments.size() > 1)
-					sb.append(_NewLine);
-
-				//
-				// Read the file
-				//
-				File f = new File(data.file);
-				FileInputStream fis = new FileInputStream(f);
-				byte[] binaryFile = new byte[(int) f.length()];
-				fis.read(binaryFile);
-				fis.close();
-
-				//
-				// Write the information to the stream
-				//
-				baos.write(sb.toString().getBytes());
-				baos.write(binaryFile);
-
-				//
-				// Keep track of content length which is written at the very end
-				//
-				nContentLength += sb.length() + binaryFile.length;
-			}
-
-			// This needs to be on a separate line after the files
-			String sComplete = _NewLine + _2Dashes + _Boundary + _2Dashes + _NewLine;
-
-			// Write to the stream
-			baos.write(sComplete.getBytes());
-
-			// Update content length
-			nContentLength += sComplete.length();
-
-			// Now the Content-Length can be set correctly
-			httpConn.setRequestProperty("Content-Length", String.valueOf(nContentLength));
-
-			// Write the content of the request to the stream of the HTTP Connection.
-			OutputStream out = httpConn.getOutputStream();
+			// Stream the body content (Content-Length is set by the streaming mode)
+			MultipartWriter body = getBody();
 
 			//
 			// If debug flag set, then output the request body to a file
 			//
 			if (_DEBUG)
 			{
-				PrintWriter pw = new PrintWriter("~" + Long.toString(System.currentTimeMillis()) + ".txt");
-				pw.println(baos.toString());
-				pw.flush();
-				pw.close();
+				FileOutputStream fos = new FileOutputStream("~" + Long.toString(System.currentTimeMillis())
+						+ ".txt");
+				try
+				{
+					body.writeTo(fos);
+				}
+				finally
+				{
+					fos.close();
+				}
 			}
 
-			// Ready with sending the request.1
-			baos.writeTo(out);
-			baos.close();
-			out.close();
+			body.writeTo(httpConn);
 
 			try
 			{
@@ -713,11 +681,7 @@ public class MultiUpload {
 			connection.setReadTimeout(_ReadTimeout);
 			HttpsURLConnection httpsConn = (HttpsURLConnection) connection;
 
-			/*
-			 * Set the appropriate HTTP parameters.
-			 * 
-			 * Note: Content-Length needs to be set later when the length is known
-			 */
+			// Set the appropriate HTTP parameters.
 			WS_Util.setRequestProperty(httpsConn, getCustomHeaders());
 			httpsConn.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + _Boundary);
 			httpsConn.setRequestProperty("Connection", "keep-alive");
@@ -734,84 +698,27 @@ public class MultiUpload {
 				httpsConn.setRequestProperty("Cookie", _Cookies);
 			}
 
-			//
-			// Add the body content
-			//
-			int nContentLength = 0;
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-			// Attach each file
-			for (MultipartData data : _Attachments)
-			{
-				//
-				// Construct the data before the attachment is written
-				//
-				StringBuffer sb = new StringBuffer();
-
-				if (_Attachments.size() > 1)
-					sb.append(_NewLine);
-
-				sb.append(_2Dashes + _Boundary + _NewLine);
-
-				for (String before : data.beforeAttachment)
-				{
-					sb.append(before + _NewLine);
-				}
-
-				if (_Attachments.size() > 1)
-					sb.append(_NewLine);
-
-				//
-				// Read the file
-				//
-				File f = new File(data.file);
-				FileInputStream fis = new FileInputStream(f);
-				byte[] binaryFile = new byte[(int) f.length()];
-				fis.read(binaryFile);
-				fis.close();
-
-				//
-				// Write the information to the stream
-				//
-				baos.write(sb.toString().getBytes());
-				baos.write(binaryFile);
-
-				//
-				// Keep track of content length which is written at the very end
-				//
-				nContentLength += sb.length() + binaryFile.length;
-			}
-
-			// This needs to be on a separate line after the files
-			String sComplete = _NewLine + _2Dashes + _Boundary + _2Dashes + _NewLine;
-
-			// Write to the stream
-			baos.write(sComplete.getBytes());
-
-			// Update content length
-			nContentLength += sComplete.length();
-
-			// Now the Content-Length can be set correctly
-			httpsConn.setRequestProperty("Content-Length", String.valueOf(nContentLength));
-
-			// Write the content of the request to the stream of the HTTP Connection.
-			OutputStream out = httpsConn.getOutputStream();
+			// Stream the body content (Content-Length is set by the streaming mode)
+			MultipartWriter body = getBody();
 
 			//
 			// If debug flag set, then output the request body to a file
 			//
 			if (_DEBUG)
 			{
-				PrintWriter pw = new PrintWriter("~" + Long.toString(System.currentTimeMillis()) + ".txt");
-				pw.println(baos.toString());
-				pw.flush();
-				pw.close();
+				FileOutputStream fos = new FileOutputStream("~" + Long.toString(System.currentTimeMillis())
+						+ ".txt");
+				try
+				{
+					body.writeTo(fos);
+				}
+				finally
+				{
+					fos.close();
+				}
 			}
 
-			// Ready with sending the request.
-			baos.writeTo(out);
-			baos.close();
-			out.close();
+			body.writeTo(httpsConn);
 
 			try
 			{
@@ -835,6 +742,46 @@ public class MultiUpload {
 		}
 	}
 
+	/**
+	 * Gets the body content of the request which streams each file when written
+	 * 
+	 * @return MultipartWriter
+	 */
+	private MultipartWriter getBody()
+	{
+		MultipartWriter body = new MultipartWriter();
+		body.setChunked(_ChunkedStreaming);
+
+		// Attach each file
+		for (MultipartData data : _Attachments)
+		{
+			//
+			// Construct the data before the attachment is written
+			//
+			StringBuilder sb = new StringBuilder();
+
+			if (_Attachments.size() > 1)
+				sb.append(_NewLine);
+
+			sb.append(_2Dashes + _Boundary + _NewLine);
+
+			for (String before : data.beforeAttachment)
+			{
+				sb.append(before + _NewLine);
+			}
+
+			if (_Attachments.size() > 1)
+				sb.append(_NewLine);
+
+			body.addText(sb.toString());
+			body.addFile(data.file);
+		}
+
+		// This needs to be on a separate line after the files
+		body.addText(_NewLine + _2Dashes + _Boundary + _2Dashes + _NewLine);
+		return body;
+	}
+
 	/**
 	 * Gets the variable _2Dashes used in constructing the request
 	 * 
@@ -0,0 +1,201 @@
+package com.automation.ui.common.utilities;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class writes a multipart/form-data request body by streaming the files directly to the connection
+ * such that the memory used does not depend on the size or number of the files<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) The text (boundaries, headers, etc.) &amp; the files are written in the order they were added. The
+ * caller is responsible for the multipart layout.<BR>
+ * 2) The text is encoded using UTF-8 &amp; the content length is calculated from the encoded bytes<BR>
+ * 3) By default, the connection uses fixed length streaming mode (Content-Length is the total of the text
+ * &amp; the file sizes when the request is written). Use setChunked to use chunked streaming mode
+ * instead.<BR>
+ * 4) The files are copied using FileChannel.transferTo which only uses a small buffer to copy to the
+ * connection stream. (HttpURLConnection does not expose the socket channel.)<BR>
+ * 5) If a file changes size after the request is started, then an IOException is thrown<BR>
+ */
+public class MultipartWriter {
+	/**
+	 * Encoding used for the text
+	 */
+	private static final Charset _Encoding = Charset.forName("UTF-8");
+
+	/**
+	 * Chunk size used for chunked streaming mode
+	 */
+	private static final int _ChunkSize = 64 * 1024;
+
+	/**
+	 * Max number of bytes to copy from the file in each transfer
+	 */
+	private static final long _MaxTransfer = 1024 * 1024;
+
+	/**
+	 * The text (byte[]) &amp; files (File) in the order to be written
+	 */
+	private List<Object> parts;
+
+	/**
+	 * Flag to indicate if chunked streaming mode is used instead of fixed length streaming mode
+	 */
+	private boolean bChunked;
+
+	/**
+	 * Constructor
+	 */
+	public MultipartWriter()
+	{
+		parts = new ArrayList<Object>();
+		bChunked = false;
+	}
+
+	/**
+	 * Sets whether to use chunked streaming mode instead of fixed length streaming mode
+	 * 
+	 * @param bChunked - true to use chunked streaming mode
+	 */
+	public void setChunked(boolean bChunked)
+	{
+		this.bChunked = bChunked;
+	}
+
+	/**
+	 * Adds text to be written
+	 * 
+	 * @param sText - Text to be written (null is converted to the empty string)
+	 */
+	public void addText(String sText)
+	{
+		parts.add(Conversion.nonNull(sText).getBytes(_Encoding));
+	}
+
+	/**
+	 * Adds a file to be written (the file is not read until the request is written)
+	 * 
+	 * @param sFile - Location of file to be written
+	 */
+	public void addFile(String sFile)
+	{
+		parts.add(new File(sFile));
+	}
+
+	/**
+	 * Gets the number of bytes that will be written based on the current size of the files
+	 * 
+	 * @return long
+	 */
+	public long getContentLength()
+	{
+		long nContentLength = 0;
+		for (Object part : parts)
+		{
+			if (part instanceof File)
+				nContentLength += ((File) part).length();
+			else
+				nContentLength += ((byte[]) part).length;
+		}
+
+		return nContentLength;
+	}
+
+	/**
+	 * Sets the streaming mode of the connection, writes the request body &amp; closes the output stream<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) This must be called after all the request properties are set &amp; before the response is read<BR>
+	 * 2) Any Content-Length request property is ignored as it is set by the streaming mode<BR>
+	 * 
+	 * @param connection - Connection to write the request body to
+	 * @throws IOException if a file cannot be read or writing to the connection fails
+	 */
+	public void writeTo(HttpURLConnection connection) throws IOException
+	{
+		for (Object part : parts)
+		{
+			if (part instanceof File && !((File) part).isFile())
+				throw new IOException("File (" + ((File) part).getPath() + ") does not exist");
+		}
+
+		if (bChunked)
+			connection.setChunkedStreamingMode(_ChunkSize);
+		else
+			connection.setFixedLengthStreamingMode(getContentLength());
+
+		OutputStream out = connection.getOutputStream();
+		try
+		{
+			writeTo(out);
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+
+	/**
+	 * Writes the request body to the stream (the stream is not closed)
+	 * 
+	 * @param out - Stream to write the request body to
+	 * @throws IOException if a file cannot be read or writing to the stream fails
+	 */
+	public void writeTo(OutputStream out) throws IOException
+	{
+		WritableByteChannel target = Channels.newChannel(out);
+		for (Object part : parts)
+		{
+			if (part instanceof File)
+				copy((File) part, target);
+			else
+				out.write((byte[]) part);
+		}
+
+		out.flush();
+	}
+
+	/**
+	 * Copies the file to the channel
+	 * 
+	 * @param file - File to copy
+	 * @param target - Channel to copy the file to
+	 * @throws IOException if the file cannot be read, changes size or writing to the channel fails
+	 */
+	private void copy(File file, WritableByteChannel target) throws IOException
+	{
+		long nExpected = file.length();
+		FileInputStream fis = new FileInputStream(file);
+		try
+		{
+			FileChannel source = fis.getChannel();
+			if (source.size() != nExpected)
+				throw new IOException("File (" + file.getPath() + ") changed size during the upload");
+
+			long nPosition = 0;
+			while (nPosition < nExpected)
+			{
+				long nCopied = source.transferTo(nPosition, Math.min(_MaxTransfer, nExpected - nPosition),
+						target);
+				if (nCopied <= 0 && source.size() < nExpected)
+					throw new IOException("File (" + file.getPath() + ") changed size during the upload");
+
+				nPosition += nCopied;
+			}
+		}
+		finally
+		{
+			fis.close();
+		}
+	}
+}
@@ -0,0 +1,532 @@
+package com.automation.ui.common.utilities;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.exec.DefaultExecuteResultHandler;
+import org.apache.commons.exec.DefaultExecutor;
+import org.apache.commons.exec.ExecuteException;
+import org.apache.commons.exec.ExecuteResultHandler;
+import org.apache.commons.exec.ExecuteWatchdog;
+import org.apache.commons.exec.Executor;
+import org.apache.commons.exec.ShutdownHookProcessDestroyer;
+import org.apache.commons.io.IOUtils;
+
+import com.automation.ui.common.dataStructures.Commands;
+import com.automation.ui.common.dataStructures.ProcessResult;
+
+/**
+ * This class schedules commands to run in different processes<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Commands are started longest first based on the durations recorded from previous runs. Commands
+ * without a recorded duration are started first (in the order given) as they may be long.<BR>
+ * 2) A slot is refilled as soon as a process exits (notified by the result handler) instead of waiting
+ * for the next poll<BR>
+ * 3) The total capacity limits the number of processes running at the same time. Each node (such as browser
+ * or grid node) can have its own capacity. If the longest command cannot run because its node is full, then
+ * the next longest command that can run is started.<BR>
+ * 4) After the run, the durations file is updated and the timing report is written (if set)<BR>
+ */
+public class ProcessScheduler {
+	/**
+	 * Max number of processes that can run at the same time
+	 */
+	private int capacity;
+
+	/**
+	 * Max number of processes that can run at the same time against each node
+	 */
+	private Map<String, Integer> nodeCapacity;
+
+	/**
+	 * Max Time (milliseconds) a process can run before it is killed
+	 */
+	private int nMaxProcessTimeout;
+
+	/**
+	 * Max Time (milliseconds) to wait for a process to complete before outputting the running processes
+	 */
+	private int nPollInterval;
+
+	/**
+	 * Time (milliseconds) to wait after starting a process before starting another process
+	 */
+	private int nStartDelay;
+
+	/**
+	 * File to read &amp; store the durations of the commands (null or empty string to not use)
+	 */
+	private String sDurationsFile;
+
+	/**
+	 * File to write the timing report for the run (null or empty string to not write)
+	 */
+	private String sReportFile;
+
+	/**
+	 * Recorded duration (milliseconds) for each command ID
+	 */
+	private Properties durations;
+
+	/**
+	 * The processes that have completed (or could not be started) and are waiting to be processed
+	 */
+	private BlockingQueue<ProcessResult> completed;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param capacity - Max number of processes that can run at the same time (minimum is 1)
+	 * @param nMaxProcessTimeout - Max Time (milliseconds) a process can run before it is killed
+	 * @param nPollInterval - Max Time (milliseconds) to wait for a process to complete before outputting the
+	 *            running processes
+	 * @param nStartDelay - Time (milliseconds) to wait after starting a process before starting another
+	 *            process (0 for no delay)
+	 */
+	public ProcessScheduler(int capacity, int nMaxProcessTimeout, int nPollInterval, int nStartDelay)
+	{
+		this.capacity = Math.max(1, capacity);
+		this.nMaxProcessTimeout = nMaxProcessTimeout;
+		this.nPollInterval = Math.max(1, nPollInterval);
+		this.nStartDelay = nStartDelay;
+		this.nodeCapacity = new HashMap<String, Integer>();
+		this.durations = new Properties();
+		this.completed = new LinkedBlockingQueue<ProcessResult>();
+		setDurationsFile(null);
+		setReportFile(null);
+	}
+
+	/**
+	 * Gets the capacity based on the number of available processors<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If processes per CPU is not greater than 0, then max processes is returned<BR>
+	 * 2) The capacity is never greater than max processes and never less than 1<BR>
+	 * 
+	 * @param nMaxProcesses - Max number of processes
+	 * @param fProcessesPerCPU - Number of processes that each processor can handle
+	 * @return capacity
+	 */
+	public static int getCapacity(int nMaxProcesses, float fProcessesPerCPU)
+	{
+		if (fProcessesPerCPU <= 0)
+			return Math.max(1, nMaxProcesses);
+
+		int nCPU = Runtime.getRuntime().availableProcessors();
+		int nCapacity = (int) Math.floor(nCPU * fProcessesPerCPU);
+		return Math.max(1, Math.min(nMaxProcesses, nCapacity));
+	}
+
+	/**
+	 * @return the max number of processes that can run at the same time
+	 */
+	public int getCapacity()
+	{
+		return capacity;
+	}
+
+	/**
+	 * Set the max number of processes that can run at the same time against a node
+	 * 
+	 * @param node - Node (such as browser or grid node)
+	 * @param capacity - Max number of processes (minimum is 1)
+	 */
+	public void setNodeCapacity(String node, int capacity)
+	{
+		nodeCapacity.put(Conversion.nonNull(node), Math.max(1, capacity));
+	}
+
+	/**
+	 * Gets the max number of processes that can run at the same time against a node
+	 * 
+	 * @param node - Node (such as browser or grid node)
+	 * @return the node capacity if set else the total capacity
+	 */
+	public int getNodeCapacity(String node)
+	{
+		Integer nodeMax = nodeCapacity.get(Conversion.nonNull(node));
+		if (nodeMax == null)
+			return capacity;
+		else
+			return nodeMax;
+	}
+
+	/**
+	 * Set the file to read &amp; store the durations of the commands<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The recorded durations are read immediately if the file exists<BR>
+	 * 
+	 * @param sDurationsFile - File (null or empty string to not use)
+	 */
+	public void setDurationsFile(String sDurationsFile)
+	{
+		this.sDurationsFile = Conversion.nonNull(sDurationsFile);
+		durations.clear();
+		if (this.sDurationsFile.equals("") || !new File(this.sDurationsFile).isFile())
+			return;
+
+		InputStream in = null;
+		try
+		{
+			in = new FileInputStream(this.sDurationsFile);
+			durations.load(in);
+		}
+		catch (Exception ex)
+		{
+			System.out.println("Could not read the durations file (" + this.sDurationsFile + "):  "
+					+ ex.getMessage());
+		}
+		finally
+		{
+			IOUtils.closeQuietly(in);
+		}
+	}
+
+	/**
+	 * Set the file to write the timing report for the run
+	 * 
+	 * @param sReportFile - File (null or empty string to not write)
+	 */
+	public void setReportFile(String sReportFile)
+	{
+		this.sReportFile = Conversion.nonNull(sReportFile);
+	}
+
+	/**
+	 * Gets the recorded duration for the command
+	 * 
+	 * @param id - ID for test
+	 * @return -1 if there is no recorded duration else duration (milliseconds)
+	 */
+	public long getDuration(String id)
+	{
+		String sValue = durations.getProperty(Conversion.nonNull(id));
+		if (sValue == null)
+			return -1;
+
+		try
+		{
+			return Long.parseLong(sValue.trim());
+		}
+		catch (Exception ex)
+		{
+			return -1;
+		}
+	}
+
+	/**
+	 * Orders the commands longest first based on the recorded durations<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Commands without a recorded duration are first<BR>
+	 * 2) The sort is stable such that commands with the same duration remain in the order given<BR>
+	 * 
+	 * @param commands - Commands to be ordered
+	 * @return new list with the commands ordered
+	 */
+	public List<Commands> order(List<Commands> commands)
+	{
+		List<Commands> ordered = new ArrayList<Commands>(commands);
+		Collections.sort(ordered, new Comparator<Commands>() {
+			@Override
+			public int compare(Commands c1, Commands c2)
+			{
+				long d1 = getDuration(c1.id);
+				long d2 = getDuration(c2.id);
+				if (d1 < 0)
+					d1 = Long.MAX_VALUE;
+
+				if (d2 < 0)
+					d2 = Long.MAX_VALUE;
+
+				if (d1 == d2)
+					return 0;
+
+				return (d1 > d2) ? -1 : 1;
+			}
+		});
+
+		return ordered;
+	}
+
+	/**
+	 * Runs all the commands<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The results are in the order that the processes completed<BR>
+	 * 2) A command that could not be started has the exit code of -1<BR>
+	 * 
+	 * @param commands - Commands to be executed
+	 * @return List&lt;ProcessResult&gt;
+	 */
+	public List<ProcessResult> run(List<Commands> commands)
+	{
+		List<ProcessResult> results = new ArrayList<ProcessResult>();
+		List<Commands> pending = order(commands);
+		List<String> running = new ArrayList<String>();
+		Map<String, Integer> nodeRunning = new HashMap<String, Integer>();
+		ElapsedTime e = new ElapsedTime();
+
+		while (!pending.isEmpty() || !running.isEmpty())
+		{
+			// Start the longest commands that can run until capacity is reached
+			Iterator<Commands> it = pending.iterator();
+			while (running.size() < capacity && it.hasNext())
+			{
+				Commands command = it.next();
+				int nodeCount = getCount(nodeRunning, command.node);
+				if (nodeCount >= getNodeCapacity(command.node))
+					continue;
+
+				it.remove();
+				running.add(command.id);
+				nodeRunning.put(command.node, nodeCount + 1);
+				start(command, e.getElapsedTime());
+
+				if (nStartDelay > 0 && running.size() < capacity && it.hasNext())
+					Framework.sleep(nStartDelay);
+			}
+
+			// Wait for any process to complete
+			ProcessResult result = null;
+			try
+			{
+				result = completed.poll(nPollInterval, TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+			}
+
+			if (result == null)
+			{
+				System.out.println("Running (" + e.getElapsedTime() + " ms):  "
+						+ Conversion.toString(running, ", "));
+				continue;
+			}
+
+			// Process all the completed processes such that the slots can be refilled
+			while (result != null)
+			{
+				running.remove(result.id);
+				nodeRunning.put(result.node, Math.max(0, getCount(nodeRunning, result.node) - 1));
+				results.add(result);
+
+				// Only record the duration if the process actually ran
+				if (result.exitCode != -1)
+					durations.setProperty(result.id, String.valueOf(result.duration));
+
+				System.out.println();
+				System.out.println("ID:  " + result.id);
+				System.out.println("Completed in " + result.duration + " ms with exit code:  "
+						+ result.exitCode);
+				System.out.println();
+
+				result = completed.poll();
+			}
+		}
+
+		long wallTime = e.getElapsedTime();
+		saveDurations();
+		writeReport(results, wallTime);
+		return results;
+	}
+
+	/**
+	 * Starts the command
+	 * 
+	 * @param command - Command to be executed
+	 * @param startTime - Time (milliseconds) from the start of the run
+	 */
+	private void start(final Commands command, final long startTime)
+	{
+		final ElapsedTime e = new ElapsedTime();
+		ExecuteResultHandler handler = new DefaultExecuteResultHandler() {
+			@Override
+			public void onProcessComplete(int exitValue)
+			{
+				super.onProcessComplete(exitValue);
+				completed.add(new ProcessResult(command.id, command.node, startTime, e.getElapsedTime(),
+						exitValue));
+			}
+
+			@Override
+			public void onProcessFailed(ExecuteException ex)
+			{
+				super.onProcessFailed(ex);
+				completed.add(new ProcessResult(command.id, command.node, startTime, e.getElapsedTime(),
+						ex.getExitValue()));
+			}
+		};
+
+		System.out.println();
+		System.out.println("ID:  " + command.id);
+		System.out.println("Executing Command:  " + String.valueOf(command.cmdLine));
+		System.out.println();
+
+		try
+		{
+			execute(command, handler);
+		}
+		catch (Exception ex)
+		{
+			System.out.println("Could not start (" + command.id + "):  " + ex.getMessage());
+			completed.add(new ProcessResult(command.id, command.node, startTime, e.getElapsedTime(), -1));
+		}
+	}
+
+	/**
+	 * Executes the command asynchronously<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The handler must be notified when the process completes<BR>
+	 * 2) This method can be overridden in an inherited class to execute the command differently<BR>
+	 * 
+	 * @param command - Command to be executed
+	 * @param handler - Handler to be notified when the process completes
+	 * @throws IOException if the process cannot be started
+	 */
+	protected void execute(Commands command, ExecuteResultHandler handler) throws IOException
+	{
+		Executor executor = new DefaultExecutor();
+		executor.setExitValue(0);
+		executor.setWatchdog(new ExecuteWatchdog(nMaxProcessTimeout));
+		executor.setProcessDestroyer(new ShutdownHookProcessDestroyer());
+		executor.execute(command.cmdLine, handler);
+	}
+
+	/**
+	 * Gets the count for the node
+	 * 
+	 * @param counts - Count for each node
+	 * @param node - Node to get count for
+	 * @return 0 if node has no count else count
+	 */
+	private static int getCount(Map<String, Integer> counts, String node)
+	{
+		Integer count = counts.get(node);
+		if (count == null)
+			return 0;
+		else
+			return count;
+	}
+
+	/**
+	 * Stores the durations (if durations file is set)
+	 */
+	private void saveDurations()
+	{
+		if (sDurationsFile.equals(""))
+			return;
+
+		OutputStream out = null;
+		try
+		{
+			out = new FileOutputStream(sDurationsFile);
+			durations.store(out, "Duration (milliseconds) of each test from the last run");
+		}
+		catch (Exception ex)
+		{
+			System.out.println("Could not store the durations file (" + sDurationsFile + "):  "
+					+ ex.getMessage());
+		}
+		finally
+		{
+			IOUtils.closeQuietly(out);
+		}
+	}
+
+	/**
+	 * Gets the lower bound (milliseconds) for the run which is the max of the longest process and the total
+	 * time of all processes divided by the capacity
+	 * 
+	 * @param results - Results of the processes
+	 * @param capacity - Max number of processes that can run at the same time
+	 * @return lower bound (milliseconds)
+	 */
+	public static long getLowerBound(List<ProcessResult> results, int capacity)
+	{
+		long longest = 0;
+		long total = 0;
+		for (ProcessResult result : results)
+		{
+			longest = Math.max(longest, result.duration);
+			total += result.duration;
+		}
+
+		return Math.max(longest, (long) Math.ceil(total / (double) Math.max(1, capacity)));
+	}
+
+	/**
+	 * Writes the timing report (if report file is set)
+	 * 
+	 * @param results - Results of the processes
+	 * @param wallTime - Time (milliseconds) of the entire run
+	 */
+	private void writeReport(List<ProcessResult> results, long wallTime)
+	{
+		long lowerBound = getLowerBound(results, capacity);
+		System.out.println("Run completed in " + wallTime + " ms (lower bound " + lowerBound + " ms)");
+		if (sReportFile.equals(""))
+			return;
+
+		List<ProcessResult> byStart = new ArrayList<ProcessResult>(results);
+		Collections.sort(byStart, new Comparator<ProcessResult>() {
+			@Override
+			public int compare(ProcessResult r1, ProcessResult r2)
+			{
+				return Long.valueOf(r1.start).compareTo(r2.start);
+			}
+		});
+
+		BufferedWriter out = null;
+		try
+		{
+			out = new BufferedWriter(new FileWriter(sReportFile));
+			out.write("ID,Node,Start (ms),Duration (ms),Exit Code");
+			out.newLine();
+			for (ProcessResult result : byStart)
+			{
+				out.write("\"" + result.id.replace("\"", "\"\"") + "\",\"" + result.node.replace("\"", "\"\"")
+						+ "\"," + result.start + "," + result.duration + "," + result.exitCode);
+				out.newLine();
+			}
+
+			out.newLine();
+			out.write("Capacity," + capacity);
+			out.newLine();
+			out.write("Wall Time (ms)," + wallTime);
+			out.newLine();
+			out.write("Lower Bound (ms)," + lowerBound);
+			out.newLine();
+		}
+		catch (Exception ex)
+		{
+			System.out.println("Could not write the timing report (" + sReportFile + "):  "
+					+ ex.getMessage());
+		}
+		finally
+		{
+			IOUtils.closeQuietly(out);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.automation.ui.common.utilities;
+
+import java.util.Iterator;
+
+/**
+ * This class is for an iterator that lazily reads one row at a time from another iterator keeping only the
+ * specified columns (in the specified order)<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) If a row does not have a specified column, then empty string is used for the value<BR>
+ * 2) If no columns are specified, then the rows are returned unchanged<BR>
+ */
+public class ProjectedRowIterator extends BaseRecordIterator {
+	/**
+	 * Iterator to read the rows from
+	 */
+	private Iterator<String[]> rows;
+
+	/**
+	 * Indexes of the columns to keep (null to keep all columns)
+	 */
+	private int[] indexes;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param rows - Iterator to read the rows from
+	 * @param indexes - Indexes of the columns to keep (null or empty to keep all columns)
+	 */
+	public ProjectedRowIterator(Iterator<String[]> rows, int[] indexes)
+	{
+		super();
+		this.rows = rows;
+		this.indexes = (indexes == null || indexes.length == 0) ? null : indexes;
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param rows - Iterator to read the rows from
+	 * @param header - Header row used to find the indexes of the columns
+	 * @param columns - Names of the columns to keep in the order to be returned (none to keep all columns)
+	 * @throws GenericUnexpectedException if a column cannot be found in the header row
+	 */
+	public ProjectedRowIterator(Iterator<String[]> rows, String[] header, String... columns)
+	{
+		this(rows, getIndexes(header, columns));
+	}
+
+	/**
+	 * Gets the indexes of the columns using the header row
+	 * 
+	 * @param header - Header row
+	 * @param columns - Names of the columns
+	 * @return int[]
+	 * @throws GenericUnexpectedException if a column cannot be found in the header row
+	 */
+	public static int[] getIndexes(String[] header, String... columns)
+	{
+		if (columns == null || columns.length == 0)
+			return null;
+
+		if (header == null)
+			Logs.logError("Columns (" + Conversion.toString(", ", columns)
+					+ ") cannot be found as there was no header row");
+
+		int[] indexes = new int[columns.length];
+		for (int i = 0; i < columns.length; i++)
+		{
+			indexes[i] = -1;
+			for (int j = 0; j < header.length; j++)
+			{
+				if (Conversion.nonNull(header[j]).trim().equals(Conversion.nonNull(columns[i]).trim()))
+				{
+					indexes[i] = j;
+					break;
+				}
+			}
+
+			if (indexes[i] < 0)
+				Logs.logError("Column (" + columns[i] + ") could not be found in the header row");
+		}
+
+		return indexes;
+	}
+
+	@Override
+	protected String[] getNext()
+	{
+		if (!rows.hasNext())
+			return null;
+
+		String[] row = rows.next();
+		if (indexes == null)
+			return row;
+
+		String[] projected = new String[indexes.length];
+		for (int i = 0; i < indexes.length; i++)
+		{
+			projected[i] = (indexes[i] < row.length) ? Conversion.nonNull(row[indexes[i]]) : "";
+		}
+
+		return projected;
+	}
+}
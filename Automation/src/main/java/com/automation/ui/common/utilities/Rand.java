@@ -1,11 +1,12 @@
 package com.automation.ui.common.utilities;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
-import org.apache.commons.lang.RandomStringUtils;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
@@ -18,7 +19,15 @@ import com.automation.ui.common.dataStructures.Parameter;
 import com.automation.ui.common.dataStructures.Selection;
 
 /**
- * This class holds methods related to randomization
+ * This class holds methods related to randomization<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) All the random values are generated using the random generator of the calling thread
+ * (ThreadLocalRandom) as such no generator is created for each call &amp; threads do not contend for a
+ * shared generator<BR>
+ * 2) Strings are generated in a buffer that is re-used by the calling thread<BR>
+ * 3) Use the bulk methods (randomInputFields, randomDropDowns &amp; randomCheckBoxes) to generate large data
+ * sets<BR>
  */
 public class Rand {
 	/**
@@ -36,6 +45,26 @@ public class Rand {
 	 */
 	private static final String ASCII_Numbers = "0123456789";
 
+	/**
+	 * All valid ASCII uppercase letters that cannot be changed
+	 */
+	private static final String ASCII_Uppercase = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+	/**
+	 * All valid ASCII lowercase letters that cannot be changed
+	 */
+	private static final String ASCII_Lowercase = "abcdefghijklmnopqrstuvwxyz";
+
+	/**
+	 * All valid ASCII letters &amp; numbers that cannot be changed
+	 */
+	private static final String ASCII_Alphanumeric = ASCII_Letters + ASCII_Numbers;
+
+	/**
+	 * All valid ASCII non-zero numbers that cannot be changed
+	 */
+	private static final String ASCII_NonZero = "123456789";
+
 	/**
 	 * The default extended letters that cannot be changed<BR>
 	 * <BR>
@@ -64,6 +93,28 @@ public class Rand {
 	 */
 	private static final String ALL_Numbers = ASCII_Numbers + Extended_Numbers;
 
+	/**
+	 * Initial capacity of the buffer used by each thread to generate strings
+	 */
+	private static final int _BufferCapacity = 64;
+
+	/**
+	 * Max capacity of the buffer that is kept by each thread (a larger buffer is not kept such that
+	 * generating a large string once does not keep the memory)
+	 */
+	private static final int _MaxBufferCapacity = 1024;
+
+	/**
+	 * The buffer used by each thread to generate strings
+	 */
+	private static final ThreadLocal<StringBuilder> buffers = new ThreadLocal<StringBuilder>() {
+		@Override
+		protected StringBuilder initialValue()
+		{
+			return new StringBuilder(_BufferCapacity);
+		}
+	};
+
 	/**
 	 * Special characters to use by default
 	 */
@@ -255,6 +306,11 @@ public class Rand {
 	 * inclusive<BR>
 	 * 4) IF nSize = 5, nUpperBound = 100 THEN array will be size 5 and all values will be between 0 and 99
 	 * inclusive<BR>
+	 * <BR>
+	 * <B>Implementation:</B><BR>
+	 * A partial Fisher-Yates shuffle of the values 0 to (max value - 1) is used as such each integer is only
+	 * generated once &amp; the time is O(nSize) regardless of how close nSize is to nUpperBound. If nSize is
+	 * small compared to the max value, then only the swapped values are stored.<BR>
 	 * 
 	 * @param nSize - number of unique integers
 	 * @param nUpperBound - generate numbers below this value
@@ -262,9 +318,7 @@ public class Rand {
 	 */
 	public static int[] uniqueRandom(int nSize, int nUpperBound)
 	{
-		Random randomGenerator = new Random();
-		int nRandomInt;
-		int nUniqueCount = 0;
+		Random randomGenerator = generator();
 
 		// Need to ensure that min length is 1
 		int nLength = 1;
@@ -276,33 +330,115 @@ public class Rand {
 		if (nUpperBound > nMaxValue)
 			nMaxValue = nUpperBound;
 
-		// Generate the 1st unique integer
 		int[] uniqueSet = new int[nLength];
 
-		// Initialize array values to -1 which cannot be generated
-		for (int i = 0; i < nLength; i++)
-			uniqueSet[i] = -1;
-
-		uniqueSet[0] = randomGenerator.nextInt(nMaxValue);
-		nUniqueCount++;
-
-		/*
-		 * Generate the remaining unique integers.
-		 * Note: This may take some time depending upon the upper bound for random integers.
-		 */
-		while (nUniqueCount < nLength)
+		// When most of the values are needed, shuffle an array of all the values
+		if (nMaxValue / 4 <= nLength)
 		{
-			nRandomInt = randomGenerator.nextInt(nMaxValue);
-			if (!Compare.exists(uniqueSet, nRandomInt))
+			int[] values = new int[nMaxValue];
+			for (int i = 0; i < nMaxValue; i++)
+				values[i] = i;
+
+			for (int i = 0; i < nLength; i++)
 			{
-				uniqueSet[nUniqueCount] = nRandomInt;
-				nUniqueCount++;
+				int nSwap = i + randomGenerator.nextInt(nMaxValue - i);
+				uniqueSet[i] = values[nSwap];
+				values[nSwap] = values[i];
 			}
+
+			return uniqueSet;
+		}
+
+		// Otherwise, only store the values that have been swapped (a missing value is its own index)
+		Map<Integer, Integer> swapped = new HashMap<Integer, Integer>(nLength * 2);
+		for (int i = 0; i < nLength; i++)
+		{
+			int nSwap = i + randomGenerator.nextInt(nMaxValue - i);
+			Integer valueAtSwap = swapped.get(nSwap);
+			Integer valueAtIndex = swapped.get(i);
+			uniqueSet[i] = (valueAtSwap == null) ? nSwap : valueAtSwap;
+			swapped.put(nSwap, (valueAtIndex == null) ? i : valueAtIndex);
 		}
 
 		return uniqueSet;
 	}
 
+	/**
+	 * Gets the random generator of the calling thread
+	 * 
+	 * @return Random
+	 */
+	private static Random generator()
+	{
+		return ThreadLocalRandom.current();
+	}
+
+	/**
+	 * Gets the empty buffer of the calling thread to generate a string
+	 * 
+	 * @param nCapacity - Capacity that is needed
+	 * @return StringBuilder
+	 */
+	private static StringBuilder buffer(int nCapacity)
+	{
+		StringBuilder buffer = buffers.get();
+		if (buffer.capacity() > _MaxBufferCapacity)
+		{
+			buffer = new StringBuilder(_BufferCapacity);
+			buffers.set(buffer);
+		}
+
+		buffer.setLength(0);
+		buffer.ensureCapacity(nCapacity);
+		return buffer;
+	}
+
+	/**
+	 * Appends random characters from the character set to the buffer
+	 * 
+	 * @param buffer - Buffer to append to
+	 * @param nLength - Number of characters to append
+	 * @param sCharacterSet - Character Set to be used
+	 * @return StringBuilder
+	 * @throws IllegalArgumentException if the character set is empty &amp; nLength &gt; 0
+	 */
+	private static StringBuilder append(StringBuilder buffer, int nLength, String sCharacterSet)
+	{
+		Random randomGenerator = generator();
+		int nSize = sCharacterSet.length();
+		for (int i = 0; i < nLength; i++)
+		{
+			buffer.append(sCharacterSet.charAt(randomGenerator.nextInt(nSize)));
+		}
+
+		return buffer;
+	}
+
+	/**
+	 * Returns a random character from the character set
+	 * 
+	 * @param sCharacterSet - Character Set to be used
+	 * @return char
+	 * @throws IllegalArgumentException if the character set is empty
+	 */
+	private static char randomChar(String sCharacterSet)
+	{
+		return sCharacterSet.charAt(generator().nextInt(sCharacterSet.length()));
+	}
+
+	/**
+	 * Returns a random string of the specified size with only characters from the character set
+	 * 
+	 * @param nLength - Size of String to return
+	 * @param sCharacterSet - Character Set to be used
+	 * @return String
+	 * @throws IllegalArgumentException if the character set is empty &amp; nLength &gt; 0
+	 */
+	private static String chars(int nLength, String sCharacterSet)
+	{
+		return append(buffer(nLength), nLength, sCharacterSet).toString();
+	}
+
 	/**
 	 * Returns a random String that meets the requirements.<BR>
 	 * <BR>
@@ -363,45 +499,41 @@ public class Rand {
 			nMinLength = nLength;
 
 		// Generate the String Builder
-		StringBuilder rest = new StringBuilder(RandomStringUtils.randomAlphanumeric(nMinLength));
+		StringBuilder rest = append(buffer(nMinLength), nMinLength, ASCII_Alphanumeric);
 
 		// Get 4 unique positions in the String Builder
-		int[] nUniqueSet = uniqueRandom(nMinLength, nMinLength);
+		int[] nUniqueSet = uniqueRandom(Math.min(4, nMinLength), nMinLength);
 		int nIndex = 0;
 
 		// Insert an uppercase letter if necessary at a random position
 		if (bUpper)
 		{
-			rest.delete(nUniqueSet[nIndex], nUniqueSet[nIndex] + 1);
-			rest.insert(nUniqueSet[nIndex], RandomStringUtils.randomAlphabetic(1).toUpperCase());
+			rest.setCharAt(nUniqueSet[nIndex], randomChar(ASCII_Uppercase));
 			nIndex++;
 		}
 
 		// Insert an lowercase letter if necessary at a random position
 		if (bLower)
 		{
-			rest.delete(nUniqueSet[nIndex], nUniqueSet[nIndex] + 1);
-			rest.insert(nUniqueSet[nIndex], RandomStringUtils.randomAlphabetic(1).toLowerCase());
+			rest.setCharAt(nUniqueSet[nIndex], randomChar(ASCII_Lowercase));
 			nIndex++;
 		}
 
 		// Insert a number if necessary at a random position
 		if (bNumber)
 		{
-			rest.delete(nUniqueSet[nIndex], nUniqueSet[nIndex] + 1);
-			rest.insert(nUniqueSet[nIndex], RandomStringUtils.randomNumeric(1));
+			rest.setCharAt(nUniqueSet[nIndex], randomChar(ASCII_Numbers));
 			nIndex++;
 		}
 
 		// Insert a special character if necessary at a random position
 		if (bSpecial)
 		{
-			rest.delete(nUniqueSet[nIndex], nUniqueSet[nIndex] + 1);
-			rest.insert(nUniqueSet[nIndex], RandomStringUtils.random(1, sSpecialCharacterSet));
+			rest.setCharAt(nUniqueSet[nIndex], randomChar(sSpecialCharacterSet));
 			nIndex++;
 		}
 
-		return rest.substring(0, nMinLength);
+		return rest.toString();
 	}
 
 	/**
@@ -450,44 +582,43 @@ public class Rand {
 		// Random Alphanumeric String
 		if (sToken.equals(TokensMap[0]))
 		{
-			sRandomized = RandomStringUtils.randomAlphanumeric(nLength);
+			sRandomized = chars(nLength, ASCII_Alphanumeric);
 		}
 
 		// Random Letters Only String
 		if (sToken.equals(TokensMap[1]))
 		{
-			sRandomized = RandomStringUtils.randomAlphabetic(nLength);
+			sRandomized = chars(nLength, ASCII_Letters);
 		}
 
 		// Random Numbers Only String
 		if (sToken.equals(TokensMap[2]))
 		{
-			sRandomized = RandomStringUtils.randomNumeric(nLength);
+			sRandomized = chars(nLength, ASCII_Numbers);
 		}
 
 		// Random Uppercase Only String
 		if (sToken.equals(TokensMap[3]))
 		{
-			sRandomized = RandomStringUtils.randomAlphabetic(nLength).toUpperCase();
+			sRandomized = chars(nLength, ASCII_Uppercase);
 		}
 
 		// Random Lowercase Only String
 		if (sToken.equals(TokensMap[4]))
 		{
-			sRandomized = RandomStringUtils.randomAlphabetic(nLength).toLowerCase();
+			sRandomized = chars(nLength, ASCII_Lowercase);
 		}
 
 		// Random Special Characters Only String
 		if (sToken.equals(TokensMap[5]))
 		{
-			sRandomized = RandomStringUtils.random(nLength, sSpecialCharacterSet);
+			sRandomized = chars(nLength, sSpecialCharacterSet);
 		}
 
 		// Random Boolean String (true or false)
 		if (sToken.equals(TokensMap[6]))
 		{
-			Random r = new Random();
-			if ((r.nextInt(1000) % 2) == 0)
+			if (generator().nextBoolean())
 				sRandomized = "true";
 			else
 				sRandomized = "false";
@@ -671,7 +802,7 @@ public class Rand {
 			nUseRangeMax += -1 * nOffset;
 		}
 
-		Random r = new Random();
+		Random r = generator();
 		if (inclusive)
 			nRange = nOffset + r.nextInt(nUseRangeMax - nUseRangeMin + 1);
 		else
@@ -797,14 +928,14 @@ public class Rand {
 	 * Returns a random string of the specified size with only alphabetic characters<BR>
 	 * <BR>
 	 * <B>Notes:</B><BR>
-	 * 1) Wraps the RandomStringUtils.randomAlphabetic<BR>
+	 * 1) Only ASCII letters are used<BR>
 	 * 
 	 * @param nLength - Size of String to return
 	 * @return Random String of only Alphabetic characters that is of specified length
 	 */
 	public static String letters(int nLength)
 	{
-		return RandomStringUtils.randomAlphabetic(nLength);
+		return chars(nLength, ASCII_Letters);
 	}
 
 	/**
@@ -815,12 +946,9 @@ public class Rand {
 	 */
 	public static String numbers(int nLength)
 	{
-		String nonZero = String.valueOf(randomRange(1, 9));
-		String rest = "";
-		if (nLength - 1 > 0)
-			rest = RandomStringUtils.randomNumeric(nLength - 1);
-
-		return nonZero + rest;
+		StringBuilder build = buffer(nLength);
+		append(build, 1, ASCII_NonZero);
+		return append(build, nLength - 1, ASCII_Numbers).toString();
 	}
 
 	/**
@@ -832,12 +960,9 @@ public class Rand {
 	 */
 	public static String alphanumeric(int nLength)
 	{
-		String nonNumber = RandomStringUtils.randomAlphabetic(1);
-		String rest = "";
-		if (nLength - 1 > 0)
-			rest = RandomStringUtils.randomAlphanumeric(nLength - 1);
-
-		return nonNumber + rest;
+		StringBuilder build = buffer(nLength);
+		append(build, 1, ASCII_Letters);
+		return append(build, nLength - 1, ASCII_Alphanumeric).toString();
 	}
 
 	/**
@@ -849,15 +974,7 @@ public class Rand {
 	 */
 	public static String special(int nLength, String sCharacterSet)
 	{
-		// Generate the String Builder
-		StringBuilder build = new StringBuilder();
-		for (int i = 0; i < nLength; i++)
-		{
-			int nRandomPos = randomRange(0, sCharacterSet.length() - 1);
-			build.append(sCharacterSet.charAt(nRandomPos));
-		}
-
-		return build.toString();
+		return chars(nLength, sCharacterSet);
 	}
 
 	/**
@@ -1252,6 +1369,70 @@ public class Rand {
 		return InputField.getRandom(sRandValue);
 	}
 
+	/**
+	 * Returns a list of InputField with random alphanumeric values for large data sets<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Each InputField has a value (i.e. not a random value to be generated when used)<BR>
+	 * 2) See alphanumeric for details on the values<BR>
+	 * 
+	 * @param nSize - Number of InputField to generate
+	 * @param nMin - Minimum length of each value (inclusive)
+	 * @param nMax - Maximum length of each value (inclusive)
+	 * @return List&lt;InputField&gt;
+	 */
+	public static List<InputField> randomInputFields(int nSize, int nMin, int nMax)
+	{
+		List<InputField> fields = new ArrayList<InputField>(Math.max(nSize, 0));
+		for (int i = 0; i < nSize; i++)
+		{
+			fields.add(new InputField(alphanumeric(nMin, nMax)));
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Returns a list of DropDown that select a random index for large data sets<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Each DropDown selects a specific index (i.e. not a random index to be selected when used)<BR>
+	 * 2) The range is not affected if Minimum is greater than Maximum<BR>
+	 * 
+	 * @param nSize - Number of DropDown to generate
+	 * @param nMinIndex - Minimum index (inclusive)
+	 * @param nMaxIndex - Maximum index (inclusive)
+	 * @return List&lt;DropDown&gt;
+	 */
+	public static List<DropDown> randomDropDowns(int nSize, int nMinIndex, int nMaxIndex)
+	{
+		List<DropDown> dropdowns = new ArrayList<DropDown>(Math.max(nSize, 0));
+		for (int i = 0; i < nSize; i++)
+		{
+			String sIndex = String.valueOf(randomRange(nMinIndex, nMaxIndex));
+			dropdowns.add(new DropDown(Selection.Index, sIndex, Math.min(nMinIndex, nMaxIndex)));
+		}
+
+		return dropdowns;
+	}
+
+	/**
+	 * Returns a list of CheckBox that are set to a random selection for large data sets
+	 * 
+	 * @param nSize - Number of CheckBox to generate
+	 * @return List&lt;CheckBox&gt;
+	 */
+	public static List<CheckBox> randomCheckBoxes(int nSize)
+	{
+		List<CheckBox> checkboxes = new ArrayList<CheckBox>(Math.max(nSize, 0));
+		for (int i = 0; i < nSize; i++)
+		{
+			checkboxes.add(randomCheckBox());
+		}
+
+		return checkboxes;
+	}
+
 	/**
 	 * Returns a GenericDate based on the current date<BR>
 	 * <BR>
@@ -1350,7 +1531,7 @@ public class Rand {
 	 */
 	public static String onlyChars(int nLength, String chars)
 	{
-		return RandomStringUtils.random(nLength, chars);
+		return chars(nLength, chars);
 	}
 
 	/**
@@ -1432,12 +1613,9 @@ public class Rand {
 	 */
 	public static String extendedAlphanumeric(int nLength)
 	{
-		String nonNumber = extendedLetters(1);
-		String rest = "";
-		if (nLength - 1 > 0)
-			rest = onlyChars(nLength - 1, sUsedExtendedLetters + sUsedExtendedNumbers);
-
-		return nonNumber + rest;
+		StringBuilder build = buffer(nLength);
+		append(build, 1, sUsedExtendedLetters);
+		return append(build, nLength - 1, sUsedExtendedLetters + sUsedExtendedNumbers).toString();
 	}
 
 	/**
@@ -1497,9 +1675,7 @@ public class Rand {
 		int[] indice = uniqueRandom(nSize, input.length());
 		for (int i = 0; i < indice.length; i++)
 		{
-			int nIndex = indice[i];
-			working.delete(nIndex, nIndex + 1);
-			working.insert(nIndex, onlyChars(1, chars));
+			working.setCharAt(indice[i], randomChar(chars));
 		}
 
 		return working.toString();
@@ -1555,7 +1731,7 @@ public class Rand {
 				max = 0;
 
 			int nIndex = randomRange(0, max);
-			working.insert(nIndex, onlyChars(1, chars));
+			working.insert(nIndex, randomChar(chars));
 		}
 
 		return working.toString();
@@ -1572,24 +1748,18 @@ public class Rand {
 		if (value == null || value.equals(""))
 			return "";
 
-		// A list of all the characters to randomize
-		List<Character> characters = new ArrayList<Character>();
-		for (int i = 0; i < value.length(); i++)
-		{
-			characters.add(value.charAt(i));
-		}
-
-		// Randomize the list to generate a randomized string
-		Collections.shuffle(characters);
-
-		// Re-construct String
-		StringBuffer sb = new StringBuffer();
-		for (Character item : characters)
+		// Shuffle (Fisher-Yates) all the characters to generate a randomized string
+		Random randomGenerator = generator();
+		char[] characters = value.toCharArray();
+		for (int i = characters.length - 1; i > 0; i--)
 		{
-			sb.append(item.toString());
+			int nSwap = randomGenerator.nextInt(i + 1);
+			char temp = characters[i];
+			characters[i] = characters[nSwap];
+			characters[nSwap] = temp;
 		}
 
-		return sb.toString();
+		return new String(characters);
 	}
 
 	/**
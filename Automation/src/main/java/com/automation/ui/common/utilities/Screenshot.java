@@ -8,9 +8,6 @@ import java.io.File;
 
 import javax.imageio.ImageIO;
 
-import org.apache.commons.io.FileUtils;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
 /**
@@ -248,6 +245,7 @@ public class Screenshot {
 	 * 3) It is possible for the screenshot to be blank<BR>
 	 * 4) If the page does not have a body tag, then an exception will occur when attempting to take a
 	 * screenshot<BR>
+	 * 5) The screenshot is written to the file on a background thread (see CaptureWriter)<BR>
 	 * 
 	 * @param driver - WebDriver that has the capability of TAKES_SCREENSHOT
 	 * @param sFilename - File name needs to be unique and have PNG extension
@@ -265,9 +263,7 @@ public class Screenshot {
 
 		try
 		{
-			File scrFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-			FileUtils.copyFile(scrFile, new File(sFilename));
-			Logs.log.info("Saved screenshot to file:  " + sFilename);
+			CaptureWriter.saveScreenshot(driver, sFilename);
 			return true;
 		}
 		catch (Exception ex)
@@ -6,6 +6,7 @@ import java.util.List;
 import org.apache.commons.lang.builder.HashCodeBuilder;
 
 import com.automation.ui.common.dataStructures.Comparison;
+import com.automation.ui.common.utilities.caches.PatternCache;
 
 /**
  * Class to do multiple actions on a string which can be strung together that is more convenient/easier to
@@ -161,7 +162,7 @@ public class StringMod {
 	{
 		try
 		{
-			working = working.replaceAll(regex, replacement);
+			working = PatternCache.get(regex).matcher(working).replaceAll(replacement);
 		}
 		catch (Exception ex)
 		{
@@ -268,7 +269,7 @@ public class StringMod {
 	{
 		try
 		{
-			working = working.replaceFirst(regex, replacement);
+			working = PatternCache.get(regex).matcher(working).replaceFirst(replacement);
 		}
 		catch (Exception ex)
 		{
@@ -780,7 +781,7 @@ public class StringMod {
 	{
 		try
 		{
-			String[] pieces = working.split(regex);
+			String[] pieces = PatternCache.get(regex).split(working);
 			working = pieces[index];
 		}
 		catch (Exception ex)
@@ -0,0 +1,687 @@
+package com.automation.ui.common.utilities;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.automation.ui.common.dataStructures.Comparison;
+
+/**
+ * This class provides a streaming (row by row) view of a table. The rows are fetched in windows as the
+ * iteration proceeds such that the entire table never needs to be in memory and searches can stop as soon as
+ * the row is found.<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Each row has a fingerprint (hash of the cell values) that is computed in the browser. When caching is
+ * enabled (default), the cells of a row are only transferred if the fingerprint changed since the last time
+ * the table was read. As such, after an action only the changed rows are refetched.<BR>
+ * 2) For virtual scrolling grids (where only the visible rows are rendered), use the method
+ * <B>setVirtualScroll</B>. The grid is scrolled as needed and an attribute is required to uniquely identify
+ * each row.<BR>
+ * 3) Cell values are trimmed text content (same as JS_Util.getTable)<BR>
+ * 4) The same instance should not be iterated by multiple threads at the same time<BR>
+ * <BR>
+ * <B>Code Example:</B><BR>
+ * TableRows rows = new TableRows(driver, "//table[@id='results']");<BR>
+ * for (String[] row : rows)<BR>
+ * {<BR>
+ * &nbsp;&nbsp;&nbsp;&nbsp;// Work with the row<BR>
+ * }<BR>
+ */
+public class TableRows implements Iterable<String[]> {
+	/**
+	 * The default number of rows fetched per JavaScript call
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 100;
+
+	/**
+	 * The max number of consecutive windows (after scrolling) that have no new rows before the end of a
+	 * virtual scrolling grid is assumed
+	 */
+	private static final int MAX_EMPTY_WINDOWS = 3;
+
+	private WebDriver driver;
+
+	/**
+	 * How to find the table (or grid container)
+	 */
+	private String sLoc_Table;
+
+	/**
+	 * Xpath to the rows relative to the table (empty string to use the table rows)
+	 */
+	private String sXpath_Rows;
+
+	/**
+	 * Xpath to the cells relative to each row (empty string to use the row cells)
+	 */
+	private String sXpath_Cells;
+
+	/**
+	 * Flag to indicate the table is a virtual scrolling grid
+	 */
+	private boolean virtual;
+
+	/**
+	 * How to find the element to scroll (null to use the table) for a virtual scrolling grid
+	 */
+	private String sLoc_Scroll;
+
+	/**
+	 * Attribute that uniquely identifies a row (empty string to use the row index)
+	 */
+	private String sKeyAttribute;
+
+	/**
+	 * Number of rows fetched per JavaScript call
+	 */
+	private int windowSize;
+
+	/**
+	 * Flag to indicate whether fingerprints &amp; rows are cached between reads
+	 */
+	private boolean caching;
+
+	/**
+	 * Fingerprint for each row (key) from the previous reads
+	 */
+	private Map<String, String> fingerprints;
+
+	/**
+	 * Cell values for each row (key) from the previous reads
+	 */
+	private Map<String, String[]> cache;
+
+	/**
+	 * The order of the rows (keys) from the last complete read
+	 */
+	private List<String> order;
+
+	/**
+	 * Number of rows that had the cells transferred during the last read
+	 */
+	private int fetched;
+
+	/**
+	 * The table element for the current read
+	 */
+	private WebElement table;
+
+	/**
+	 * The element to scroll for the current read
+	 */
+	private WebElement scroller;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param driver
+	 * @param sLoc_Table - How to find the table (or grid container)
+	 */
+	public TableRows(WebDriver driver, String sLoc_Table)
+	{
+		this.driver = driver;
+		this.sLoc_Table = Conversion.nonNull(sLoc_Table);
+		setRowsXpath("");
+		setCellsXpath("");
+		setWindowSize(DEFAULT_WINDOW_SIZE);
+		setCaching(true);
+		virtual = false;
+		sLoc_Scroll = null;
+		sKeyAttribute = "";
+		fingerprints = new HashMap<String, String>();
+		cache = new HashMap<String, String[]>();
+		order = new ArrayList<String>();
+		fetched = 0;
+	}
+
+	/**
+	 * @return the driver
+	 */
+	public WebDriver getDriver()
+	{
+		return driver;
+	}
+
+	/**
+	 * @return How to find the table (or grid container)
+	 */
+	public String getTableLocator()
+	{
+		return sLoc_Table;
+	}
+
+	/**
+	 * Set the xpath to the rows relative to the table<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Use the empty string for a HTML table to use all the rows of the table (including the header)<BR>
+	 * 
+	 * @param sXpath_Rows - Xpath to the rows relative to the table
+	 */
+	public void setRowsXpath(String sXpath_Rows)
+	{
+		this.sXpath_Rows = Conversion.nonNull(sXpath_Rows);
+	}
+
+	/**
+	 * Set the xpath to the cells relative to each row<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Use the empty string for a HTML table to use all the cells of the row<BR>
+	 * 
+	 * @param sXpath_Cells - Xpath to the cells relative to each row
+	 */
+	public void setCellsXpath(String sXpath_Cells)
+	{
+		this.sXpath_Cells = Conversion.nonNull(sXpath_Cells);
+	}
+
+	/**
+	 * Set the table as a virtual scrolling grid that only renders the visible rows<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The grid is scrolled to the top at the start of each read and then scrolled down by the visible
+	 * height after each window<BR>
+	 * 2) The key attribute is required as the index of the rendered row does not identify the row<BR>
+	 * 
+	 * @param sLoc_Scroll - How to find the element to scroll (null to use the table)
+	 * @param sKeyAttribute - Attribute that uniquely identifies a row (such as data-ri or aria-rowindex)
+	 */
+	public void setVirtualScroll(String sLoc_Scroll, String sKeyAttribute)
+	{
+		if (Conversion.nonNull(sKeyAttribute).equals(""))
+			Logs.logError("A key attribute is required for a virtual scrolling grid");
+
+		this.virtual = true;
+		this.sLoc_Scroll = sLoc_Scroll;
+		setKeyAttribute(sKeyAttribute);
+	}
+
+	/**
+	 * Set the attribute that uniquely identifies a row<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If the row does not have the attribute, then the row index is used<BR>
+	 * 2) If rows are inserted or removed, then a key attribute prevents all the following rows from being
+	 * refetched<BR>
+	 * 3) If multiple rows have the same attribute value, then a warning is logged &amp; the occurrence number
+	 * is added to the key of the later rows (such that no rows are skipped)<BR>
+	 * 
+	 * @param sKeyAttribute - Attribute that uniquely identifies a row (empty string to use the row index)
+	 */
+	public void setKeyAttribute(String sKeyAttribute)
+	{
+		this.sKeyAttribute = Conversion.nonNull(sKeyAttribute);
+	}
+
+	/**
+	 * @return the number of rows fetched per JavaScript call
+	 */
+	public int getWindowSize()
+	{
+		return windowSize;
+	}
+
+	/**
+	 * Set the number of rows fetched per JavaScript call
+	 * 
+	 * @param windowSize - Number of rows (less than 1 to use the default)
+	 */
+	public void setWindowSize(int windowSize)
+	{
+		if (windowSize < 1)
+			this.windowSize = DEFAULT_WINDOW_SIZE;
+		else
+			this.windowSize = windowSize;
+	}
+
+	/**
+	 * @return true if fingerprints &amp; rows are cached between reads
+	 */
+	public boolean isCaching()
+	{
+		return caching;
+	}
+
+	/**
+	 * Set flag to cache the fingerprints &amp; rows between reads<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Caching requires memory for every row read. Disable for very large tables that are only read once.
+	 * <BR>
+	 * 2) Disabling caching clears the cache<BR>
+	 * 
+	 * @param caching - true to only transfer the cells of rows that changed since the last read
+	 */
+	public void setCaching(boolean caching)
+	{
+		this.caching = caching;
+		if (!caching)
+			clearCache();
+	}
+
+	/**
+	 * Clears the cached fingerprints &amp; rows such that the next read fetches all rows
+	 */
+	public void clearCache()
+	{
+		if (fingerprints != null)
+			fingerprints.clear();
+
+		if (cache != null)
+			cache.clear();
+
+		if (order != null)
+			order.clear();
+	}
+
+	/**
+	 * Gets the number of rows that had the cells transferred during the last read. (Rows with an unchanged
+	 * fingerprint are not transferred when caching is enabled.)
+	 * 
+	 * @return int
+	 */
+	public int getFetchedCount()
+	{
+		return fetched;
+	}
+
+	/**
+	 * Returns an iterator over the rows of the table. Each iterator reads the table again.
+	 */
+	@Override
+	public Iterator<String[]> iterator()
+	{
+		return new RowIterator();
+	}
+
+	/**
+	 * Reads the entire table<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) All rows have the same number of columns (the max) with any missing cell set to the empty string<BR>
+	 * 
+	 * @return String[][]
+	 */
+	public String[][] toArray()
+	{
+		int maxColumnLength = 0;
+		List<String[]> rows = new ArrayList<String[]>();
+		for (String[] row : this)
+		{
+			rows.add(row);
+			maxColumnLength = Math.max(maxColumnLength, row.length);
+		}
+
+		String[][] data = new String[rows.size()][maxColumnLength];
+		for (int i = 0; i < rows.size(); i++)
+		{
+			String[] row = rows.get(i);
+			for (int j = 0; j < maxColumnLength; j++)
+			{
+				if (j < row.length)
+					data[i][j] = row[j];
+				else
+					data[i][j] = "";
+			}
+		}
+
+		return data;
+	}
+
+	/**
+	 * Finds the index of the 1st row that matches the row data given. The rest of the table is not read once
+	 * the row is found.<BR>
+	 * <BR>
+	 * <B>Notes: </B><BR>
+	 * 1) For debugging purposes, -1 returned if cannot find and -2 returned if an exception occurs<BR>
+	 * 2) All columns of the row must match (same as HTMLTableReader.findRowIndex)<BR>
+	 * 
+	 * @param rowData - row of data to find
+	 * @return less than 0 if not found else index of row
+	 */
+	public int findRowIndex(String[] rowData)
+	{
+		try
+		{
+			int index = 0;
+			for (String[] row : this)
+			{
+				boolean bFound = true;
+				for (int j = 0; j < row.length; j++)
+				{
+					if (!row[j].equals(rowData[j]))
+					{
+						bFound = false;
+						break;
+					}
+				}
+
+				if (bFound)
+					return index;
+
+				index++;
+			}
+
+			return -1;
+		}
+		catch (Exception ex)
+		{
+			return -2;
+		}
+	}
+
+	/**
+	 * Finds the index of the 1st row that matches ALL the criteria. The rest of the table is not read once
+	 * the row is found.<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The key (Integer) is the column number (zero based) for searchCriteria<BR>
+	 * 2) The value (String) is the search criteria for searchCriteria<BR>
+	 * 3) Supported Comparison options are the same as Compare.findRows<BR>
+	 * 
+	 * @param searchCriteria - Find row that matches ALL the column criteria
+	 * @param option - The comparison used to determine matches
+	 * @return -1 if not found else index of row
+	 */
+	public int findRowIndex(HashMap<Integer, String> searchCriteria, Comparison option)
+	{
+		int index = 0;
+		for (String[] row : this)
+		{
+			if (!Compare.findRows(new String[][] { row }, searchCriteria, option).isEmpty())
+				return index;
+
+			index++;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Gets the next window of rows<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The map has the same format as JS_Util.getTableWindow<BR>
+	 * 2) This method can be overridden in an inherited class to get the rows differently<BR>
+	 * 
+	 * @param bFirst - true if this is the 1st window of the read
+	 * @param nStart - Index of the 1st row of the window (ignored for virtual scrolling)
+	 * @param sKnownJSON - JSON object of the known fingerprints (key to fingerprint)
+	 * @return null if the window could not be read else Map with the rows
+	 */
+	protected Map<String, Object> getWindow(boolean bFirst, int nStart, String sKnownJSON)
+	{
+		if (bFirst)
+		{
+			table = Framework.findElement(driver, sLoc_Table);
+			scroller = null;
+			if (virtual)
+			{
+				if (sLoc_Scroll == null)
+					scroller = table;
+				else
+					scroller = Framework.findElement(driver, sLoc_Scroll);
+
+				JS_Util.execute(driver, "arguments[0].scrollTop = 0;", scroller);
+			}
+		}
+
+		int nCount = (virtual) ? 0 : windowSize;
+		return JS_Util.getTableWindow(driver, table, sXpath_Rows, sXpath_Cells, nStart, nCount, scroller,
+				sKeyAttribute, sKnownJSON);
+	}
+
+	/**
+	 * Gets the known fingerprints to send with the next window. Only the fingerprints of the rows that are
+	 * expected (based on the last complete read) near the next window are sent to limit the data transferred.
+	 * 
+	 * @param nEmitted - Number of rows returned so far in the current read
+	 * @return JSON object of the known fingerprints (key to fingerprint)
+	 */
+	private String getKnownFingerprints(int nEmitted)
+	{
+		Map<String, String> known = new HashMap<String, String>();
+		if (caching)
+		{
+			int nFrom = Math.max(0, nEmitted - windowSize);
+			int nTo = Math.min(order.size(), nEmitted + 2 * windowSize);
+			for (int i = nFrom; i < nTo; i++)
+			{
+				String key = order.get(i);
+				if (cache.containsKey(key) && fingerprints.containsKey(key))
+					known.put(key, fingerprints.get(key));
+			}
+		}
+
+		return WS_Util.toJSON(known);
+	}
+
+	/**
+	 * Iterator that fetches the rows in windows as needed
+	 */
+	private class RowIterator implements Iterator<String[]> {
+		private LinkedList<String[]> buffer;
+		private Set<String> emitted;
+		private Map<String, Integer> occurrences;
+		private Map<String, String[]> replaced;
+		private boolean duplicates;
+		private List<String> keys;
+		private int nStart;
+		private int emptyWindows;
+		private boolean first;
+		private boolean done;
+
+		public RowIterator()
+		{
+			buffer = new LinkedList<String[]>();
+			emitted = new HashSet<String>();
+			occurrences = new HashMap<String, Integer>();
+			duplicates = false;
+			keys = new ArrayList<String>();
+			nStart = 0;
+			emptyWindows = 0;
+			first = true;
+			done = false;
+			fetched = 0;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			while (buffer.isEmpty() && !done)
+			{
+				fetchWindow();
+			}
+
+			return !buffer.isEmpty();
+		}
+
+		@Override
+		public String[] next()
+		{
+			if (!hasNext())
+				throw new NoSuchElementException("There are no more rows in the table");
+
+			return buffer.removeFirst();
+		}
+
+		/**
+		 * Fetches the next window of rows into the buffer
+		 */
+		@SuppressWarnings("unchecked")
+		private void fetchWindow()
+		{
+			String sKnownJSON = getKnownFingerprints(keys.size());
+			Map<String, Object> window = getWindow(first, nStart, sKnownJSON);
+			first = false;
+			if (window == null)
+				Logs.logError("Could not read the rows of the table using locator:  " + sLoc_Table);
+
+			List<Map<String, Object>> rows = (List<Map<String, Object>>) window.get("rows");
+			if (rows == null)
+				rows = new ArrayList<Map<String, Object>>();
+
+			int added = 0;
+			replaced = new HashMap<String, String[]>();
+			Map<String, Integer> counts = (virtual) ? new HashMap<String, Integer>() : occurrences;
+			for (Map<String, Object> item : rows)
+			{
+				String sKey = String.valueOf(item.get("key"));
+				String key = getUniqueKey(sKey, counts);
+				if (!emitted.add(key) && virtual)
+					continue;
+
+				// The browser matches the known fingerprints using the browser key (not the unique key)
+				String[] values;
+				List<Object> cells = (List<Object>) item.get("cells");
+				if (cells == null && getPrevious(sKey) != null)
+				{
+					values = getPrevious(sKey);
+				}
+				else
+				{
+					values = toRow(cells);
+					fetched++;
+				}
+
+				if (caching)
+					store(key, values);
+
+				if (caching)
+					fingerprints.put(key, String.valueOf(item.get("fp")));
+
+				keys.add(key);
+				buffer.add(values);
+				added++;
+			}
+
+			if (virtual)
+			{
+				boolean scrolled = Conversion.parseBoolean(String.valueOf(window.get("scrolled")));
+				if (added > 0)
+					emptyWindows = 0;
+				else
+					emptyWindows++;
+
+				if ((!scrolled && added == 0) || emptyWindows >= MAX_EMPTY_WINDOWS)
+					done = true;
+				else if (added == 0)
+					BaseWaitCondition.waitForChange(driver, Framework.getPollInterval(), emptyWindows);
+			}
+			else
+			{
+				nStart += rows.size();
+				int total = Conversion.parseInt(String.valueOf(window.get("total")), 0);
+				if (rows.isEmpty() || nStart >= total)
+					done = true;
+			}
+
+			if (done)
+				complete();
+		}
+
+		/**
+		 * Gets the cell values of the row before any changes by the current window
+		 * 
+		 * @param key - Key of the row
+		 * @return null if the row is not cached else String[]
+		 */
+		private String[] getPrevious(String key)
+		{
+			if (replaced.containsKey(key))
+				return replaced.get(key);
+
+			return cache.get(key);
+		}
+
+		/**
+		 * Stores the cell values of the row in the cache (keeping the values from before the current window
+		 * as the known fingerprints sent for the current window are for those values)
+		 * 
+		 * @param key - Key of the row
+		 * @param values - Cell values of the row
+		 */
+		private void store(String key, String[] values)
+		{
+			if (!replaced.containsKey(key))
+				replaced.put(key, cache.get(key));
+
+			cache.put(key, values);
+		}
+
+		/**
+		 * Gets the key that is unique for the current read<BR>
+		 * <BR>
+		 * <B>Notes:</B><BR>
+		 * 1) If the key attribute value was already used by an earlier row, then the occurrence number is
+		 * appended to the key (such that the row is not dropped) &amp; a warning is logged once per read<BR>
+		 * 2) For a virtual scrolling grid, only the rows in the same window are counted as the windows
+		 * overlap (i.e. rows with the same key in different windows are assumed to be the same row)<BR>
+		 * 
+		 * @param sKey - Key from the browser
+		 * @param counts - Number of times each key was already used
+		 * @return String
+		 */
+		private String getUniqueKey(String sKey, Map<String, Integer> counts)
+		{
+			Integer count = counts.get(sKey);
+			int occurrence = (count == null) ? 1 : count + 1;
+			counts.put(sKey, occurrence);
+			if (occurrence == 1)
+				return sKey;
+
+			if (!duplicates)
+			{
+				duplicates = true;
+				Logs.log.warn("Multiple rows have the same key (" + sKey + ") using the attribute ("
+						+ sKeyAttribute + ") for the table using locator:  " + sLoc_Table);
+			}
+
+			return sKey + "#" + occurrence;
+		}
+
+		/**
+		 * Updates the order of the rows &amp; removes the rows that no longer exist from the cache
+		 */
+		private void complete()
+		{
+			if (!caching)
+				return;
+
+			cache.keySet().retainAll(emitted);
+			fingerprints.keySet().retainAll(emitted);
+			order = keys;
+		}
+
+		/**
+		 * Converts the cells from the JSON to a row
+		 * 
+		 * @param cells - Cells from the JSON
+		 * @return String[]
+		 */
+		private String[] toRow(List<Object> cells)
+		{
+			if (cells == null)
+				return new String[0];
+
+			String[] row = new String[cells.size()];
+			for (int i = 0; i < cells.size(); i++)
+			{
+				row[i] = Conversion.nonNull(cells.get(i));
+			}
+
+			return row;
+		}
+	}
+}
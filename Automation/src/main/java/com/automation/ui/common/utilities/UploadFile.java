@@ -1,11 +1,8 @@
 package com.automation.ui.common.utilities;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
@@ -106,6 +103,11 @@ public class UploadFile {
 	// Flag to indicate whether to write the Content Type
 	private boolean _WriteContentType;
 
+	/**
+	 * Flag to indicate if chunked streaming mode is used instead of fixed length streaming mode
+	 */
+	private boolean _ChunkedStreaming;
+
 	/**
 	 * Constructor - Initializes all variables to default values
 	 */
@@ -435,6 +437,30 @@ public class UploadFile {
 		return _EncodedFilename;
 	}
 
+	/**
+	 * Sets whether to use chunked streaming mode instead of fixed length streaming mode<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) By default, fixed length streaming mode is used (Content-Length is sent) as some servers do not
+	 * support chunked requests<BR>
+	 * 
+	 * @param _ChunkedStreaming - true to use chunked streaming mode
+	 */
+	public void setChunkedStreaming(boolean _ChunkedStreaming)
+	{
+		this._ChunkedStreaming = _ChunkedStreaming;
+	}
+
+	/**
+	 * Gets the flag that indicates if chunked streaming mode is used
+	 * 
+	 * @return _ChunkedStreaming
+	 */
+	public boolean getChunkedStreaming()
+	{
+		return _ChunkedStreaming;
+	}
+
 	/**
 	 * Sets the flag _WriteContentType to true
 	 */
@@ -558,55 +584,8 @@ public class UploadFile {
 				httpConn.setRequestProperty("Cookie", _Cookies);
 			}
 
-			// Add the body content
-			StringBuffer sb = new StringBuffer();
-			sb.append(_2Dashes + sBoundary + _NewLine);
-			sb.append("Content-Disposition: form-data; name=\"chunks\"" + _NewLine + _NewLine);
-			sb.append("1" + _NewLine);
-
-			sb.append(_2Dashes + sBoundary + _NewLine);
-			sb.append("Content-Disposition: form-data; name=\"name\"" + _NewLine + _NewLine);
-			sb.append(_EncodedFilename + _NewLine);
-
-			sb.append(_2Dashes + sBoundary + _NewLine);
-			sb.append("Content-Disposition: form-data; name=\"chunk\"" + _NewLine + _NewLine);
-			sb.append("0" + _NewLine);
-
-			sb.append(_2Dashes + sBoundary + _NewLine);
-			sb.append("Content-Disposition: form-data; name=\"file\"; filename=\"" + _EncodedFilename + "\""
-					+ _NewLine);
-
-			sb.append(getContentType());
-
-			// Read the file
-			File f = new File(_File);
-			FileInputStream fis = new FileInputStream(f);
-			byte[] binaryFile = new byte[(int) f.length()];
-			fis.read(binaryFile);
-			fis.close();
-
-			// This needs to be on a separate line after the file
-			String sComplete = _NewLine + _2Dashes + sBoundary + _2Dashes + _NewLine;
-
-			/*
-			 * Write the entire body content to the stream
-			 */
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			baos.write(sb.toString().getBytes());
-			baos.write(binaryFile);
-			baos.write(sComplete.getBytes());
-
-			// Now the Content-Length can be set correctly
-			int nContentLength = sb.length() + binaryFile.length + sComplete.length();
-			httpConn.setRequestProperty("Content-Length", String.valueOf(nContentLength));
-
-			// Write the content of the request to the stream of the HTTP Connection.
-			OutputStream out = httpConn.getOutputStream();
-
-			// Ready with sending the request.
-			baos.writeTo(out);
-			baos.close();
-			out.close();
+			// Stream the body content (Content-Length is set by the streaming mode)
+			getBody(sBoundary).writeTo(httpConn);
 
 			try
 			{
@@ -686,11 +665,7 @@ public class UploadFile {
 			// Some what unique string
 			String sBoundary = "----pluploadboundary" + Long.toString(System.currentTimeMillis());
 
-			/*
-			 * Set the appropriate HTTP parameters.
-			 * 
-			 * Note: Content-Length needs to be set later when the length is known
-			 */
+			// Set the appropriate HTTP parameters.
 			WS_Util.setRequestProperty(httpsConn, getCustomHeaders());
 			httpsConn.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + sBoundary);
 			httpsConn.setRequestProperty("Connection", "keep-alive");
@@ -707,54 +682,8 @@ public class UploadFile {
 				httpsConn.setRequestProperty("Cookie", _Cookies);
 			}
 
-			// Add the body content
-			StringBuffer sb = new StringBuffer();
-			sb.append(_2Dashes + sBoundary + _NewLine);
-			sb.append("Content-Disposition: form-data; name=\"chunks\"" + _NewLine + _NewLine);
-			sb.append("1" + _NewLine);
-
-			sb.append(_2Dashes + sBoundary + _NewLine);
-			sb.append("Content-Disposition: form-data; name=\"name\"" + _NewLine + _NewLine);
-			sb.append(_EncodedFilename + _NewLine);
-
-			sb.append(_2Dashes + sBoundary + _NewLine);
-			sb.append("Content-Disposition: form-data; name=\"chunk\"" + _NewLine + _NewLine);
-			sb.append("0" + _NewLine);
-
-			sb.append(_2Dashes + sBoundary + _NewLine);
-			sb.append("Content-Disposition: form-data; name=\"file\"; filename=\"" + _EncodedFilename + "\""
-					+ _NewLine);
-			sb.append(getContentType());
-
-			// Read the file
-			File f = new File(_File);
-			FileInputStream fis = new FileInputStream(f);
-			byte[] binaryFile = new byte[(int) f.length()];
-			fis.read(binaryFile);
-			fis.close();
-
-			// This needs to be on a separate line after the file
-			String sComplete = _NewLine + _2Dashes + sBoundary + _2Dashes + _NewLine;
-
-			/*
-			 * Write the entire body content to the stream
-			 */
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			baos.write(sb.toString().getBytes());
-			baos.write(binaryFile);
-			baos.write(sComplete.getBytes());
-
-			// Now the Content-Length can be set correctly
-			int nContentLength = sb.length() + binaryFile.length + sComplete.length();
-			httpsConn.setRequestProperty("Content-Length", String.valueOf(nContentLength));
-
-			// Write the content of the request to the stream of the HTTP Connection.
-			OutputStream out = httpsConn.getOutputStream();
-
-			// Ready with sending the request.
-			baos.writeTo(out);
-			baos.close();
-			out.close();
+			// Stream the body content (Content-Length is set by the streaming mode)
+			getBody(sBoundary).writeTo(httpsConn);
 
 			try
 			{
@@ -778,6 +707,42 @@ public class UploadFile {
 		}
 	}
 
+	/**
+	 * Gets the body content of the request which streams the file when written
+	 * 
+	 * @param sBoundary - Boundary used in the request
+	 * @return MultipartWriter
+	 */
+	private MultipartWriter getBody(String sBoundary)
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append(_2Dashes + sBoundary + _NewLine);
+		sb.append("Content-Disposition: form-data; name=\"chunks\"" + _NewLine + _NewLine);
+		sb.append("1" + _NewLine);
+
+		sb.append(_2Dashes + sBoundary + _NewLine);
+		sb.append("Content-Disposition: form-data; name=\"name\"" + _NewLine + _NewLine);
+		sb.append(_EncodedFilename + _NewLine);
+
+		sb.append(_2Dashes + sBoundary + _NewLine);
+		sb.append("Content-Disposition: form-data; name=\"chunk\"" + _NewLine + _NewLine);
+		sb.append("0" + _NewLine);
+
+		sb.append(_2Dashes + sBoundary + _NewLine);
+		sb.append("Content-Disposition: form-data; name=\"file\"; filename=\"" + _EncodedFilename + "\""
+				+ _NewLine);
+		sb.append(getContentType());
+
+		MultipartWriter body = new MultipartWriter();
+		body.setChunked(_ChunkedStreaming);
+		body.addText(sb.toString());
+		body.addFile(_File);
+
+		// This needs to be on a separate line after the file
+		body.addText(_NewLine + _2Dashes + sBoundary + _2Dashes + _NewLine);
+		return body;
+	}
+
 	/**
 	 * Based on flag _WriteContentType gets the Content Type to be written<BR>
 	 * <BR>
@@ -4,7 +4,10 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.IOUtils;
 
@@ -12,16 +15,30 @@ import com.automation.ui.common.dataStructures.Parameter;
 import com.ximpleware.AutoPilot;
 import com.ximpleware.VTDGen;
 import com.ximpleware.VTDNav;
+import com.ximpleware.XPathParseException;
 
 /**
  * This class uses VTD-XML for reading from an XML file. Use this class if having performance issues with the
- * XML class.
+ * XML class.<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Compiled xpaths are cached for the document such that the same xpath is only compiled once<BR>
+ * 2) This class is not thread safe (as VTDNav is not thread safe.) Use a separate instance per thread.<BR>
+ * 3) The entire file is read into memory. Use VTD_XML_Huge for very large files.<BR>
  */
-public class VTD_XML {
+public class VTD_XML implements Iterable<String[]> {
+	/**
+	 * Max number of compiled xpaths to cache for the document
+	 */
+	protected static final int _MaxCompiledXpaths = 512;
+
 	protected VTDGen vg;
 	protected VTDNav vn;
 	protected AutoPilot ap;
 
+	// Compiled xpaths for the document (least recently used is removed when full)
+	protected Map<String, AutoPilot> compiled;
+
 	// Used in navigation to determine if the parent node was selected
 	protected boolean bSetNode = false;
 
@@ -95,6 +112,77 @@ public class VTD_XML {
 		// Retrieve the VTDNav object from VTDGen & instantiate the AutoPilot object
 		vn = vg.getNav();
 		ap = new AutoPilot(vn);
+		compiled = null;
+	}
+
+	/**
+	 * Creates a copy that shares the parsed XML but has its own navigator<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The XML is not parsed again as such this is much faster than constructing a new object<BR>
+	 * 2) The parsed XML is read only as such each thread can safely use its own copy<BR>
+	 * 3) The copy starts at the root node regardless of the current node of this object<BR>
+	 * 
+	 * @return VTD_XML
+	 */
+	public VTD_XML copy()
+	{
+		VTD_XML copy = new VTD_XML();
+		copy.vg = vg;
+		copy.vn = vn.cloneNav();
+		try
+		{
+			copy.vn.toElement(VTDNav.ROOT);
+		}
+		catch (Exception ex)
+		{
+		}
+
+		copy.ap = new AutoPilot(copy.vn);
+		copy.compiled = null;
+		return copy;
+	}
+
+	/**
+	 * Gets the compiled xpath (compiling &amp; caching the xpath if necessary) ready to be evaluated<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Relative xpaths are evaluated from the current node of the navigator<BR>
+	 * 2) The same object is returned for the same xpath as such an evaluation must be completed before the
+	 * same xpath is selected again<BR>
+	 * 
+	 * @param sXpath - xpath to be evaluated
+	 * @return AutoPilot
+	 * @throws XPathParseException if the xpath could not be compiled
+	 */
+	protected AutoPilot select(String sXpath) throws XPathParseException
+	{
+		if (compiled == null)
+		{
+			compiled = new LinkedHashMap<String, AutoPilot>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, AutoPilot> eldest)
+				{
+					return size() > _MaxCompiledXpaths;
+				}
+			};
+		}
+
+		AutoPilot xpath = compiled.get(sXpath);
+		if (xpath == null)
+		{
+			xpath = new AutoPilot(vn);
+			xpath.selectXPath(sXpath);
+			compiled.put(sXpath, xpath);
+		}
+		else
+		{
+			xpath.resetXPath();
+		}
+
+		return xpath;
 	}
 
 	/**
@@ -106,6 +194,7 @@ public class VTD_XML {
 	 * 1) On a 32-bit system, the max memory I was able to allocate was 1.6GB.<BR>
 	 * 2) On a 64-bit system, no memory allocation was need but application must be run from command line.
 	 * (This may be that eclipse was not running the 64-bit version of Java.)<BR>
+	 * 3) For larger files (or to keep the heap small), use VTD_XML_Huge which memory maps the file<BR>
 	 * <BR>
 	 * <B>Examples:</B><BR>
 	 * 1) Given following XML and you want to parse values for var1 & var2<BR>
@@ -135,10 +224,7 @@ public class VTD_XML {
 		/*
 		 * Break the root xpath into pieces for navigation by toElement
 		 */
-		if (sRootXpath.startsWith("/"))
-			toRootXpath = sRootXpath.substring(1).split("/");
-		else
-			toRootXpath = sRootXpath.split("/");
+		toRootXpath = toNodes(sRootXpath);
 
 		/*
 		 * Break each node xpath into pieces for navigation by toElement
@@ -147,13 +233,24 @@ public class VTD_XML {
 		toEachNode = new String[nNodes][getMaxArraySize(eachNodesXpath)];
 		for (int i = 0; i < nNodes; i++)
 		{
-			if (eachNodesXpath[i].startsWith("/"))
-				toEachNode[i] = eachNodesXpath[i].substring(1).split("/");
-			else
-				toEachNode[i] = eachNodesXpath[i].split("/");
+			toEachNode[i] = toNodes(eachNodesXpath[i]);
 		}
 	}
 
+	/**
+	 * Breaks a simple xpath (only node names) into pieces for navigation by toElement
+	 * 
+	 * @param sXpath - Simple xpath
+	 * @return String[]
+	 */
+	protected static String[] toNodes(String sXpath)
+	{
+		if (sXpath.startsWith("/"))
+			return sXpath.substring(1).split("/");
+		else
+			return sXpath.split("/");
+	}
+
 	/**
 	 * Given an array of xpaths, the method determines which xpath is the largest. This can be used to
 	 * allocate an array to hold the values after parsing.
@@ -213,11 +310,10 @@ public class VTD_XML {
 	{
 		try
 		{
-			ap.resetXPath();
-			ap.selectXPath(sXpath);
+			AutoPilot xpath = select(sXpath);
 
 			// Evaluate the xpath which returns the node index
-			int nNodeIndex = ap.evalXPath();
+			int nNodeIndex = xpath.evalXPath();
 
 			// If valid index, continue to find value
 			if (nNodeIndex != -1)
@@ -262,11 +358,10 @@ public class VTD_XML {
 	{
 		try
 		{
-			ap.resetXPath();
-			ap.selectXPath(sXpath);
+			AutoPilot xpath = select(sXpath);
 
 			// Evaluate the xpath which returns the node index
-			int nNodeIndex = ap.evalXPath();
+			int nNodeIndex = xpath.evalXPath();
 
 			// If valid index, continue to find value
 			if (nNodeIndex != -1)
@@ -310,12 +405,11 @@ public class VTD_XML {
 	{
 		try
 		{
-			ap.resetXPath();
-			ap.selectXPath(sXpath);
+			AutoPilot xpath = select(sXpath);
 			String sConvert = null;
 
 			// Evaluate the xpath which returns the node index
-			int nNodeIndex = ap.evalXPath();
+			int nNodeIndex = xpath.evalXPath();
 
 			// If valid index, continue to find value
 			if (nNodeIndex != -1)
@@ -367,9 +461,8 @@ public class VTD_XML {
 		int nCount = 0;
 		try
 		{
-			ap.resetXPath();
-			ap.selectXPath(sXpath);
-			while (ap.evalXPath() != -1)
+			AutoPilot xpath = select(sXpath);
+			while (xpath.evalXPath() != -1)
 			{
 				nCount++;
 			}
@@ -395,21 +488,59 @@ public class VTD_XML {
 	{
 		// step 1: Get the number of nodes
 		// step 2: Initialize the array that will hold the data
-		// step 3: Use a loop to construct the unique xpath to node with data
+		// step 3: Evaluate each node (compiled once) relative to each root node to get the data
 		// step 4: Return the data
 		int nNodes = getNodesCount(sRootXpath);
 		String[][] data = new String[nNodes][sEachNode.length];
-		for (int i = 0; i < nNodes; i++)
+		if (nNodes == 0)
+			return data;
+
+		String[] relative = new String[sEachNode.length];
+		for (int j = 0; j < sEachNode.length; j++)
 		{
-			for (int j = 0; j < sEachNode.length; j++)
+			// Leading slash is a descendant of the root node when appended to the root xpath
+			relative[j] = (sEachNode[j].startsWith("/")) ? "./" + sEachNode[j] : sEachNode[j];
+		}
+
+		try
+		{
+			AutoPilot root = select(sRootXpath);
+			for (int i = 0; i < nNodes && root.evalXPath() != -1; i++)
 			{
-				data[i][j] = getNodeValue(sRootXpath + "[" + (i + 1) + "]/" + sEachNode[j], null);
+				for (int j = 0; j < relative.length; j++)
+				{
+					vn.push();
+					data[i][j] = getText(select(relative[j]));
+					vn.pop();
+				}
 			}
 		}
+		catch (Exception ex)
+		{
+		}
 
 		return data;
 	}
 
+	/**
+	 * Evaluates the compiled xpath &amp; gets the value of the first node
+	 * 
+	 * @param xpath - Compiled xpath that is ready to be evaluated
+	 * @return null if no node or node has no value
+	 * @throws Exception if evaluating the xpath causes an exception
+	 */
+	protected String getText(AutoPilot xpath) throws Exception
+	{
+		if (xpath.evalXPath() != -1)
+		{
+			int nValueIndex = vn.getText();
+			if (nValueIndex != -1)
+				return vn.toString(nValueIndex);
+		}
+
+		return null;
+	}
+
 	/**
 	 * Gets the attribute to the specified node.<BR>
 	 * <BR>
@@ -424,11 +555,10 @@ public class VTD_XML {
 	{
 		try
 		{
-			ap.resetXPath();
-			ap.selectXPath(sXpath);
+			AutoPilot xpath = select(sXpath);
 
 			// Evaluate the xpath which returns the node index
-			int nNodeIndex = ap.evalXPath();
+			int nNodeIndex = xpath.evalXPath();
 
 			// If valid index, continue to find value
 			if (nNodeIndex != -1)
@@ -512,6 +642,36 @@ public class VTD_XML {
 		}
 	}
 
+	/**
+	 * Gets an iterator that lazily reads the records using the method getNextNode()<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The method initializeForOptimizedParsing must be called before the iterator is used<BR>
+	 * 2) Each iterator starts from the first record. Do not use multiple iterators at the same time.<BR>
+	 * 
+	 * @return Iterator&lt;String[]&gt;
+	 */
+	@Override
+	public Iterator<String[]> iterator()
+	{
+		try
+		{
+			vn.toElement(VTDNav.ROOT);
+			bSetNode = false;
+		}
+		catch (Exception ex)
+		{
+		}
+
+		return new BaseRecordIterator() {
+			@Override
+			protected String[] getNext()
+			{
+				return getNextNode();
+			}
+		};
+	}
+
 	/**
 	 * Navigates to the last node in the array starting from the specified node in the particular direction.
 	 * 
@@ -602,11 +762,10 @@ public class VTD_XML {
 
 		try
 		{
-			ap.resetXPath();
-			ap.selectXPath(sXpath);
+			AutoPilot xpath = select(sXpath);
 
 			// Evaluate the xpath which returns the node index
-			int nNodeIndex = ap.evalXPath();
+			int nNodeIndex = xpath.evalXPath();
 
 			// If valid index, continue to find attribute values
 			if (nNodeIndex != -1)
@@ -632,6 +791,52 @@ public class VTD_XML {
 		}
 	}
 
+	/**
+	 * Gets the attributes on all the nodes that match the xpath in a single pass<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Parameter class is being re-used here. Parameter.param contains attribute to find. Parameter.value
+	 * contains default value if attribute is not found.<BR>
+	 * 2) The xpath is only evaluated once instead of once per node which is faster than using getAttribute
+	 * with an indexed xpath for each node<BR>
+	 * 3) The attributes for each node are in the same order as the specified attributes<BR>
+	 * 
+	 * @param sXpath - xpath to the nodes
+	 * @param attributes - List of attributes to find and default values if attribute is not found
+	 * @return List&lt;List&lt;Parameter&gt;&gt; - attributes for each node in document order (empty if any
+	 *         error occurs)
+	 */
+	public List<List<Parameter>> getAllAttributes(String sXpath, List<Parameter> attributes)
+	{
+		List<List<Parameter>> all = new ArrayList<List<Parameter>>();
+
+		try
+		{
+			AutoPilot xpath = select(sXpath);
+			while (xpath.evalXPath() != -1)
+			{
+				List<Parameter> data = new ArrayList<Parameter>();
+				for (Parameter p : attributes)
+				{
+					// If attribute exists, then get value else use default
+					int nAttrIndex = vn.getAttrVal(p.param);
+					if (nAttrIndex != -1)
+						data.add(new Parameter(p.param, vn.toString(nAttrIndex)));
+					else
+						data.add(new Parameter(p.param, p.value));
+				}
+
+				all.add(data);
+			}
+		}
+		catch (Exception ex)
+		{
+			all.clear();
+		}
+
+		return all;
+	}
+
 	/**
 	 * Gets the attribute to the specified node.<BR>
 	 * <BR>
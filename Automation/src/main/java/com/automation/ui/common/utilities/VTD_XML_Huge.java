@@ -0,0 +1,247 @@
+package com.automation.ui.common.utilities;
+
+import java.util.Iterator;
+
+import com.ximpleware.extended.AutoPilotHuge;
+import com.ximpleware.extended.VTDGenHuge;
+import com.ximpleware.extended.VTDNavHuge;
+
+/**
+ * This class uses the extended VTD-XML (huge file mode) for reading records from very large XML files<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) By default, the file is memory mapped instead of being read into memory which removes the 2GB limit
+ * &amp; the need for a large heap. Only the VTD index of the document is kept in memory.<BR>
+ * 2) Records are read lazily one at a time using getNextNode() or the iterator in the same manner as
+ * VTD_XML<BR>
+ * 3) This class is not thread safe<BR>
+ */
+public class VTD_XML_Huge implements Iterable<String[]> {
+	protected VTDGenHuge vg;
+	protected VTDNavHuge vn;
+
+	// Used in navigation to determine if the parent node was selected
+	protected boolean bSetNode = false;
+
+	// Node list to the root xpath
+	protected String[] toRootXpath;
+
+	// Node list to each node
+	protected String[][] toEachNode;
+
+	/**
+	 * Constructor - Memory maps the XML file
+	 * 
+	 * @param sFile - Location of XML file to parse
+	 * @throws GenericUnexpectedException if the file could not be parsed
+	 */
+	public VTD_XML_Huge(String sFile)
+	{
+		this(sFile, true);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param sFile - Location of XML file to parse
+	 * @param bMemoryMapped - true to memory map the file, false to read the file into memory
+	 * @throws GenericUnexpectedException if the file could not be parsed
+	 */
+	public VTD_XML_Huge(String sFile, boolean bMemoryMapped)
+	{
+		int nMode = (bMemoryMapped) ? VTDGenHuge.MEM_MAPPED : VTDGenHuge.IN_MEMORY;
+		vg = new VTDGenHuge();
+
+		// Set namespace awareness to true
+		if (!vg.parseFile(sFile, true, nMode))
+			Logs.logError("Could not parse the XML file:  " + sFile);
+
+		vn = vg.getNav();
+	}
+
+	/**
+	 * Initialization required before use of method getNextNode() or the iterator<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) See VTD_XML.initializeForOptimizedParsing for examples<BR>
+	 * 
+	 * @param sRootXpath - the root xpath
+	 * @param eachNodesXpath - the xpath to each of the nodes to be stored in the array
+	 */
+	public void initializeForOptimizedParsing(String sRootXpath, String[] eachNodesXpath)
+	{
+		toRootXpath = VTD_XML.toNodes(sRootXpath);
+		toEachNode = new String[eachNodesXpath.length][];
+		for (int i = 0; i < eachNodesXpath.length; i++)
+		{
+			toEachNode[i] = VTD_XML.toNodes(eachNodesXpath[i]);
+		}
+	}
+
+	/**
+	 * This method navigates to the next node and returns the data in an array using the method extractData()
+	 * 
+	 * @return null if no more data else array of strings
+	 */
+	public String[] getNextNode()
+	{
+		try
+		{
+			if (!bSetNode)
+			{
+				bSetNode = true;
+				if (!navigateToNode(toRootXpath, 1, VTDNavHuge.FIRST_CHILD))
+					return null;
+			}
+			else
+			{
+				// Restore previous state to get next sibling
+				vn.pop();
+
+				// Use the last node in toRootXpath, to go to the next sibling
+				if (!vn.toElement(VTDNavHuge.NEXT_SIBLING, toRootXpath[toRootXpath.length - 1]))
+					return null;
+			}
+
+			// Need to store state for later after getting data
+			vn.push();
+			return extractData();
+		}
+		catch (Exception ex)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Gets an iterator that lazily reads the records using the method getNextNode()<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The method initializeForOptimizedParsing must be called before the iterator is used<BR>
+	 * 2) Each iterator starts from the first record. Do not use multiple iterators at the same time.<BR>
+	 * 
+	 * @return Iterator&lt;String[]&gt;
+	 */
+	@Override
+	public Iterator<String[]> iterator()
+	{
+		try
+		{
+			vn.toElement(VTDNavHuge.ROOT);
+			bSetNode = false;
+		}
+		catch (Exception ex)
+		{
+		}
+
+		return new BaseRecordIterator() {
+			@Override
+			protected String[] getNext()
+			{
+				return getNextNode();
+			}
+		};
+	}
+
+	/**
+	 * Navigates to the last node in the array starting from the specified node in the particular direction.
+	 * 
+	 * @param nodes - array of nodes to navigate through
+	 * @param nStartAt - index of array node to start with
+	 * @param nDirection - Direction supported by VTD-XML
+	 * @return true if successfully navigated through the nodes else false
+	 */
+	protected boolean navigateToNode(String[] nodes, int nStartAt, int nDirection)
+	{
+		try
+		{
+			for (int i = nStartAt; i < nodes.length; i++)
+			{
+				// If unable to navigate to the node, then return false which indicates an error
+				if (!vn.toElement(nDirection, nodes[i]))
+					return false;
+			}
+
+			// Able to navigate to the node
+			return true;
+		}
+		catch (Exception ex)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * This method reads the current node and returns it as an array
+	 * 
+	 * @return String[]
+	 */
+	protected String[] extractData()
+	{
+		try
+		{
+			String[] data = new String[toEachNode.length];
+			for (int nNodes = 0; nNodes < toEachNode.length; nNodes++)
+			{
+				// Store state for later
+				vn.push();
+
+				// Assume no data
+				data[nNodes] = null;
+
+				// Need to go to the node & get the data
+				if (navigateToNode(toEachNode[nNodes], 0, VTDNavHuge.FIRST_CHILD))
+				{
+					int nValueIndex = vn.getText();
+					if (nValueIndex != -1)
+						data[nNodes] = vn.toString(nValueIndex);
+				}
+
+				// Restore state from before
+				vn.pop();
+			}
+
+			return data;
+		}
+		catch (Exception ex)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the first nodes value for xpath as a String<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) This is intended for reading header information. Use getNextNode() or the iterator for records.<BR>
+	 * 2) The current record is not affected<BR>
+	 * 
+	 * @param sXpath - xpath to node
+	 * @param sDefault - value returned if exception occurs
+	 * @return String
+	 */
+	public String getNodeValue(String sXpath, String sDefault)
+	{
+		vn.push();
+		try
+		{
+			AutoPilotHuge ap = new AutoPilotHuge(vn);
+			ap.selectXPath(sXpath);
+			if (ap.evalXPath() != -1)
+			{
+				int nValueIndex = vn.getText();
+				if (nValueIndex != -1)
+					return vn.toString(nValueIndex);
+			}
+		}
+		catch (Exception ex)
+		{
+		}
+		finally
+		{
+			vn.pop();
+		}
+
+		return sDefault;
+	}
+}
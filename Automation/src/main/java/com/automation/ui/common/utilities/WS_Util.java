@@ -1,32 +1,58 @@
 package com.automation.ui.common.utilities;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.net.URLConnection;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Base64InputStream;
+import org.apache.commons.codec.binary.Base64OutputStream;
 import org.apache.commons.io.IOUtils;
-import org.apache.pdfbox.pdfparser.PDFParser;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.util.PDFTextStripper;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.openqa.selenium.WebDriver;
 
 import com.automation.ui.common.dataStructures.Parameter;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * This class provides useful functionality working with web services
  */
 public class WS_Util {
+	/**
+	 * Size of the buffer used to read streams
+	 */
+	private static final int _BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Charset of base64 encoded content
+	 */
+	private static final String _Base64Charset = "US-ASCII";
+
+	/**
+	 * Buffer (for each thread) that is reused to read streams
+	 */
+	private static final ThreadLocal<byte[]> _Buffer = new ThreadLocal<byte[]>() {
+		@Override
+		protected byte[] initialValue()
+		{
+			return new byte[_BUFFER_SIZE];
+		}
+	};
+
 	/**
 	 * Reads a file and returns it as a String<BR>
 	 * <BR>
@@ -219,6 +245,9 @@ public class WS_Util {
 	 * <B>Notes:</B><BR>
 	 * 1) Use Charset.availableCharsets() to get the available charsets that can be used<BR>
 	 * 2) Use Charset.defaultCharset() if you need to know the default charset for the machine<BR>
+	 * 3) The bytes are copied using a reusable buffer &amp; decoded once which keeps the original line
+	 * endings<BR>
+	 * 4) Use toReader if the response is large &amp; does not need to be stored as a string<BR>
 	 * 
 	 * @param inputStream - input stream
 	 * @param charsetName - The name of a supported charset to use
@@ -227,21 +256,11 @@ public class WS_Util {
 	 */
 	public static String toString(InputStream inputStream, String charsetName, boolean bDebug)
 	{
-		InputStreamReader isr = null;
 		try
 		{
-			// Put input stream into buffer to read easily
-			isr = new InputStreamReader(inputStream, charsetName);
-			BufferedReader in = new BufferedReader(isr);
-
-			String responseString = "";
-			String outputString = "";
-			while ((responseString = in.readLine()) != null)
-			{
-				outputString += responseString;
-			}
-
-			return outputString;
+			// Validate the charset before reading the stream
+			Charset charset = Charset.forName(charsetName);
+			return new String(toByteArray(inputStream), charset);
 		}
 		catch (Exception ex)
 		{
@@ -252,16 +271,96 @@ public class WS_Util {
 		}
 		finally
 		{
-			try
-			{
-				isr.close();
-			}
-			catch (Exception e)
-			{
-			}
+			IOUtils.closeQuietly(inputStream);
 		}
 	}
 
+	/**
+	 * Reads the input stream into a byte array using a reusable buffer (the stream is not closed)
+	 * 
+	 * @param inputStream - input stream
+	 * @return byte[]
+	 * @throws IOException if an error occurs reading the stream
+	 */
+	private static byte[] toByteArray(InputStream inputStream) throws IOException
+	{
+		byte[] buffer = _Buffer.get();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(buffer.length);
+		int nRead;
+		while ((nRead = inputStream.read(buffer)) != -1)
+		{
+			bytes.write(buffer, 0, nRead);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Gets a reader for the input stream such that the response can be processed without storing it all in
+	 * memory<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The caller is responsible for closing the reader (which closes the input stream)<BR>
+	 * 2) Use Charset.availableCharsets() to get the available charsets that can be used<BR>
+	 * 
+	 * @param inputStream - input stream
+	 * @param charsetName - The name of a supported charset to use
+	 * @return null if input stream is null or the charset is not supported else Reader
+	 */
+	public static Reader toReader(InputStream inputStream, String charsetName)
+	{
+		if (inputStream == null)
+			return null;
+
+		try
+		{
+			return new BufferedReader(new InputStreamReader(inputStream, Charset.forName(charsetName)),
+					_BUFFER_SIZE);
+		}
+		catch (Exception ex)
+		{
+			IOUtils.closeQuietly(inputStream);
+			return null;
+		}
+	}
+
+	/**
+	 * Gets a reader for the input stream such that the response can be processed without storing it all in
+	 * memory<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Uses unicode charset (UTF-8)<BR>
+	 * 2) The caller is responsible for closing the reader (which closes the input stream)<BR>
+	 * 
+	 * @param inputStream - input stream
+	 * @return null if input stream is null else Reader
+	 */
+	public static Reader toReader(InputStream inputStream)
+	{
+		return toReader(inputStream, "UTF-8");
+	}
+
+	/**
+	 * Gets a buffered view of the input stream such that the response can be processed without storing it
+	 * all in memory<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The caller is responsible for closing the returned stream (which closes the input stream)<BR>
+	 * 
+	 * @param inputStream - input stream
+	 * @return null if input stream is null else InputStream
+	 */
+	public static InputStream toBufferedStream(InputStream inputStream)
+	{
+		if (inputStream == null)
+			return null;
+
+		if (inputStream instanceof BufferedInputStream)
+			return inputStream;
+
+		return new BufferedInputStream(inputStream, _BUFFER_SIZE);
+	}
+
 	/**
 	 * Reads the input stream, returns a string and closes stream<BR>
 	 * <BR>
@@ -300,15 +399,38 @@ public class WS_Util {
 	 */
 	public static String toStringFromPDF(InputStream inputStream)
 	{
+		return toStringFromPDF(inputStream, 1, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Reads the PDF from the input stream, returns a string of the text of the pages in the range and closes
+	 * stream<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The text is extracted 1 page at a time (see BasePDFPageReader)<BR>
+	 * 2) Use BasePDFPageReader to verify each page without storing the text of all the pages<BR>
+	 * 
+	 * @param inputStream - input stream that contains PDF
+	 * @param nStartPage - 1st page (inclusive, starting from 1)
+	 * @param nEndPage - Last page (inclusive, Integer.MAX_VALUE for all remaining pages)
+	 * @return empty string if an error occurs else text of the pages in the range
+	 */
+	public static String toStringFromPDF(InputStream inputStream, int nStartPage, int nEndPage)
+	{
+		final StringBuilder sb = new StringBuilder();
+
 		try
 		{
-			PDFParser parser = new PDFParser(inputStream);
-			parser.parse();
-			PDDocument pdf = parser.getPDDocument();
-			PDFTextStripper strip = new PDFTextStripper();
-			String sConvertedPDF = strip.getText(pdf);
-			pdf.close();
-			return sConvertedPDF;
+			new BasePDFPageReader() {
+				@Override
+				protected boolean process(String sText, int nPage)
+				{
+					sb.append(sText);
+					return true;
+				}
+			}.read(inputStream, nStartPage, nEndPage);
+
+			return sb.toString();
 		}
 		catch (Exception ex)
 		{
@@ -316,13 +438,7 @@ public class WS_Util {
 		}
 		finally
 		{
-			try
-			{
-				inputStream.close();
-			}
-			catch (Exception ex)
-			{
-			}
+			IOUtils.closeQuietly(inputStream);
 		}
 	}
 
@@ -428,9 +544,7 @@ public class WS_Util {
 	{
 		try
 		{
-			// Used to marshal and unmarshal JSON
-			ObjectMapper mapper = new ObjectMapper();
-			return mapper.writeValueAsString(data);
+			return JSON_Util.write(data);
 		}
 		catch (Exception ex)
 		{
@@ -615,10 +729,8 @@ public class WS_Util {
 	{
 		try
 		{
-			ObjectMapper mapper = new ObjectMapper();
-
 			@SuppressWarnings("unchecked")
-			Map<String, Object> data = mapper.readValue(sJSON, Map.class);
+			Map<String, Object> data = JSON_Util.read(sJSON, Map.class);
 
 			// Something is wrong if the Map is null
 			if (data != null)
@@ -674,31 +786,48 @@ public class WS_Util {
 	}
 
 	/**
-	 * Opens specified file and returns content as base64 encoded string
+	 * Opens specified file and returns content as base64 encoded string<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Use encodeFile or encode(InputStream, OutputStream) if the encoded content does not need to be
+	 * stored as a string<BR>
 	 * 
 	 * @param filename - File that content is to be encoded
 	 * @return null if an exception occurs else string that is base64 encoded
 	 */
 	public static String encode(String filename)
 	{
+		File file = new File(filename);
+		if (!file.isFile())
+			return null;
+
+		ByteArrayOutputStream encoded = new ByteArrayOutputStream((int) Math.min(Integer.MAX_VALUE - 8,
+				(file.length() + 2) / 3 * 4));
+		InputStream input = null;
 		try
 		{
-			File file = new File(filename);
-			FileInputStream fis = new FileInputStream(file);
-			byte[] binaryFile = new byte[(int) file.length()];
-			fis.read(binaryFile);
-			fis.close();
-			byte[] bytesEncoded = Base64.encodeBase64(binaryFile);
-			return new String(bytesEncoded);
+			input = new FileInputStream(file);
+			if (!encode(input, encoded))
+				return null;
+
+			return encoded.toString(_Base64Charset);
 		}
 		catch (Exception ex)
 		{
 			return null;
 		}
+		finally
+		{
+			IOUtils.closeQuietly(input);
+		}
 	}
 
 	/**
-	 * Decode the base64 encoded string and create the specified file
+	 * Decode the base64 encoded string and create the specified file<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The string is decoded in pieces as it is written to the file such that the decoded content is not
+	 * stored in memory<BR>
 	 * 
 	 * @param encoded - A base64 encoded string
 	 * @param filename - File to be created
@@ -706,18 +835,157 @@ public class WS_Util {
 	 */
 	public static boolean decode(String encoded, String filename)
 	{
+		OutputStream output = null;
 		try
 		{
-			byte[] bytesDecoded = Base64.decodeBase64(encoded);
-			FileOutputStream fos = new FileOutputStream(filename);
-			fos.write(bytesDecoded);
-			fos.close();
+			output = new FileOutputStream(filename);
+			OutputStream decoder = new Base64OutputStream(output, false);
+			for (int i = 0; i < encoded.length(); i += _BUFFER_SIZE)
+			{
+				int nEnd = Math.min(encoded.length(), i + _BUFFER_SIZE);
+				decoder.write(encoded.substring(i, nEnd).getBytes(_Base64Charset));
+			}
+
+			decoder.close();
 			return true;
 		}
 		catch (Exception ex)
 		{
 			return false;
 		}
+		finally
+		{
+			IOUtils.closeQuietly(output);
+		}
+	}
+
+	/**
+	 * Base64 encodes the input stream to the output stream<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The streams are not closed<BR>
+	 * 2) The encoded content has no line breaks (same as encode)<BR>
+	 * 3) Only a reusable buffer is used as such any size can be encoded<BR>
+	 * 
+	 * @param input - Stream to be encoded
+	 * @param output - Stream to write the encoded content to
+	 * @return true if successful else false
+	 */
+	public static boolean encode(InputStream input, OutputStream output)
+	{
+		try
+		{
+			// Closing the encoder writes the final block but the output stream must not be closed
+			OutputStream encoder = new Base64OutputStream(new CloseShieldOutputStream(output), true, 0, null);
+			copy(input, encoder);
+			encoder.close();
+			output.flush();
+			return true;
+		}
+		catch (Exception ex)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Decodes the base64 encoded input stream to the output stream<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The streams are not closed<BR>
+	 * 2) Line breaks in the encoded content are ignored<BR>
+	 * 3) Only a reusable buffer is used as such any size can be decoded<BR>
+	 * 
+	 * @param input - Stream that contains the base64 encoded content
+	 * @param output - Stream to write the decoded content to
+	 * @return true if successful else false
+	 */
+	public static boolean decode(InputStream input, OutputStream output)
+	{
+		try
+		{
+			copy(new Base64InputStream(new CloseShieldInputStream(input), false), output);
+			output.flush();
+			return true;
+		}
+		catch (Exception ex)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Base64 encodes the specified file &amp; writes the encoded content to another file
+	 * 
+	 * @param filename - File that content is to be encoded
+	 * @param encodedFilename - File to be created with the encoded content
+	 * @return true if the file with the encoded content is created successfully else false
+	 */
+	public static boolean encodeFile(String filename, String encodedFilename)
+	{
+		InputStream input = null;
+		OutputStream output = null;
+		try
+		{
+			input = new FileInputStream(filename);
+			output = new FileOutputStream(encodedFilename);
+			return encode(input, output);
+		}
+		catch (Exception ex)
+		{
+			return false;
+		}
+		finally
+		{
+			IOUtils.closeQuietly(input);
+			IOUtils.closeQuietly(output);
+		}
+	}
+
+	/**
+	 * Decodes the specified file that contains base64 encoded content &amp; creates another file with the
+	 * decoded content
+	 * 
+	 * @param encodedFilename - File that contains the base64 encoded content
+	 * @param filename - File to be created with the decoded content
+	 * @return true if file with decoded content is created successfully else false
+	 */
+	public static boolean decodeFile(String encodedFilename, String filename)
+	{
+		InputStream input = null;
+		OutputStream output = null;
+		try
+		{
+			input = new FileInputStream(encodedFilename);
+			output = new FileOutputStream(filename);
+			return decode(input, output);
+		}
+		catch (Exception ex)
+		{
+			return false;
+		}
+		finally
+		{
+			IOUtils.closeQuietly(input);
+			IOUtils.closeQuietly(output);
+		}
+	}
+
+	/**
+	 * Copies the input stream to the output stream using a reusable buffer (the streams are not closed)
+	 * 
+	 * @param input - Stream to read
+	 * @param output - Stream to write to
+	 * @throws IOException if an error occurs reading or writing
+	 */
+	private static void copy(InputStream input, OutputStream output) throws IOException
+	{
+		byte[] buffer = _Buffer.get();
+		int nRead;
+		while ((nRead = input.read(buffer)) != -1)
+		{
+			output.write(buffer, 0, nRead);
+		}
 	}
 
 	/**
@@ -736,10 +1004,8 @@ public class WS_Util {
 	{
 		try
 		{
-			ObjectMapper mapper = new ObjectMapper();
-
 			@SuppressWarnings("unchecked")
-			List<Object> data = mapper.readValue(sJSON, List.class);
+			List<Object> data = JSON_Util.read(sJSON, List.class);
 
 			// Something is wrong if the List is null
 			if (data != null)
@@ -12,7 +12,11 @@ import com.automation.ui.common.utilities.Framework;
 
 /**
  * Cache for reading an attribute on a WebElement
+ * 
+ * @deprecated Use ElementPropertyCache which caches the text &amp; attributes in a single cache (with
+ *             prefetching &amp; DOM change detection)
  */
+@Deprecated
 public class AttributeCache extends BaseGenericCache<WebElement> {
 	private String readAttribute;
 
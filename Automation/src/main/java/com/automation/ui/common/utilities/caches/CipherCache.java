@@ -0,0 +1,198 @@
+package com.automation.ui.common.utilities.caches;
+
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.xerces.impl.dv.util.Base64;
+
+/**
+ * Per thread cache of initialized ciphers<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Cipher.getInstance looks up the security provider each time which is expensive when decoding many
+ * values. Cipher objects are not thread safe as such each thread has its own cache.<BR>
+ * 2) Each thread keeps 1 cipher per (algorithm, transformation) which is only initialized again if the key
+ * or mode changes. (CryptoDESede uses a random key for each value as such keeping a cipher per key would
+ * create a cipher for each value.)<BR>
+ * 3) The secret keys are cached (least recently used is removed) by (algorithm, key)<BR>
+ * 4) Ciphers are always initialized again for encryption such that a cipher that generates a random IV
+ * never re-uses it<BR>
+ */
+public class CipherCache {
+	/**
+	 * Max number of secret keys to keep per thread
+	 */
+	public static final int _MaxKeys = 256;
+
+	/**
+	 * Separator used to create the keys for the cache
+	 */
+	private static final String _Separator = "|";
+
+	/**
+	 * Cache for each thread
+	 */
+	private static final ThreadLocal<CipherCache> local = new ThreadLocal<CipherCache>() {
+		@Override
+		protected CipherCache initialValue()
+		{
+			return new CipherCache();
+		}
+	};
+
+	/**
+	 * The ciphers (&amp; how they were last initialized) by (algorithm, transformation)
+	 */
+	private Map<String, Entry> ciphers;
+
+	/**
+	 * The secret keys by (algorithm, key)
+	 */
+	private Map<String, SecretKeySpec> keys;
+
+	/**
+	 * A cipher &amp; how it was last initialized
+	 */
+	private static class Entry {
+		private Cipher cipher;
+		private SecretKeySpec key;
+		private int mode;
+	}
+
+	/**
+	 * Constructor
+	 */
+	private CipherCache()
+	{
+		ciphers = new HashMap<String, Entry>();
+		keys = new LinkedHashMap<String, SecretKeySpec>(64, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, SecretKeySpec> eldest)
+			{
+				return size() > _MaxKeys;
+			}
+		};
+	}
+
+	/**
+	 * Gets a cipher that is initialized with the key &amp; mode for use by the calling thread only<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) The cipher must not be stored as the next call (from the same thread) may initialize it again<BR>
+	 * 
+	 * @param algorithm - Algorithm string
+	 * @param transformation - Transformation String (can be different than the algorithm string)
+	 * @param sKey - Valid key (Base64) used to generate secret key
+	 * @param mode - Cipher.ENCRYPT_MODE or Cipher.DECRYPT_MODE
+	 * @return Cipher
+	 * @throws GeneralSecurityException if the transformation is not supported or the key is invalid
+	 * @throws IllegalArgumentException if the key is not valid Base64
+	 */
+	public static Cipher get(String algorithm, String transformation, String sKey, int mode)
+			throws GeneralSecurityException
+	{
+		return local.get().getCipher(algorithm, transformation, sKey, mode);
+	}
+
+	/**
+	 * Gets the secret key (creating &amp; storing it if necessary) for use by the calling thread only
+	 * 
+	 * @param algorithm - Algorithm string
+	 * @param sKey - Valid key (Base64) used to generate secret key
+	 * @return SecretKeySpec
+	 * @throws IllegalArgumentException if the key is not valid Base64
+	 */
+	public static SecretKeySpec getKey(String algorithm, String sKey)
+	{
+		return local.get().getSecretKey(algorithm, sKey);
+	}
+
+	/**
+	 * Forces the cipher of the calling thread to be initialized again the next time it is used<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) This should be called if using the cipher throws an exception as the state of the cipher is
+	 * unknown<BR>
+	 * 
+	 * @param algorithm - Algorithm string
+	 * @param transformation - Transformation String
+	 */
+	public static void invalidate(String algorithm, String transformation)
+	{
+		Entry entry = local.get().ciphers.get(algorithm + _Separator + transformation);
+		if (entry != null)
+			entry.key = null;
+	}
+
+	/**
+	 * Removes all the ciphers &amp; secret keys of the calling thread
+	 */
+	public static void clearCache()
+	{
+		local.remove();
+	}
+
+	/**
+	 * Gets the secret key (creating &amp; storing it if necessary)
+	 * 
+	 * @param algorithm - Algorithm string
+	 * @param sKey - Valid key (Base64) used to generate secret key
+	 * @return SecretKeySpec
+	 */
+	private SecretKeySpec getSecretKey(String algorithm, String sKey)
+	{
+		String lookup = algorithm + _Separator + sKey;
+		SecretKeySpec key = keys.get(lookup);
+		if (key == null)
+		{
+			key = new SecretKeySpec(Base64.decode(sKey), algorithm);
+			keys.put(lookup, key);
+		}
+
+		return key;
+	}
+
+	/**
+	 * Gets the cipher initialized with the key &amp; mode (creating it if necessary)
+	 * 
+	 * @param algorithm - Algorithm string
+	 * @param transformation - Transformation String
+	 * @param sKey - Valid key (Base64) used to generate secret key
+	 * @param mode - Cipher.ENCRYPT_MODE or Cipher.DECRYPT_MODE
+	 * @return Cipher
+	 * @throws GeneralSecurityException
+	 */
+	private Cipher getCipher(String algorithm, String transformation, String sKey, int mode)
+			throws GeneralSecurityException
+	{
+		SecretKeySpec key = getSecretKey(algorithm, sKey);
+
+		String lookup = algorithm + _Separator + transformation;
+		Entry entry = ciphers.get(lookup);
+		if (entry == null)
+		{
+			entry = new Entry();
+			entry.cipher = Cipher.getInstance(transformation);
+			ciphers.put(lookup, entry);
+		}
+
+		// Note: doFinal resets the cipher to the state it was in when initialized
+		if (entry.key != key || entry.mode != mode || mode == Cipher.ENCRYPT_MODE)
+		{
+			// Clear first such that a failed initialization is not considered initialized
+			entry.key = null;
+			entry.cipher.init(mode, key);
+			entry.key = key;
+			entry.mode = mode;
+		}
+
+		return entry.cipher;
+	}
+}
@@ -0,0 +1,297 @@
+package com.automation.ui.common.utilities.caches;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import com.automation.ui.common.dataStructures.ElementProperty;
+import com.automation.ui.common.utilities.Conversion;
+import com.automation.ui.common.utilities.Framework;
+import com.automation.ui.common.utilities.JS_Util;
+
+/**
+ * Cache for the properties (text or attribute) of WebElements<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Values are keyed by the element, the property &amp; the attribute name such that reading different
+ * properties of the same element do not collide<BR>
+ * 2) The properties of a list of elements can be prefetched in a single JavaScript call (except the visible
+ * text)<BR>
+ * 3) The entire cache is cleared when a DOM mutation (or page change) is detected by a prefetch or
+ * validate. Entries for an element are removed when the element is found to be stale.<BR>
+ * 4) The cache is bounded (least recently used entry is removed when full) &amp; thread safe<BR>
+ * 5) All values are trimmed<BR>
+ */
+public class ElementPropertyCache {
+	/**
+	 * Default max number of values stored in the cache
+	 */
+	public static final int _DefaultMaxSize = 2000;
+
+	/**
+	 * The stored cache
+	 */
+	private final Map<Key, String> cache;
+
+	/**
+	 * DOM version when the cache was last filled by a prefetch (null if unknown)
+	 */
+	private volatile String domVersion;
+
+	/**
+	 * Key for a property of an element
+	 */
+	private static class Key {
+		private final WebElement element;
+		private final ElementProperty property;
+		private final String name;
+
+		public Key(WebElement element, ElementProperty property, String name)
+		{
+			this.element = element;
+			this.property = property;
+			this.name = (property == ElementProperty.Attribute) ? Conversion.nonNull(name) : "";
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (!(obj instanceof Key))
+				return false;
+
+			Key key = (Key) obj;
+			return element.equals(key.element) && property == key.property && name.equals(key.name);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return (element.hashCode() * 31 + property.hashCode()) * 31 + name.hashCode();
+		}
+	}
+
+	/**
+	 * Constructor - Uses the default max size
+	 */
+	public ElementPropertyCache()
+	{
+		this(_DefaultMaxSize);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param nMaxSize - Max number of values stored in the cache
+	 */
+	public ElementPropertyCache(int nMaxSize)
+	{
+		final int nMax = Math.max(1, nMaxSize);
+		cache = Collections.synchronizedMap(new LinkedHashMap<Key, String>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, String> eldest)
+			{
+				return size() > nMax;
+			}
+		});
+		domVersion = null;
+	}
+
+	/**
+	 * Clear Entire Cache
+	 */
+	public void clearCache()
+	{
+		cache.clear();
+		domVersion = null;
+	}
+
+	/**
+	 * @return Number of values stored in the cache
+	 */
+	public int size()
+	{
+		return cache.size();
+	}
+
+	/**
+	 * Returns true if the cache contains a value for the property of the element
+	 * 
+	 * @param element - Element
+	 * @param property - Property of the element
+	 * @param sName - Attribute name (only used for ElementProperty.Attribute)
+	 * @return true if the cache contains a value
+	 */
+	public boolean containsKey(WebElement element, ElementProperty property, String sName)
+	{
+		return cache.containsKey(new Key(element, property, sName));
+	}
+
+	/**
+	 * Gets the property of the element from the cache (or reads it from the element if not cached)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If the element is stale, then all entries for the element are removed &amp; empty string is
+	 * returned<BR>
+	 * 2) If the value could not be read for any other reason, then empty string is returned (and nothing is
+	 * cached)<BR>
+	 * 
+	 * @param element - Element
+	 * @param property - Property of the element
+	 * @param sName - Attribute name (only used for ElementProperty.Attribute)
+	 * @return non-null
+	 */
+	public String get(WebElement element, ElementProperty property, String sName)
+	{
+		Key key = new Key(element, property, sName);
+		String value = cache.get(key);
+		if (value != null)
+			return value;
+
+		try
+		{
+			value = read(element, property, key.name);
+		}
+		catch (StaleElementReferenceException ex)
+		{
+			remove(element);
+			return "";
+		}
+		catch (Exception ex)
+		{
+			return "";
+		}
+
+		cache.put(key, value);
+		return value;
+	}
+
+	/**
+	 * Reads the property from the element
+	 * 
+	 * @param element - Element
+	 * @param property - Property of the element
+	 * @param sName - Attribute name (only used for ElementProperty.Attribute)
+	 * @return non-null
+	 * @throws StaleElementReferenceException if the element is stale
+	 * @throws WebDriverException if the value could not be read for any other reason
+	 */
+	protected String read(WebElement element, ElementProperty property, String sName)
+	{
+		if (property == ElementProperty.JavaScriptText)
+			return JS_Util.getText(element).trim();
+
+		if (property == ElementProperty.Attribute)
+			return Conversion.nonNull(element.getAttribute(sName)).trim();
+
+		return Conversion.nonNull(element.getText()).trim();
+	}
+
+	/**
+	 * Removes all the entries for the element
+	 * 
+	 * @param element - Element to remove from the cache
+	 */
+	public void remove(WebElement element)
+	{
+		synchronized (cache)
+		{
+			Iterator<Key> keys = cache.keySet().iterator();
+			while (keys.hasNext())
+			{
+				if (keys.next().element.equals(element))
+					keys.remove();
+			}
+		}
+	}
+
+	/**
+	 * Reads the property of all the elements in a single JavaScript call &amp; stores them in the cache<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) If a DOM mutation has occurred since the last prefetch, then the cache is cleared before storing
+	 * the values<BR>
+	 * 2) If the JavaScript cannot be executed, then nothing is cached &amp; the values will be read from each
+	 * element as needed<BR>
+	 * 3) The visible text is not prefetched as it needs to follow the WebDriver visible text rules (such as
+	 * empty string for hidden elements) which JavaScript (innerText) does not<BR>
+	 * 
+	 * @param elements - Elements to get the property from
+	 * @param property - Property of the elements
+	 * @param sName - Attribute name (only used for ElementProperty.Attribute)
+	 * @return true if the values were prefetched else false
+	 */
+	public boolean prefetch(List<WebElement> elements, ElementProperty property, String sName)
+	{
+		if (elements == null || elements.isEmpty() || property == ElementProperty.VisibleText)
+			return false;
+
+		WebDriver driver = Framework.getWebDriver(elements.get(0));
+		if (driver == null)
+			return false;
+
+		Map<String, Object> result = JS_Util.getProperties(driver, elements, property, sName);
+		if (result == null || !(result.get("values") instanceof List))
+			return false;
+
+		List<?> values = (List<?>) result.get("values");
+		if (values.size() != elements.size())
+			return false;
+
+		updateVersion(result.get("version"));
+		for (int i = 0; i < elements.size(); i++)
+		{
+			String value = (values.get(i) == null) ? "" : String.valueOf(values.get(i));
+			cache.put(new Key(elements.get(i), property, sName), value);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Clears the cache if a DOM mutation (or page change) has occurred since the last prefetch<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) This takes a single JavaScript call regardless of the number of values stored<BR>
+	 * 
+	 * @param driver
+	 * @return true if the cache is still valid else false
+	 */
+	public boolean validate(WebDriver driver)
+	{
+		String before = domVersion;
+		List<WebElement> none = Collections.emptyList();
+		Map<String, Object> result = JS_Util.getProperties(driver, none, ElementProperty.VisibleText, "");
+		if (result == null)
+		{
+			clearCache();
+			return false;
+		}
+
+		updateVersion(result.get("version"));
+		return before != null && before.equals(domVersion);
+	}
+
+	/**
+	 * Clears the cache if the DOM version is unknown or different than the DOM version when the cache was
+	 * filled &amp; stores the latest DOM version
+	 * 
+	 * @param version - Current DOM version
+	 */
+	private synchronized void updateVersion(Object version)
+	{
+		String current = Conversion.nonNull(version);
+		if (current.equals("") || !current.equals(domVersion))
+			cache.clear();
+
+		domVersion = (current.equals("")) ? null : current;
+	}
+}
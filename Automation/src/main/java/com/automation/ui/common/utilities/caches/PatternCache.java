@@ -0,0 +1,90 @@
+package com.automation.ui.common.utilities.caches;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.automation.ui.common.utilities.Conversion;
+
+/**
+ * Shared cache of compiled regular expressions<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) String.matches, String.replaceAll, etc. compile the regular expression each time which is expensive
+ * when used in polling loops<BR>
+ * 2) The cache is bounded (least recently used is removed) &amp; thread safe<BR>
+ * 3) Invalid regular expressions are not cached<BR>
+ */
+public class PatternCache {
+	/**
+	 * Max number of compiled regular expressions to keep
+	 */
+	public static final int _MaxSize = 512;
+
+	/**
+	 * The compiled regular expressions
+	 */
+	private static final Map<String, Pattern> cache = Collections.synchronizedMap(
+			new LinkedHashMap<String, Pattern>(64, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest)
+				{
+					return size() > _MaxSize;
+				}
+			});
+
+	/**
+	 * Gets the compiled regular expression (compiling &amp; storing it if necessary)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Null is converted to empty string<BR>
+	 * 
+	 * @param regex - Regular expression
+	 * @return Pattern
+	 * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+	 */
+	public static Pattern get(String regex)
+	{
+		String key = Conversion.nonNull(regex);
+		Pattern pattern = cache.get(key);
+		if (pattern == null)
+		{
+			pattern = Pattern.compile(key);
+			cache.put(key, pattern);
+		}
+
+		return pattern;
+	}
+
+	/**
+	 * Tells whether or not the string matches the regular expression (using the cached pattern)
+	 * 
+	 * @param str - String to match against (null is converted to empty string)
+	 * @param regex - Regular expression
+	 * @return true if string matches the regular expression else false
+	 * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+	 */
+	public static boolean matches(String str, String regex)
+	{
+		return get(regex).matcher(Conversion.nonNull(str)).matches();
+	}
+
+	/**
+	 * Clears the cache
+	 */
+	public static void clearCache()
+	{
+		cache.clear();
+	}
+
+	/**
+	 * @return Number of compiled regular expressions in the cache
+	 */
+	public static int size()
+	{
+		return cache.size();
+	}
+}
@@ -13,7 +13,11 @@ import com.automation.ui.common.utilities.JS_Util;
 
 /**
  * Cache for the text from a WebElement
+ * 
+ * @deprecated Use ElementPropertyCache which caches the text &amp; attributes in a single cache (with
+ *             prefetching &amp; DOM change detection)
  */
+@Deprecated
 public class TextCache extends BaseGenericCache<WebElement> {
 	/**
 	 * Flag to indicate whether to use JavaScript to get text. True to use JavaScript else use WebDriver to
@@ -0,0 +1,260 @@
+//
+// Evaluates a bundle of DOM only criteria in a single call
+// Notes:
+// 1) arguments[0] is a JSON array of criteria objects (index, type, locator, compare, expected, attribute,
+//    selection, inputAttr)
+// 2) arguments[1] is true to return the index of the 1st criteria that does NOT match (all mode) else the
+//    index of the 1st criteria that matches
+// 3) Returns -1 if no criteria found for the mode
+// 4) Locators follow the same rules as Framework.locatedBy
+//
+var criteria = JSON.parse(arguments[0]);
+var allMode = arguments[1];
+
+function trim(value) {
+	if (value == null || value == undefined)
+		return "";
+
+	// Workaround for IE8 that does not support trim()
+	try {
+		return String(value).trim();
+	} catch (e) {
+		return String(value).replace(/^\s+|\s+$/gm, '');
+	}
+}
+
+function startsWith(value, prefix) {
+	return value.toLowerCase().indexOf(prefix) == 0;
+}
+
+function byXpath(xpath) {
+	var result = document.evaluate(xpath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null);
+	return result.singleNodeValue;
+}
+
+function byLink(text, partial) {
+	var links = document.getElementsByTagName("a");
+	for (var i = 0; i < links.length; i++) {
+		var linkText = trim(links[i].textContent == undefined ? links[i].innerText : links[i].textContent);
+		if ((partial && linkText.indexOf(text) >= 0) || (!partial && linkText == text))
+			return links[i];
+	}
+
+	return null;
+}
+
+function find(locator) {
+	try {
+		if (locator.indexOf("/") == 0 || locator.indexOf("./") == 0)
+			return byXpath(locator);
+
+		if (startsWith(locator, "xpath="))
+			return byXpath(locator.substring(6));
+
+		if (startsWith(locator, "name="))
+			return document.getElementsByName(locator.substring(5))[0] || null;
+
+		if (startsWith(locator, "css="))
+			return document.querySelector(locator.substring(4));
+
+		if (startsWith(locator, "link="))
+			return byLink(locator.substring(5), false);
+
+		if (startsWith(locator, "class="))
+			return document.getElementsByClassName(locator.substring(6))[0] || null;
+
+		if (startsWith(locator, "tag="))
+			return document.getElementsByTagName(locator.substring(4))[0] || null;
+
+		if (startsWith(locator, "plink="))
+			return byLink(locator.substring(6), true);
+
+		return document.getElementById(locator);
+	} catch (e) {
+		return null;
+	}
+}
+
+function getStyle(el, property) {
+	if (window.getComputedStyle)
+		return document.defaultView.getComputedStyle(el, null)[property];
+
+	if (el.currentStyle)
+		return el.currentStyle[property];
+
+	return "";
+}
+
+function isDisplayed(el) {
+	if (el == null)
+		return false;
+
+	if ('hidden' === getStyle(el, 'visibility'))
+		return false;
+
+	for (var node = el; node != null && node.nodeType == 1; node = node.parentNode) {
+		if ('none' === getStyle(node, 'display'))
+			return false;
+	}
+
+	if (el.offsetWidth > 0 || el.offsetHeight > 0)
+		return true;
+
+	return el.getClientRects != undefined && el.getClientRects().length > 0;
+}
+
+function isEnabled(el) {
+	return el != null && !el.disabled;
+}
+
+function isSelected(el) {
+	if (el == null)
+		return false;
+
+	return el.checked == true || el.selected == true;
+}
+
+function getVisibleText(el) {
+	if (el == null)
+		return "";
+
+	if (el.innerText == undefined)
+		return el.textContent;
+
+	return el.innerText;
+}
+
+function getTextJS(el) {
+	if (el == null)
+		return "";
+
+	if (el.textContent == undefined)
+		return el.innerText;
+
+	return el.textContent;
+}
+
+// Similar to WebDriver getAttribute which prefers the property over the attribute
+function getAttribute(el, name) {
+	if (el == null)
+		return null;
+
+	var property = el[name];
+	if (property !== undefined && property !== null && typeof property != 'object'
+			&& typeof property != 'function') {
+		if (typeof property == 'boolean')
+			return property ? "true" : null;
+
+		return String(property);
+	}
+
+	return el.getAttribute(name);
+}
+
+function compare(actual, expected, option) {
+	if (option == "NotEqual")
+		return actual != expected;
+
+	if (option == "Equal")
+		return actual == expected;
+
+	if (option == "EqualsIgnoreCase")
+		return actual.toLowerCase() == expected.toLowerCase();
+
+	if (option == "DoesNotContain")
+		return actual.indexOf(expected) < 0;
+
+	return actual.indexOf(expected) >= 0;
+}
+
+function compareAttribute(value, expected, option) {
+	if (value == null)
+		return false;
+
+	if (option == "Standard")
+		return true;
+
+	if (option == "Equal" || option == "EqualsIgnoreCase" || option == "NotEqual" || option == "Contains"
+			|| option == "DoesNotContain")
+		return compare(value, expected, option);
+
+	return false;
+}
+
+function isDropDown(el, selection, option, expected) {
+	var visible = "", value = "", index = "";
+	if (el != null && el.options != undefined) {
+		for (var i = 0; i < el.options.length; i++) {
+			if (el.options[i].selected) {
+				visible = trim(el.options[i].text);
+				value = el.options[i].value;
+				index = String(i);
+				break;
+			}
+		}
+	}
+
+	if (selection == "Index")
+		return index == expected;
+
+	if (selection == "ValueHTML")
+		return compare(value, expected, option);
+
+	return compare(visible, expected, option);
+}
+
+function isMatch(item) {
+	var el = find(item.locator);
+	var type = item.type;
+
+	if (type == "Displayed")
+		return isDisplayed(el);
+
+	if (type == "Removed")
+		return !isDisplayed(el);
+
+	if (type == "Enabled")
+		return isEnabled(el);
+
+	if (type == "Disabled")
+		return !isEnabled(el);
+
+	if (type == "Exists")
+		return el != null;
+
+	if (type == "Text")
+		return compare(trim(getVisibleText(el)), trim(item.expected), item.compare);
+
+	if (type == "TextJS")
+		return compare(trim(getTextJS(el)), trim(item.expected), item.compare);
+
+	if (type == "Attribute")
+		return compareAttribute(getAttribute(el, item.attribute), item.expected, item.compare);
+
+	if (type == "Selected")
+		return isSelected(el);
+
+	if (type == "InputValue") {
+		var value = getAttribute(el, item.inputAttr);
+		return compare(trim(value), trim(item.expected), item.compare);
+	}
+
+	if (type == "DropDown")
+		return isDropDown(el, item.selection, item.compare, item.expected);
+
+	return false;
+}
+
+for (var i = 0; i < criteria.length; i++) {
+	var result;
+	try {
+		result = isMatch(criteria[i]);
+	} catch (e) {
+		result = false;
+	}
+
+	if (result != allMode)
+		return criteria[i].index;
+}
+
+return -1;
\ No newline at end of file
@@ -0,0 +1,146 @@
+//
+// Finds all the elements for a locator and gets the text or attribute of each element in a single call
+// Notes:
+// 1) arguments[0] is the locator which supports the same formats as Framework.locatedBy
+// 2) arguments[1] is the method (0 - Text (visible), 1 - Attribute (visible), 2 - Text, 3 - Attribute)
+// 3) arguments[2] is the attribute (only used by the attribute methods)
+// 4) Returns an array with the value for each element (null if the attribute does not exist)
+// 5) Returns null if the locator is invalid
+//
+var sLocator = arguments[0];
+var method = arguments[1];
+var sAttribute = arguments[2];
+
+function trim(value) {
+	// Workaround for IE8 that does not support trim()
+	try {
+		return String(value).trim();
+	} catch (e) {
+		return String(value).replace(/^\s+|\s+$/gm, '');
+	}
+}
+
+function toArray(list) {
+	var nodes = new Array();
+	for (var i = 0; i < list.length; i++) {
+		nodes.push(list[i]);
+	}
+
+	return nodes;
+}
+
+function byXpath(xpath) {
+	var nodes = new Array();
+	var result = document.evaluate(xpath, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+	for (var i = 0; i < result.snapshotLength; i++) {
+		nodes.push(result.snapshotItem(i));
+	}
+
+	return nodes;
+}
+
+function byLink(text, partial) {
+	var nodes = new Array();
+	var links = document.getElementsByTagName("a");
+	for (var i = 0; i < links.length; i++) {
+		var linkText = trim(getVisibleText(links[i]));
+		if ((partial && linkText.indexOf(text) >= 0) || (!partial && linkText == text))
+			nodes.push(links[i]);
+	}
+
+	return nodes;
+}
+
+function startsWith(prefix) {
+	return sLocator.toLowerCase().indexOf(prefix) == 0;
+}
+
+function find() {
+	if (startsWith("/") || startsWith("./"))
+		return byXpath(sLocator);
+
+	if (startsWith("xpath="))
+		return byXpath(sLocator.substring(6));
+
+	if (startsWith("name="))
+		return toArray(document.getElementsByName(sLocator.substring(5)));
+
+	if (startsWith("css="))
+		return toArray(document.querySelectorAll(sLocator.substring(4)));
+
+	if (startsWith("link="))
+		return byLink(sLocator.substring(5), false);
+
+	if (startsWith("class="))
+		return toArray(document.getElementsByClassName(sLocator.substring(6)));
+
+	if (startsWith("tag="))
+		return toArray(document.getElementsByTagName(sLocator.substring(4)));
+
+	if (startsWith("plink="))
+		return byLink(sLocator.substring(6), true);
+
+	var nodes = new Array();
+	var all = document.getElementsByTagName("*");
+	for (var i = 0; i < all.length; i++) {
+		if (all[i].id == sLocator)
+			nodes.push(all[i]);
+	}
+
+	return nodes;
+}
+
+function getVisibleText(element) {
+	if (element.innerText == undefined)
+		return element.textContent;
+
+	return element.innerText;
+}
+
+function getText(element) {
+	// IE may not support the textContent property as such use innerText
+	if (element.textContent == undefined)
+		return element.innerText;
+
+	return element.textContent;
+}
+
+function getVisibleAttribute(element) {
+	// Similar to WebElement.getAttribute the property is used if it exists else the attribute
+	var value = element[sAttribute];
+	if (typeof value == "boolean")
+		return value ? "true" : null;
+
+	if (value == null || value == undefined || typeof value == "object" || typeof value == "function")
+		return element.getAttribute(sAttribute);
+
+	return String(value);
+}
+
+function getValue(element) {
+	if (method == 1)
+		return getVisibleAttribute(element);
+
+	if (method == 2)
+		return getText(element);
+
+	if (method == 3)
+		return element.getAttribute(sAttribute);
+
+	return trim(getVisibleText(element));
+}
+
+var elements;
+try {
+	elements = find();
+} catch (e) {
+	return null;
+}
+
+var values = new Array();
+for (var i = 0; i < elements.length; i++) {
+	var value = getValue(elements[i]);
+	values.push(value == null || value == undefined ? null : String(value));
+}
+
+return values;
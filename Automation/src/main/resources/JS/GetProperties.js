@@ -0,0 +1,87 @@
+//
+// Gets a property of each element in a single call along with the current DOM version
+// Notes:
+// 1) arguments[0] is the list of elements (can be empty to only get the DOM version)
+// 2) arguments[1] is the property (0 - Text (visible), 1 - Text, 2 - Attribute). The visible text (innerText)
+// does not follow the WebDriver visible text rules as such it is only used to get the DOM version.
+// 3) arguments[2] is the attribute (only used by the attribute property)
+// 4) The DOM version changes when any DOM mutation occurs or the page changes. If the browser has no
+// MutationObserver, then the DOM version is empty which indicates that it cannot be determined.
+// 5) Returns an object with the DOM version (version) and the values (values) that are trimmed
+//
+var elements = arguments[0];
+var property = arguments[1];
+var sAttribute = arguments[2];
+
+function trim(value) {
+	if (value == null || value == undefined)
+		return "";
+
+	// Workaround for IE8 that does not support trim()
+	try {
+		return String(value).trim();
+	} catch (e) {
+		return String(value).replace(/^\s+|\s+$/gm, '');
+	}
+}
+
+function getVersion() {
+	if (window.__automationDomID == undefined) {
+		window.__automationDomID = String(new Date().getTime()) + String(Math.random());
+		window.__automationDomMutations = 0;
+		window.__automationDomObserved = false;
+
+		var Observer = window.MutationObserver || window.WebKitMutationObserver;
+		if (Observer != undefined) {
+			try {
+				new Observer(function(mutations) {
+					window.__automationDomMutations++;
+				}).observe(document, {
+					attributes : true,
+					childList : true,
+					characterData : true,
+					subtree : true
+				});
+				window.__automationDomObserved = true;
+			} catch (e) {
+			}
+		}
+	}
+
+	if (!window.__automationDomObserved)
+		return "";
+
+	return window.__automationDomID + ":" + window.__automationDomMutations;
+}
+
+function getValue(element) {
+	if (property == 1) {
+		// IE may not support the textContent property as such use innerText
+		return trim(element.textContent == undefined ? element.innerText : element.textContent);
+	}
+
+	if (property == 2) {
+		// Similar to WebElement.getAttribute the property is used if it exists else the attribute
+		var value = element[sAttribute];
+		if (typeof value == "boolean")
+			return value ? "true" : "";
+
+		if (value == null || value == undefined || typeof value == "object" || typeof value == "function")
+			return trim(element.getAttribute(sAttribute));
+
+		return trim(value);
+	}
+
+	return trim(element.innerText == undefined ? element.textContent : element.innerText);
+}
+
+var data = new Object();
+data.version = getVersion();
+
+var values = new Array();
+for (var i = 0; i < elements.length; i++) {
+	values.push(getValue(elements[i]));
+}
+
+data.values = values;
+return data;
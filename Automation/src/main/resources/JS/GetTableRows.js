@@ -0,0 +1,91 @@
+//
+// Gets a chunk of rows (and optionally the header) of a table in a single call
+// Notes:
+// 1) arguments[0] is the xpath to the rows
+// 2) arguments[1] is the xpath to the columns relative to the rows xpath
+// 3) arguments[2] is the xpath index of the 1st row to get
+// 4) arguments[3] is the max number of rows to get
+// 5) arguments[4] is the array index of the 1st row (passed to the extractor)
+// 6) arguments[5] is the body of the cell extractor function(cell, row, col) or empty to use visible text
+// 7) arguments[6] is the xpath to the header cells or empty to skip the header
+// 8) arguments[7] is the body of the header extractor function(cell, col) or empty to use visible text
+// 9) Each row is located using the same xpath as HTMLTableReader.getColumnData (rows[n] + columns)
+// 10) A cell that the extractor could not handle is returned as null
+//
+var sRows = arguments[0];
+var sColumns = arguments[1];
+var start = arguments[2];
+var count = arguments[3];
+var index = arguments[4];
+var sCellExtractor = arguments[5];
+var sHeaders = arguments[6];
+var sHeaderExtractor = arguments[7];
+
+function trim(value) {
+	if (value == null || value == undefined)
+		return "";
+
+	// Workaround for IE8 that does not support trim()
+	try {
+		return String(value).trim();
+	} catch (e) {
+		return String(value).replace(/^\s+|\s+$/gm, '');
+	}
+}
+
+function getVisibleText(cell) {
+	if (cell.innerText == undefined)
+		return trim(cell.textContent);
+
+	return trim(cell.innerText);
+}
+
+function findAll(xpath) {
+	var nodes = new Array();
+	var result = document.evaluate(xpath, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+	for (var i = 0; i < result.snapshotLength; i++) {
+		nodes.push(result.snapshotItem(i));
+	}
+
+	return nodes;
+}
+
+function extract(extractor, cell, row, col) {
+	try {
+		var value = extractor == null ? getVisibleText(cell) : extractor(cell, row, col);
+		if (value == null || value == undefined)
+			return null;
+
+		return String(value);
+	} catch (e) {
+		return null;
+	}
+}
+
+var data = new Object();
+var cellExtractor = sCellExtractor == "" ? null : new Function("cell", "row", "col", sCellExtractor);
+var rows = new Array();
+for (var i = 0; i < count; i++) {
+	var cells = findAll(sRows + "[" + (start + i) + "]" + sColumns);
+	var values = new Array();
+	for (var j = 0; j < cells.length; j++) {
+		values.push(extract(cellExtractor, cells[j], index + i, j));
+	}
+
+	rows.push(values);
+}
+
+data.rows = rows;
+
+if (sHeaders != "") {
+	var headerExtractor = sHeaderExtractor == "" ? null : new Function("cell", "col", sHeaderExtractor);
+	var headers = new Array();
+	var headerCells = findAll(sHeaders);
+	for (var k = 0; k < headerCells.length; k++) {
+		headers.push(extract(headerExtractor, headerCells[k], k, k));
+	}
+
+	data.headers = headers;
+}
+
+return JSON.stringify(data);
\ No newline at end of file
@@ -0,0 +1,112 @@
+//
+// Gets a window of rows of a table (or virtual scrolling grid) with a fingerprint for each row
+// Notes:
+// 1) arguments[0] is the table (or grid container) element
+// 2) arguments[1] is the xpath to the rows relative to the table or empty to use the rows of the table
+// 3) arguments[2] is the xpath to the cells relative to each row or empty to use the cells of the row
+// 4) arguments[3] is the index of the 1st row of the window (ignored for virtual scrolling)
+// 5) arguments[4] is the max number of rows in the window (less than 1 for all rendered rows)
+// 6) arguments[5] is the element to scroll after getting the rows (null if not virtual scrolling)
+// 7) arguments[6] is the attribute that uniquely identifies a row (empty to use the row index)
+// 8) arguments[7] is a JSON object of the known fingerprints (key to fingerprint). The cells are not
+//    returned for a row that has a matching fingerprint.
+// 9) Cell values are trimmed text content (same as GetTable.js)
+//
+var table = arguments[0];
+var sRows = arguments[1];
+var sCells = arguments[2];
+var start = arguments[3];
+var count = arguments[4];
+var scroller = arguments[5];
+var keyAttribute = arguments[6];
+var known = JSON.parse(arguments[7]);
+
+function trim(value) {
+	if (value == null || value == undefined)
+		return "";
+
+	// Workaround for IE8 that does not support trim()
+	try {
+		return String(value).trim();
+	} catch (e) {
+		return String(value).replace(/^\s+|\s+$/gm, '');
+	}
+}
+
+function getText(element) {
+	try {
+		if (element.textContent == undefined)
+			return trim(element.innerText);
+
+		return trim(element.textContent);
+	} catch (e) {
+		return "";
+	}
+}
+
+function findAll(context, xpath, fallback) {
+	if (xpath == "") {
+		var items = new Array();
+		for (var i = 0; fallback != undefined && i < fallback.length; i++) {
+			items.push(fallback[i]);
+		}
+
+		return items;
+	}
+
+	var nodes = new Array();
+	var result = document.evaluate(xpath, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+	for (var j = 0; j < result.snapshotLength; j++) {
+		nodes.push(result.snapshotItem(j));
+	}
+
+	return nodes;
+}
+
+// Simple 32 bit hash (djb2) of the cell values
+function fingerprint(values) {
+	var hash = 5381;
+	var text = values.length + "\u0001" + values.join("\u0001");
+	for (var i = 0; i < text.length; i++) {
+		hash = ((hash << 5) + hash + text.charCodeAt(i)) | 0;
+	}
+
+	return String(hash);
+}
+
+var data = new Object();
+var rows = new Array();
+var all = findAll(table, sRows, table.rows);
+var first = scroller == null ? Math.max(start, 0) : 0;
+var last = count < 1 || scroller != null ? all.length : Math.min(all.length, first + count);
+
+for (var r = first; r < last; r++) {
+	var row = all[r];
+	var key = keyAttribute == "" ? null : row.getAttribute(keyAttribute);
+	if (key == null || key == "")
+		key = String(r);
+
+	var values = new Array();
+	var cells = findAll(row, sCells, row.cells);
+	for (var c = 0; c < cells.length; c++) {
+		values.push(getText(cells[c]));
+	}
+
+	var item = new Object();
+	item.key = key;
+	item.fp = fingerprint(values);
+	item.cells = known[key] === item.fp ? null : values;
+	rows.push(item);
+}
+
+data.rows = rows;
+data.total = all.length;
+data.scrolled = false;
+
+if (scroller != null) {
+	var before = scroller.scrollTop;
+	scroller.scrollTop = before + Math.max(scroller.clientHeight, 1);
+	data.scrolled = scroller.scrollTop != before;
+}
+
+return JSON.stringify(data);
\ No newline at end of file
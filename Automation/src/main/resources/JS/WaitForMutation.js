@@ -0,0 +1,49 @@
+//
+// Blocks (as an asynchronous script) until any DOM mutation occurs or the max wait time expires
+// Notes:
+// 1) arguments[0] is the max wait time in milliseconds
+// 2) The last argument is the callback supplied by executeAsyncScript
+// 3) Returns 'mutation', 'timeout' or 'unsupported' if the browser has no MutationObserver
+//
+var callback = arguments[arguments.length - 1];
+var maxWait = arguments[0];
+var Observer = window.MutationObserver || window.WebKitMutationObserver;
+if (Observer == undefined) {
+	callback("unsupported");
+	return;
+}
+
+var done = false;
+var observer = null;
+var timer = null;
+
+function finish(result) {
+	if (done)
+		return;
+
+	done = true;
+	try {
+		observer.disconnect();
+	} catch (e) {
+	}
+
+	clearTimeout(timer);
+	callback(result);
+}
+
+try {
+	observer = new Observer(function(mutations) {
+		finish("mutation");
+	});
+	observer.observe(document, {
+		attributes : true,
+		childList : true,
+		characterData : true,
+		subtree : true
+	});
+	timer = setTimeout(function() {
+		finish("timeout");
+	}, maxWait);
+} catch (err) {
+	finish("unsupported");
+}
\ No newline at end of file
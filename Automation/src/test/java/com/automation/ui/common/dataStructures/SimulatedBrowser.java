@@ -0,0 +1,354 @@
+package com.automation.ui.common.dataStructures;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import com.automation.ui.common.utilities.Framework;
+
+/**
+ * Class used for unit testing the classes that use a browser. Simulates the WebDriver &amp; the WebElements
+ * such that a browser is not necessary.<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) Elements are added with a locator &amp; are found using the same locator (see Framework.locatedBy)<BR>
+ * 2) JavaScript is answered by the script set by the test (null is returned if no script is set)<BR>
+ * 3) After the browser is quit, the driver throws WebDriverException for all methods (like a browser that
+ * crashed)<BR>
+ * 4) Methods that are not simulated return false, 0 or null<BR>
+ */
+public class SimulatedBrowser implements InvocationHandler {
+	/**
+	 * Answers the JavaScript executed by the driver
+	 */
+	public interface Script {
+		/**
+		 * Executes the JavaScript
+		 *
+		 * @param sJS - JavaScript to execute
+		 * @param args - Arguments passed to the JavaScript
+		 * @return value returned to the caller of executeScript
+		 */
+		public Object execute(String sJS, Object[] args);
+	}
+
+	/**
+	 * Simulated element that can return the driver (see Framework.getWebDriver)<BR>
+	 * <BR>
+	 * <B>Notes:</B><BR>
+	 * 1) Like WebDriver, the text of an element that is not displayed is the empty string<BR>
+	 */
+	public class Element extends RemoteWebElement {
+		/**
+		 * Text of the element (as rendered if displayed)
+		 */
+		public String text;
+
+		/**
+		 * Attributes of the element
+		 */
+		public Map<String, String> attributes = new HashMap<String, String>();
+
+		/**
+		 * Flag to indicate if the element is displayed
+		 */
+		public boolean displayed = true;
+
+		/**
+		 * Flag to indicate if the element is stale (StaleElementReferenceException is thrown)
+		 */
+		public boolean stale = false;
+
+		/**
+		 * Flag to indicate if the driver fails (WebDriverException is thrown)
+		 */
+		public boolean failing = false;
+
+		/**
+		 * Number of times the text or an attribute was read from the element
+		 */
+		public int reads = 0;
+
+		/**
+		 * Constructor
+		 *
+		 * @param sText - Text of the element
+		 */
+		public Element(String sText)
+		{
+			text = sText;
+			setId("simulated-" + (++nElements));
+		}
+
+		/**
+		 * Throws the exception for the state of the element (if any)
+		 */
+		private void check()
+		{
+			if (stale)
+				throw new StaleElementReferenceException("Simulated stale element");
+
+			if (failing)
+				throw new WebDriverException("Simulated driver failure");
+		}
+
+		@Override
+		public String getText()
+		{
+			check();
+			reads++;
+			return (displayed) ? text : "";
+		}
+
+		@Override
+		public String getAttribute(String sName)
+		{
+			check();
+			reads++;
+			return attributes.get(sName);
+		}
+
+		@Override
+		public boolean isDisplayed()
+		{
+			check();
+			return displayed;
+		}
+
+		@Override
+		public WebElement findElement(By by)
+		{
+			check();
+			return this;
+		}
+
+		@Override
+		public WebDriver getWrappedDriver()
+		{
+			return driver;
+		}
+
+		@Override
+		public String toString()
+		{
+			return "SimulatedElement:  " + text;
+		}
+	}
+
+	/**
+	 * Current URL
+	 */
+	public String url = "about:blank";
+
+	/**
+	 * Open windows (the 1st window is opened when the browser is created)
+	 */
+	public List<String> windows = new ArrayList<String>();
+
+	/**
+	 * Window that has the focus
+	 */
+	public String current;
+
+	/**
+	 * Number of JavaScript calls
+	 */
+	public int scripts = 0;
+
+	/**
+	 * Number of times all the cookies were deleted
+	 */
+	public int cookiesDeleted = 0;
+
+	/**
+	 * Flag to indicate if the browser was quit
+	 */
+	public boolean quit = false;
+
+	private Script script;
+	private Map<String, List<WebElement>> elements = new HashMap<String, List<WebElement>>();
+	private WebDriver driver;
+	private int nElements = 0;
+	private int nWindows = 0;
+
+	/**
+	 * Constructor - Opens the 1st window
+	 */
+	public SimulatedBrowser()
+	{
+		driver = create(WebDriver.class, JavascriptExecutor.class);
+		current = openWindow();
+	}
+
+	/**
+	 * Gets the simulated browser of the driver
+	 *
+	 * @param driver - Driver from the method getDriver
+	 * @return SimulatedBrowser
+	 */
+	public static SimulatedBrowser from(WebDriver driver)
+	{
+		return (SimulatedBrowser) Proxy.getInvocationHandler(driver);
+	}
+
+	/**
+	 * @return driver that uses this browser
+	 */
+	public WebDriver getDriver()
+	{
+		return driver;
+	}
+
+	/**
+	 * Sets the JavaScript that answers the executeScript calls
+	 *
+	 * @param script - Script (null to return null for all calls)
+	 */
+	public void setScript(Script script)
+	{
+		this.script = script;
+	}
+
+	/**
+	 * Opens a new window (without switching to it)
+	 *
+	 * @return handle of the new window
+	 */
+	public String openWindow()
+	{
+		String handle = "window-" + (++nWindows);
+		windows.add(handle);
+		return handle;
+	}
+
+	/**
+	 * Adds an element that is found using the locator
+	 *
+	 * @param sLocator - Locator to find the element (see Framework.locatedBy)
+	 * @param sText - Text of the element
+	 * @return Element
+	 */
+	public Element addElement(String sLocator, String sText)
+	{
+		Element element = new Element(sText);
+		String key = Framework.locatedBy(sLocator).toString();
+		if (!elements.containsKey(key))
+			elements.put(key, new ArrayList<WebElement>());
+
+		elements.get(key).add(element);
+		return element;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args)
+	{
+		String name = method.getName();
+		if (name.equals("equals"))
+			return proxy == args[0];
+
+		if (name.equals("hashCode"))
+			return System.identityHashCode(proxy);
+
+		if (name.equals("toString"))
+			return "SimulatedBrowser:  " + url;
+
+		if (quit)
+			throw new WebDriverException("Simulated browser was quit");
+
+		if (name.equals("executeScript"))
+		{
+			scripts++;
+			return (script == null) ? null : script.execute((String) args[0], (Object[]) args[1]);
+		}
+
+		if (name.equals("findElements"))
+			return new ArrayList<WebElement>(find(args[0]));
+
+		if (name.equals("findElement"))
+		{
+			List<WebElement> found = find(args[0]);
+			if (found.isEmpty())
+				throw new NoSuchElementException("Simulated element not found:  " + args[0]);
+
+			return found.get(0);
+		}
+
+		if (name.equals("get"))
+			url = (String) args[0];
+		else if (name.equals("getCurrentUrl"))
+			return url;
+		else if (name.equals("getWindowHandles"))
+			return new LinkedHashSet<String>(windows);
+		else if (name.equals("getWindowHandle"))
+			return current;
+		else if (name.equals("close"))
+			windows.remove(current);
+		else if (name.equals("quit"))
+			quit = true;
+		else if (name.equals("manage"))
+			return create(WebDriver.Options.class);
+		else if (name.equals("switchTo"))
+			return create(WebDriver.TargetLocator.class);
+		else if (name.equals("deleteAllCookies"))
+			cookiesDeleted++;
+		else if (name.equals("window") && method.getDeclaringClass() == WebDriver.TargetLocator.class)
+		{
+			if (!windows.contains(args[0]))
+				throw new NoSuchWindowException("Simulated window not found:  " + args[0]);
+
+			current = (String) args[0];
+			return driver;
+		}
+
+		if (method.getReturnType() == boolean.class)
+			return false;
+
+		if (method.getReturnType() == int.class)
+			return 0;
+
+		return null;
+	}
+
+	/**
+	 * Finds the elements that were added using the same locator
+	 *
+	 * @param by - Locator
+	 * @return List&lt;WebElement&gt;
+	 */
+	private List<WebElement> find(Object by)
+	{
+		List<WebElement> found = elements.get(String.valueOf(by));
+		return (found == null) ? new ArrayList<WebElement>() : found;
+	}
+
+	/**
+	 * Creates a simulated object for the interfaces
+	 *
+	 * @param type - Interface of the object that is returned
+	 * @param others - Other interfaces of the object
+	 * @return T
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T create(Class<T> type, Class<?>... others)
+	{
+		Class<?>[] interfaces = new Class<?>[others.length + 1];
+		interfaces[0] = type;
+		System.arraycopy(others, 0, interfaces, 1, others.length);
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), interfaces, this);
+	}
+}
@@ -0,0 +1,227 @@
+package com.automation.ui.common.dataStructures;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.automation.ui.common.utilities.ConnectionFactory;
+
+/**
+ * Class used for unit testing the Database &amp; ConnectionPool classes. Simulates the JDBC objects such that
+ * a database is not necessary.<BR>
+ * <BR>
+ * <B>Notes:</B><BR>
+ * 1) All the connections, statements &amp; result sets created share the same counters<BR>
+ * 2) Each query returns nRows rows. Column 1 is the row number &amp; any other column is "name" + row
+ * number.<BR>
+ * 3) Methods that are not simulated return false, 0 or null<BR>
+ */
+public class SimulatedJDBC implements InvocationHandler {
+	/**
+	 * Number of rows returned by each query
+	 */
+	public int nRows;
+
+	/**
+	 * Index of the batch that fails (-1 if no batch fails)
+	 */
+	public int nFailBatch = -1;
+
+	/**
+	 * Column names (in order) used by findColumn
+	 */
+	public List<String> columns = Arrays.asList("ID", "NAME");
+
+	/**
+	 * Connections opened using the factory
+	 */
+	public int opened;
+
+	/**
+	 * Connections closed
+	 */
+	public int connectionsClosed;
+
+	/**
+	 * Statements prepared
+	 */
+	public int prepared;
+
+	/**
+	 * Statements closed
+	 */
+	public int statementsClosed;
+
+	/**
+	 * Result sets closed
+	 */
+	public int resultSetsClosed;
+
+	/**
+	 * Commits &amp; rollbacks on the connections
+	 */
+	public int commits, rollbacks;
+
+	/**
+	 * Auto-commit mode of the connections
+	 */
+	public boolean autoCommit = true;
+
+	/**
+	 * Result set type of the last statement prepared with a result set type
+	 */
+	public int resultSetType;
+
+	/**
+	 * Fetch size of the statement when the last query was executed (-1 if no query was executed)
+	 */
+	public int fetchSize = -1;
+
+	/**
+	 * Number of times the fetch size was set on a result set
+	 */
+	public int resultSetFetchSizes;
+
+	/**
+	 * Number of sets of parameters in each batch executed
+	 */
+	public List<Integer> batches = new ArrayList<Integer>();
+
+	/**
+	 * All the parameter values set on the statements (in order)
+	 */
+	public List<String> values = new ArrayList<String>();
+
+	private int nStatementFetchSize;
+	private int nBatched;
+	private int nCurrent;
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws SQLException
+	{
+		String name = method.getName();
+		if (name.equals("equals"))
+			return proxy == args[0];
+
+		if (name.equals("hashCode"))
+			return System.identityHashCode(proxy);
+
+		if (name.equals("toString"))
+			return "SimulatedJDBC";
+
+		if (name.equals("prepareStatement"))
+		{
+			prepared++;
+			if (args.length > 1)
+				resultSetType = (Integer) args[1];
+
+			return create(PreparedStatement.class);
+		}
+
+		if (name.equals("executeQuery"))
+		{
+			nCurrent = 0;
+			fetchSize = nStatementFetchSize;
+			return create(ResultSet.class);
+		}
+
+		if (name.equals("executeBatch"))
+		{
+			if (batches.size() == nFailBatch)
+				throw new SQLException("Simulated failure");
+
+			batches.add(nBatched);
+			int[] counts = new int[nBatched];
+			Arrays.fill(counts, 1);
+			nBatched = 0;
+			return counts;
+		}
+
+		if (name.equals("close"))
+		{
+			if (proxy instanceof Connection)
+				connectionsClosed++;
+			else if (proxy instanceof ResultSet)
+				resultSetsClosed++;
+			else if (proxy instanceof PreparedStatement)
+				statementsClosed++;
+		}
+		else if (name.equals("setFetchSize"))
+		{
+			if (proxy instanceof ResultSet)
+				resultSetFetchSizes++;
+			else
+				nStatementFetchSize = (Integer) args[0];
+		}
+		else if (name.equals("setString"))
+			values.add((String) args[1]);
+		else if (name.equals("setInt"))
+			values.add(String.valueOf(args[1]));
+		else if (name.equals("addBatch"))
+			nBatched++;
+		else if (name.equals("clearBatch"))
+			nBatched = 0;
+		else if (name.equals("commit"))
+			commits++;
+		else if (name.equals("rollback"))
+			rollbacks++;
+		else if (name.equals("setAutoCommit"))
+			autoCommit = (Boolean) args[0];
+		else if (name.equals("getAutoCommit"))
+			return autoCommit;
+		else if (name.equals("isValid"))
+			return true;
+		else if (name.equals("next"))
+		{
+			nCurrent++;
+			return nCurrent <= nRows;
+		}
+		else if (name.equals("findColumn"))
+			return columns.indexOf(args[0]) + 1;
+		else if (name.equals("getObject"))
+			return ((Integer) args[0] == 1) ? (Object) nCurrent : "name" + nCurrent;
+		else if (name.equals("getString"))
+			return "name" + nCurrent;
+
+		if (method.getReturnType() == boolean.class)
+			return false;
+
+		if (method.getReturnType() == int.class)
+			return 0;
+
+		return null;
+	}
+
+	/**
+	 * Creates a simulated JDBC object
+	 * 
+	 * @param type - Interface of the JDBC object (such as Connection)
+	 * @return T
+	 */
+	public <T> T create(Class<T> type)
+	{
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, this));
+	}
+
+	/**
+	 * @return ConnectionFactory that opens simulated connections
+	 */
+	public ConnectionFactory toFactory()
+	{
+		return new ConnectionFactory(null) {
+			@Override
+			public Connection openConnection()
+			{
+				opened++;
+				return create(Connection.class);
+			}
+		};
+	}
+}
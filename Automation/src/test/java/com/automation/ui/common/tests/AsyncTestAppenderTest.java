@@ -0,0 +1,168 @@
+package com.automation.ui.common.tests;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.log4j.Logger;
+import org.apache.log4j.PatternLayout;
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.utilities.AsyncTestAppender;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+
+/**
+ * This class hold the unit tests for the AsyncTestAppender
+ */
+public class AsyncTestAppenderTest {
+	/**
+	 * Logs messages using a test ID
+	 */
+	private static class TestThread extends Thread {
+		private Logger logger;
+		private String sTestID;
+		private int nMessages;
+
+		public TestThread(Logger logger, String sTestID, int nMessages)
+		{
+			this.logger = logger;
+			this.sTestID = sTestID;
+			this.nMessages = nMessages;
+		}
+
+		@Override
+		public void run()
+		{
+			Logs.setTestID(sTestID);
+			for (int i = 0; i < nMessages; i++)
+			{
+				logger.info("message " + i + " of " + sTestID);
+			}
+		}
+	}
+
+	@Test
+	public static void runRoutingTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runRoutingTest");
+		TestResults results = new TestResults();
+
+		File folder = File.createTempFile("async", "");
+		folder.delete();
+		folder.mkdirs();
+
+		AsyncTestAppender appender = new AsyncTestAppender();
+		appender.setName("RoutingTest");
+		appender.setFolder(folder.getPath() + File.separator);
+		appender.setBufferSize(4);
+		appender.setMaxOpenFiles(2);
+		appender.setCombinedFile("combined.log");
+		appender.setLayout(new PatternLayout("[%X{" + Logs.TEST_ID + "}][%C{1}] - %m%n"));
+		appender.activateOptions();
+
+		Logger logger = Logger.getLogger("AsyncTestAppenderTest");
+		logger.setAdditivity(false);
+		logger.addAppender(appender);
+
+		try
+		{
+			int nMessages = 500;
+			List<TestThread> threads = new ArrayList<TestThread>();
+			for (int i = 0; i < 4; i++)
+			{
+				threads.add(new TestThread(logger, "test/" + i, nMessages));
+			}
+
+			for (TestThread thread : threads)
+			{
+				thread.start();
+			}
+
+			for (TestThread thread : threads)
+			{
+				thread.join();
+			}
+
+			// Threads started by the test do not inherit the test ID unless it is passed explicitly
+			final String[] sSeen = new String[2];
+			Thread plain = new Thread() {
+				@Override
+				public void run()
+				{
+					sSeen[0] = Logs.getTestID();
+				}
+			};
+			Thread passed = new Thread(Logs.withTestID(new Runnable() {
+				@Override
+				public void run()
+				{
+					sSeen[1] = Logs.getTestID();
+				}
+			}));
+			plain.start();
+			passed.start();
+			plain.join();
+			passed.join();
+			results.expectTrue(sSeen[0] == null, "Test ID (" + sSeen[0] + ") was inherited by a new thread");
+			results.expectTrue("runRoutingTest".equals(sSeen[1]), "Test ID (" + sSeen[1]
+					+ ") was not passed to the task");
+
+			Logs.setTestID(null);
+			logger.info("message without test ID");
+			results.expectTrue(appender.flush(10000), "Messages were not written before the timeout");
+
+			// All the messages are in the combined file (before the appender is closed)
+			File combined = new File(folder, appender.getCombinedFile());
+			int nCombined = combined.isFile() ? FileUtils.readLines(combined, "UTF-8").size() : 0;
+			int nExpected = threads.size() * nMessages + 1;
+			results.expectTrue(nCombined == nExpected, "Combined file had " + nCombined
+					+ " messages instead of " + nExpected);
+
+			appender.close();
+
+			for (TestThread thread : threads)
+			{
+				File f = new File(folder, "test_" + thread.sTestID.substring(5) + ".log");
+				results.expectTrue(f.isFile(), "File (" + f.getName() + ") was not written");
+				if (!f.isFile())
+					continue;
+
+				List<String> lines = FileUtils.readLines(f, "UTF-8");
+				results.expectTrue(lines.size() == nMessages, "File (" + f.getName() + ") had " + lines.size()
+						+ " messages instead of " + nMessages);
+
+				for (int i = 0; i < lines.size(); i++)
+				{
+					String sExpected = "[" + thread.sTestID + "][AsyncTestAppenderTest$TestThread] - message "
+							+ i + " of " + thread.sTestID;
+					if (!lines.get(i).equals(sExpected))
+					{
+						results.expectTrue(false, "Line (" + lines.get(i) + ") was not:  " + sExpected);
+						break;
+					}
+				}
+			}
+
+			File f = new File(folder, appender.getDefaultFile());
+			results.expectTrue(f.isFile(), "Default file was not written");
+			if (f.isFile())
+			{
+				String sContent = FileUtils.readFileToString(f, "UTF-8");
+				results.expectTrue(sContent.contains("[AsyncTestAppenderTest] - message without test ID"),
+						"Message without test ID was not in the default file:  " + sContent);
+			}
+		}
+		finally
+		{
+			logger.removeAppender(appender);
+			appender.close();
+			FileUtils.deleteQuietly(folder);
+		}
+
+		results.verify("Routing Test failed.  See above for details.");
+	}
+}
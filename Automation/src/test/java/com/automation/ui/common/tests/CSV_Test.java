@@ -3,13 +3,16 @@ package com.automation.ui.common.tests;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.testng.annotations.Test;
 
 import com.automation.ui.common.utilities.CSV;
+import com.automation.ui.common.utilities.Controller;
 import com.automation.ui.common.utilities.Logs;
 import com.automation.ui.common.utilities.Rand;
+import com.automation.ui.common.utilities.TestResults;
 
 /**
  * This class hold the unit tests for the CSV class
@@ -142,6 +145,54 @@ public class CSV_Test {
 		Logs.log.info("getAllDataAsArray:  END");
 	}
 
+	/**
+	 * Method called by testNG to test the iterators
+	 */
+	@Test
+	public static void unitTestC_Iterator()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("unitTestC_Iterator");
+		TestResults results = new TestResults();
+
+		StringBuilder builder = new StringBuilder();
+		builder.append("User,Password,Role\n");
+		builder.append("admin,secret,Administrator\n");
+		builder.append("guest,guest\n");
+
+		Iterator<Object[]> provider = new CSV(builder, true, ',').getDataProvider("Role", "User");
+		results.expectTrue(provider.hasNext(), "Data provider did not have the 1st row");
+		Object[] row = provider.next();
+		results.expectTrue(row.length == 2 && "Administrator".equals(row[0]) && "admin".equals(row[1]),
+				"1st row was not projected to (Role, User)");
+		row = provider.next();
+		results.expectTrue(row.length == 2 && "".equals(row[0]) && "guest".equals(row[1]),
+				"Missing column of 2nd row was not empty string");
+		results.expectFalse(provider.hasNext(), "Data provider had more than 2 rows");
+
+		CSV csv = new CSV(builder, true, ',');
+		int nRows = 0;
+		for (String[] all : csv)
+		{
+			nRows++;
+			results.expectTrue(all.length >= 2, "Row " + nRows + " was missing columns");
+		}
+
+		results.expectTrue(nRows == 2, "Rows (" + nRows + ") was not 2");
+		results.expectTrue(csv.getHeaderRow().length == 3, "Header row was not read");
+
+		try
+		{
+			new CSV(builder, true, ',').iterator("Missing");
+			results.expectTrue(false, "No exception for a column that is not in the header row");
+		}
+		catch (RuntimeException ex)
+		{
+		}
+
+		results.verify("Iterator Test failed.  See above for details.");
+	}
+
 	/**
 	 * Deletes the created csv file during unit testing
 	 */
@@ -0,0 +1,91 @@
+package com.automation.ui.common.tests;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.utilities.CaptureWriter;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+
+/**
+ * This class hold the unit tests for the CaptureWriter class
+ */
+public class CaptureWriterTest {
+	@Test
+	public static void runWriteTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runWriteTest");
+		TestResults results = new TestResults();
+
+		File folder = new File(System.getProperty("java.io.tmpdir"), "CaptureWriterTest"
+				+ System.currentTimeMillis());
+		folder.mkdirs();
+
+		try
+		{
+			String sFrame = Base64.encodeBase64String("frame".getBytes("UTF-8"));
+			String sOther = Base64.encodeBase64String("other".getBytes("UTF-8"));
+			File first = new File(folder, "first.png");
+			File duplicate = new File(folder, "duplicate.png");
+			File other = new File(folder, "other.png");
+			File page = new File(folder, "page.html");
+
+			CaptureWriter.saveScreenshot(sFrame, first.getAbsolutePath());
+			CaptureWriter.saveScreenshot(sFrame, duplicate.getAbsolutePath());
+			CaptureWriter.saveScreenshot(sOther, other.getAbsolutePath());
+			CaptureWriter.savePageSource("<html>page</html>", page.getAbsolutePath());
+			results.expectTrue(CaptureWriter.flush(), "Queued files were not written before the timeout");
+
+			results.expectTrue(first.exists(), "Screenshot was not written");
+			results.expectTrue(duplicate.exists(), "Identical consecutive screenshot did not exist");
+			results.expectTrue(other.exists(), "Different screenshot was not written");
+			results.expectTrue(FileUtils.readFileToString(first, "UTF-8").equals("frame"),
+					"Screenshot was not decoded");
+			results.expectTrue(FileUtils.readFileToString(duplicate, "UTF-8").equals("frame"),
+					"Identical consecutive screenshot did not have the same content");
+
+			// Screenshots from different threads are never treated as duplicates of each other
+			final String sOtherCopy = sOther;
+			final File threaded = new File(folder, "threaded.png");
+			Thread thread = new Thread() {
+				@Override
+				public void run()
+				{
+					CaptureWriter.saveScreenshot(sOtherCopy, threaded.getAbsolutePath());
+				}
+			};
+			thread.start();
+			thread.join();
+			results.expectTrue(CaptureWriter.flush(), "Queued files were not written before the timeout");
+			results.expectTrue(threaded.exists(), "Screenshot from another thread was not written");
+
+			File compressed = new File(page.getAbsolutePath() + CaptureWriter._CompressedExtension);
+			results.expectTrue(compressed.exists(), "Compressed page source was not written");
+			GZIPInputStream in = new GZIPInputStream(new FileInputStream(compressed));
+			try
+			{
+				String sPage = IOUtils.toString(in, "UTF-8");
+				results.expectTrue(sPage.equals("<html>page</html>"), "Page source (" + sPage
+						+ ") was not correct after decompressing");
+			}
+			finally
+			{
+				in.close();
+			}
+		}
+		finally
+		{
+			FileUtils.deleteQuietly(folder);
+		}
+
+		results.verify("Write Test failed.  See above for details.");
+	}
+}
@@ -0,0 +1,135 @@
+package com.automation.ui.common.tests;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.dataStructures.DB_Type;
+import com.automation.ui.common.dataStructures.SimulatedJDBC;
+import com.automation.ui.common.utilities.ConnectionPool;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Database;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+
+/**
+ * This class hold the unit tests for the ConnectionPool class
+ */
+public class ConnectionPoolTest {
+	@Test
+	public static void runPoolTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runPoolTest");
+		TestResults results = new TestResults();
+
+		SimulatedJDBC jdbc = new SimulatedJDBC();
+		ConnectionPool pool = new ConnectionPool(jdbc.toFactory(), 2, 60000, 4);
+
+		Connection con1 = pool.getConnection();
+		Connection con2 = pool.getConnection();
+		results.expectTrue(jdbc.opened == 2, "Opened (" + jdbc.opened + ") was not 2");
+		results.expectTrue(pool.getActiveCount() == 2, "Active (" + pool.getActiveCount() + ") was not 2");
+
+		con1.close();
+		results.expectTrue(con1.isClosed(), "Closed connection was not closed");
+		results.expectTrue(jdbc.connectionsClosed == 0, "Physical connection was closed");
+		results.expectTrue(pool.getIdleCount() == 1, "Idle (" + pool.getIdleCount() + ") was not 1");
+
+		Connection con3 = pool.getConnection();
+		results.expectTrue(jdbc.opened == 2, "Idle connection was not re-used");
+
+		try
+		{
+			con1.prepareStatement("select 1");
+			results.expectTrue(false, "Closed connection could be used");
+		}
+		catch (SQLException ex)
+		{
+		}
+
+		con2.close();
+		con3.close();
+		pool.close();
+		results.expectTrue(jdbc.connectionsClosed == 2, "Closed (" + jdbc.connectionsClosed + ") was not 2 after closing the pool");
+
+		try
+		{
+			pool.getConnection();
+			results.expectTrue(false, "Closed pool gave a connection");
+		}
+		catch (SQLException ex)
+		{
+		}
+
+		jdbc = new SimulatedJDBC();
+		pool = new ConnectionPool(jdbc.toFactory(), 2, 50, 4);
+		pool.getConnection().close();
+		Thread.sleep(100);
+		pool.getConnection().close();
+		results.expectTrue(jdbc.opened == 2 && jdbc.connectionsClosed == 1, "Idle connection was not evicted");
+		pool.close();
+
+		Database db = new Database("user", "password", "server", 1, "name", DB_Type.MY_SQL);
+		results.expectTrue(ConnectionPool.get(db) == ConnectionPool.get(new Database(db)),
+				"Same connection information did not share the pool");
+		results.expectFalse(ConnectionPool.get(db) == ConnectionPool.get(new Database("user", "password",
+				"server", 2, "name", DB_Type.MY_SQL)), "Different connection information shared the pool");
+		ConnectionPool.closeAll();
+
+		results.verify("Pool Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runStatementCacheTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runStatementCacheTest");
+		TestResults results = new TestResults();
+
+		SimulatedJDBC jdbc = new SimulatedJDBC();
+		ConnectionPool pool = new ConnectionPool(jdbc.toFactory(), 1, 60000, 1);
+		Connection con = pool.getConnection();
+
+		PreparedStatement ps1 = con.prepareStatement("select 1");
+		ConnectionPool.closeOnCompletion(ps1);
+		ResultSet rs = ps1.executeQuery();
+		results.expectTrue(rs.getStatement() == ps1, "Result set statement did not match");
+		rs.close();
+		results.expectTrue(ps1.isClosed(), "Statement was not closed on completion");
+
+		PreparedStatement ps2 = con.prepareStatement("select 1");
+		results.expectTrue(jdbc.prepared == 1, "Cached statement was not re-used");
+		results.expectTrue(ps2.getConnection() == con, "Statement connection did not match");
+
+		con.prepareStatement("select 1");
+		results.expectTrue(jdbc.prepared == 2, "Statement in use was re-used");
+
+		con.prepareStatement("select 2");
+		results.expectTrue(jdbc.prepared == 3, "Different query used cached statement");
+
+		con.close();
+		results.expectTrue(ps2.isClosed(), "Statement was not closed with the connection");
+		results.expectTrue(jdbc.rollbacks == 0, "Rolled back when auto-commit was enabled");
+
+		// Uncommitted work is rolled back & auto-commit is restored when the connection is returned
+		con = pool.getConnection();
+		con.setAutoCommit(false);
+		results.expectFalse(jdbc.autoCommit, "Auto-commit was not disabled");
+		con.close();
+		results.expectTrue(jdbc.rollbacks == 1, "Rollbacks (" + jdbc.rollbacks + ") was not 1");
+		results.expectTrue(jdbc.autoCommit, "Auto-commit was not restored");
+
+		con = pool.getConnection();
+		con.prepareStatement("select 2").close();
+		con.prepareStatement("select 2");
+		results.expectTrue(jdbc.prepared == 3, "Statement was not re-used by the next user");
+		con.close();
+		pool.close();
+
+		results.verify("Statement Cache Test failed.  See above for details.");
+	}
+}
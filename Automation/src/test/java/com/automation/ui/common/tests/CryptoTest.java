@@ -0,0 +1,74 @@
+package com.automation.ui.common.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.dataStructures.Parameter;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Crypto;
+import com.automation.ui.common.utilities.CryptoDESede;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+
+/**
+ * This class hold the unit tests for the Crypto &amp; CryptoDESede classes
+ */
+public class CryptoTest {
+	@Test
+	public static void runCachedCipherTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runCachedCipherTest");
+		TestResults results = new TestResults();
+
+		Crypto crypto = new Crypto();
+		String encrypted = crypto.encrypt("password");
+		results.expectTrue("password".equals(crypto.decrypt(encrypted)), "Decrypt failed");
+		results.expectTrue("".equals(crypto.decrypt("invalid")), "Invalid value was decrypted");
+		results.expectTrue("password".equals(crypto.decrypt(encrypted)), "Decrypt after failure failed");
+		results.expectTrue("password".equals(new Crypto(crypto.getKey()).decrypt(encrypted)),
+				"Decrypt using same key failed");
+		results.expectTrue("".equals(new Crypto().decrypt(encrypted)), "Decrypt using different key worked");
+		results.expectTrue(crypto.troubleshootingCode() == 0, "Troubleshooting code was not 0");
+
+		String encoded = CryptoDESede.encode("secret");
+		results.expectTrue("secret".equals(CryptoDESede.decode(encoded)), "Decode failed");
+		results.expectTrue("".equals(CryptoDESede.decode("invalid")), "Invalid value was decoded");
+
+		results.verify("Cached Cipher Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runBulkDecodeTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runBulkDecodeTest");
+		TestResults results = new TestResults();
+
+		List<Parameter> encoded = new ArrayList<Parameter>();
+		for (int i = 0; i < 500; i++)
+		{
+			String value = (i % 50 == 0) ? null : CryptoDESede.encode("value" + i);
+			encoded.add(new Parameter("key" + i, value));
+		}
+
+		List<Parameter> decoded = CryptoDESede.decode(encoded);
+		results.expectTrue(decoded.size() == encoded.size(), "Decoded size (" + decoded.size()
+				+ ") did not match");
+		for (int i = 0; i < decoded.size(); i++)
+		{
+			String expected = (i % 50 == 0) ? "" : "value" + i;
+			results.expectTrue(decoded.get(i).param.equals("key" + i), "Key (" + decoded.get(i).param
+					+ ") was out of order");
+			results.expectTrue(decoded.get(i).value.equals(expected), "Value (" + decoded.get(i).value
+					+ ") was not '" + expected + "'");
+		}
+
+		String[] values = CryptoDESede.decode(new String[] { CryptoDESede.encode("a"), "invalid" });
+		results.expectTrue(values[0].equals("a") && values[1].equals(""), "Small bulk decode failed");
+
+		results.verify("Bulk Decode Test failed.  See above for details.");
+	}
+}
@@ -0,0 +1,159 @@
+package com.automation.ui.common.tests;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.utilities.BaseDataProvider;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.DataSnapshots;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+import com.automation.ui.common.utilities.VTD_XML;
+
+/**
+ * This class hold the unit tests for the BaseDataProvider &amp; DataSnapshots classes
+ */
+public class DataProviderTest {
+	private static final String _XML_File = "dataProviderTest.xml";
+
+	@Test
+	public static void runParallelBuildTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runParallelBuildTest");
+		TestResults results = new TestResults();
+
+		List<Integer> records = new ArrayList<Integer>();
+		for (int i = 0; i < 50; i++)
+		{
+			records.add(i);
+		}
+
+		final AtomicInteger built = new AtomicInteger();
+		Iterator<Object[]> it = new BaseDataProvider<Integer>() {
+			@Override
+			protected Object[] build(Integer record, int nIndex)
+			{
+				built.incrementAndGet();
+				return new Object[] { record, nIndex };
+			}
+		}.iterator(records);
+
+		int nCount = 0;
+		while (it.hasNext())
+		{
+			Object[] parameters = it.next();
+			results.expectTrue(parameters[0].equals(nCount) && parameters[1].equals(nCount), "Record ("
+					+ parameters[0] + ") was returned out of order (expected " + nCount + ")");
+			nCount++;
+		}
+
+		results.expectTrue(nCount == records.size(), "Count (" + nCount + ") did not match records");
+		results.expectTrue(built.get() == records.size(), "Built (" + built.get()
+				+ ") did not match records");
+
+		it = new BaseDataProvider<Integer>() {
+			@Override
+			protected Object[] build(Integer record, int nIndex)
+			{
+				if (nIndex == 10)
+					throw new IllegalStateException("Record " + nIndex);
+
+				return new Object[] { record };
+			}
+		}.iterator(records);
+
+		nCount = 0;
+		try
+		{
+			while (it.hasNext())
+			{
+				it.next();
+				nCount++;
+			}
+
+			results.expectTrue(false, "Exception from building was not thrown");
+		}
+		catch (IllegalStateException ex)
+		{
+			results.expectTrue(nCount == 8, "Exception was not thrown at the chunk with the record (" + nCount
+					+ ")");
+		}
+
+		// Handled exception ends the iteration
+		final List<RuntimeException> handled = new ArrayList<RuntimeException>();
+		it = new BaseDataProvider<Integer>() {
+			@Override
+			protected Object[] build(Integer record, int nIndex)
+			{
+				if (nIndex == 10)
+					throw new IllegalStateException("Record " + nIndex);
+
+				return new Object[] { record };
+			}
+
+			@Override
+			protected void failed(RuntimeException ex)
+			{
+				handled.add(ex);
+			}
+		}.iterator(records);
+
+		nCount = 0;
+		while (it.hasNext())
+		{
+			it.next();
+			nCount++;
+		}
+
+		results.expectTrue(handled.size() == 1, "Handled exceptions (" + handled.size() + ") was not 1");
+		results.expectTrue(nCount == 8, "Iteration did not stop at the chunk with the record (" + nCount + ")");
+		results.expectFalse(it.hasNext(), "Iterator had more elements after the exception was handled");
+
+		results.verify("Parallel Build Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runSnapshotTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runSnapshotTest");
+		TestResults results = new TestResults();
+
+		File file = new File(_XML_File);
+		FileUtils.writeStringToFile(file, "<data><Login><UniqueID>A</UniqueID><User>u1</User></Login>"
+				+ "<Login><User>u2</User></Login></data>");
+		DataSnapshots.clear();
+
+		try
+		{
+			List<String[]> records = DataSnapshots.getRecords(_XML_File, "/data/Login", "UniqueID", "User");
+			List<String[]> again = DataSnapshots.getRecords(_XML_File, "/data/Login", "UniqueID", "User");
+			results.expectTrue(records == again, "Records were read again");
+			results.expectTrue(records.size() == 2, "Records size (" + records.size() + ") was not 2");
+			results.expectTrue("A".equals(records.get(0)[0]), "UniqueID was not 'A'");
+			results.expectTrue(records.get(1)[0] == null, "Missing UniqueID was not null");
+			results.expectTrue("u2".equals(records.get(1)[1]), "User was not 'u2'");
+
+			VTD_XML xml1 = DataSnapshots.getXML(_XML_File);
+			VTD_XML xml2 = DataSnapshots.getXML(_XML_File);
+			results.expectTrue(xml1 != xml2, "Same navigator was returned");
+			results.expectTrue(xml1.getNodesCount("/data/Login") == 2, "Nodes count was not 2");
+			results.expectTrue("u1".equals(xml2.getNodeValue("/data/Login[1]/User", null)),
+					"Copy did not read the value");
+		}
+		finally
+		{
+			DataSnapshots.clear();
+			file.delete();
+		}
+
+		results.verify("Snapshot Test failed.  See above for details.");
+	}
+}
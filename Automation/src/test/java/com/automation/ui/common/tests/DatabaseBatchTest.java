@@ -0,0 +1,162 @@
+package com.automation.ui.common.tests;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.dataStructures.DB_Type;
+import com.automation.ui.common.dataStructures.GenericData;
+import com.automation.ui.common.dataStructures.Parameter;
+import com.automation.ui.common.dataStructures.SimulatedJDBC;
+import com.automation.ui.common.utilities.BaseRowMapper;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Database;
+import com.automation.ui.common.utilities.GenericDataRowMapper;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+
+/**
+ * This class hold the unit tests for the batch updates &amp; streaming row mapping of the Database class
+ */
+public class DatabaseBatchTest {
+	private enum Column
+	{
+		ID, NAME
+	}
+
+	/**
+	 * Creates the sets of parameters for the batch test
+	 * 
+	 * @param nSize - Number of sets of parameters
+	 * @return List&lt;List&lt;Parameter&gt;&gt;
+	 */
+	private static List<List<Parameter>> getRows(int nSize)
+	{
+		List<List<Parameter>> rows = new ArrayList<List<Parameter>>();
+		for (int i = 0; i < nSize; i++)
+		{
+			List<Parameter> row = new ArrayList<Parameter>();
+			row.add(new Parameter(Database.INTEGER, String.valueOf(i)));
+			row.add(new Parameter(Database.STRING, "name" + i));
+			rows.add(row);
+		}
+
+		return rows;
+	}
+
+	@Test
+	public static void runBatchTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runBatchTest");
+		TestResults results = new TestResults();
+
+		Database db = new Database("user", "password", "server", 1, "name", DB_Type.MY_SQL);
+		SimulatedJDBC jdbc = new SimulatedJDBC();
+		Connection con = jdbc.create(Connection.class);
+
+		int[] counts = db.updateBatch(con, "insert into temp values (?, ?)", getRows(25), 10, false);
+		results.expectTrue(counts != null && counts.length == 25, "Update counts were not for all the rows");
+		results.expectTrue(jdbc.batches.equals(Arrays.asList(10, 10, 5)), "Batches " + jdbc.batches
+				+ " were not [10, 10, 5]");
+		results.expectTrue(jdbc.values.size() == 50, "Values (" + jdbc.values.size() + ") were not 50");
+		results.expectTrue(jdbc.values.get(48).equals("24"), "Last row parameters were not set in order");
+		results.expectTrue(jdbc.commits == 0, "Committed without transaction grouping");
+		results.expectTrue(jdbc.statementsClosed == 1, "Statement was not closed");
+
+		jdbc = new SimulatedJDBC();
+		con = jdbc.create(Connection.class);
+		counts = db.updateBatch(con, "insert into temp values (?, ?)", getRows(20), 10, true);
+		results.expectTrue(counts != null && counts.length == 20, "Transaction update counts were wrong");
+		results.expectTrue(jdbc.commits == 2, "Commits (" + jdbc.commits + ") were not 2");
+		results.expectTrue(jdbc.autoCommit, "Auto-commit was not restored");
+
+		jdbc = new SimulatedJDBC();
+		jdbc.nFailBatch = 1;
+		con = jdbc.create(Connection.class);
+		counts = db.updateBatch(con, "insert into temp values (?, ?)", getRows(30), 10, true);
+		results.expectTrue(counts == null, "Failed batch did not return null");
+		results.expectTrue(jdbc.commits == 1, "Commits (" + jdbc.commits + ") were not 1 for failed batch");
+		results.expectTrue(jdbc.rollbacks == 1, "Failed batch was not rolled back");
+		results.expectTrue(jdbc.batches.size() == 1, "Batches after the failure were executed");
+		results.expectTrue(jdbc.autoCommit, "Auto-commit was not restored after failure");
+		results.expectTrue(jdbc.statementsClosed == 1, "Statement was not closed after failure");
+
+		// Transaction grouping is not used when the caller already manages the transaction
+		jdbc = new SimulatedJDBC();
+		jdbc.autoCommit = false;
+		jdbc.nFailBatch = 1;
+		con = jdbc.create(Connection.class);
+		counts = db.updateBatch(con, "insert into temp values (?, ?)", getRows(30), 10, true);
+		results.expectTrue(counts == null, "Failed batch in caller transaction did not return null");
+		results.expectTrue(jdbc.commits == 0 && jdbc.rollbacks == 0,
+				"Caller transaction was committed or rolled back");
+		results.expectFalse(jdbc.autoCommit, "Auto-commit was enabled for caller transaction");
+
+		results.verify("Batch Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runRowMapperTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runRowMapperTest");
+		TestResults results = new TestResults();
+
+		Database db = new Database("user", "password", "server", 1, "name", DB_Type.MY_SQL);
+		SimulatedJDBC jdbc = new SimulatedJDBC();
+		jdbc.nRows = 1000;
+		Connection con = jdbc.create(Connection.class);
+
+		final List<String> stored = new ArrayList<String>();
+		int nRows = db.executeQuery(con, "select * from temp", new ArrayList<Parameter>(), 250,
+				new BaseRowMapper<String>() {
+					@Override
+					protected String map(ResultSet rs, int nRow) throws SQLException
+					{
+						return rs.getString("NAME");
+					}
+
+					@Override
+					protected boolean process(String row, int nRow)
+					{
+						if (nRow % 100 == 0)
+							stored.add(row);
+
+						return true;
+					}
+				});
+
+		results.expectTrue(nRows == 1000, "Rows processed (" + nRows + ") was not 1000");
+		results.expectTrue(stored.size() == 10 && stored.get(9).equals("name1000"), "Rows were not in order");
+		results.expectTrue(jdbc.fetchSize == 250, "Fetch size (" + jdbc.fetchSize + ") was not 250");
+		results.expectTrue(jdbc.resultSetFetchSizes == 0, "Fetch size was set on the result set");
+		results.expectTrue(jdbc.resultSetType == ResultSet.TYPE_FORWARD_ONLY,
+				"Result set was not forward only");
+		results.expectTrue(jdbc.resultSetsClosed == 1, "Result set was not closed");
+		results.expectTrue(jdbc.statementsClosed == 1, "Statement was not closed");
+
+		final List<GenericData> mapped = new ArrayList<GenericData>();
+		nRows = db.executeQuery(con, "select * from temp", new ArrayList<Parameter>(), 0,
+				new GenericDataRowMapper(Column.ID, Column.NAME) {
+					@Override
+					protected boolean process(GenericData row, int nRow)
+					{
+						mapped.add(row);
+						return nRow < 3;
+					}
+				});
+
+		results.expectTrue(nRows == 3, "Processing did not stop (" + nRows + ")");
+		results.expectTrue(mapped.get(2).get(Column.ID).equals(3), "ID was not mapped");
+		results.expectTrue(mapped.get(2).get(Column.NAME).equals("name3"), "Name was not mapped");
+
+		results.verify("Row Mapper Test failed.  See above for details.");
+	}
+}
@@ -0,0 +1,166 @@
+package com.automation.ui.common.tests;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.dataStructures.ElementProperty;
+import com.automation.ui.common.dataStructures.SimulatedBrowser;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+import com.automation.ui.common.utilities.caches.ElementPropertyCache;
+
+/**
+ * This class hold the unit tests for the ElementPropertyCache class which checks the cache keys, the
+ * eviction of values (least recently used, stale &amp; failing elements) &amp; which properties are
+ * prefetched
+ */
+public class ElementPropertyCacheTest {
+	@Test
+	public static void runKeyTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runKeyTest");
+		TestResults results = new TestResults();
+
+		SimulatedBrowser browser = new SimulatedBrowser();
+		SimulatedBrowser.Element simulated = browser.addElement("text", "text");
+		simulated.attributes.put("id", "text-id");
+		simulated.attributes.put("class", "text-class");
+		WebElement element = simulated;
+		ElementPropertyCache cache = new ElementPropertyCache();
+
+		String value = cache.get(element, ElementProperty.VisibleText, "id");
+		results.expectTrue(value.equals("text"), "Visible text (" + value + ") was not 'text'");
+		value = cache.get(element, ElementProperty.Attribute, "id");
+		results.expectTrue(value.equals("text-id"), "Attribute id (" + value + ") was not 'text-id'");
+		value = cache.get(element, ElementProperty.Attribute, "class");
+		results.expectTrue(value.equals("text-class"), "Attribute class (" + value
+				+ ") was not 'text-class'");
+		results.expectTrue(cache.size() == 3, "Cache size (" + cache.size() + ") was not 3");
+
+		// Attribute name is not part of the key for the text properties
+		cache.get(element, ElementProperty.VisibleText, "class");
+		cache.get(element, ElementProperty.Attribute, "id");
+		results.expectTrue(simulated.reads == 3, "Element reads (" + simulated.reads
+				+ ") was not 3 as cached values were not used");
+		results.expectTrue(cache.containsKey(element, ElementProperty.VisibleText, null),
+				"Visible text was not in cache");
+		results.expectFalse(cache.containsKey(element, ElementProperty.Attribute, "name"),
+				"Attribute name was in cache");
+
+		results.verify("Key Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runEvictionTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runEvictionTest");
+		TestResults results = new TestResults();
+
+		ElementPropertyCache cache = new ElementPropertyCache(2);
+		SimulatedBrowser browser = new SimulatedBrowser();
+		WebElement first = browser.addElement("first", "first");
+		WebElement second = browser.addElement("second", "second");
+		WebElement third = browser.addElement("third", "third");
+
+		cache.get(first, ElementProperty.VisibleText, "");
+		cache.get(second, ElementProperty.VisibleText, "");
+		cache.get(first, ElementProperty.VisibleText, "");
+		cache.get(third, ElementProperty.VisibleText, "");
+		results.expectTrue(cache.size() == 2, "Cache size (" + cache.size() + ") was not 2");
+		results.expectTrue(cache.containsKey(first, ElementProperty.VisibleText, ""),
+				"Most recently used element was evicted");
+		results.expectFalse(cache.containsKey(second, ElementProperty.VisibleText, ""),
+				"Least recently used element was not evicted");
+
+		// Stale elements have all their entries removed
+		SimulatedBrowser.Element simulated = browser.addElement("stale", "stale");
+		WebElement stale = simulated;
+		cache = new ElementPropertyCache();
+		cache.get(stale, ElementProperty.VisibleText, "");
+		cache.get(first, ElementProperty.VisibleText, "");
+		simulated.stale = true;
+		String value = cache.get(stale, ElementProperty.Attribute, "id");
+		results.expectTrue(value.equals(""), "Stale element value (" + value + ") was not empty");
+		results.expectFalse(cache.containsKey(stale, ElementProperty.VisibleText, ""),
+				"Stale element was not removed from cache");
+		results.expectTrue(cache.size() == 1, "Cache size (" + cache.size() + ") was not 1");
+
+		// Any other driver exception returns empty string (like Framework.getText) & is not cached
+		simulated = browser.addElement("failing", "failing");
+		WebElement failing = simulated;
+		simulated.failing = true;
+		value = cache.get(failing, ElementProperty.VisibleText, "");
+		results.expectTrue(value.equals(""), "Failing element value (" + value + ") was not empty");
+		value = cache.get(failing, ElementProperty.Attribute, "id");
+		results.expectTrue(value.equals(""), "Failing element attribute (" + value + ") was not empty");
+		results.expectFalse(cache.containsKey(failing, ElementProperty.VisibleText, ""),
+				"Failing element value was cached");
+
+		results.verify("Eviction Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runPrefetchTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runPrefetchTest");
+		TestResults results = new TestResults();
+
+		SimulatedBrowser browser = new SimulatedBrowser();
+		SimulatedBrowser.Element visible = browser.addElement("visible", "Visible");
+		SimulatedBrowser.Element hidden = browser.addElement("hidden", "Hidden");
+		hidden.displayed = false;
+		List<WebElement> elements = new ArrayList<WebElement>();
+		elements.add(visible);
+		elements.add(hidden);
+
+		// Visible text is never prefetched as JavaScript (innerText) does not follow the WebDriver rules
+		ElementPropertyCache cache = new ElementPropertyCache();
+		results.expectFalse(cache.prefetch(elements, ElementProperty.VisibleText, ""),
+				"Visible text was prefetched");
+		results.expectTrue(browser.scripts == 0, "JavaScript calls (" + browser.scripts + ") was not 0");
+
+		// Hidden element has the same visible text whether it was in a list or not
+		String value = cache.get(hidden, ElementProperty.VisibleText, "");
+		results.expectTrue(value.equals(""), "Hidden element visible text (" + value + ") was not empty");
+		value = cache.get(visible, ElementProperty.VisibleText, "");
+		results.expectTrue(value.equals("Visible"), "Visible element visible text (" + value
+				+ ") was not 'Visible'");
+
+		// The text content is prefetched for all elements (including hidden elements)
+		browser.setScript(new SimulatedBrowser.Script() {
+			@Override
+			public Object execute(String sJS, Object[] args)
+			{
+				List<String> values = new ArrayList<String>();
+				for (Object element : (List<?>) args[0])
+				{
+					values.add(((SimulatedBrowser.Element) element).text);
+				}
+
+				Map<String, Object> result = new HashMap<String, Object>();
+				result.put("version", "1");
+				result.put("values", values);
+				return result;
+			}
+		});
+
+		int nReads = hidden.reads;
+		results.expectTrue(cache.prefetch(elements, ElementProperty.JavaScriptText, ""),
+				"Text content was not prefetched");
+		value = cache.get(hidden, ElementProperty.JavaScriptText, "");
+		results.expectTrue(value.equals("Hidden"), "Hidden element text content (" + value
+				+ ") was not 'Hidden'");
+		results.expectTrue(hidden.reads == nReads, "Hidden element was read instead of using the prefetch");
+
+		results.verify("Prefetch Test failed.  See above for details.");
+	}
+}
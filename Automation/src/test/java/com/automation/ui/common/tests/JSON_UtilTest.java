@@ -0,0 +1,80 @@
+package com.automation.ui.common.tests;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.JSON_Util;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+import com.automation.ui.common.utilities.WS_Util;
+
+/**
+ * This class hold the unit tests for the JSON_Util class
+ */
+public class JSON_UtilTest {
+	private static final String JSON = "{\"skip\":{\"nested\":[1,2,{\"a\":\"b\"}]},\"name\":\"test\","
+			+ "\"rows\":[{\"id\":1},{\"id\":2},{\"id\":3}],\"count\":3,\"last\":true}";
+
+	@Test
+	public static void runSharedReaderTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runSharedReaderTest");
+		TestResults results = new TestResults();
+
+		results.expectTrue(JSON_Util.getReader(Map.class) == JSON_Util.getReader(Map.class),
+				"Reader for the same type was not cached");
+		results.expectTrue(JSON_Util.getReader(Map.class) != JSON_Util.getReader(List.class),
+				"Reader for a different type was the same");
+
+		Map<String, Object> data = WS_Util.toMap(JSON);
+		results.expectTrue(data.get("name").equals("test"), "toMap did not parse the name field");
+		results.expectTrue(WS_Util.toArrayList("[1,2,3]").size() == 3, "toArrayList did not parse the array");
+		results.expectTrue(WS_Util.toMap(WS_Util.toJSON(data, true)).equals(data),
+				"Round trip using the shared writer & reader did not match");
+
+		results.verify("Shared Reader Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runStreamingTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runStreamingTest");
+		TestResults results = new TestResults();
+
+		Map<String, Object> fields = JSON_Util.getFields(JSON, "name", "count", "missing");
+		results.expectTrue(fields.size() == 2, "Number of fields (" + fields.size() + ") was not 2");
+		results.expectTrue("test".equals(fields.get("name")), "Field 'name' was not correct");
+		results.expectTrue(Integer.valueOf(3).equals(fields.get("count")), "Field 'count' was not correct");
+
+		fields = JSON_Util.getFields(JSON, "skip");
+		results.expectTrue(fields.get("skip") instanceof Map, "Field 'skip' was not parsed as an object");
+
+		List<Integer> ids = new ArrayList<Integer>();
+		@SuppressWarnings("rawtypes")
+		Iterator<Map> rows = JSON_Util.iterateArray(new StringReader(JSON), "rows", Map.class);
+		while (rows.hasNext())
+		{
+			ids.add((Integer) rows.next().get("id"));
+		}
+
+		results.expectTrue(ids.size() == 3 && ids.get(0) == 1 && ids.get(2) == 3, "Array elements were "
+				+ ids);
+
+		Iterator<Integer> root = JSON_Util.iterateArray(new StringReader("[5, 6]"), null, Integer.class);
+		results.expectTrue(root.next() == 5 && root.next() == 6 && !root.hasNext(),
+				"Root array was not iterated correctly");
+
+		Iterator<Object> missing = JSON_Util.iterateArray(new StringReader(JSON), "missing", Object.class);
+		results.expectTrue(!missing.hasNext(), "Missing array had elements");
+
+		results.verify("Streaming Test failed.  See above for details.");
+	}
+}
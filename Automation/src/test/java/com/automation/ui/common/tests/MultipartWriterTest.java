@@ -0,0 +1,241 @@
+package com.automation.ui.common.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.dataStructures.MultipartData;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.MultiUpload;
+import com.automation.ui.common.utilities.MultipartWriter;
+import com.automation.ui.common.utilities.TestResults;
+import com.automation.ui.common.utilities.UploadFile;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * This class hold the unit tests for the streaming multipart uploads
+ */
+public class MultipartWriterTest {
+	/**
+	 * Local server that stores the last request body &amp; headers
+	 */
+	private static class Receiver implements HttpHandler {
+		private HttpServer server;
+		private byte[] body;
+		private String contentLength;
+		private String transferEncoding;
+
+		public Receiver() throws IOException
+		{
+			server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+			server.createContext("/upload", this);
+			server.start();
+		}
+
+		public String getURL()
+		{
+			return "http://127.0.0.1:" + server.getAddress().getPort() + "/upload";
+		}
+
+		@Override
+		public void handle(HttpExchange exchange) throws IOException
+		{
+			contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+			transferEncoding = exchange.getRequestHeaders().getFirst("Transfer-Encoding");
+			body = toBytes(exchange.getRequestBody());
+
+			byte[] response = "OK".getBytes("UTF-8");
+			exchange.sendResponseHeaders(200, response.length);
+			OutputStream out = exchange.getResponseBody();
+			out.write(response);
+			out.close();
+		}
+
+		public void stop()
+		{
+			server.stop(0);
+		}
+	}
+
+	/**
+	 * Reads all the bytes from the stream &amp; closes it
+	 * 
+	 * @param in - Stream to read
+	 * @return byte[]
+	 * @throws IOException
+	 */
+	private static byte[] toBytes(InputStream in) throws IOException
+	{
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int nRead;
+		while ((nRead = in.read(buffer)) != -1)
+		{
+			baos.write(buffer, 0, nRead);
+		}
+
+		in.close();
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Creates a temporary file with binary content
+	 * 
+	 * @param nSize - Size of the file
+	 * @param nSeed - Value used to generate the content
+	 * @return File
+	 * @throws IOException
+	 */
+	private static File createFile(int nSize, int nSeed) throws IOException
+	{
+		File f = File.createTempFile("upload", ".bin");
+		f.deleteOnExit();
+
+		byte[] content = new byte[nSize];
+		for (int i = 0; i < nSize; i++)
+		{
+			content[i] = (byte) (i * 31 + nSeed);
+		}
+
+		FileOutputStream fos = new FileOutputStream(f);
+		fos.write(content);
+		fos.close();
+		return f;
+	}
+
+	/**
+	 * Checks if the bytes contain the file content at the index
+	 * 
+	 * @param body - Bytes to check
+	 * @param nIndex - Index in the bytes where the content starts
+	 * @param nSize - Size of the file
+	 * @param nSeed - Value used to generate the content
+	 * @return true if the bytes contain the file content at the index
+	 */
+	private static boolean containsFile(byte[] body, int nIndex, int nSize, int nSeed)
+	{
+		if (nIndex < 0 || nIndex + nSize > body.length)
+			return false;
+
+		for (int i = 0; i < nSize; i++)
+		{
+			if (body[nIndex + i] != (byte) (i * 31 + nSeed))
+				return false;
+		}
+
+		return true;
+	}
+
+	@Test
+	public static void runWriterTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runWriterTest");
+		TestResults results = new TestResults();
+
+		File f = createFile(200000, 7);
+		MultipartWriter writer = new MultipartWriter();
+		writer.addText("--b\r\nname=\u00e9\r\n\r\n");
+		writer.addFile(f.getPath());
+		writer.addText("\r\n--b--\r\n");
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		writer.writeTo(baos);
+		byte[] body = baos.toByteArray();
+		byte[] header = "--b\r\nname=\u00e9\r\n\r\n".getBytes("UTF-8");
+
+		results.expectTrue(writer.getContentLength() == body.length, "Content Length ("
+				+ writer.getContentLength() + ") did not match bytes written (" + body.length + ")");
+		results.expectTrue(Arrays.equals(Arrays.copyOf(body, header.length), header), "Text was not first");
+		results.expectTrue(containsFile(body, header.length, 200000, 7), "File content was not correct");
+
+		writer = new MultipartWriter();
+		writer.addFile(f.getPath() + ".missing");
+		try
+		{
+			writer.writeTo(new ByteArrayOutputStream());
+			results.expectTrue(false, "Missing file did not throw an exception");
+		}
+		catch (IOException ex)
+		{
+		}
+
+		results.verify("Writer Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runUploadTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runUploadTest");
+		TestResults results = new TestResults();
+
+		Receiver receiver = new Receiver();
+		try
+		{
+			File f1 = createFile(300000, 1);
+			File f2 = createFile(5000, 2);
+
+			UploadFile upload = new UploadFile();
+			upload.set_wsURL(receiver.getURL());
+			upload.setFile(f1.getPath());
+			upload.readyForPOST();
+			InputStream response = upload.sendAndReceivePOST();
+			results.expectTrue(response != null, "Upload File did not get a response");
+			if (response != null)
+				response.close();
+
+			String sBody = new String(receiver.body, "ISO-8859-1");
+			int nStart = sBody.indexOf("filename=\"" + upload.getEncodedFilename() + "\"\r\n\r\n");
+			nStart = sBody.indexOf("\r\n\r\n", nStart) + 4;
+			results.expectTrue(String.valueOf(receiver.body.length).equals(receiver.contentLength),
+					"Content-Length (" + receiver.contentLength + ") was not the body length");
+			results.expectTrue(containsFile(receiver.body, nStart, 300000, 1),
+					"Uploaded file was not correct");
+			results.expectTrue(sBody.endsWith("--\r\n"), "Closing boundary was not last");
+
+			List<MultipartData> attachments = new ArrayList<MultipartData>();
+			attachments.add(new MultipartData(Arrays.asList("Content-Disposition: form-data; name=\"a\""),
+					f1.getPath()));
+			attachments.add(new MultipartData(Arrays.asList("Content-Disposition: form-data; name=\"b\""),
+					f2.getPath()));
+
+			MultiUpload multi = new MultiUpload();
+			multi.set_wsURL(receiver.getURL());
+			multi.setBoundary("boundary123");
+			multi.setAttachments(attachments);
+			multi.setChunkedStreaming(true);
+			response = multi.sendAndReceivePOST();
+			results.expectTrue(response != null, "Multi Upload did not get a response");
+			if (response != null)
+				response.close();
+
+			sBody = new String(receiver.body, "ISO-8859-1");
+			int nFirst = sBody.indexOf("name=\"a\"\r\n\r\n") + 12;
+			int nSecond = sBody.indexOf("name=\"b\"\r\n\r\n") + 12;
+			results.expectTrue("chunked".equalsIgnoreCase(receiver.transferEncoding),
+					"Chunked mode was not used");
+			results.expectTrue(containsFile(receiver.body, nFirst, 300000, 1), "1st file was not correct");
+			results.expectTrue(containsFile(receiver.body, nSecond, 5000, 2), "2nd file was not correct");
+			results.expectTrue(sBody.endsWith("\r\n--boundary123--\r\n"), "Closing boundary was not last");
+		}
+		finally
+		{
+			receiver.stop();
+		}
+
+		results.verify("Upload Test failed.  See above for details.");
+	}
+}
@@ -0,0 +1,155 @@
+package com.automation.ui.common.tests;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.dataStructures.Comparison;
+import com.automation.ui.common.dataStructures.SimulatedBrowser;
+import com.automation.ui.common.exceptions.DuplicateWordException;
+import com.automation.ui.common.exceptions.GenericErrorDetectedException;
+import com.automation.ui.common.exceptions.JavaScriptException;
+import com.automation.ui.common.utilities.BaseDetectError;
+import com.automation.ui.common.utilities.Compare;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Framework;
+import com.automation.ui.common.utilities.Languages;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.MultiPatternMatcher;
+import com.automation.ui.common.utilities.StringMod;
+import com.automation.ui.common.utilities.TestResults;
+import com.automation.ui.common.utilities.caches.PatternCache;
+
+/**
+ * This class hold the unit tests for the PatternCache &amp; MultiPatternMatcher classes which checks that
+ * the compiled patterns are cached (&amp; bounded), that multiple regular expressions are matched in a single
+ * pass &amp; that BaseDetectError uses the single pass to find the exception for the displayed error
+ */
+public class PatternCacheTest {
+	/**
+	 * Page with a hidden error &amp; a displayed error that are read the same way as SampleDetectError. The
+	 * known errors are regular expressions.
+	 */
+	private static class ErrorPage extends BaseDetectError {
+		public ErrorPage(SimulatedBrowser browser)
+		{
+			super(browser.getDriver(), 1000, 10, Languages.English, Comparison.RegEx);
+			setErrorLocators(Arrays.asList("hidden-error", "error"));
+		}
+
+		@Override
+		protected String getDisplayedError(String locator)
+		{
+			WebElement error = Framework.findElement(getDriver(), locator, false);
+			if (Framework.isTextDisplayed(error, Comparison.NotEqual, ""))
+				return Framework.getText(error);
+
+			return null;
+		}
+
+		@Override
+		protected HashMap<String, RuntimeException> getAvailableErrors(Languages lang)
+		{
+			HashMap<String, RuntimeException> errors = new HashMap<String, RuntimeException>();
+			errors.put("Duplicate word: \\w+", new DuplicateWordException(""));
+			errors.put("(?i)script error.*", new JavaScriptException(""));
+			return errors;
+		}
+	}
+
+	/**
+	 * Gets the page with the displayed error in a simulated browser
+	 * 
+	 * @param sDisplayed - Displayed error
+	 * @return ErrorPage
+	 */
+	private static ErrorPage getErrorPage(String sDisplayed)
+	{
+		SimulatedBrowser browser = new SimulatedBrowser();
+		browser.addElement("hidden-error", "Duplicate word: hidden").displayed = false;
+		browser.addElement("error", sDisplayed);
+		return new ErrorPage(browser);
+	}
+
+	@Test
+	public static void runCacheTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runCacheTest");
+		TestResults results = new TestResults();
+
+		PatternCache.clearCache();
+		results.expectTrue(PatternCache.get("a+b") == PatternCache.get("a+b"), "Pattern was not cached");
+		results.expectTrue(Compare.matches("aab", "a+b"), "Matches using cached pattern failed");
+		results.expectFalse(Compare.matches("aab", "[invalid"), "Invalid regular expression matched");
+		results.expectTrue(PatternCache.size() == 1, "Cache size (" + PatternCache.size() + ") was not 1");
+
+		for (int i = 0; i < PatternCache._MaxSize + 10; i++)
+		{
+			PatternCache.get("regex" + i);
+		}
+
+		results.expectTrue(PatternCache.size() == PatternCache._MaxSize, "Cache size (" + PatternCache.size()
+				+ ") was not bounded");
+
+		String value = new StringMod("a1b2c3").removeAll("\\d").get();
+		results.expectTrue(value.equals("abc"), "removeAll (" + value + ") was not 'abc'");
+		value = new StringMod("a1b2c3").replaceFirstRegEx("\\d", "-").get();
+		results.expectTrue(value.equals("a-b2c3"), "replaceFirstRegEx (" + value + ") was not 'a-b2c3'");
+		value = new StringMod("a,b,c").split(",", 1).get();
+		results.expectTrue(value.equals("b"), "split (" + value + ") was not 'b'");
+
+		results.verify("Cache Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runMultiPatternTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runMultiPatternTest");
+		TestResults results = new TestResults();
+
+		List<String> regexes = Arrays.asList("(?i)error \\d+", "warning.*", "(a)|(b)", "error.*");
+		MultiPatternMatcher matcher = new MultiPatternMatcher(regexes);
+		results.expectTrue(matcher.isCombined(), "Regular expressions were not combined");
+		results.expectTrue(matcher.indexOf("ERROR 42") == 0, "Inline flag was not applied");
+		results.expectTrue(matcher.indexOf("Error x") == -1,
+				"Inline flag applied to other regular expressions");
+		results.expectTrue(matcher.indexOf("warning: disk") == 1, "2nd regular expression did not match");
+		results.expectTrue(matcher.indexOf("b") == 2, "Alternation was not contained");
+		results.expectTrue(matcher.indexOf("error 1") == 0, "1st matching regular expression not returned");
+		results.expectTrue(matcher.match("none") == null, "Match was found for 'none'");
+
+		matcher = new MultiPatternMatcher(Arrays.asList("(a)\\1", "[invalid", "b+"));
+		results.expectFalse(matcher.isCombined(), "Regular expressions with back reference were combined");
+		results.expectTrue(matcher.indexOf("aa") == 0, "Back reference did not match");
+		results.expectTrue(matcher.indexOf("bbb") == 2, "Regular expression after invalid did not match");
+
+		try
+		{
+			getErrorPage("Script Error on page").detectError();
+			results.expectTrue(false, "No exception thrown for known error");
+		}
+		catch (JavaScriptException ex)
+		{
+		}
+		catch (DuplicateWordException ex)
+		{
+			results.expectTrue(false, "Exception thrown for the hidden error");
+		}
+
+		try
+		{
+			getErrorPage("Unknown").detectError();
+			results.expectTrue(false, "No exception thrown for unknown error");
+		}
+		catch (GenericErrorDetectedException ex)
+		{
+		}
+
+		results.verify("Multi Pattern Test failed.  See above for details.");
+	}
+}
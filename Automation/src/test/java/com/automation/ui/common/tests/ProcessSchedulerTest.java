@@ -0,0 +1,179 @@
+package com.automation.ui.common.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.exec.CommandLine;
+import org.apache.commons.exec.ExecuteResultHandler;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.dataStructures.Commands;
+import com.automation.ui.common.dataStructures.ProcessResult;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Framework;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.Misc;
+import com.automation.ui.common.utilities.ProcessScheduler;
+import com.automation.ui.common.utilities.TestResults;
+
+/**
+ * This class hold the unit tests for the ProcessScheduler class which checks that the longest tests are
+ * started first, that the run never exceeds the overall or node capacity &amp; that the durations recorded by
+ * a run are used to order the next run
+ */
+public class ProcessSchedulerTest {
+	/**
+	 * Replaces each process with a thread that sleeps for the duration of the test &amp; records the max
+	 * number of tests running at the same time (overall &amp; against the IE node)
+	 */
+	private static class SimulatedScheduler extends ProcessScheduler {
+		private Map<String, Integer> simulated;
+		private Map<String, Integer> nodeRunning = new HashMap<String, Integer>();
+		private int running;
+		private int maxRunning;
+		private int maxNodeRunning;
+
+		public SimulatedScheduler(int capacity, Map<String, Integer> simulated)
+		{
+			super(capacity, 60000, 5000, 0);
+			this.simulated = simulated;
+		}
+
+		@Override
+		protected void execute(final Commands command, final ExecuteResultHandler handler) throws IOException
+		{
+			synchronized (this)
+			{
+				running++;
+				maxRunning = Math.max(maxRunning, running);
+				Integer count = nodeRunning.get(command.node);
+				count = (count == null) ? 1 : count + 1;
+				nodeRunning.put(command.node, count);
+				if (command.node.equals("IE"))
+					maxNodeRunning = Math.max(maxNodeRunning, count);
+			}
+
+			new Thread() {
+				@Override
+				public void run()
+				{
+					Framework.sleep(simulated.get(command.id));
+					synchronized (SimulatedScheduler.this)
+					{
+						running--;
+						nodeRunning.put(command.node, nodeRunning.get(command.node) - 1);
+					}
+
+					handler.onProcessComplete(command.id.equals("Fail") ? 1 : 0);
+				}
+			}.start();
+		}
+	}
+
+	private static Commands getCommand(String id, String node)
+	{
+		return new Commands(id, new CommandLine("java"), node);
+	}
+
+	@Test
+	public static void runOrderTest() throws IOException
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runOrderTest");
+		TestResults results = new TestResults();
+
+		File durations = File.createTempFile("durations", ".properties");
+		durations.deleteOnExit();
+		FileUtils.writeStringToFile(durations, "Short=100\nLong=300\nMedium=200\n");
+
+		List<Commands> commands = new ArrayList<Commands>();
+		commands.add(getCommand("Short", ""));
+		commands.add(getCommand("Long", ""));
+		commands.add(getCommand("New", ""));
+		commands.add(getCommand("Medium", ""));
+
+		ProcessScheduler scheduler = new ProcessScheduler(2, 60000, 5000, 0);
+		scheduler.setDurationsFile(durations.getAbsolutePath());
+		List<Commands> ordered = scheduler.order(commands);
+		String[] expected = new String[] { "New", "Long", "Medium", "Short" };
+		for (int i = 0; i < expected.length; i++)
+		{
+			results.expectTrue(ordered.get(i).id.equals(expected[i]), "Index " + i + " was ("
+					+ ordered.get(i).id + ") instead of (" + expected[i] + ")");
+		}
+
+		results.expectTrue(ProcessScheduler.getCapacity(5, 0) == 5, "Capacity without processes per CPU");
+		int nCPU = Runtime.getRuntime().availableProcessors();
+		results.expectTrue(ProcessScheduler.getCapacity(10000, 1) == nCPU,
+				"Capacity with 1 process per CPU was not the number of processors");
+		results.expectTrue(ProcessScheduler.getCapacity(0, 0) == 1, "Capacity was less than 1");
+
+		results.verify("Order Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runSchedulerTest() throws IOException
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runSchedulerTest");
+		TestResults results = new TestResults();
+
+		Map<String, Integer> simulated = new HashMap<String, Integer>();
+		simulated.put("IE-1", 200);
+		simulated.put("IE-2", 200);
+		simulated.put("C-1", 100);
+		simulated.put("C-2", 100);
+		simulated.put("Fail", 50);
+
+		List<Commands> commands = new ArrayList<Commands>();
+		commands.add(getCommand("IE-1", "IE"));
+		commands.add(getCommand("IE-2", "IE"));
+		commands.add(getCommand("C-1", "Chrome"));
+		commands.add(getCommand("C-2", "Chrome"));
+		commands.add(getCommand("Fail", "Chrome"));
+
+		File durations = File.createTempFile("durations", ".properties");
+		durations.deleteOnExit();
+		durations.delete();
+		File report = File.createTempFile("timing", ".csv");
+		report.deleteOnExit();
+
+		SimulatedScheduler scheduler = new SimulatedScheduler(2, simulated);
+		scheduler.setNodeCapacity("IE", 1);
+		scheduler.setDurationsFile(durations.getAbsolutePath());
+		scheduler.setReportFile(report.getAbsolutePath());
+		List<ProcessResult> processes = scheduler.run(commands);
+
+		results.expectTrue(processes.size() == commands.size(), "Number of results (" + processes.size()
+				+ ") did not match the number of commands");
+		results.expectTrue(scheduler.maxRunning <= 2, "Max running (" + scheduler.maxRunning
+				+ ") was greater than the capacity");
+		results.expectTrue(scheduler.maxNodeRunning == 1, "Max running against the IE node ("
+				+ scheduler.maxNodeRunning + ") was not 1");
+
+		int failed = 0;
+		for (ProcessResult process : processes)
+		{
+			if (!process.isSuccess())
+				failed++;
+		}
+
+		results.expectTrue(failed == 1, "Number of failed processes (" + failed + ") was not 1");
+		results.expectTrue(Misc.readFile(report.getAbsolutePath()).contains("Lower Bound"),
+				"Timing report did not contain the summary");
+
+		// The durations from the run are used to order the next run
+		ProcessScheduler next = new ProcessScheduler(2, 60000, 5000, 0);
+		next.setDurationsFile(durations.getAbsolutePath());
+		results.expectTrue(next.getDuration("IE-1") >= 200, "Duration for IE-1 was not recorded");
+		results.expectTrue(next.order(commands).get(4).id.equals("Fail"),
+				"Shortest test was not ordered last on the next run");
+
+		results.verify("Scheduler Test failed.  See above for details.");
+	}
+}
@@ -1,8 +1,15 @@
 package com.automation.ui.common.tests;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.testng.annotations.Test;
 
 import com.automation.ui.common.dataStructures.Comparison;
+import com.automation.ui.common.dataStructures.DropDown;
+import com.automation.ui.common.dataStructures.InputField;
+import com.automation.ui.common.dataStructures.Selection;
 import com.automation.ui.common.utilities.Compare;
 import com.automation.ui.common.utilities.Controller;
 import com.automation.ui.common.utilities.Languages;
@@ -390,4 +397,62 @@ public class RandTest {
 
 		Controller.writeTestSuccessToLog("runUniqueTest");
 	}
+
+	@Test
+	public static void runUniqueRandomTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runUniqueRandomTest");
+		TestResults results = new TestResults();
+
+		// Dense (all the values) & sparse (few of the values) cases
+		int[][] cases = new int[][] { { 1000, 1000 }, { 900, 1000 }, { 10, 1000000 }, { -1, 0 }, { 3, 1 } };
+		for (int[] item : cases)
+		{
+			int[] unique = Rand.uniqueRandom(item[0], item[1]);
+			int nExpectedSize = Math.max(item[0], 1);
+			int nMax = Math.max(nExpectedSize, item[1]);
+			results.expectTrue(unique.length == nExpectedSize, "Size (" + unique.length + ") was not "
+					+ nExpectedSize);
+
+			Set<Integer> seen = new HashSet<Integer>();
+			for (int value : unique)
+			{
+				results.expectTrue(value >= 0 && value < nMax, "Value (" + value + ") was out of range");
+				results.expectTrue(seen.add(value), "Value (" + value + ") was duplicated");
+			}
+		}
+
+		String value = Rand.random(2, true, true, true, true);
+		results.expectTrue(value.length() == 4, "Random (" + value + ") length was not 4");
+		results.expectTrue(value.matches(".*[A-Z].*") && value.matches(".*[a-z].*")
+				&& value.matches(".*[0-9].*"), "Random (" + value + ") did not meet the requirements");
+
+		value = Rand.numbers(5);
+		results.expectTrue(value.matches("[1-9][0-9]{4}"), "Numbers (" + value + ") was not valid");
+		value = Rand.alphanumeric(5);
+		results.expectTrue(value.matches("[a-zA-Z][a-zA-Z0-9]{4}"), "Alphanumeric (" + value
+				+ ") was not valid");
+
+		List<InputField> fields = Rand.randomInputFields(100, 3, 5);
+		results.expectTrue(fields.size() == 100, "InputField size (" + fields.size() + ") was not 100");
+		for (InputField field : fields)
+		{
+			results.expectTrue(field.value.length() >= 3 && field.value.length() <= 5, "InputField value ("
+					+ field.value + ") length was not in range");
+		}
+
+		List<DropDown> dropdowns = Rand.randomDropDowns(100, 1, 4);
+		results.expectTrue(dropdowns.size() == 100, "DropDown size (" + dropdowns.size() + ") was not 100");
+		for (DropDown dd : dropdowns)
+		{
+			int nIndex = Integer.parseInt(dd.option);
+			results.expectTrue(dd.using == Selection.Index && nIndex >= 1 && nIndex <= 4, "DropDown index ("
+					+ dd.option + ") was not in range");
+		}
+
+		results.expectTrue(Rand.randomCheckBoxes(100).size() == 100, "CheckBox size was not 100");
+
+		results.verify("Unique Random Test failed.  See above for details.");
+	}
 }
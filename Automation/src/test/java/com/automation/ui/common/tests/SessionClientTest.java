@@ -0,0 +1,268 @@
+package com.automation.ui.common.tests;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.sessions.DoComms;
+import com.automation.ui.common.sessions.Level1Commands;
+import com.automation.ui.common.sessions.Level2Commands;
+import com.automation.ui.common.sessions.ServerResponse;
+import com.automation.ui.common.sessions.SessionClient;
+import com.automation.ui.common.sessions.SessionServer;
+import com.automation.ui.common.sessions.Sessions;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+
+/**
+ * This class hold the unit tests for the SessionClient class using a session server in the same process
+ */
+public class SessionClientTest {
+	/**
+	 * Accepts connections &amp; counts them
+	 */
+	private static class Listener extends Thread {
+		private ServerSocket server;
+		private AtomicInteger connections = new AtomicInteger();
+		private ExecutorService workers;
+		private ExecutorService keepAlive;
+
+		public Listener() throws IOException
+		{
+			this(null, null);
+		}
+
+		/**
+		 * Constructor
+		 * 
+		 * @param workers - Workers to handle the connections (null for a new thread for each connection)
+		 * @param keepAlive - Pool to serve the keep alive connections (null to serve them on the worker)
+		 * @throws IOException if server socket could not be created
+		 */
+		public Listener(ExecutorService workers, ExecutorService keepAlive) throws IOException
+		{
+			server = new ServerSocket(0);
+			this.workers = workers;
+			this.keepAlive = keepAlive;
+			setDaemon(true);
+		}
+
+		@Override
+		public void run()
+		{
+			try
+			{
+				while (true)
+				{
+					Socket connection = server.accept();
+					connections.incrementAndGet();
+					if (workers == null)
+						new Thread(new DoComms(connection, keepAlive)).start();
+					else
+						workers.execute(new DoComms(connection, keepAlive));
+				}
+			}
+			catch (IOException ex)
+			{
+				// Server socket was closed
+			}
+		}
+	}
+
+	@Test
+	public static void runKeepAliveTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runKeepAliveTest");
+		TestResults results = new TestResults();
+
+		Listener listener = new Listener();
+		listener.start();
+
+		try
+		{
+			String host = "keepalive.test:4444";
+			SessionClient sc = new SessionClient("127.0.0.1", listener.server.getLocalPort());
+			for (int i = 0; i < 10; i++)
+			{
+				sc.addSession(host);
+			}
+
+			sc.removeSession(host);
+			results.expectTrue(Sessions.getInstance().getSessionCount(host) == 9, "Session count ("
+					+ Sessions.getInstance().getSessionCount(host) + ") was not 9");
+			results.expectTrue(listener.connections.get() == 1, "Connections (" + listener.connections.get()
+					+ ") was not 1 for multiple commands");
+
+			// Pipeline multiple commands in a single exchange
+			List<String[]> commands = new ArrayList<String[]>();
+			commands.add(SessionClient.getCommand(Level1Commands.SESSION, Level2Commands.INCREASE, host));
+			commands.add(SessionClient.getCommand(Level1Commands.SESSION, Level2Commands.COUNT, host));
+			commands.add(SessionClient.getCommand(Level1Commands.SESSION, Level2Commands.UNSUPPORTED));
+			commands.add(SessionClient.getCommand(Level1Commands.SESSION, Level2Commands.DECREASE, host));
+			List<ServerResponse> responses = new SessionClient("127.0.0.1", listener.server.getLocalPort())
+					.send(commands);
+
+			results.expectTrue(responses.size() == 4, "Number of responses (" + responses.size()
+					+ ") was not 4");
+			if (responses.size() == 4)
+			{
+				results.expectTrue(responses.get(0).success && responses.get(0).message.equals("10"),
+						"Add session response was not correct:  " + responses.get(0));
+				results.expectTrue(responses.get(1).success && responses.get(1).message.equals("10"),
+						"Count response was not correct:  " + responses.get(1));
+				results.expectTrue(!responses.get(2).success, "Unsupported command was successful");
+				results.expectTrue(responses.get(3).success && responses.get(3).message.equals("9"),
+						"Remove session response was not correct:  " + responses.get(3));
+			}
+
+			results.expectTrue(listener.connections.get() == 1, "Connections (" + listener.connections.get()
+					+ ") was not 1 after pipelined commands");
+
+			// Idle connections that are closed by the server are replaced
+			SessionClient.closeIdleConnections();
+			sc.resetSessions(host);
+			results.expectTrue(Sessions.getInstance().getSessionCount(host) == 0,
+					"Session count was not reset");
+			results.expectTrue(listener.connections.get() == 2, "Connections (" + listener.connections.get()
+					+ ") was not 2 after idle connections were closed");
+		}
+		finally
+		{
+			SessionClient.closeIdleConnections();
+			listener.server.close();
+		}
+
+		results.verify("Keep Alive Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runIdleConnectionTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runIdleConnectionTest");
+		TestResults results = new TestResults();
+
+		// Single worker such that an idle keep alive connection holding it would block all other clients
+		ExecutorService workers = Executors.newFixedThreadPool(1);
+		ExecutorService keepAlive = SessionServer.newKeepAlivePool(4);
+		Listener listener = new Listener(workers, keepAlive);
+		listener.start();
+
+		Socket idle = null;
+		try
+		{
+			String host = "idle.test:4444";
+			idle = new Socket("127.0.0.1", listener.server.getLocalPort());
+			idle.getOutputStream().write((Level1Commands.KEEPALIVE.toString() + "\n").getBytes());
+			idle.getOutputStream().flush();
+
+			long start = System.currentTimeMillis();
+			SessionClient sc = new SessionClient("127.0.0.1", listener.server.getLocalPort());
+			sc.addSession(host);
+			sc.removeSession(host);
+			long elapsed = System.currentTimeMillis() - start;
+
+			results.expectTrue(elapsed < 1000, "Commands took " + elapsed
+					+ " ms which indicates the idle connection held the worker");
+			results.expectTrue(Sessions.getInstance().getSessionCount(host) == 0, "Session count ("
+					+ Sessions.getInstance().getSessionCount(host) + ") was not 0");
+		}
+		finally
+		{
+			SessionClient.closeIdleConnections();
+			listener.server.close();
+			workers.shutdownNow();
+			keepAlive.shutdownNow();
+			if (idle != null)
+				idle.close();
+		}
+
+		results.verify("Idle Connection Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runKeepAliveLimitTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runKeepAliveLimitTest");
+		TestResults results = new TestResults();
+
+		int nKeepAlive = 2;
+		ExecutorService workers = Executors.newFixedThreadPool(2);
+		ThreadPoolExecutor keepAlive = SessionServer.newKeepAlivePool(nKeepAlive);
+		Listener listener = new Listener(workers, keepAlive);
+		listener.start();
+
+		List<Socket> clients = new ArrayList<Socket>();
+		try
+		{
+			// More idle keep alive connections than the keep alive pool can serve
+			for (int i = 0; i < nKeepAlive * 3; i++)
+			{
+				Socket client = new Socket("127.0.0.1", listener.server.getLocalPort());
+				client.getOutputStream().write((Level1Commands.KEEPALIVE.toString() + "\n").getBytes());
+				client.getOutputStream().flush();
+				clients.add(client);
+			}
+
+			// The commands are still served (on a worker) while the keep alive pool is saturated
+			String host = "limit.test:4444";
+			SessionClient sc = new SessionClient("127.0.0.1", listener.server.getLocalPort());
+			sc.addSession(host);
+			Thread.sleep(DoComms._SATURATED_TIMEOUT * 2);
+			sc.addSession(host);
+			sc.removeSession(host);
+			results.expectTrue(Sessions.getInstance().getSessionCount(host) == 1, "Session count ("
+					+ Sessions.getInstance().getSessionCount(host) + ") was not 1");
+
+			results.expectTrue(keepAlive.getLargestPoolSize() <= nKeepAlive, "Keep alive threads ("
+					+ keepAlive.getLargestPoolSize() + ") was more than " + nKeepAlive);
+
+			// The connections that could not be served by the keep alive pool are closed by the server
+			int closed = 0;
+			for (Socket client : clients)
+			{
+				client.setSoTimeout(DoComms._SATURATED_TIMEOUT * 4);
+				InputStream in = client.getInputStream();
+				try
+				{
+					if (in.read() == -1)
+						closed++;
+				}
+				catch (SocketTimeoutException ex)
+				{
+					// Connection is served by the keep alive pool
+				}
+			}
+
+			int expected = clients.size() - nKeepAlive;
+			results.expectTrue(closed >= expected, "Closed connections (" + closed + ") was less than "
+					+ expected);
+		}
+		finally
+		{
+			SessionClient.closeIdleConnections();
+			listener.server.close();
+			workers.shutdownNow();
+			keepAlive.shutdownNow();
+			for (Socket client : clients)
+			{
+				client.close();
+			}
+		}
+
+		results.verify("Keep Alive Limit Test failed.  See above for details.");
+	}
+}
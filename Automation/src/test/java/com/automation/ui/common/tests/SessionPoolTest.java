@@ -0,0 +1,136 @@
+package com.automation.ui.common.tests;
+
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.dataStructures.PooledSession;
+import com.automation.ui.common.dataStructures.SimulatedBrowser;
+import com.automation.ui.common.utilities.BaseSessionPool;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+
+/**
+ * This class hold the unit tests for the BaseSessionPool class which checks that sessions are reused &amp;
+ * reset between tests, recycled after the max reuse count &amp; replaced when the browser has crashed
+ */
+public class SessionPoolTest {
+	/**
+	 * Pool that launches simulated browsers (the default health check &amp; reset are used)
+	 */
+	private static class SimulatedPool extends BaseSessionPool {
+		public SimulatedPool(int nSize, int nMaxReuse)
+		{
+			super(nSize, nMaxReuse);
+		}
+
+		@Override
+		protected PooledSession create()
+		{
+			return new PooledSession(new SimulatedBrowser().getDriver(), null);
+		}
+
+		@Override
+		protected void destroy(PooledSession session)
+		{
+			try
+			{
+				session.driver.quit();
+			}
+			catch (Exception ex)
+			{
+				// Browser has already crashed
+			}
+		}
+	}
+
+	@Test
+	public static void runReuseTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runReuseTest");
+		TestResults results = new TestResults();
+
+		SimulatedPool pool = new SimulatedPool(2, 3);
+		pool.warm();
+		results.expectTrue(pool.getIdleCount() == 2, "Idle count (" + pool.getIdleCount()
+				+ ") was not 2 after pre-warming");
+		results.expectTrue(pool.getCreatedCount() == 2, "Created count (" + pool.getCreatedCount()
+				+ ") was not 2 after pre-warming");
+
+		// The test opens a window & navigates away which is reset when the session is returned to the pool
+		PooledSession session = pool.borrow();
+		SimulatedBrowser browser = SimulatedBrowser.from(session.driver);
+		browser.openWindow();
+		session.driver.get("http://localhost/test");
+		pool.release(session);
+		results.expectTrue(browser.windows.size() == 1, "Windows (" + browser.windows.size()
+				+ ") was not 1 after reset");
+		results.expectTrue(browser.url.equals("about:blank"), "URL (" + browser.url
+				+ ") was not the blank page after reset");
+		results.expectTrue(browser.scripts == 1 && browser.cookiesDeleted == 1,
+				"Storage & cookies were not cleared by the reset");
+
+		results.expectTrue(pool.borrow() == session, "Most recently used session was not handed out");
+		pool.release(session);
+		results.expectTrue(pool.getReusedCount() == 2, "Reused count (" + pool.getReusedCount()
+				+ ") was not 2");
+		results.expectTrue(browser.cookiesDeleted == 2, "Resets (" + browser.cookiesDeleted
+				+ ") was not 2");
+
+		// 3rd use reaches the max reuse count which causes the session to be recycled
+		pool.borrow();
+		pool.release(session);
+		results.expectTrue(pool.getDestroyedCount() == 1, "Session was not recycled after max reuse count");
+		results.expectTrue(browser.quit, "Recycled session was not quit");
+		results.expectTrue(pool.getIdleCount() == 1, "Idle count (" + pool.getIdleCount()
+				+ ") was not 1 after recycle");
+
+		// Borrowing more than the pool size launches a new session & the extra session is quit on release
+		PooledSession first = pool.borrow();
+		PooledSession second = pool.borrow();
+		results.expectTrue(pool.getCreatedCount() == 3, "Created count (" + pool.getCreatedCount()
+				+ ") was not 3 when pool was empty");
+		pool.release(first);
+		pool.release(second);
+		PooledSession third = pool.borrow();
+		pool.release(third);
+		results.expectTrue(pool.getIdleCount() == 2, "Idle count (" + pool.getIdleCount()
+				+ ") was not 2 after releasing all sessions");
+
+		results.verify("Reuse Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runHealthCheckTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runHealthCheckTest");
+		TestResults results = new TestResults();
+
+		SimulatedPool pool = new SimulatedPool(2, 0);
+		pool.warm();
+
+		PooledSession first = pool.borrow();
+		PooledSession second = pool.borrow();
+		pool.release(second);
+		pool.release(first);
+
+		// Crashed browsers fail the health check
+		SimulatedBrowser.from(first.driver).quit = true;
+		SimulatedBrowser.from(second.driver).quit = true;
+
+		PooledSession session = pool.borrow();
+		results.expectTrue(session != first && session != second, "Unhealthy session was handed out");
+		results.expectTrue(pool.getDestroyedCount() == 2, "Destroyed count (" + pool.getDestroyedCount()
+				+ ") was not 2 for the unhealthy sessions");
+		results.expectTrue(pool.getCreatedCount() == 3, "Created count (" + pool.getCreatedCount()
+				+ ") was not 3 after unhealthy sessions were replaced");
+
+		pool.release(session);
+		pool.shutdown();
+		results.expectTrue(pool.getIdleCount() == 0, "Idle count (" + pool.getIdleCount()
+				+ ") was not 0 after shutdown");
+
+		results.verify("Health Check Test failed.  See above for details.");
+	}
+}
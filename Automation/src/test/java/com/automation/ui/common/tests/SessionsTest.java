@@ -0,0 +1,75 @@
+package com.automation.ui.common.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.sessions.Sessions;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+
+/**
+ * This class hold the unit tests for the Sessions class
+ */
+public class SessionsTest {
+	@Test
+	public static void runConcurrentCountTest() throws InterruptedException
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runConcurrentCountTest");
+		TestResults results = new TestResults();
+
+		final Sessions sessions = Sessions.getInstance();
+		final String host1 = "concurrent.test.1:4444";
+		final String host2 = "concurrent.test.2:4444";
+		final int nThreads = 20;
+		final int nUpdates = 500;
+
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < nThreads; i++)
+		{
+			Thread thread = new Thread() {
+				@Override
+				public void run()
+				{
+					for (int j = 0; j < nUpdates; j++)
+					{
+						sessions.addSession(host1);
+						sessions.addSession(host2);
+						sessions.removeSession(host2);
+					}
+				}
+			};
+
+			thread.start();
+			threads.add(thread);
+		}
+
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+
+		int count1 = sessions.getSessionCount(host1);
+		int count2 = sessions.getSessionCount(host2);
+		results.expectTrue(count1 == nThreads * nUpdates, "Session count for host 1 (" + count1
+				+ ") was not " + (nThreads * nUpdates));
+		results.expectTrue(count2 >= 0 && count2 <= nThreads, "Session count for host 2 (" + count2
+				+ ") was not between 0 and " + nThreads);
+		results.expectTrue(sessions.getHosts().contains(host1), "Hosts did not contain host 1");
+
+		// Counts should never become negative
+		sessions.resetSessions(host2);
+		int removed = sessions.removeSession(host2);
+		results.expectTrue(removed == 0, "Session count after remove from 0 (" + removed + ") was not 0");
+		results.expectTrue(sessions.getSessionCount("unknown.test:4444") == 0,
+				"Session count for unknown host was not 0");
+
+		sessions.resetSessions(host1);
+		results.expectTrue(sessions.getSessionCount(host1) == 0, "Session count for host 1 was not reset");
+
+		results.verify("Concurrent Count Test failed.  See above for details.");
+	}
+}
@@ -0,0 +1,206 @@
+package com.automation.ui.common.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.dataStructures.Comparison;
+import com.automation.ui.common.dataStructures.SimulatedBrowser;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TableRows;
+import com.automation.ui.common.utilities.TestResults;
+import com.automation.ui.common.utilities.WS_Util;
+
+/**
+ * This class hold the unit tests for the TableRows class which checks that the rows are read in windows,
+ * that only the changed rows are transferred, that searches stop once the row is found &amp; that rows with
+ * the same key are not skipped
+ */
+public class TableRowsTest {
+	/**
+	 * Answers the JavaScript to get a window of rows (GetTableWindow.js) from the rows of the test
+	 */
+	private static class TableWindow implements SimulatedBrowser.Script {
+		private List<String[]> table;
+		private List<String> keys;
+
+		public TableWindow(List<String[]> table, List<String> keys)
+		{
+			this.table = table;
+			this.keys = keys;
+		}
+
+		@Override
+		public Object execute(String sJS, Object[] args)
+		{
+			int nStart = (Integer) args[3];
+			int nCount = (Integer) args[4];
+			String sKeyAttribute = (String) args[6];
+			Map<String, Object> known = WS_Util.toMap((String) args[7]);
+			List<Map<String, Object>> rows = new ArrayList<Map<String, Object>>();
+			for (int i = nStart; i < Math.min(table.size(), nStart + nCount); i++)
+			{
+				String key = (sKeyAttribute.equals("")) ? String.valueOf(i) : keys.get(i);
+				String fp = String.valueOf(Arrays.hashCode(table.get(i)));
+				Map<String, Object> item = new HashMap<String, Object>();
+				item.put("key", key);
+				item.put("fp", fp);
+				if (fp.equals(known.get(key)))
+					item.put("cells", null);
+				else
+					item.put("cells", Arrays.asList((Object[]) table.get(i)));
+
+				rows.add(item);
+			}
+
+			Map<String, Object> window = new HashMap<String, Object>();
+			window.put("rows", rows);
+			window.put("total", table.size());
+			window.put("scrolled", false);
+			return WS_Util.toJSON(window);
+		}
+	}
+
+	/**
+	 * Gets the rows of a table in a simulated browser
+	 * 
+	 * @param browser - Browser to add the table
+	 * @param table - Rows of the table
+	 * @param keys - Key attribute value of each row (null if the rows do not have the key attribute)
+	 * @return TableRows
+	 */
+	private static TableRows getRows(SimulatedBrowser browser, List<String[]> table, List<String> keys)
+	{
+		browser.addElement("//table", "");
+		browser.setScript(new TableWindow(table, keys));
+		return new TableRows(browser.getDriver(), "//table");
+	}
+
+	private static List<String[]> getTable(int nRows)
+	{
+		List<String[]> table = new ArrayList<String[]>();
+		for (int i = 0; i < nRows; i++)
+		{
+			table.add(new String[] { "id" + i, "name" + i, "value" + i });
+		}
+
+		return table;
+	}
+
+	@Test
+	public static void runStreamingTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runStreamingTest");
+		TestResults results = new TestResults();
+
+		List<String[]> table = getTable(10);
+		SimulatedBrowser browser = new SimulatedBrowser();
+		TableRows rows = getRows(browser, table, null);
+		rows.setWindowSize(3);
+
+		String[][] data = rows.toArray();
+		results.expectTrue(data.length == 10, "Number of rows (" + data.length + ") was not 10");
+		for (int i = 0; i < Math.min(10, data.length); i++)
+		{
+			results.expectTrue(Arrays.equals(table.get(i), data[i]), "Row " + i + " was not correct");
+		}
+
+		results.expectTrue(browser.scripts == 4, "Number of windows (" + browser.scripts + ") was not 4");
+		results.expectTrue(rows.getFetchedCount() == 10, "Fetched count (" + rows.getFetchedCount()
+				+ ") was not 10 on the 1st read");
+
+		// Only the changed row should be transferred on the next read
+		table.set(7, new String[] { "id7", "changed", "value7" });
+		data = rows.toArray();
+		results.expectTrue(rows.getFetchedCount() == 1, "Fetched count (" + rows.getFetchedCount()
+				+ ") was not 1 after a single row changed");
+		results.expectTrue(data.length == 10 && data[7][1].equals("changed"), "Changed row was not updated");
+		results.expectTrue(data.length == 10 && data[6][1].equals("name6"), "Cached row was not correct");
+
+		// Caching disabled should transfer all rows
+		rows.setCaching(false);
+		rows.toArray();
+		results.expectTrue(rows.getFetchedCount() == 10, "Fetched count (" + rows.getFetchedCount()
+				+ ") was not 10 with caching disabled");
+
+		results.verify("Streaming Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runFindRowTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runFindRowTest");
+		TestResults results = new TestResults();
+
+		SimulatedBrowser browser = new SimulatedBrowser();
+		TableRows rows = getRows(browser, getTable(1000), null);
+		rows.setWindowSize(10);
+
+		int index = rows.findRowIndex(new String[] { "id15", "name15", "value15" });
+		results.expectTrue(index == 15, "Index (" + index + ") was not 15");
+		results.expectTrue(browser.scripts == 2, "Search did not stop after the row was found as windows ("
+				+ browser.scripts + ") was not 2");
+
+		browser.scripts = 0;
+		HashMap<Integer, String> criteria = new HashMap<Integer, String>();
+		criteria.put(1, "name2");
+		index = rows.findRowIndex(criteria, Comparison.Equal);
+		results.expectTrue(index == 2, "Index (" + index + ") using criteria was not 2");
+		results.expectTrue(browser.scripts == 1,
+				"Search using criteria did not stop after the row was found");
+
+		browser.scripts = 0;
+		index = rows.findRowIndex(new String[] { "id", "missing", "value" });
+		results.expectTrue(index == -1, "Index (" + index + ") for missing row was not -1");
+		results.expectTrue(browser.scripts == 100, "Windows (" + browser.scripts
+				+ ") was not 100 for missing row");
+
+		results.verify("Find Row Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runDuplicateKeyTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runDuplicateKeyTest");
+		TestResults results = new TestResults();
+
+		// The 1st & 3rd rows have the same key & the same values
+		List<String[]> table = getTable(6);
+		table.set(2, table.get(0).clone());
+		List<String> keys = Arrays.asList("a", "b", "a", "c", "a", "d");
+		SimulatedBrowser browser = new SimulatedBrowser();
+		TableRows rows = getRows(browser, table, keys);
+		rows.setKeyAttribute("data-key");
+		rows.setWindowSize(3);
+
+		String[][] data = rows.toArray();
+		results.expectTrue(data.length == 6, "Number of rows (" + data.length + ") was not 6");
+		for (int i = 0; i < Math.min(6, data.length); i++)
+		{
+			results.expectTrue(Arrays.equals(table.get(i), data[i]), "Row " + i + " was not correct");
+		}
+
+		int index = rows.findRowIndex(table.get(4));
+		results.expectTrue(index == 4, "Index (" + index + ") of the 3rd row with the same key was not 4");
+
+		// The browser matches the 3rd row (in the same window) to the fingerprint of the 1st row from the
+		// previous read
+		table.set(0, new String[] { "id0", "changed", "value0" });
+		data = rows.toArray();
+		results.expectTrue(data.length == 6 && data[0][1].equals("changed"), "Changed row was not updated");
+		results.expectTrue(data.length == 6 && data[2][1].equals("name0"),
+				"Unchanged row with the same key as the changed row was not correct");
+		results.expectTrue(rows.getFetchedCount() == 2, "Fetched count (" + rows.getFetchedCount()
+				+ ") was not 2 (changed row & 5th row with the same key)");
+
+		results.verify("Duplicate Key Test failed.  See above for details.");
+	}
+}
@@ -0,0 +1,201 @@
+package com.automation.ui.common.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.edit.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.utilities.BasePDFPageReader;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+import com.automation.ui.common.utilities.WS_Util;
+
+/**
+ * This class hold the unit tests for the WS_Util stream conversions, base64 &amp; PDF extraction
+ */
+public class WS_UtilTest {
+	@Test
+	public static void runStreamToStringTest() throws IOException
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runStreamToStringTest");
+		TestResults results = new TestResults();
+
+		// Line endings are kept
+		String sExpected = "<a>\r\n<b>line 1</b>\n<c>caf\u00e9 \u20ac</c>\r\n</a>\n";
+		String sActual = WS_Util.toString(new ByteArrayInputStream(sExpected.getBytes("UTF-8")));
+		results.expectTrue(sExpected.equals(sActual), "Line endings or characters were not kept:  "
+				+ sActual);
+
+		// Response larger than the buffer
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 20000; i++)
+		{
+			sb.append("{\"row\":");
+			sb.append(i);
+			sb.append("}\n");
+		}
+
+		sExpected = sb.toString();
+		sActual = WS_Util.toString(new ByteArrayInputStream(sExpected.getBytes("UTF-8")));
+		results.expectTrue(sExpected.equals(sActual), "Large response was not correct");
+
+		// Specific charset
+		sExpected = "r\u00e9ponse";
+		sActual = WS_Util.toString(new ByteArrayInputStream(sExpected.getBytes("ISO-8859-1")), "ISO-8859-1");
+		results.expectTrue(sExpected.equals(sActual), "ISO-8859-1 response was not correct:  " + sActual);
+
+		// Errors return empty string
+		results.expectTrue(WS_Util.toString((InputStream) null).equals(""),
+				"Null stream did not return empty string");
+		sActual = WS_Util.toString(new ByteArrayInputStream(new byte[1]), "invalid-charset");
+		results.expectTrue(sActual.equals(""), "Invalid charset did not return empty string");
+
+		// Reader view
+		sExpected = "line 1\nline 2\r\n";
+		Reader reader = WS_Util.toReader(new ByteArrayInputStream(sExpected.getBytes("UTF-8")));
+		sActual = IOUtils.toString(reader);
+		reader.close();
+		results.expectTrue(sExpected.equals(sActual), "Reader view was not correct:  " + sActual);
+		results.expectTrue(WS_Util.toReader(null) == null, "Reader for null stream was not null");
+
+		InputStream stream = WS_Util.toBufferedStream(new ByteArrayInputStream(sExpected.getBytes("UTF-8")));
+		sActual = IOUtils.toString(stream, "UTF-8");
+		stream.close();
+		results.expectTrue(sExpected.equals(sActual), "Buffered stream view was not correct:  " + sActual);
+
+		results.verify("Stream To String Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runBase64StreamTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runBase64StreamTest");
+		TestResults results = new TestResults();
+
+		// Content larger than the buffer & not a multiple of 3
+		byte[] content = new byte[200001];
+		for (int i = 0; i < content.length; i++)
+		{
+			content[i] = (byte) (i * 7);
+		}
+
+		File original = File.createTempFile("base64", ".bin");
+		File encodedFile = File.createTempFile("base64", ".txt");
+		File decodedFile = File.createTempFile("base64", ".out");
+		original.deleteOnExit();
+		encodedFile.deleteOnExit();
+		decodedFile.deleteOnExit();
+		FileUtils.writeByteArrayToFile(original, content);
+
+		String sExpected = new String(Base64.encodeBase64(content), "US-ASCII");
+		String sEncoded = WS_Util.encode(original.getPath());
+		results.expectTrue(sExpected.equals(sEncoded), "Encoded string was not correct");
+
+		ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+		results.expectTrue(WS_Util.encode(new ByteArrayInputStream(content), encoded), "Stream encode failed");
+		results.expectTrue(sExpected.equals(encoded.toString("US-ASCII")), "Encoded stream was not correct");
+
+		ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+		results.expectTrue(WS_Util.decode(new ByteArrayInputStream(encoded.toByteArray()), decoded),
+				"Stream decode failed");
+		results.expectTrue(Arrays.equals(content, decoded.toByteArray()), "Decoded stream was not correct");
+
+		results.expectTrue(WS_Util.decode(sEncoded, decodedFile.getPath()), "String decode failed");
+		results.expectTrue(Arrays.equals(content, FileUtils.readFileToByteArray(decodedFile)),
+				"Decoded string was not correct");
+
+		results.expectTrue(WS_Util.encodeFile(original.getPath(), encodedFile.getPath()),
+				"File encode failed");
+		results.expectTrue(sExpected.equals(FileUtils.readFileToString(encodedFile, "US-ASCII")),
+				"Encoded file was not correct");
+		results.expectTrue(WS_Util.decodeFile(encodedFile.getPath(), decodedFile.getPath()),
+				"File decode failed");
+		results.expectTrue(Arrays.equals(content, FileUtils.readFileToByteArray(decodedFile)),
+				"Decoded file was not correct");
+
+		results.expectTrue(WS_Util.encode(original.getPath() + ".missing") == null,
+				"Missing file did not return null");
+
+		results.verify("Base64 Stream Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runPDFPageTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runPDFPageTest");
+		TestResults results = new TestResults();
+
+		File pdf = File.createTempFile("pages", ".pdf");
+		pdf.deleteOnExit();
+		PDDocument doc = new PDDocument();
+		for (int i = 1; i <= 5; i++)
+		{
+			PDPage page = new PDPage();
+			doc.addPage(page);
+			PDPageContentStream content = new PDPageContentStream(doc, page);
+			content.beginText();
+			content.setFont(PDType1Font.HELVETICA, 12);
+			content.moveTextPositionByAmount(100, 700);
+			content.drawString("Text on page " + i);
+			content.endText();
+			content.close();
+		}
+
+		doc.save(pdf.getPath());
+		doc.close();
+
+		final List<String> pages = new ArrayList<String>();
+		int nProcessed = new BasePDFPageReader() {
+			@Override
+			protected boolean process(String sText, int nPage)
+			{
+				pages.add(nPage + ":" + sText.trim());
+				return true;
+			}
+		}.read(pdf, 2, 4);
+
+		results.expectTrue(nProcessed == 3, "Pages processed (" + nProcessed + ") was not 3");
+		List<String> expected = Arrays.asList("2:Text on page 2", "3:Text on page 3", "4:Text on page 4");
+		results.expectTrue(pages.equals(expected), "Pages were not correct:  " + pages);
+
+		pages.clear();
+		nProcessed = new BasePDFPageReader() {
+			@Override
+			protected boolean process(String sText, int nPage)
+			{
+				pages.add(sText.trim());
+				return nPage < 2;
+			}
+		}.read(new FileInputStream(pdf), 1, Integer.MAX_VALUE);
+		results.expectTrue(nProcessed == 2, "Reading did not stop (" + nProcessed + ")");
+
+		String sAll = WS_Util.toStringFromPDF(new FileInputStream(pdf));
+		results.expectTrue(sAll.contains("Text on page 1") && sAll.contains("Text on page 5"),
+				"All the text was not extracted:  " + sAll);
+		String sRange = WS_Util.toStringFromPDF(new FileInputStream(pdf), 5, 5);
+		results.expectTrue(sRange.trim().equals("Text on page 5"), "Page range was not correct:  " + sRange);
+		results.expectTrue(WS_Util.toStringFromPDF(new ByteArrayInputStream(new byte[10])).equals(""),
+				"Invalid PDF did not return empty string");
+
+		results.verify("PDF Page Test failed.  See above for details.");
+	}
+}
@@ -0,0 +1,77 @@
+package com.automation.ui.common.tests;
+
+import org.testng.annotations.Test;
+
+import com.automation.ui.common.utilities.BaseWaitCondition;
+import com.automation.ui.common.utilities.Controller;
+import com.automation.ui.common.utilities.ElapsedTime;
+import com.automation.ui.common.utilities.Framework;
+import com.automation.ui.common.utilities.Logs;
+import com.automation.ui.common.utilities.TestResults;
+
+/**
+ * This class hold the unit tests for the BaseWaitCondition class
+ */
+public class WaitConditionTest {
+	@Test
+	public static void runAdaptiveIntervalTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runAdaptiveIntervalTest");
+		TestResults results = new TestResults();
+
+		int previous = 0;
+		for (int i = 0; i < 100; i++)
+		{
+			int interval = BaseWaitCondition.getAdaptiveInterval(i);
+			results.expectTrue(interval >= previous, "Adaptive interval decreased on attempt " + i);
+			results.expectTrue(interval <= Math.max(Framework.getPollInterval(), 50),
+					"Adaptive interval (" + interval + ") was greater than the poll interval on attempt " + i);
+			previous = interval;
+		}
+
+		results.expectTrue(BaseWaitCondition.getAdaptiveInterval(0) < Framework.getPollInterval(),
+				"The first adaptive interval was not less than the poll interval");
+		results.verify("Adaptive Interval Test failed.  See above for details.");
+	}
+
+	@Test
+	public static void runWaitUntilTest()
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runWaitUntilTest");
+		TestResults results = new TestResults();
+
+		// Condition becomes true after a short delay which is less than the poll interval
+		final int delay = 200;
+		final ElapsedTime start = new ElapsedTime();
+		BaseWaitCondition condition = new BaseWaitCondition(null) {
+			@Override
+			protected boolean isSatisfied()
+			{
+				return start.getElapsedTime() >= delay;
+			}
+		};
+
+		ElapsedTime e = new ElapsedTime();
+		results.expectTrue(condition.waitUntil(5000), "Condition was not satisfied before timeout");
+		long elapsed = e.getElapsedTime();
+		results.expectTrue(elapsed < delay + Framework.getPollInterval(), "Wait took (" + elapsed
+				+ ") milliseconds which is not less than the delay plus the poll interval");
+
+		// Condition never becomes true
+		BaseWaitCondition never = new BaseWaitCondition(null) {
+			@Override
+			protected boolean isSatisfied()
+			{
+				return false;
+			}
+		};
+
+		e.resetStartTime();
+		results.expectFalse(never.waitUntil(300), "Condition that is never true was satisfied");
+		results.expectTrue(e.getElapsedTime() >= 300, "Wait did not last until the timeout");
+
+		results.verify("Wait Until Test failed.  See above for details.");
+	}
+}
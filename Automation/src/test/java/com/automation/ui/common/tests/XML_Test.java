@@ -2,6 +2,8 @@ package com.automation.ui.common.tests;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 import org.testng.annotations.Test;
@@ -14,6 +16,7 @@ import com.automation.ui.common.utilities.Controller;
 import com.automation.ui.common.utilities.Logs;
 import com.automation.ui.common.utilities.TestResults;
 import com.automation.ui.common.utilities.VTD_XML;
+import com.automation.ui.common.utilities.VTD_XML_Huge;
 import com.automation.ui.common.utilities.XML;
 
 /**
@@ -709,10 +712,95 @@ public class XML_Test {
 				+ ") nodes";
 		results.expectTrue(bResult, sWarning);
 
+		Logs.log.info("Memory mapped file test");
+		VTD_XML_Huge huge = new VTD_XML_Huge(generate.getOutputFolder() + generate.getOutputXML());
+		huge.initializeForOptimizedParsing(sRootXpath3, eachNodeXpath2);
+		String sRecordCount = huge.getNodeValue("/Load/Header/RecordCount", "");
+		results.expectTrue(sRecordCount.equals(String.valueOf(generate.getRecordsToCreate())),
+				"Header RecordCount (" + sRecordCount + ") was not correct");
+
+		// Iterator over both classes must return the same records in the same order
+		Iterator<String[]> expected = myTest2.iterator();
+		int hugeNodes = 0;
+		for (String[] record : huge)
+		{
+			hugeNodes++;
+			String[] other = (expected.hasNext()) ? expected.next() : null;
+			bResult = other != null && Arrays.equals(record, other);
+			sWarning = "Record " + hugeNodes + " did not match:  " + Arrays.toString(record) + " vs "
+					+ Arrays.toString(other);
+			if (!results.expectTrue(bResult, sWarning))
+				break;
+		}
+
+		bResult = generate.getRecordsToCreate() == hugeNodes && !expected.hasNext();
+		sWarning = "Expected (" + generate.getRecordsToCreate() + ") node but there were Actually ("
+				+ hugeNodes + ") nodes using memory mapped file";
+		results.expectTrue(bResult, sWarning);
+
 		results.verify("Some unit tests failed.  See above for details.");
 		Controller.writeTestSuccessToLog("runPerformanceTest");
 	}
 
+	@Test
+	public static void runCompiledXpathTest() throws Exception
+	{
+		Logs.initializeConsoleLoggers();
+		Controller.writeTestIDtoLog("runCompiledXpathTest");
+		TestResults results = new TestResults();
+
+		VTD_XML xml = new VTD_XML(_TestXML);
+		String sRootXpath = "/data/ExecutionControl";
+
+		// Same xpaths evaluated repeatedly (& interleaved) use the cached compiled xpaths
+		for (int i = 0; i < 3; i++)
+		{
+			String user = xml.getNodeValue(sRootXpath + "/User", "error");
+			String id = xml.getAttribute(sRootXpath + "/Attribute1", "id");
+			int nodes = xml.getNodesCount(sRootXpath);
+			results.expectTrue(user.equals("u1"), "Pass " + i + " User (" + user + ") was not u1");
+			results.expectTrue("abc".equals(id), "Pass " + i + " Attribute (" + id + ") was not abc");
+			results.expectTrue(nodes == _TestNodes, "Pass " + i + " Nodes (" + nodes + ") was not "
+					+ _TestNodes);
+		}
+
+		// Leading slash for each node is a descendant of the root node
+		String[][] data = xml.getAllData(sRootXpath, new String[] { "/User", "Password" });
+		results.expectTrue(data.length == _TestNodes, "getAllData rows (" + data.length + ") was not "
+				+ _TestNodes);
+		for (int i = 0; i < data.length; i++)
+		{
+			results.expectTrue(("u" + (i + 1)).equals(data[i][0]) && ("p" + (i + 1)).equals(data[i][1]),
+					"Row " + i + " was " + data[i][0] + ", " + data[i][1]);
+		}
+
+		// Bulk read of attributes must match reading each node using an indexed xpath
+		List<Parameter> attributes = new ArrayList<Parameter>();
+		attributes.add(new Parameter("num", "default"));
+		attributes.add(new Parameter("flag", "default"));
+		String sXpath = sRootXpath + "[1]/*[@flag]";
+		List<List<Parameter>> all = xml.getAllAttributes(sXpath, attributes);
+		int nodes = xml.getNodesCount(sXpath);
+		results.expectTrue(all.size() == nodes && nodes > 0, "getAllAttributes size (" + all.size()
+				+ ") did not match node count (" + nodes + ")");
+		for (int i = 0; i < all.size(); i++)
+		{
+			List<Parameter> expected = xml.getAttribute("(" + sXpath + ")[" + (i + 1) + "]", attributes);
+			for (int j = 0; j < attributes.size(); j++)
+			{
+				results.expectTrue(expected.get(j).value.equals(all.get(i).get(j).value), "Node " + i
+						+ " attribute " + attributes.get(j).param + " was " + all.get(i).get(j).value
+						+ " but expected " + expected.get(j).value);
+			}
+		}
+
+		results.expectTrue(xml.getAllAttributes("/data/Missing", attributes).isEmpty(),
+				"getAllAttributes for missing nodes was not empty");
+
+		results.verify("Some unit tests failed.  See above for details.");
+		Controller.writeTestSuccessToLog("runCompiledXpathTest");
+	}
+
 	@Test(enabled = true)
 	public static void runZ_CleanUp()
 	{